@@ -4,7 +4,6 @@ import com.todoapp.auth.dto.AuthResponseDTO;
 import com.todoapp.auth.dto.UserMeResponseDTO;
 import com.todoapp.auth.port.in.LoginUseCase;
 import com.todoapp.auth.port.in.UserContextUseCase;
-import com.todoapp.user.domain.User;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -29,8 +28,8 @@ public class AuthController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<UserMeResponseDTO> me(@RequestHeader("Authorization") String authHeader) {
-        UserMeResponseDTO userResponse = userContextUseCase.getCurrentUserInfo(authHeader);
+    public ResponseEntity<UserMeResponseDTO> me() {
+        UserMeResponseDTO userResponse = userContextUseCase.getCurrentUserInfo();
         return ResponseEntity.ok(userResponse);
     }
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package com.todoapp.auth.adapter.out;
 
+import com.todoapp.auth.domain.TokenClaims;
 import com.todoapp.auth.port.out.JwtEncoder;
 import com.todoapp.user.domain.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -11,6 +15,8 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class JwtEncoderImpl implements JwtEncoder {
@@ -18,41 +24,74 @@ public class JwtEncoderImpl implements JwtEncoder {
     @Value("${JWT_SECRET}")
     private String secretKey;
 
+    // La clave y el parser son inmutables y thread-safe: se construyen una sola vez
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
     @Override
     public String generateToken(User user) {
-        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
         return Jwts.builder()
                 .setSubject(user.getEmail())
                 .claim("username", user.getUsername())
                 .claim("userId", user.getId())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(signingKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
     @Override
     public boolean validateToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token).isPresent();
     }
 
     @Override
     public String extractUsername(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-}
\ No newline at end of file
+        return parseClaims(token).getSubject();
+    }
+
+    @Override
+    public Optional<TokenClaims> verify(String token) {
+        try {
+            Claims claims = parseClaims(token);
+            return Optional.of(toTokenClaims(claims));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Claims parseClaims(String token) {
+        return parser().parseClaimsJws(token).getBody();
+    }
+
+    private static TokenClaims toTokenClaims(Claims claims) {
+        String userId = claims.get("userId", String.class);
+        Date expiration = claims.getExpiration();
+        return new TokenClaims(
+                claims.getSubject(),
+                userId != null ? UUID.fromString(userId) : null,
+                claims.get("username", String.class),
+                expiration != null ? expiration.toInstant() : null
+        );
+    }
+
+    private SecretKey signingKey() {
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser parser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parserBuilder()
+                    .setSigningKey(signingKey())
+                    .build();
+            parser = current;
+        }
+        return current;
+    }
+}
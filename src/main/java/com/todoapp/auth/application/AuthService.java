@@ -7,6 +7,7 @@ import com.todoapp.auth.port.in.LoginUseCase;
 import com.todoapp.auth.port.in.UserContextUseCase;
 import com.todoapp.auth.port.out.JwtEncoder;
 import com.todoapp.auth.port.out.UserCredentialsPort;
+import com.todoapp.common.UserProvider;
 import com.todoapp.user.domain.User;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,11 +22,13 @@ public class AuthService implements LoginUseCase, UserContextUseCase {
     private final UserCredentialsPort credentials;
     private final JwtEncoder jwtEncoder;
     private final PasswordEncoder encoder;
+    private final UserProvider userProvider;
 
-    public AuthService(UserCredentialsPort credentials, JwtEncoder jwtEncoder, PasswordEncoder encoder) {
+    public AuthService(UserCredentialsPort credentials, JwtEncoder jwtEncoder, PasswordEncoder encoder, UserProvider userProvider) {
         this.credentials = credentials;
         this.jwtEncoder = jwtEncoder;
         this.encoder = encoder;
+        this.userProvider = userProvider;
     }
 
     @Override
@@ -50,9 +53,8 @@ public class AuthService implements LoginUseCase, UserContextUseCase {
     }
 
     @Override
-    public UserMeResponseDTO getCurrentUserInfo(String autHeader) {
-        String token = autHeader.replace("Bearer ", "");
-        User user = getCurrentUser(token);
+    public UserMeResponseDTO getCurrentUserInfo() {
+        User user = userProvider.getCurrentUser();
         return new UserMeResponseDTO(
                 user.getId(),
                 user.getUsername(),
@@ -0,0 +1,15 @@
+package com.todoapp.auth.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record TokenClaims(
+        String email,
+        UUID userId,
+        String username,
+        Instant expiresAt
+) {
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -5,5 +5,5 @@ import com.todoapp.user.domain.User;
 
 public interface UserContextUseCase {
     User getCurrentUser(String token);
-    UserMeResponseDTO getCurrentUserInfo(String authHeader);
+    UserMeResponseDTO getCurrentUserInfo();
 }
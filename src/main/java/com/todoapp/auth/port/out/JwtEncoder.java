@@ -1,9 +1,13 @@
 package com.todoapp.auth.port.out;
 
+import com.todoapp.auth.domain.TokenClaims;
 import com.todoapp.user.domain.User;
 
+import java.util.Optional;
+
 public interface JwtEncoder {
     String generateToken(User user);
     boolean validateToken(String token);
     String extractUsername(String token);
-}
\ No newline at end of file
+    Optional<TokenClaims> verify(String token);
+}
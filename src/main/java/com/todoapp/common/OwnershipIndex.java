@@ -0,0 +1,146 @@
+package com.todoapp.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice en memoria de las aristas lista -> proyecto -> dueño. Las tareas no entran: su lectura
+ * y su borrado ya llevan al dueño en la propia sentencia, y serían el grueso del índice.
+ * Se rellena de forma perezosa con cada comprobación que ya pasó por la base de datos
+ * y los servicios lo mantienen al crear y borrar. Una ausencia nunca es concluyente:
+ * quien consulta debe caer a la base de datos, así que vaciarlo siempre es seguro.
+ * Las aristas nuevas solo entran tras el commit de la transacción en curso: una creación
+ * que se deshace no deja rastro. Las bajas se aplican en el acto y se repiten tras el commit,
+ * para que un alta encolada antes en la misma transacción no resucite la arista.
+ */
+@Component
+public class OwnershipIndex {
+
+    private final UuidToUuidMap todoListToProject = new UuidToUuidMap();
+    private final UuidToUuidMap projectToOwner = new UuidToUuidMap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxEntries;
+
+    public OwnershipIndex(@Value("${ownership.index.max-entries:2000000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isProjectOwnedBy(UUID projectId, UUID userId) {
+        lock.readLock().lock();
+        try {
+            return projectToOwner.containsMapping(projectId, userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isTodoListOwnedBy(UUID todoListId, UUID projectId, UUID userId) {
+        lock.readLock().lock();
+        try {
+            return todoListToProject.containsMapping(todoListId, projectId)
+                    && projectToOwner.containsMapping(projectId, userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void registerProject(UUID projectId, UUID userId) {
+        afterCommit(() -> putProject(projectId, userId));
+    }
+
+    public void registerTodoList(UUID todoListId, UUID projectId, UUID userId) {
+        afterCommit(() -> putTodoList(todoListId, projectId, userId));
+    }
+
+    private void putProject(UUID projectId, UUID userId) {
+        lock.writeLock().lock();
+        try {
+            ensureCapacity();
+            projectToOwner.put(projectId, userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putTodoList(UUID todoListId, UUID projectId, UUID userId) {
+        lock.writeLock().lock();
+        try {
+            ensureCapacity();
+            todoListToProject.put(todoListId, projectId);
+            projectToOwner.put(projectId, userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Las aristas hijas que quedan huérfanas no dan falsos positivos: la cadena se corta en el borrado
+    public void removeProject(UUID projectId) {
+        remove(projectToOwner, projectId);
+    }
+
+    public void removeTodoList(UUID todoListId) {
+        remove(todoListToProject, todoListId);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return todoListToProject.size() + projectToOwner.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            todoListToProject.clear();
+            projectToOwner.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(UuidToUuidMap map, UUID key) {
+        removeNow(map, key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(() -> removeNow(map, key));
+        }
+    }
+
+    private void removeNow(UuidToUuidMap map, UUID key) {
+        lock.writeLock().lock();
+        try {
+            map.remove(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Al llegar al límite se descarta todo: el índice se vuelve a llenar con el tráfico real
+    private void ensureCapacity() {
+        if (todoListToProject.size() + projectToOwner.size() + 2 > maxEntries) {
+            todoListToProject.clear();
+            projectToOwner.clear();
+        }
+    }
+}
@@ -4,7 +4,6 @@ import com.todoapp.project.domain.Project;
 import com.todoapp.project.port.out.ProjectRepository;
 import com.todoapp.todolist.domain.TodoList;
 import com.todoapp.todolist.port.out.TodoListRepository;
-import com.todoapp.user.domain.User;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -14,15 +13,26 @@ public class OwnershipValidator {
     private final UserProvider userProvider;
     private final ProjectRepository projectRepository;
     private final TodoListRepository todoListRepository;
+    private final OwnershipIndex ownershipIndex;
 
-    public OwnershipValidator(UserProvider userProvider, ProjectRepository projectRepository, TodoListRepository todoListRepository) {
+    public OwnershipValidator(UserProvider userProvider, ProjectRepository projectRepository, TodoListRepository todoListRepository,
+                              OwnershipIndex ownershipIndex) {
         this.userProvider = userProvider;
         this.projectRepository = projectRepository;
         this.todoListRepository = todoListRepository;
+        this.ownershipIndex = ownershipIndex;
     }
 
     public void validateTodoListOwnership(UUID todoListId, UUID projectId) {
-        User currentUser = userProvider.getCurrentUser();
+        UUID currentUserId = userProvider.getCurrentUserId();
+        if (ownershipIndex.isTodoListOwnedBy(todoListId, projectId, currentUserId)) {
+            return;
+        }
+        if (todoListRepository.existsByIdAndProjectIdAndUserId(todoListId, projectId, currentUserId)) {
+            ownershipIndex.registerTodoList(todoListId, projectId, currentUserId);
+            return;
+        }
+        // Solo en el camino de error: se cargan las entidades para devolver el motivo exacto
         Project project = projectRepository.findById(projectId);
         if (project == null) {
             throw new IllegalArgumentException("El proyecto especificado no existe");
@@ -34,16 +44,20 @@ public class OwnershipValidator {
         if(!todoList.getProjectId().equals(projectId)) {
             throw new IllegalArgumentException("El TodoList no pertenece al proyecto especificado");
         }
-        if (!project.getUserId().equals(currentUser.getId())) {
-            throw new SecurityException("No tienes permiso para acceder a este recurso");
-        }
+        throw new SecurityException("No tienes permiso para acceder a este recurso");
     }
 
     public void validateProjectOwnership(UUID projectId) {
-        User currentUser = userProvider.getCurrentUser();
-        Project project = projectRepository.findById(projectId);
-        if (!project.getUserId().equals(currentUser.getId())) {
-            throw new SecurityException("No tienes permiso para acceder a este recurso");
+        UUID currentUserId = userProvider.getCurrentUserId();
+        if (ownershipIndex.isProjectOwnedBy(projectId, currentUserId)) {
+            return;
+        }
+        if (projectRepository.existsByIdAndUserId(projectId, currentUserId)) {
+            ownershipIndex.registerProject(projectId, currentUserId);
+            return;
         }
+        // findById lanza NoSuchElementException si el proyecto no existe
+        projectRepository.findById(projectId);
+        throw new SecurityException("No tienes permiso para acceder a este recurso");
     }
-}
\ No newline at end of file
+}
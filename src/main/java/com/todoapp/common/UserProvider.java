@@ -1,22 +1,59 @@
 package com.todoapp.common;
 
-import com.todoapp.auth.port.in.UserContextUseCase;
+import com.todoapp.auth.port.out.UserCredentialsPort;
 import com.todoapp.user.domain.User;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resuelve el usuario autenticado a partir de lo que ya estableció el JwtFilter.
+ * El id sale directamente de los detalles de la autenticación; el usuario completo
+ * se carga como mucho una vez por petición y se reutiliza desde los atributos de request.
+ */
 @Component
 public class UserProvider {
-    private final UserContextUseCase userContext;
+    static final String CURRENT_USER_ATTRIBUTE = UserProvider.class.getName() + ".currentUser";
+
+    private final UserCredentialsPort credentials;
+
+    public UserProvider(UserCredentialsPort credentials) {
+        this.credentials = credentials;
+    }
 
-    public UserProvider(UserContextUseCase userContext) {
-        this.userContext = userContext;
+    public UUID getCurrentUserId() {
+        Authentication authentication = currentAuthentication();
+        if (authentication.getDetails() instanceof Map<?, ?> details
+                && details.get("userId") instanceof UUID userId) {
+            return userId;
+        }
+        return getCurrentUser().getId();
     }
 
     public User getCurrentUser() {
-        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        String token = attributes.getRequest().getHeader("Authorization").substring(7);
-        return userContext.getCurrentUser(token);
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User cached) {
+            return cached;
+        }
+        User user = credentials.findByEmail(currentAuthentication().getName());
+        if (attributes != null) {
+            attributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    private static Authentication currentAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new AuthenticationCredentialsNotFoundException("No hay un usuario autenticado en la petición");
+        }
+        return authentication;
     }
-}
\ No newline at end of file
+}
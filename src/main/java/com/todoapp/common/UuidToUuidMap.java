@@ -0,0 +1,169 @@
+package com.todoapp.common;
+
+import java.util.UUID;
+
+/**
+ * Mapa UUID -> UUID con direccionamiento abierto sobre arrays de long primitivos.
+ * Cada UUID se guarda como su par (msb, lsb), sin objetos por entrada: unos 32 bytes
+ * por mapping frente a los ~150 de un HashMap&lt;UUID, UUID&gt;.
+ * El UUID nulo (0, 0) se reserva como marca de hueco vacío.
+ * No es thread-safe: la sincronización es responsabilidad del llamador.
+ */
+public class UuidToUuidMap {
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int mask;
+
+    public UuidToUuidMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public UuidToUuidMap(int expectedSize) {
+        allocate(tableSizeFor(Math.max(expectedSize * 2, MIN_CAPACITY)));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public UUID get(UUID key) {
+        int slot = find(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        if (slot < 0) {
+            return null;
+        }
+        return new UUID(values[slot * 2], values[slot * 2 + 1]);
+    }
+
+    /** Comprueba un mapping concreto sin reservar memoria. */
+    public boolean containsMapping(UUID key, UUID value) {
+        int slot = find(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        return slot >= 0
+                && values[slot * 2] == value.getMostSignificantBits()
+                && values[slot * 2 + 1] == value.getLeastSignificantBits();
+    }
+
+    public void put(UUID key, UUID value) {
+        long msb = key.getMostSignificantBits();
+        long lsb = key.getLeastSignificantBits();
+        if (msb == 0 && lsb == 0) {
+            throw new IllegalArgumentException("El UUID nulo no puede usarse como clave");
+        }
+        if ((size + 1) * 2 > capacity()) {
+            allocateAndRehash(capacity() * 2);
+        }
+        int slot = hash(msb, lsb) & mask;
+        while (!isFree(slot)) {
+            if (keys[slot * 2] == msb && keys[slot * 2 + 1] == lsb) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (isFree(slot)) {
+            keys[slot * 2] = msb;
+            keys[slot * 2 + 1] = lsb;
+            size++;
+        }
+        values[slot * 2] = value.getMostSignificantBits();
+        values[slot * 2 + 1] = value.getLeastSignificantBits();
+    }
+
+    public boolean remove(UUID key) {
+        int slot = find(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        if (slot < 0) {
+            return false;
+        }
+        // Borrado con desplazamiento hacia atrás: el sondeo lineal no necesita lápidas
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (!isFree(next)) {
+            int ideal = hash(keys[next * 2], keys[next * 2 + 1]) & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                move(next, hole);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        clear(hole);
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    private int find(long msb, long lsb) {
+        int slot = hash(msb, lsb) & mask;
+        while (!isFree(slot)) {
+            if (keys[slot * 2] == msb && keys[slot * 2 + 1] == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private boolean isFree(int slot) {
+        return keys[slot * 2] == 0 && keys[slot * 2 + 1] == 0;
+    }
+
+    private void move(int from, int to) {
+        keys[to * 2] = keys[from * 2];
+        keys[to * 2 + 1] = keys[from * 2 + 1];
+        values[to * 2] = values[from * 2];
+        values[to * 2 + 1] = values[from * 2 + 1];
+    }
+
+    private void clear(int slot) {
+        keys[slot * 2] = 0;
+        keys[slot * 2 + 1] = 0;
+        values[slot * 2] = 0;
+        values[slot * 2 + 1] = 0;
+    }
+
+    private int capacity() {
+        return mask + 1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity * 2];
+        values = new long[capacity * 2];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    private void allocateAndRehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i += 2) {
+            if (oldKeys[i] != 0 || oldKeys[i + 1] != 0) {
+                int slot = hash(oldKeys[i], oldKeys[i + 1]) & mask;
+                while (!isFree(slot)) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot * 2] = oldKeys[i];
+                keys[slot * 2 + 1] = oldKeys[i + 1];
+                values[slot * 2] = oldValues[i];
+                values[slot * 2 + 1] = oldValues[i + 1];
+                size++;
+            }
+        }
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(capacity - 1) << 1;
+        return Math.max(n, MIN_CAPACITY);
+    }
+}
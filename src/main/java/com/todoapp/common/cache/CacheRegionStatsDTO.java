@@ -0,0 +1,10 @@
+package com.todoapp.common.cache;
+
+public record CacheRegionStatsDTO(
+        String region,
+        long hits,
+        long misses,
+        long puts,
+        long evictions,
+        float hitPercentage
+) {}
@@ -0,0 +1,21 @@
+package com.todoapp.common.cache;
+
+import java.util.List;
+
+/** Nombres de las regiones de la caché de segundo nivel; cada una se crea al arrancar. */
+public final class CacheRegions {
+    public static final String PROJECTS = "projects";
+    public static final String TODO_LISTS = "todo-lists";
+    public static final String USERS = "users";
+    public static final String PROJECTS_BY_OWNER = "projects-by-owner";
+    public static final String TODO_LISTS_BY_PROJECT = "todo-lists-by-project";
+    // Regiones por defecto que Hibernate usa siempre que la caché de consultas está activa
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> BOUNDED = List.of(
+            PROJECTS, TODO_LISTS, USERS, PROJECTS_BY_OWNER, TODO_LISTS_BY_PROJECT, QUERY_RESULTS);
+
+    private CacheRegions() {
+    }
+}
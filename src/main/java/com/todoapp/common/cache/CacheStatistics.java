@@ -0,0 +1,61 @@
+package com.todoapp.common.cache;
+
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lee los contadores estándar de JCache (aciertos, fallos, escrituras, expulsiones) de cada región.
+ * Los mismos MBeans quedan visibles por JMX bajo javax.cache:type=CacheStatistics.
+ */
+@Component
+public class CacheStatistics {
+
+    private final CacheManager cacheManager;
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    public CacheStatistics(CacheManager hibernateCacheManager) {
+        this.cacheManager = hibernateCacheManager;
+    }
+
+    public List<CacheRegionStatsDTO> snapshot() {
+        List<CacheRegionStatsDTO> regions = new ArrayList<>();
+        for (String region : cacheManager.getCacheNames()) {
+            ObjectName name = statisticsName(region);
+            if (!mBeanServer.isRegistered(name)) {
+                continue;
+            }
+            CacheStatisticsMXBean statistics = JMX.newMXBeanProxy(mBeanServer, name, CacheStatisticsMXBean.class);
+            regions.add(new CacheRegionStatsDTO(
+                    region,
+                    statistics.getCacheHits(),
+                    statistics.getCacheMisses(),
+                    statistics.getCachePuts(),
+                    statistics.getCacheEvictions(),
+                    statistics.getCacheHitPercentage()));
+        }
+        return regions;
+    }
+
+    // Formato fijado por la especificación JCache para los nombres de sus MBeans
+    private ObjectName statisticsName(String region) {
+        try {
+            return new ObjectName("javax.cache:type=CacheStatistics,CacheManager="
+                    + sanitize(cacheManager.getURI().toString()) + ",Cache=" + sanitize(region));
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException("Nombre de región no válido: " + region, e);
+        }
+    }
+
+    private static String sanitize(String value) {
+        return value.replaceAll("[,:=\\n]", ".");
+    }
+}
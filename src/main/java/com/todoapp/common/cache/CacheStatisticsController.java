@@ -0,0 +1,24 @@
+package com.todoapp.common.cache;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheStatisticsController {
+
+    private final CacheStatistics cacheStatistics;
+
+    public CacheStatisticsController(CacheStatistics cacheStatistics) {
+        this.cacheStatistics = cacheStatistics;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheRegionStatsDTO>> getStats() {
+        return ResponseEntity.ok(cacheStatistics.snapshot());
+    }
+}
@@ -0,0 +1,171 @@
+package com.todoapp.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.todoapp.common.UserProvider;
+import com.todoapp.common.pagination.CursorPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caché de respuestas ya serializadas para los listados que los clientes consultan por sondeo.
+ * Cada entrada pertenece a un usuario y a una variante de la petición (cursor, límite, vista)
+ * y guarda el sello de {@link ResourceVersions} que tenían sus recursos antes de leerlos.
+ * Mientras el sello no cambie se responde desde memoria, y si el cliente manda el mismo
+ * If-None-Match, Spring contesta 304 sin cuerpo; ninguno de los dos caminos llega a la base de datos.
+ * Solo se responde desde la caché a quien ya obtuvo esa misma respuesta pasando por la autorización.
+ * Los bytes viven fuera del heap, en JSON y, si compensa, también comprimidos con gzip.
+ */
+@Component
+public class ListResponseCache {
+
+    private static final String GZIP = "gzip";
+
+    private final ResourceVersions versions;
+    private final UserProvider userProvider;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedResponse> entries;
+    private final boolean enabled;
+    private final int gzipMinBytes;
+    // Distingue los sellos de este arranque de los que conserven los clientes de uno anterior
+    private final String instance = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+
+    public ListResponseCache(ResourceVersions versions, UserProvider userProvider, ObjectMapper objectMapper,
+                             @Value("${response-cache.max-bytes:67108864}") long maxBytes,
+                             @Value("${response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.versions = versions;
+        this.userProvider = userProvider;
+        this.objectMapper = objectMapper;
+        this.enabled = maxBytes > 0;
+        this.gzipMinBytes = gzipMinBytes;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(Math.max(maxBytes, 0))
+                .weigher((String key, CachedResponse response) -> response.weight())
+                .build();
+    }
+
+    /**
+     * Responde el listado desde la caché si el sello de los recursos no ha cambiado;
+     * si no, ejecuta la consulta, guarda el resultado serializado y lo devuelve.
+     */
+    public ResponseEntity<?> respond(WebRequest request, String variant, Supplier<? extends CursorPage<?>> loader,
+                                     String... resources) {
+        if (!enabled) {
+            return loader.get().toResponse();
+        }
+        String key = userProvider.getCurrentUserId() + "|" + String.join(",", resources) + "|" + variant;
+        long version = versions.current(resources);
+        CachedResponse cached = entries.getIfPresent(key);
+        if (cached == null || cached.version() != version) {
+            cached = serialize(version, loader.get());
+            entries.put(key, cached);
+        }
+        return toResponse(cached, acceptsGzip(request));
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    private CachedResponse serialize(long version, CursorPage<?> page) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(page.items());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el listado", e);
+        }
+        ByteBuffer gzipped = null;
+        if (json.length >= gzipMinBytes) {
+            byte[] compressed = gzip(json);
+            if (compressed.length < json.length) {
+                gzipped = offHeap(compressed);
+            }
+        }
+        return new CachedResponse(version, page.nextCursor(), offHeap(json), gzipped);
+    }
+
+    private ResponseEntity<ByteBufferResource> toResponse(CachedResponse cached, boolean acceptsGzip) {
+        boolean gzipped = acceptsGzip && cached.gzip() != null;
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag("W/\"" + instance + "-" + cached.version() + "\"")
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (cached.nextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, cached.nextCursor());
+        }
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(new ByteBufferResource(gzipped ? cached.gzip() : cached.json()));
+    }
+
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static ByteBuffer offHeap(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private record CachedResponse(long version, String nextCursor, ByteBuffer json, ByteBuffer gzip) {
+        int weight() {
+            return json.capacity() + (gzip != null ? gzip.capacity() : 0);
+        }
+    }
+
+    // Cada lectura trabaja sobre un duplicado: la misma entrada se sirve a varias peticiones a la vez
+    private static final class ByteBufferResource extends AbstractResource {
+        private final ByteBuffer buffer;
+
+        private ByteBufferResource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteBufferBackedInputStream(buffer.duplicate());
+        }
+
+        @Override
+        public long contentLength() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public String getDescription() {
+            return "respuesta en caché de " + buffer.remaining() + " bytes";
+        }
+    }
+}
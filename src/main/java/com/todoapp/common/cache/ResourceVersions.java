@@ -0,0 +1,84 @@
+package com.todoapp.common.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sellos de versión en memoria de los recursos que se sirven desde {@link ListResponseCache}.
+ * Cada cambio asigna al recurso el siguiente valor de un contador global, así que el máximo
+ * de varios sellos cambia en cuanto cambia cualquiera de ellos. Un recurso sin sello recibe
+ * uno nuevo al consultarse: olvidar sellos solo provoca recargas, nunca respuestas viejas.
+ * Los sellos son locales a la instancia; con varias réplicas cada una invalida lo suyo.
+ */
+@Component
+public class ResourceVersions {
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final int maxEntries;
+
+    public ResourceVersions(@Value("${response-cache.max-versions:100000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public static String projectsOf(UUID userId) {
+        return "projects:" + userId;
+    }
+
+    public static String project(UUID projectId) {
+        return "project:" + projectId;
+    }
+
+    public static String todoList(UUID todoListId) {
+        return "todo-list:" + todoListId;
+    }
+
+    /** Versión conjunta de los recursos: cambia si cambia cualquiera de ellos. */
+    public long current(String... resources) {
+        ensureCapacity();
+        long version = 0;
+        for (String resource : resources) {
+            version = Math.max(version, versions.computeIfAbsent(resource, key -> clock.incrementAndGet()));
+        }
+        return version;
+    }
+
+    /**
+     * Marca los recursos como modificados tras el commit de la transacción en curso.
+     * Antes del commit una lectura concurrente aún vería los datos viejos y los guardaría
+     * con el sello nuevo.
+     */
+    public void touch(String... resources) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(resources);
+                }
+            });
+        } else {
+            bump(resources);
+        }
+    }
+
+    private void bump(String... resources) {
+        ensureCapacity();
+        for (String resource : resources) {
+            versions.put(resource, clock.incrementAndGet());
+        }
+    }
+
+    // Al llegar al límite se descarta todo: los recursos reciben sellos nuevos al volver a pedirse
+    private void ensureCapacity() {
+        if (versions.size() >= maxEntries) {
+            versions.clear();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.todoapp.common.concurrency;
+
+import com.todoapp.common.exception.PreconditionFailedException;
+
+/**
+ * ETag fuertes a partir de la columna @Version de proyectos, listas y tareas.
+ * Las escrituras aceptan un If-Match opcional: sin él solo se detectan las carreras
+ * entre transacciones en vuelo; con él también los cambios ocurridos desde que el
+ * cliente leyó el recurso.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /** Versión esperada según la cabecera If-Match; null si no la hay o es "*". */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        // Las ETag débiles nunca cumplen la comparación fuerte que exige If-Match
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match no corresponde a ninguna versión: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match no corresponde a ninguna versión: " + ifMatch);
+        }
+    }
+
+    public static void requireMatch(Long expectedVersion, long currentVersion, String resource) {
+        if (expectedVersion != null && expectedVersion != currentVersion) {
+            throw new PreconditionFailedException(resource + " ha cambiado desde que se leyó (versión actual "
+                    + currentVersion + ", esperada " + expectedVersion + ")");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.todoapp.common.exception;
+
+public class CapacityExceededException extends RuntimeException {
+    public CapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,8 @@
 package com.todoapp.common.exception;
 
 import com.todoapp.user.application.exception.UserAlreadyExistsException;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -107,4 +109,58 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+            InvalidCursorException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Paginación inválida",
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+            PreconditionFailedException ex, WebRequest request) {
+
+        return preconditionFailed(ex.getMessage(), request);
+    }
+
+    // Otra escritura ganó la carrera entre la lectura y el UPDATE condicionado por versión
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<ErrorResponse> handleOptimisticLockException(
+            RuntimeException ex, WebRequest request) {
+
+        return preconditionFailed("El recurso fue modificado por otra petición; vuelve a leerlo", request);
+    }
+
+    @ExceptionHandler(CapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleCapacityExceededException(
+            CapacityExceededException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Servicio saturado",
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    private ResponseEntity<ErrorResponse> preconditionFailed(String message, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "Conflicto de versión",
+                message,
+                request.getDescription(false)
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+}
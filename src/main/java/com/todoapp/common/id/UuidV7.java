@@ -0,0 +1,48 @@
+package com.todoapp.common.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de UUID versión 7 (RFC 9562): 48 bits de milisegundos Unix seguidos de
+ * 12 bits usados como contador dentro del mismo milisegundo y 62 bits aleatorios.
+ * Los ids salen ordenados en el tiempo y son estrictamente crecientes dentro del proceso,
+ * así los INSERT caen al final del índice en lugar de repartirse por todo el B-tree.
+ */
+public final class UuidV7 {
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+
+    // Milisegundos << 12 | contador del último id emitido
+    private static final AtomicLong lastStamp = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long stamp = nextStamp(System.currentTimeMillis());
+        long timestamp = stamp >>> 12;
+        long counter = stamp & 0xFFFL;
+        long msb = (timestamp << 16) | VERSION | counter;
+        long lsb = VARIANT | (ThreadLocalRandom.current().nextLong() >>> 2);
+        return new UUID(msb, lsb);
+    }
+
+    /** Milisegundos Unix codificados en un UUIDv7. */
+    public static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    // Si el contador se desborda dentro del mismo milisegundo se avanza al siguiente
+    private static long nextStamp(long now) {
+        long candidate = now << 12;
+        while (true) {
+            long last = lastStamp.get();
+            long next = Math.max(candidate, last + 1);
+            if (lastStamp.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.todoapp.common.pagination;
+
+import com.todoapp.common.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posición opaca dentro de una colección ordenada por (clave, id). El cliente solo ve
+ * un token Base64 de 24 bytes; la clave es la posición de la tarea o el instante de creación.
+ */
+public record Cursor(long key, UUID id) {
+    private static final int SIZE = Long.BYTES * 3;
+
+    public static Cursor of(LocalDateTime instant, UUID id) {
+        long nanos = instant.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + instant.getNano();
+        return new Cursor(nanos, id);
+    }
+
+    public static Cursor of(UUID id) {
+        return new Cursor(0, id);
+    }
+
+    public LocalDateTime keyAsDateTime() {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(key, 1_000_000_000L),
+                (int) Math.floorMod(key, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE)
+                .putLong(key)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /** Devuelve null si no se envió cursor, es decir, primera página. */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("El cursor de paginación no es válido");
+        }
+        if (bytes.length != SIZE) {
+            throw new InvalidCursorException("El cursor de paginación no es válido");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new Cursor(buffer.getLong(), new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.todoapp.common.pagination;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Una página de resultados y el cursor para pedir la siguiente (null si no hay más).
+ * El cuerpo de la respuesta sigue siendo un array; el cursor viaja en la cabecera X-Next-Cursor.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /** Recibe hasta limit + 1 filas: la sobrante solo indica que existe una página siguiente. */
+    public static <E, T> CursorPage<T> of(List<E> fetched, int limit, Function<E, T> mapper, Function<E, Cursor> cursorOf) {
+        int size = Math.min(fetched.size(), limit);
+        List<T> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(mapper.apply(fetched.get(i)));
+        }
+        String next = fetched.size() > limit ? cursorOf.apply(fetched.get(limit - 1)).encode() : null;
+        return new CursorPage<>(items, next);
+    }
+
+    public ResponseEntity<List<T>> toResponse() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(items);
+    }
+}
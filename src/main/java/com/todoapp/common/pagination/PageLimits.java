@@ -0,0 +1,38 @@
+package com.todoapp.common.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PageLimits {
+    /** Página sin tope: cabe el + 1 con el que se detecta la página siguiente. */
+    public static final int UNBOUNDED = Integer.MAX_VALUE - 1;
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    public PageLimits(@Value("${pagination.default-size:100}") int defaultSize,
+                      @Value("${pagination.max-size:500}") int maxSize) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    public int resolve(Integer requested) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        return Math.max(1, Math.min(requested, maxSize));
+    }
+
+    /**
+     * Tamaño de página de las colecciones. Sin cursor ni límite se devuelve la colección entera,
+     * como antes de paginar, para no recortar en silencio a los clientes que no conocen el cursor;
+     * basta con pedir limit o cursor para entrar en la paginación por páginas acotadas.
+     */
+    public int resolve(String cursor, Integer requested) {
+        if (cursor == null && requested == null) {
+            return UNBOUNDED;
+        }
+        return resolve(requested);
+    }
+}
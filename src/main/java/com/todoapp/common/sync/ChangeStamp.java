@@ -0,0 +1,15 @@
+package com.todoapp.common.sync;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Marca la columna que {@link ChangeStampGenerator} renueva en cada INSERT y UPDATE. */
+@ValueGenerationType(generatedBy = ChangeStampGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ChangeStamp {
+}
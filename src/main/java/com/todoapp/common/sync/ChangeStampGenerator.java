@@ -0,0 +1,25 @@
+package com.todoapp.common.sync;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Asigna el sello en la aplicación y viaja dentro del propio INSERT o UPDATE:
+ * marcar un cambio no cuesta ninguna sentencia extra.
+ */
+public class ChangeStampGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return ChangeStamps.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_AND_UPDATE;
+    }
+}
@@ -0,0 +1,71 @@
+package com.todoapp.common.sync;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sellos de cambio: microsegundos Unix, estrictamente crecientes dentro del proceso.
+ * Si llegan varios cambios en el mismo microsegundo, el sello se adelanta al reloj
+ * en lugar de repetirse, así que dos filas del mismo proceso nunca comparten sello.
+ * Cada transacción abierta que ha pedido sellos recuerda el primero hasta que termina,
+ * para que el horizonte de sincronización no la adelante por larga que sea.
+ */
+public final class ChangeStamps {
+
+    /** Sello de las filas escritas antes de que existieran los sellos. */
+    public static final long ORIGIN = 0;
+
+    private static final AtomicLong last = new AtomicLong();
+    // Primer sello de cada transacción de este proceso que aún no ha terminado
+    private static final ConcurrentSkipListSet<Long> open = new ConcurrentSkipListSet<>();
+    private static final Object TRANSACTION_KEY = new Object();
+
+    private ChangeStamps() {
+    }
+
+    public static long next() {
+        long now = nowMicros();
+        long stamp = last.updateAndGet(previous -> Math.max(previous + 1, now));
+        trackOpenTransaction(stamp);
+        return stamp;
+    }
+
+    /**
+     * Sello hasta el que una sincronización puede leer sin perder filas: un sello se asigna
+     * al escribir pero solo es visible al confirmar. Nunca alcanza el primer sello de una
+     * transacción de este proceso que siga abierta, dure lo que dure (bloques de importación,
+     * actualizaciones masivas); {@code lag} cubre las de otras instancias y debe superar
+     * la transacción más larga que se permita en ellas.
+     */
+    public static long horizon(Duration lag) {
+        long horizon = nowMicros() - lag.toNanos() / 1_000;
+        Long oldestOpen = open.ceiling(Long.MIN_VALUE);
+        return oldestOpen != null ? Math.min(horizon, oldestOpen - 1) : horizon;
+    }
+
+    private static void trackOpenTransaction(long stamp) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(TRANSACTION_KEY)) {
+            return;
+        }
+        open.add(stamp);
+        TransactionSynchronizationManager.bindResource(TRANSACTION_KEY, stamp);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_KEY);
+                open.remove(stamp);
+            }
+        });
+    }
+
+    private static long nowMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000 + now.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,29 @@
+package com.todoapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Hilos propios para escribir en las conexiones SSE. emitter.send bloquea mientras el cliente
+ * no lee, y en el executor compartido de la aplicación esos envíos dejarían sin hilos a trabajos
+ * como la renumeración de tareas. Cada suscriptor encola a lo sumo un vaciado, así que la cola
+ * se dimensiona con el máximo de suscripciones y no rechaza mientras la aplicación está en marcha.
+ * No es candidato por defecto: solo lo recibe quien lo pide por nombre, y el executor de
+ * la aplicación se sigue creando como siempre.
+ */
+@Configuration
+public class EventStreamConfig {
+
+    @Bean(name = "projectEventExecutor", defaultCandidate = false)
+    public ThreadPoolTaskExecutor projectEventExecutor(@Value("${events.send-threads:8}") int threads,
+                                                       @Value("${events.max-subscribers:50000}") int maxSubscribers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(maxSubscribers);
+        executor.setThreadNamePrefix("sse-");
+        return executor;
+    }
+}
@@ -0,0 +1,23 @@
+package com.todoapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Agrupa los INSERT y UPDATE en lotes JDBC. Los ids UUID se generan en memoria,
+ * así que Hibernate puede diferir los INSERT hasta el flush y enviarlos juntos.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put("hibernate.jdbc.batch_size", batchSize);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+        };
+    }
+}
@@ -1,14 +1,18 @@
 package com.todoapp.config;
 
+import com.todoapp.auth.domain.TokenClaims;
 import com.todoapp.auth.port.out.JwtEncoder;
 import com.todoapp.user.adapter.out.UserJpaRepository;
 import com.todoapp.user.adapter.out.UserEntity;
+import com.todoapp.user.adapter.out.UserExistenceCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -16,17 +20,31 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @Component
 public class JwtFilter extends OncePerRequestFilter {
     private static final org.apache.commons.logging.Log logger = org.apache.commons.logging.LogFactory.getLog(JwtFilter.class);
     private final JwtEncoder jwtEncoder;
     private final UserJpaRepository userRepo;
-
-    public JwtFilter(JwtEncoder jwtEncoder, UserJpaRepository userRepo) {
+    private final VerifiedTokenCache tokenCache;
+    private final UserExistenceCache userExistenceCache;
+    private final boolean claimsPrincipal;
+    private final Set<String> adminEmails;
+
+    public JwtFilter(JwtEncoder jwtEncoder, UserJpaRepository userRepo, VerifiedTokenCache tokenCache,
+                     UserExistenceCache userExistenceCache,
+                     @Value("${jwt.claims-principal:true}") boolean claimsPrincipal,
+                     @Value("${security.admin-emails:}") Set<String> adminEmails) {
         this.jwtEncoder = jwtEncoder;
         this.userRepo = userRepo;
+        this.tokenCache = tokenCache;
+        this.userExistenceCache = userExistenceCache;
+        this.claimsPrincipal = claimsPrincipal;
+        this.adminEmails = adminEmails;
     }
 
     @Override
@@ -52,12 +70,13 @@ public class JwtFilter extends OncePerRequestFilter {
         boolean authenticationSuccessful = false;
 
         try {
-            String username = jwtEncoder.extractUsername(jwt);
+            TokenClaims claims = verify(jwt);
+            String username = claims != null ? claims.email() : null;
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserEntity userEntity = userRepo.findByEmail(username).orElse(null);
-                if (userEntity != null && jwtEncoder.validateToken(jwt)) {
-                    UsernamePasswordAuthenticationToken authToken = getUsernamePasswordAuthenticationToken(username, userEntity);
+                UUID userId = resolveUserId(claims);
+                if (userId != null) {
+                    UsernamePasswordAuthenticationToken authToken = getUsernamePasswordAuthenticationToken(username, userId);
 
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                     authenticationSuccessful = true;
@@ -76,16 +95,41 @@ public class JwtFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private static UsernamePasswordAuthenticationToken getUsernamePasswordAuthenticationToken(String username, UserEntity userEntity) {
+    // Verifica la firma una sola vez por token; los tokens ya verificados se sirven desde la cache
+    private TokenClaims verify(String jwt) {
+        TokenClaims claims = tokenCache.get(jwt);
+        if (claims == null) {
+            claims = jwtEncoder.verify(jwt).orElse(null);
+            if (claims != null) {
+                tokenCache.put(jwt, claims);
+            }
+        }
+        return claims;
+    }
+
+    // Con claims-principal el id sale del token y solo se consulta la base si la cache de existencia falla
+    private UUID resolveUserId(TokenClaims claims) {
+        if (claimsPrincipal && claims.userId() != null) {
+            return userExistenceCache.isActive(claims.userId(), claims.email()) ? claims.userId() : null;
+        }
+        return userRepo.findByEmail(claims.email())
+                .map(UserEntity::getId)
+                .orElse(null);
+    }
+
+    // Los administradores se configuran por email en security.admin-emails; el resto no tiene rol alguno
+    private UsernamePasswordAuthenticationToken getUsernamePasswordAuthenticationToken(String username, UUID userId) {
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                 username,
                 null,
-                Collections.emptyList()
+                adminEmails.contains(username)
+                        ? List.of(new SimpleGrantedAuthority(SecurityConfig.ADMIN_AUTHORITY))
+                        : Collections.emptyList()
         );
 
         Map<String, Object> userInfo = new HashMap<>();
-        userInfo.put("userId", userEntity.getId());
-        userInfo.put("email", userEntity.getEmail());
+        userInfo.put("userId", userId);
+        userInfo.put("email", username);
 
         authToken.setDetails(userInfo);
         return authToken;
@@ -0,0 +1,10 @@
+package com.todoapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** Tareas periódicas de la aplicación, todas en el planificador compartido de Spring. */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,29 @@
+package com.todoapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * El esquema lo definen las migraciones de db/migration; Hibernate solo lo valida al arrancar.
+ * Una base creada antes por Hibernate se adopta con baseline en la versión 0, de modo que
+ * V1 se ejecuta igualmente y añade los índices que falten.
+ */
+@Configuration
+public class SchemaConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer baselineExistingSchemaCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer schemaValidationCustomizer(
+            @Value("${spring.jpa.hibernate.ddl-auto:validate}") String ddlAuto) {
+        return properties -> properties.put("hibernate.hbm2ddl.auto", ddlAuto);
+    }
+}
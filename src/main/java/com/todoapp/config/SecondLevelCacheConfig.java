@@ -0,0 +1,65 @@
+package com.todoapp.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.todoapp.common.cache.CacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Caché de segundo nivel de Hibernate sobre JCache/Caffeine para proyectos, listas y usuarios,
+ * que se leen en cada petición y cambian poco. Cada región es acotada en tamaño y caduca por TTL;
+ * Hibernate invalida las entradas en cada escritura y en los DELETE/UPDATE masivos.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Un gestor por contexto: las regiones no se comparten entre aplicaciones en la misma JVM
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${cache.second-level.max-entries:10000}") long maxEntries,
+            @Value("${cache.second-level.ttl:PT10M}") Duration ttl) {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider)
+                Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("todo-back-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        for (String region : CacheRegions.BOUNDED) {
+            cacheManager.createCache(region, regionConfiguration(OptionalLong.of(maxEntries), OptionalLong.of(ttl.toNanos())));
+        }
+        // Marcas de última modificación por tabla: unas pocas entradas que nunca deben caducar
+        cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, regionConfiguration(OptionalLong.empty(), OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Solo las regiones declaradas arriba: una región desconocida sería una caché sin límite
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(OptionalLong maxEntries, OptionalLong ttlNanos) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maxEntries);
+        configuration.setExpireAfterWrite(ttlNanos);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -1,7 +1,11 @@
 package com.todoapp.config;
 
+import com.todoapp.common.pagination.CursorPage;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -10,12 +14,19 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 @Configuration
 public class SecurityConfig {
+    static final String ADMIN_ROLE = "ADMIN";
+    static final String ADMIN_AUTHORITY = "ROLE_" + ADMIN_ROLE;
+    private static final String EVENT_STREAM = "/api/projects/*/events";
+
     private final JwtFilter jwtFilter;
 
     public SecurityConfig(JwtFilter jwtFilter) {
@@ -30,6 +41,12 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                     .requestMatchers("/api/auth/login", "/api/users/register").permitAll()
+                    // Contadores globales de la aplicación: solo para los administradores
+                    .requestMatchers("/api/cache/stats", "/api/outbox/stats").hasRole(ADMIN_ROLE)
+                    // El cierre de un stream SSE vuelve a despacharse sin pasar por JwtFilter; la petición ya se autorizó.
+                    // Solo ese despacho: cualquier otra respuesta asíncrona sigue exigiendo autenticación
+                    .requestMatchers(new AndRequestMatcher(new DispatcherTypeRequestMatcher(DispatcherType.ASYNC),
+                            AntPathRequestMatcher.antMatcher(HttpMethod.GET, EVENT_STREAM))).permitAll()
                     .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
@@ -48,6 +65,9 @@ public class SecurityConfig {
         configuration.addAllowedMethod("PATCH");
         configuration.addAllowedMethod("OPTIONS");
         configuration.addAllowedHeader("*");
+        configuration.addExposedHeader(CursorPage.NEXT_CURSOR_HEADER);
+        // Sin leer el ETag el navegador no puede mandar el If-Match de las escrituras condicionales
+        configuration.addExposedHeader(HttpHeaders.ETAG);
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
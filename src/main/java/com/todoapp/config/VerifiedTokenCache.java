@@ -0,0 +1,101 @@
+package com.todoapp.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.todoapp.auth.domain.TokenClaims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache acotado de tokens JWT ya verificados. La clave es el digest SHA-256 del token,
+ * así el token en claro nunca queda en memoria, y cada entrada caduca junto con el token.
+ * Caffeine se encarga del límite de tamaño (desaloja por frecuencia de uso, no al azar)
+ * y de retirar las entradas caducadas sin recorrer el mapa.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, TokenClaims> entries;
+    private final int maxEntries;
+    private final Clock clock;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.cache.max-entries:10000}") int maxEntries) {
+        this(maxEntries, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxEntries, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxEntries, 0))
+                .expireAfter(new UntilTokenExpires())
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public TokenClaims get(String token) {
+        if (maxEntries <= 0) {
+            return null;
+        }
+        return entries.getIfPresent(digest(token));
+    }
+
+    public void put(String token, TokenClaims claims) {
+        if (maxEntries <= 0 || claims.isExpired(clock.instant())) {
+            return;
+        }
+        entries.put(digest(token), claims);
+    }
+
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    // Cada entrada vive hasta el exp de su token; leerla no la alarga
+    private final class UntilTokenExpires implements Expiry<String, TokenClaims> {
+        @Override
+        public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+            if (claims.expiresAt() == null) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(0, Duration.between(clock.instant(), claims.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.todoapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Plazo de las respuestas asíncronas que no fijan el suyo, como las exportaciones en streaming.
+ * El del contenedor (30 s en Tomcat) cortaría una descarga grande a medias; los flujos SSE
+ * mantienen su propio plazo.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final Duration timeout;
+
+    public WebAsyncConfig(@Value("${web.async-timeout:PT30M}") Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(timeout.toMillis());
+    }
+}
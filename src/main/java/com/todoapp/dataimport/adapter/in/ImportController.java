@@ -0,0 +1,34 @@
+package com.todoapp.dataimport.adapter.in;
+
+import com.todoapp.dataimport.port.in.ImportUseCase;
+import com.todoapp.export.domain.ExportFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+    private final ImportUseCase useCase;
+
+    public ImportController(ImportUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    // El cuerpo se lee directamente del flujo de la petición, sin convertidores que lo carguen entero
+    @PostMapping
+    public ResponseEntity<?> importData(@RequestParam(defaultValue = "ndjson") String format,
+                                        InputStream body) throws IOException {
+        Optional<ExportFormat> importFormat = ExportFormat.from(format);
+        if (importFormat.isEmpty()) {
+            return ResponseEntity.badRequest().body("Formato de importación no soportado: use ndjson o csv.");
+        }
+        return ResponseEntity.ok(useCase.importData(importFormat.get(), body));
+    }
+}
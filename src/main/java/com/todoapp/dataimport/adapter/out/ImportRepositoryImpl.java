@@ -0,0 +1,57 @@
+package com.todoapp.dataimport.adapter.out;
+
+import com.todoapp.dataimport.port.out.ImportRepository;
+import com.todoapp.project.adapter.out.ProjectEntity;
+import com.todoapp.project.dto.ProjectRequestDTO;
+import com.todoapp.task.adapter.out.TaskEntity;
+import com.todoapp.task.dto.TaskRequestDTO;
+import com.todoapp.todolist.adapter.out.TodoListEntity;
+import com.todoapp.todolist.dto.TodoListRequestDTO;
+import com.todoapp.user.adapter.out.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+// Los padres se enlazan con referencias: no se lee nada de la base de datos durante la importación
+@Repository
+public class ImportRepositoryImpl implements ImportRepository {
+    private final EntityManager entityManager;
+
+    public ImportRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public UUID insertProject(UUID userId, ProjectRequestDTO project) {
+        ProjectEntity entity = new ProjectEntity(null, project.name(), project.description(),
+                entityManager.getReference(UserEntity.class, userId));
+        entityManager.persist(entity);
+        return entity.getId();
+    }
+
+    @Override
+    public UUID insertTodoList(UUID projectId, TodoListRequestDTO todoList) {
+        TodoListEntity entity = new TodoListEntity(null, todoList.name(),
+                entityManager.getReference(ProjectEntity.class, projectId), new ArrayList<>());
+        entityManager.persist(entity);
+        return entity.getId();
+    }
+
+    @Override
+    public UUID insertTask(UUID todoListId, UUID projectId, TaskRequestDTO task, boolean completed, long position) {
+        TaskEntity entity = new TaskEntity(entityManager.getReference(TodoListEntity.class, todoListId),
+                task.dueDate(), completed, task.description(), task.title(), null);
+        entity.setProjectId(projectId);
+        entity.setPosition(position);
+        entityManager.persist(entity);
+        return entity.getId();
+    }
+
+    @Override
+    public void flushChunk() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,124 @@
+package com.todoapp.dataimport.application;
+
+import com.todoapp.dataimport.domain.ImportRecord;
+import com.todoapp.dataimport.domain.MalformedRecordException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV con cabecera (RFC 4180): las columnas se localizan por nombre, así que admite el orden
+ * de la exportación y cualquier otro. Un campo entre comillas puede ocupar varias líneas.
+ */
+class CsvRecordReader extends ImportRecordReader {
+
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final List<String> fields = new ArrayList<>();
+    private MalformedRecordException headerError;
+    private boolean finished;
+
+    CsvRecordReader(InputStream body) throws IOException {
+        super(body);
+        if (readRow(line)) {
+            for (int i = 0; i < fields.size(); i++) {
+                columns.put(fields.get(i).trim().toLowerCase(), i);
+            }
+        }
+        if (!columns.containsKey("type")) {
+            headerError = new MalformedRecordException(1, "La cabecera CSV debe incluir la columna type");
+        }
+    }
+
+    @Override
+    ImportRecord next() throws IOException {
+        if (headerError != null) {
+            // Sin cabecera válida no se puede interpretar ninguna fila
+            MalformedRecordException error = headerError;
+            headerError = null;
+            finished = true;
+            throw error;
+        }
+        if (finished) {
+            return null;
+        }
+        long start;
+        do {
+            start = line;
+            if (!readRow(start)) {
+                finished = true;
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        return new ImportRecord(start, type(start, column("type")), column("id"), column("project_id"),
+                column("todo_list_id"), column("name"), column("description"), column("completed"),
+                column("due_date"));
+    }
+
+    private String column(String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    // Lee una fila completa en fields; false si no quedaba nada
+    private boolean readRow(long start) throws IOException {
+        fields.clear();
+        buffer.setLength(0);
+        boolean quoted = false;
+        boolean read = false;
+        int length = 0;
+        int c;
+        while ((c = in.read()) != -1) {
+            read = true;
+            if (++length > MAX_RECORD_CHARS && (quoted || c != '\n')) {
+                fields.clear();
+                throw tooLong(start);
+            }
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    int following = in.read();
+                    if (following == '"') {
+                        buffer.append('"');
+                    } else {
+                        quoted = false;
+                        if (following != -1) {
+                            in.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    buffer.append((char) c);
+                }
+            } else if (c == '"' && buffer.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(buffer.toString());
+                buffer.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                break;
+            } else if (c != '\r') {
+                buffer.append((char) c);
+            }
+        }
+        if (!read) {
+            return false;
+        }
+        if (quoted) {
+            fields.clear();
+            throw new MalformedRecordException(start, "Comillas sin cerrar");
+        }
+        fields.add(buffer.toString());
+        return true;
+    }
+}
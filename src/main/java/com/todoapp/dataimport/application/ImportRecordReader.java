@@ -0,0 +1,55 @@
+package com.todoapp.dataimport.application;
+
+import com.todoapp.dataimport.domain.ImportRecord;
+import com.todoapp.dataimport.domain.MalformedRecordException;
+import com.todoapp.export.domain.ExportRecordType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lee los registros de un fichero de importación uno a uno, sin cargarlo entero. Un registro
+ * mal formado se notifica con {@link MalformedRecordException} y la lectura continúa con el
+ * siguiente. Los registros tienen un tamaño máximo: uno mayor se descarta hasta el fin de línea.
+ */
+abstract class ImportRecordReader implements Closeable {
+
+    static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    final BufferedReader in;
+    final StringBuilder buffer = new StringBuilder();
+    // Línea en la que empieza el siguiente carácter por leer
+    long line = 1;
+
+    ImportRecordReader(InputStream body) {
+        this.in = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    /** Siguiente registro, o null al llegar al final. */
+    abstract ImportRecord next() throws IOException;
+
+    static ExportRecordType type(long line, String code) {
+        return ExportRecordType.fromCode(code).orElseThrow(() ->
+                new MalformedRecordException(line, "Tipo de registro desconocido: " + code));
+    }
+
+    // Descarta el resto del registro demasiado largo y lo notifica
+    MalformedRecordException tooLong(long start) throws IOException {
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            // se descarta
+        }
+        line++;
+        buffer.setLength(0);
+        return new MalformedRecordException(start, "El registro supera los " + MAX_RECORD_CHARS + " caracteres");
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,316 @@
+package com.todoapp.dataimport.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.common.UserProvider;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.dataimport.domain.ImportRecord;
+import com.todoapp.dataimport.domain.MalformedRecordException;
+import com.todoapp.dataimport.dto.ImportErrorDTO;
+import com.todoapp.dataimport.dto.ImportResultDTO;
+import com.todoapp.dataimport.port.in.ImportUseCase;
+import com.todoapp.dataimport.port.out.ImportRepository;
+import com.todoapp.export.domain.ExportFormat;
+import com.todoapp.export.domain.ExportRecordType;
+import com.todoapp.outbox.domain.DomainEventType;
+import com.todoapp.outbox.port.out.DomainEventOutbox;
+import com.todoapp.project.dto.ProjectRequestDTO;
+import com.todoapp.task.domain.TaskPositions;
+import com.todoapp.task.dto.TaskBatchResponseDTO;
+import com.todoapp.task.dto.TaskRequestDTO;
+import com.todoapp.todolist.dto.TodoListRequestDTO;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Importación de proyectos, listas y tareas desde NDJSON o CSV. El cuerpo se lee registro a
+ * registro; cada uno se valida con las mismas restricciones que la API y los válidos se
+ * guardan en bloques de {@code import.chunk-size}, cada bloque en su propia transacción y con
+ * los INSERT en lotes JDBC. Un registro inválido se anota con su línea y no detiene el resto.
+ * En memoria solo queda el bloque en curso y la correspondencia de ids de proyectos y listas.
+ * Cada bloque registra en el outbox, dentro de su transacción, los mismos eventos que las altas
+ * de la API: uno por proyecto y lista, y uno por lista con las tareas que el bloque le añadió.
+ */
+@Service
+public class ImportService implements ImportUseCase {
+
+    private final ImportRepository repo;
+    private final UserProvider userProvider;
+    private final ResourceVersions resourceVersions;
+    private final DomainEventOutbox outbox;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public ImportService(ImportRepository repo, UserProvider userProvider, ResourceVersions resourceVersions,
+                         DomainEventOutbox outbox, ObjectMapper objectMapper, Validator validator, PlatformTransactionManager transactionManager,
+                         @Value("${import.chunk-size:1000}") int chunkSize,
+                         @Value("${import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.repo = repo;
+        this.userProvider = userProvider;
+        this.resourceVersions = resourceVersions;
+        this.outbox = outbox;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ImportResultDTO importData(ExportFormat format, InputStream body) throws IOException {
+        UUID userId = userProvider.getCurrentUserId();
+        Run run = new Run(userId);
+        List<Pending> chunk = new ArrayList<>(chunkSize);
+        try (ImportRecordReader reader = open(format, body)) {
+            while (true) {
+                ImportRecord record;
+                try {
+                    record = reader.next();
+                } catch (MalformedRecordException e) {
+                    run.reject(e.line(), e.getMessage());
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                Pending pending = validate(run, record);
+                if (pending != null) {
+                    chunk.add(pending);
+                }
+                if (chunk.size() == chunkSize) {
+                    save(run, chunk);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            save(run, chunk);
+        }
+        if (run.projectCount > 0) {
+            resourceVersions.touch(ResourceVersions.projectsOf(userId));
+        }
+        return new ImportResultDTO(run.projectCount, run.todoListCount, run.taskCount, run.rejected, run.errors);
+    }
+
+    private ImportRecordReader open(ExportFormat format, InputStream body) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonRecordReader(objectMapper, body);
+            case CSV -> new CsvRecordReader(body);
+        };
+    }
+
+    // Convierte el registro al DTO de la API y aplica sus restricciones; null si no es válido
+    private Pending validate(Run run, ImportRecord record) {
+        Object dto;
+        String parent;
+        boolean completed = false;
+        switch (record.type()) {
+            case PROJECT -> {
+                dto = new ProjectRequestDTO(record.name(), record.description());
+                parent = null;
+            }
+            case TODO_LIST -> {
+                dto = new TodoListRequestDTO(record.name());
+                parent = record.projectId();
+            }
+            default -> {
+                LocalDate dueDate;
+                try {
+                    dueDate = record.dueDate() == null ? null : LocalDate.parse(record.dueDate());
+                } catch (DateTimeParseException e) {
+                    run.reject(record.line(), "Fecha de vencimiento no válida: " + record.dueDate());
+                    return null;
+                }
+                if (record.completed() != null && !record.completed().equalsIgnoreCase("true")
+                        && !record.completed().equalsIgnoreCase("false")) {
+                    run.reject(record.line(), "El campo completed debe ser true o false");
+                    return null;
+                }
+                completed = Boolean.parseBoolean(record.completed());
+                dto = new TaskRequestDTO(record.name(), record.description(), dueDate);
+                parent = record.todoListId();
+            }
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            run.reject(record.line(), violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        if (record.type() != ExportRecordType.PROJECT && parent == null) {
+            run.reject(record.line(), "Falta el id del elemento padre");
+            return null;
+        }
+        return new Pending(record.line(), record.type(), record.id(), parent, dto, completed);
+    }
+
+    // Un bloque por transacción: si falla se descarta entero y se informa de su rango de líneas
+    private void save(Run run, List<Pending> chunk) {
+        Run.Staged staged = run.stage();
+        try {
+            chunkTransaction.executeWithoutResult(status -> {
+                for (Pending pending : chunk) {
+                    insert(run, staged, pending);
+                }
+                staged.taskIds.forEach((list, ids) -> outbox.append(DomainEventType.TASKS_CREATED, list.id,
+                        new TaskBatchResponseDTO(ids.size(), ids)));
+                repo.flushChunk();
+            });
+            run.commit(staged);
+        } catch (DataAccessException | TransactionException e) {
+            run.rejectChunk(chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), staged,
+                    "No se pudo guardar el bloque: " + e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private void insert(Run run, Run.Staged staged, Pending pending) {
+        switch (pending.type()) {
+            case PROJECT -> {
+                ProjectRequestDTO project = (ProjectRequestDTO) pending.dto();
+                UUID id = repo.insertProject(run.userId, project);
+                staged.project(pending.sourceId(), id);
+                outbox.append(DomainEventType.PROJECT_CREATED, id, Map.of("userId", run.userId, "name", project.name()));
+            }
+            case TODO_LIST -> {
+                UUID projectId = run.projectId(staged, pending.parentId());
+                if (projectId == null) {
+                    run.reject(pending.line(), "El proyecto " + pending.parentId() + " no aparece antes en el fichero");
+                    return;
+                }
+                TodoListRequestDTO todoList = (TodoListRequestDTO) pending.dto();
+                UUID id = repo.insertTodoList(projectId, todoList);
+                staged.todoList(pending.sourceId(), new ImportedList(id, projectId));
+                outbox.append(DomainEventType.TODO_LIST_CREATED, id, new TodoListResponseDTO(id, todoList.name(), projectId, 0));
+            }
+            default -> {
+                ImportedList list = run.todoList(staged, pending.parentId());
+                if (list == null) {
+                    run.reject(pending.line(), "La lista " + pending.parentId() + " no aparece antes en el fichero");
+                    return;
+                }
+                list.lastPosition = TaskPositions.append(list.lastPosition);
+                UUID id = repo.insertTask(list.id, list.projectId, (TaskRequestDTO) pending.dto(), pending.completed(),
+                        list.lastPosition);
+                staged.task(list, id);
+            }
+        }
+    }
+
+    private record Pending(long line, ExportRecordType type, String sourceId, String parentId, Object dto,
+                           boolean completed) {}
+
+    private static final class ImportedList {
+        private final UUID id;
+        private final UUID projectId;
+        private Long lastPosition;
+
+        private ImportedList(UUID id, UUID projectId) {
+            this.id = id;
+            this.projectId = projectId;
+        }
+    }
+
+    // Estado de una importación: contadores, errores y los ids nuevos por id de origen
+    private final class Run {
+        private final UUID userId;
+        private final Map<String, UUID> projectIds = new HashMap<>();
+        private final Map<String, ImportedList> todoLists = new HashMap<>();
+        private final List<ImportErrorDTO> errors = new ArrayList<>();
+        private int projectCount;
+        private int todoListCount;
+        private int taskCount;
+        private int rejected;
+
+        private Run(UUID userId) {
+            this.userId = userId;
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportErrorDTO(line, message));
+            }
+        }
+
+        private Staged stage() {
+            return new Staged();
+        }
+
+        private UUID projectId(Staged staged, String sourceId) {
+            UUID id = staged.projectIds.get(sourceId);
+            return id != null ? id : projectIds.get(sourceId);
+        }
+
+        private ImportedList todoList(Staged staged, String sourceId) {
+            ImportedList list = staged.todoListIds.get(sourceId);
+            return list != null ? list : todoLists.get(sourceId);
+        }
+
+        private void commit(Staged staged) {
+            projectIds.putAll(staged.projectIds);
+            todoLists.putAll(staged.todoListIds);
+            projectCount += staged.projects;
+            todoListCount += staged.todoLists;
+            taskCount += staged.tasks;
+        }
+
+        private void rejectChunk(long firstLine, long lastLine, Staged staged, String message) {
+            int lost = staged.projects + staged.todoLists + staged.tasks;
+            rejected += Math.max(lost, 1) - 1;
+            reject(firstLine, message + " (líneas " + firstLine + " a " + lastLine + ")");
+        }
+
+        // Ids creados por el bloque en curso: solo pasan a la importación si el bloque se confirma
+        private final class Staged {
+            private final Map<String, UUID> projectIds = new HashMap<>();
+            private final Map<String, ImportedList> todoListIds = new HashMap<>();
+            private final Map<ImportedList, List<UUID>> taskIds = new LinkedHashMap<>();
+            private int projects;
+            private int todoLists;
+            private int tasks;
+
+            private void project(String sourceId, UUID id) {
+                projects++;
+                if (sourceId != null) {
+                    projectIds.put(sourceId, id);
+                }
+            }
+
+            private void todoList(String sourceId, ImportedList list) {
+                todoLists++;
+                if (sourceId != null) {
+                    todoListIds.put(sourceId, list);
+                }
+            }
+
+            private void task(ImportedList list, UUID id) {
+                tasks++;
+                taskIds.computeIfAbsent(list, key -> new ArrayList<>()).add(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.todoapp.dataimport.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.dataimport.domain.ImportRecord;
+import com.todoapp.dataimport.domain.MalformedRecordException;
+import com.todoapp.export.domain.ExportRecordType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// El mismo formato que escribe la exportación: {"type":"task","data":{...}} por línea
+class NdjsonRecordReader extends ImportRecordReader {
+
+    private final ObjectMapper objectMapper;
+
+    NdjsonRecordReader(ObjectMapper objectMapper, InputStream body) {
+        super(body);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    ImportRecord next() throws IOException {
+        String text;
+        long start;
+        do {
+            start = line;
+            text = readLine(start);
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            throw new MalformedRecordException(start, "JSON no válido: " + e.getOriginalMessage());
+        }
+        ExportRecordType type = type(start, text(node, "type"));
+        JsonNode data = node.get("data");
+        if (data == null || !data.isObject()) {
+            throw new MalformedRecordException(start, "El registro no incluye el objeto data");
+        }
+        String name = text(data, type == ExportRecordType.TASK ? "title" : "name");
+        return new ImportRecord(start, type, text(data, "id"), text(data, "projectId"), text(data, "todoListId"),
+                name, text(data, "description"), text(data, "completed"), text(data, "dueDate"));
+    }
+
+    private String readLine(long start) throws IOException {
+        buffer.setLength(0);
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            if (buffer.length() == MAX_RECORD_CHARS) {
+                throw tooLong(start);
+            }
+            buffer.append((char) c);
+        }
+        if (c == -1 && buffer.isEmpty()) {
+            return null;
+        }
+        line++;
+        if (!buffer.isEmpty() && buffer.charAt(buffer.length() - 1) == '\r') {
+            buffer.setLength(buffer.length() - 1);
+        }
+        return buffer.toString();
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
@@ -0,0 +1,19 @@
+package com.todoapp.dataimport.domain;
+
+import com.todoapp.export.domain.ExportRecordType;
+
+/**
+ * Registro leído de un fichero de importación, todavía sin validar. Los ids son los del
+ * fichero de origen y solo sirven para enlazar listas con su proyecto y tareas con su lista.
+ */
+public record ImportRecord(
+        long line,
+        ExportRecordType type,
+        String id,
+        String projectId,
+        String todoListId,
+        String name,
+        String description,
+        String completed,
+        String dueDate
+) {}
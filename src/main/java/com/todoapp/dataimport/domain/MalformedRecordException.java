@@ -0,0 +1,15 @@
+package com.todoapp.dataimport.domain;
+
+/** Un registro que no se pudo leer; la importación sigue con el siguiente. */
+public class MalformedRecordException extends RuntimeException {
+    private final long line;
+
+    public MalformedRecordException(long line, String message) {
+        super(message);
+        this.line = line;
+    }
+
+    public long line() {
+        return line;
+    }
+}
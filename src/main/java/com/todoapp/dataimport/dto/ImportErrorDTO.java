@@ -0,0 +1,6 @@
+package com.todoapp.dataimport.dto;
+
+public record ImportErrorDTO(
+        long line,
+        String message
+) {}
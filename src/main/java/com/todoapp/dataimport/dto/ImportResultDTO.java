@@ -0,0 +1,12 @@
+package com.todoapp.dataimport.dto;
+
+import java.util.List;
+
+/** Resultado de una importación. Solo se detallan los primeros errores; rejected los cuenta todos. */
+public record ImportResultDTO(
+        int projects,
+        int todoLists,
+        int tasks,
+        int rejected,
+        List<ImportErrorDTO> errors
+) {}
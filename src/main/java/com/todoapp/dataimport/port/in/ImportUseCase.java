@@ -0,0 +1,11 @@
+package com.todoapp.dataimport.port.in;
+
+import com.todoapp.dataimport.dto.ImportResultDTO;
+import com.todoapp.export.domain.ExportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ImportUseCase {
+    ImportResultDTO importData(ExportFormat format, InputStream body) throws IOException;
+}
@@ -0,0 +1,19 @@
+package com.todoapp.dataimport.port.out;
+
+import com.todoapp.project.dto.ProjectRequestDTO;
+import com.todoapp.task.dto.TaskRequestDTO;
+import com.todoapp.todolist.dto.TodoListRequestDTO;
+
+import java.util.UUID;
+
+/**
+ * Altas de una importación. Cada método devuelve el id nuevo sin esperar al INSERT, que se
+ * envía en lotes al llamar a {@link #flushChunk()} dentro de la transacción del bloque.
+ */
+public interface ImportRepository {
+    UUID insertProject(UUID userId, ProjectRequestDTO project);
+    UUID insertTodoList(UUID projectId, TodoListRequestDTO todoList);
+    UUID insertTask(UUID todoListId, UUID projectId, TaskRequestDTO task, boolean completed, long position);
+    /** Envía los INSERT pendientes y vacía el contexto de persistencia. */
+    void flushChunk();
+}
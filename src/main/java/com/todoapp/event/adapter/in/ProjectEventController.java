@@ -0,0 +1,29 @@
+package com.todoapp.event.adapter.in;
+
+import com.todoapp.common.OwnershipValidator;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/events")
+public class ProjectEventController {
+    private final ProjectEventHub hub;
+    private final OwnershipValidator ownershipValidator;
+
+    public ProjectEventController(ProjectEventHub hub, OwnershipValidator ownershipValidator) {
+        this.hub = hub;
+        this.ownershipValidator = ownershipValidator;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable UUID projectId) {
+        ownershipValidator.validateProjectOwnership(projectId);
+        return hub.subscribe(projectId);
+    }
+}
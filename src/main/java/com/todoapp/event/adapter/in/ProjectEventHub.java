@@ -0,0 +1,246 @@
+package com.todoapp.event.adapter.in;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.common.exception.CapacityExceededException;
+import com.todoapp.event.domain.ProjectEvent;
+import com.todoapp.event.domain.ProjectEventType;
+import com.todoapp.event.port.out.ProjectEventPublisher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reparto en proceso de los eventos de cada proyecto a sus conexiones SSE.
+ * Una conexión inactiva no ocupa ningún hilo: solo su emisor y una cola vacía. Cada evento
+ * se serializa una vez y la misma trama se encola en todos los suscriptores del proyecto;
+ * un hilo del executor propio de los eventos (projectEventExecutor) vacía la cola de un suscriptor
+ * cuando tiene algo que enviar.
+ * Si un cliente lento llena su cola, se descartan sus eventos pendientes, se le envía RESYNC
+ * y se cierra la conexión: al reconectar se pone al día con /api/sync en lugar de recibir
+ * un historial que el servidor tendría que retener por él.
+ * Un único latido periódico recorre todas las conexiones y solo escribe en las que llevan
+ * un intervalo completo en silencio.
+ */
+@Component
+public class ProjectEventHub implements ProjectEventPublisher {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("").build();
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final TaskExecutor taskExecutor;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long heartbeatNanos;
+    private final Set<DataWithMediaType> resync;
+
+    public ProjectEventHub(@Qualifier("projectEventExecutor") TaskExecutor taskExecutor, ObjectMapper objectMapper,
+                           @Value("${events.buffer-size:256}") int bufferSize,
+                           @Value("${events.max-subscribers:50000}") int maxSubscribers,
+                           @Value("${events.timeout:PT30M}") Duration timeout,
+                           @Value("${events.heartbeat:PT25S}") Duration heartbeat) {
+        this.taskExecutor = taskExecutor;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.heartbeatNanos = heartbeat.toNanos();
+        this.resync = SseEmitter.event()
+                .name(ProjectEventType.RESYNC.name())
+                .data(toJson(new ProjectEvent(ProjectEventType.RESYNC, null, null, null)), MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    public SseEmitter subscribe(UUID projectId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new CapacityExceededException("Se alcanzó el máximo de suscripciones a eventos; reintenta más tarde");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        subscribers.computeIfAbsent(projectId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscriber.close());
+        return emitter;
+    }
+
+    @Override
+    public void publish(UUID projectId, ProjectEvent event) {
+        afterCommit(() -> dispatch(projectId, event));
+    }
+
+    @Override
+    public void closeProject(UUID projectId) {
+        afterCommit(() -> {
+            Set<Subscriber> project = subscribers.get(projectId);
+            if (project != null) {
+                project.forEach(Subscriber::complete);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${events.heartbeat:PT25S}")
+    public void heartbeat() {
+        long idleSince = System.nanoTime() - heartbeatNanos;
+        for (Set<Subscriber> project : subscribers.values()) {
+            for (Subscriber subscriber : project) {
+                if (subscriber.lastSent - idleSince <= 0) {
+                    subscriber.offer(HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void dispatch(UUID projectId, ProjectEvent event) {
+        Set<Subscriber> project = subscribers.get(projectId);
+        if (project == null || project.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> frame = frame(event);
+        for (Subscriber subscriber : project) {
+            subscriber.offer(frame);
+        }
+    }
+
+    private Set<DataWithMediaType> frame(ProjectEvent event) {
+        return SseEmitter.event()
+                .id(Long.toString(sequence.incrementAndGet()))
+                .name(event.type().name())
+                .data(toJson(event), MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private String toJson(ProjectEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + event.type(), e);
+        }
+    }
+
+    private final class Subscriber {
+        private final UUID projectId;
+        private final SseEmitter emitter;
+        // Protegida por el propio suscriptor; se crea pequeña porque casi siempre está vacía
+        private final ArrayDeque<Set<DataWithMediaType>> pending = new ArrayDeque<>(4);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private boolean overflowed;
+        private volatile long lastSent = System.nanoTime();
+
+        private Subscriber(UUID projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            synchronized (this) {
+                if (overflowed || closed.get()) {
+                    return;
+                }
+                if (pending.size() >= bufferSize) {
+                    pending.clear();
+                    pending.add(resync);
+                    overflowed = true;
+                } else {
+                    pending.add(frame);
+                }
+            }
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    taskExecutor.execute(this::drain);
+                } catch (TaskRejectedException e) {
+                    // Solo ocurre al parar la aplicación: el cliente reconecta y se pone al día
+                    complete();
+                }
+            }
+        }
+
+        // Un solo hilo a la vez por suscriptor; al vaciarse la cola se suelta y otro offer lo relanza
+        private void drain() {
+            try {
+                while (true) {
+                    Set<DataWithMediaType> frame;
+                    synchronized (this) {
+                        frame = pending.poll();
+                        if (frame == null) {
+                            draining.set(false);
+                            return;
+                        }
+                    }
+                    emitter.send(frame);
+                    lastSent = System.nanoTime();
+                    if (frame == resync) {
+                        emitter.complete();
+                        return;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // El cliente se fue: el contenedor notifica el error y close() lo da de baja
+                close();
+                emitter.completeWithError(e);
+            }
+        }
+
+        // Cierre pedido por el servidor: se da de baja ya y se termina la respuesta
+        void complete() {
+            close();
+            emitter.complete();
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            synchronized (this) {
+                pending.clear();
+            }
+            subscribers.computeIfPresent(projectId, (key, project) -> {
+                project.remove(this);
+                return project.isEmpty() ? null : project;
+            });
+            subscriberCount.decrementAndGet();
+        }
+    }
+}
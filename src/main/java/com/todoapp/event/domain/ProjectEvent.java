@@ -0,0 +1,11 @@
+package com.todoapp.event.domain;
+
+import java.util.UUID;
+
+/**
+ * Cambio en un proyecto tal como se empuja a sus suscriptores. {@code id} es la tarea o lista
+ * afectada (null en los eventos que afectan a varias) y {@code data} el cuerpo que devolvería
+ * la API REST para esa operación.
+ */
+public record ProjectEvent(ProjectEventType type, UUID todoListId, UUID id, Object data) {
+}
@@ -0,0 +1,21 @@
+package com.todoapp.event.domain;
+
+public enum ProjectEventType {
+    TASK_CREATED,
+    TASKS_CREATED,
+    TASK_UPDATED,
+    TASK_STATUS_CHANGED,
+    TASKS_STATUS_CHANGED,
+    TASKS_DUE_DATE_CHANGED,
+    TASKS_REORDERED,
+    TASK_MOVED,
+    TASK_DELETED,
+    TASK_RESTORED,
+    TASKS_DELETED,
+    TODO_LIST_CREATED,
+    TODO_LIST_UPDATED,
+    TODO_LIST_DELETED,
+    TODO_LIST_RESTORED,
+    /** El servidor descartó eventos de este suscriptor: debe ponerse al día con /api/sync y reconectar. */
+    RESYNC
+}
@@ -0,0 +1,13 @@
+package com.todoapp.event.port.out;
+
+import com.todoapp.event.domain.ProjectEvent;
+
+import java.util.UUID;
+
+public interface ProjectEventPublisher {
+    /** Se entrega tras el commit de la transacción en curso; si se deshace, no se publica nada. */
+    void publish(UUID projectId, ProjectEvent event);
+
+    /** Cierra tras el commit las suscripciones del proyecto, que ya no existe para sus clientes. */
+    void closeProject(UUID projectId);
+}
@@ -0,0 +1,44 @@
+package com.todoapp.export.adapter.in;
+
+import com.todoapp.export.domain.DataExport;
+import com.todoapp.export.domain.ExportFormat;
+import com.todoapp.export.port.in.ExportUseCase;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+    private final ExportUseCase useCase;
+
+    public ExportController(ExportUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    // El cuerpo se escribe fuera del hilo de la petición, que queda libre mientras dura la descarga
+    @GetMapping
+    public ResponseEntity<?> export(@RequestParam(defaultValue = "ndjson") String format) {
+        Optional<ExportFormat> exportFormat = ExportFormat.from(format);
+        if (exportFormat.isEmpty()) {
+            return ResponseEntity.badRequest().body("Formato de exportación no soportado: use ndjson o csv.");
+        }
+        DataExport export = useCase.exportCurrentUser(exportFormat.get());
+        StreamingResponseBody body = export::writeTo;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.get().mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("todoapp-export." + exportFormat.get().extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
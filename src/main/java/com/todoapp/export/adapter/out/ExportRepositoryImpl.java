@@ -0,0 +1,41 @@
+package com.todoapp.export.adapter.out;
+
+import com.todoapp.export.port.out.ExportRepository;
+import com.todoapp.project.adapter.out.ProjectJpaRepository;
+import com.todoapp.project.dto.ProjectResponseDTO;
+import com.todoapp.task.adapter.out.TaskJpaRepository;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.todolist.adapter.out.TodoListJpaRepository;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public class ExportRepositoryImpl implements ExportRepository {
+    private final ProjectJpaRepository projects;
+    private final TodoListJpaRepository todoLists;
+    private final TaskJpaRepository tasks;
+
+    public ExportRepositoryImpl(ProjectJpaRepository projects, TodoListJpaRepository todoLists, TaskJpaRepository tasks) {
+        this.projects = projects;
+        this.todoLists = todoLists;
+        this.tasks = tasks;
+    }
+
+    @Override
+    public Stream<ProjectResponseDTO> streamProjects(UUID userId) {
+        return projects.streamResponsesByOwnerId(userId);
+    }
+
+    @Override
+    public Stream<TodoListResponseDTO> streamTodoLists(UUID userId) {
+        return todoLists.streamResponsesByUserId(userId);
+    }
+
+    @Override
+    public Stream<TaskResponseDTO> streamTasks(UUID userId) {
+        return tasks.streamResponsesByUserId(userId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.todoapp.export.application;
+
+import com.todoapp.export.domain.ExportRecordType;
+import com.todoapp.project.dto.ProjectResponseDTO;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+// Una sola tabla para los tres tipos: cada fila rellena las columnas que le corresponden
+class CsvExportWriter extends ExportWriter {
+
+    static final String HEADER =
+            "type,id,project_id,todo_list_id,name,description,completed,due_date,position,created_at,version";
+
+    private final Writer writer;
+
+    CsvExportWriter(OutputStream out, int flushEvery) throws IOException {
+        super(flushEvery);
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.writer.write(HEADER);
+        this.writer.write('\n');
+    }
+
+    @Override
+    void writeProject(ProjectResponseDTO project) throws IOException {
+        row(ExportRecordType.PROJECT.code(), project.id(), project.id(), null, project.name(), project.description(),
+                null, null, null, project.createdAt(), project.version());
+    }
+
+    @Override
+    void writeTodoList(TodoListResponseDTO todoList) throws IOException {
+        row(ExportRecordType.TODO_LIST.code(), todoList.id(), todoList.projectId(), null, todoList.name(), null,
+                null, null, null, null, todoList.version());
+    }
+
+    @Override
+    void writeTask(TaskResponseDTO task) throws IOException {
+        row(ExportRecordType.TASK.code(), task.id(), task.projectId(), task.todoListId(), task.title(), task.description(),
+                task.completed(), task.dueDate(), task.position(), null, task.version());
+    }
+
+    private void row(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeField(values[i].toString());
+            }
+        }
+        writer.write('\n');
+    }
+
+    // RFC 4180: se entrecomilla solo si hace falta y las comillas se duplican
+    private void writeField(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
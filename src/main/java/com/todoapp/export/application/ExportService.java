@@ -0,0 +1,89 @@
+package com.todoapp.export.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.common.UserProvider;
+import com.todoapp.export.domain.DataExport;
+import com.todoapp.export.domain.ExportFormat;
+import com.todoapp.export.port.in.ExportUseCase;
+import com.todoapp.export.port.out.ExportRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Exportación completa de los datos de un usuario: proyectos, listas y tareas, en ese orden.
+ * Cada tipo se lee con un cursor de la base de datos y se escribe registro a registro, así que
+ * ni la memoria ni el tiempo hasta el primer byte dependen del volumen. Las proyecciones no
+ * quedan gestionadas por el contexto de persistencia, que no crece durante el recorrido.
+ */
+@Service
+public class ExportService implements ExportUseCase {
+
+    private final ExportRepository repo;
+    private final UserProvider userProvider;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnly;
+    private final int flushEvery;
+
+    public ExportService(ExportRepository repo, UserProvider userProvider, ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${export.flush-every:1000}") int flushEvery) {
+        this.repo = repo;
+        this.userProvider = userProvider;
+        this.objectMapper = objectMapper;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.flushEvery = flushEvery;
+    }
+
+    @Override
+    public DataExport exportCurrentUser(ExportFormat format) {
+        UUID userId = userProvider.getCurrentUserId();
+        return out -> write(userId, format, out);
+    }
+
+    // Una sola transacción de lectura: los tres recorridos ven la misma foto de los datos
+    private void write(UUID userId, ExportFormat format, OutputStream out) throws IOException {
+        try (ExportWriter writer = open(format, out)) {
+            readOnly.executeWithoutResult(status -> {
+                copy(repo.streamProjects(userId), writer::project);
+                copy(repo.streamTodoLists(userId), writer::todoList);
+                copy(repo.streamTasks(userId), writer::task);
+            });
+        } catch (UncheckedIOException e) {
+            // El cliente cortó la descarga o la conexión falló: se aborta la lectura y se propaga
+            throw e.getCause();
+        }
+    }
+
+    private static <T> void copy(Stream<T> source, RecordWriter<T> target) {
+        try (source) {
+            Iterator<T> records = source.iterator();
+            while (records.hasNext()) {
+                target.write(records.next());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ExportWriter open(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonExportWriter(objectMapper, out, flushEvery);
+            case CSV -> new CsvExportWriter(out, flushEvery);
+        };
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter<T> {
+        void write(T record) throws IOException;
+    }
+}
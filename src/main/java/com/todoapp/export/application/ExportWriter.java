@@ -0,0 +1,52 @@
+package com.todoapp.export.application;
+
+import com.todoapp.project.dto.ProjectResponseDTO;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Escribe los registros de una exportación uno a uno y vacía el búfer cada {@code flushEvery}
+ * registros: el cliente recibe datos de forma continua y la memoria no crece con el tamaño.
+ */
+abstract class ExportWriter implements Closeable {
+
+    private final int flushEvery;
+    private int unflushed;
+
+    ExportWriter(int flushEvery) {
+        this.flushEvery = flushEvery;
+    }
+
+    final void project(ProjectResponseDTO project) throws IOException {
+        writeProject(project);
+        written();
+    }
+
+    final void todoList(TodoListResponseDTO todoList) throws IOException {
+        writeTodoList(todoList);
+        written();
+    }
+
+    final void task(TaskResponseDTO task) throws IOException {
+        writeTask(task);
+        written();
+    }
+
+    private void written() throws IOException {
+        if (++unflushed >= flushEvery) {
+            flush();
+            unflushed = 0;
+        }
+    }
+
+    abstract void writeProject(ProjectResponseDTO project) throws IOException;
+
+    abstract void writeTodoList(TodoListResponseDTO todoList) throws IOException;
+
+    abstract void writeTask(TaskResponseDTO task) throws IOException;
+
+    abstract void flush() throws IOException;
+}
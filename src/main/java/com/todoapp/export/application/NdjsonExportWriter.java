@@ -0,0 +1,57 @@
+package com.todoapp.export.application;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.export.domain.ExportRecordType;
+import com.todoapp.project.dto.ProjectResponseDTO;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Una línea JSON por registro: {"type":"task","data":{...}}
+class NdjsonExportWriter extends ExportWriter {
+
+    private final JsonGenerator generator;
+
+    NdjsonExportWriter(ObjectMapper objectMapper, OutputStream out, int flushEvery) throws IOException {
+        super(flushEvery);
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    void writeProject(ProjectResponseDTO project) throws IOException {
+        write(ExportRecordType.PROJECT, project);
+    }
+
+    @Override
+    void writeTodoList(TodoListResponseDTO todoList) throws IOException {
+        write(ExportRecordType.TODO_LIST, todoList);
+    }
+
+    @Override
+    void writeTask(TaskResponseDTO task) throws IOException {
+        write(ExportRecordType.TASK, task);
+    }
+
+    private void write(ExportRecordType type, Object data) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", type.code());
+        generator.writeFieldName("data");
+        generator.writeObject(data);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
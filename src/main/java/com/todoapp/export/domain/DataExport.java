@@ -0,0 +1,13 @@
+package com.todoapp.export.domain;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Exportación ya autorizada y pendiente de escribir. Se prepara en el hilo de la petición,
+ * donde se conoce al usuario, y se escribe después en otro hilo a medida que el cliente lee.
+ */
+@FunctionalInterface
+public interface DataExport {
+    void writeTo(OutputStream out) throws IOException;
+}
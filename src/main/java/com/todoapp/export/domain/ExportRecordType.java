@@ -0,0 +1,29 @@
+package com.todoapp.export.domain;
+
+import java.util.Optional;
+
+/** Tipo de cada registro de una exportación, con el nombre con el que aparece en el fichero. */
+public enum ExportRecordType {
+    PROJECT("project"),
+    TODO_LIST("todoList"),
+    TASK("task");
+
+    private final String code;
+
+    ExportRecordType(String code) {
+        this.code = code;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public static Optional<ExportRecordType> fromCode(String code) {
+        for (ExportRecordType type : values()) {
+            if (type.code.equals(code)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,8 @@
+package com.todoapp.export.port.in;
+
+import com.todoapp.export.domain.DataExport;
+import com.todoapp.export.domain.ExportFormat;
+
+public interface ExportUseCase {
+    DataExport exportCurrentUser(ExportFormat format);
+}
@@ -0,0 +1,18 @@
+package com.todoapp.export.port.out;
+
+import com.todoapp.project.dto.ProjectResponseDTO;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Recorridos completos de los datos de un usuario. Cada flujo mantiene abierto un cursor
+ * de la base de datos: debe consumirse dentro de una transacción y cerrarse al terminar.
+ */
+public interface ExportRepository {
+    Stream<ProjectResponseDTO> streamProjects(UUID userId);
+    Stream<TodoListResponseDTO> streamTodoLists(UUID userId);
+    Stream<TaskResponseDTO> streamTasks(UUID userId);
+}
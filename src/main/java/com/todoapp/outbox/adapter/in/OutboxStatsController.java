@@ -0,0 +1,24 @@
+package com.todoapp.outbox.adapter.in;
+
+import com.todoapp.outbox.application.OutboxDispatcher;
+import com.todoapp.outbox.dto.OutboxStatsDTO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/outbox")
+public class OutboxStatsController {
+
+    private final OutboxDispatcher dispatcher;
+
+    public OutboxStatsController(OutboxDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<OutboxStatsDTO> getStats() {
+        return ResponseEntity.ok(dispatcher.stats());
+    }
+}
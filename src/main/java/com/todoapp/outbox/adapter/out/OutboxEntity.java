@@ -0,0 +1,68 @@
+package com.todoapp.outbox.adapter.out;
+
+import com.todoapp.common.id.GeneratedUuidV7;
+import com.todoapp.outbox.domain.AggregateType;
+import com.todoapp.outbox.domain.DomainEventType;
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEntity {
+    @Id
+    @GeneratedUuidV7
+    @Column(name = "id", columnDefinition = "uuid")
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 16)
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 32)
+    private DomainEventType eventType;
+
+    @Column(name = "payload")
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    public OutboxEntity() {
+    }
+
+    public OutboxEntity(DomainEventType eventType, UUID aggregateId, String payload) {
+        this.aggregateType = eventType.aggregateType();
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public AggregateType getAggregateType() {
+        return aggregateType;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public DomainEventType getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
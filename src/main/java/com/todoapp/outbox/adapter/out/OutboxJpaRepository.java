@@ -0,0 +1,48 @@
+package com.todoapp.outbox.adapter.out;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxJpaRepository extends JpaRepository<OutboxEntity, UUID> {
+    // FOR UPDATE SKIP LOCKED (timeout -2): un segundo despachador toma los siguientes pendientes
+    // en lugar de esperar al primero; el orden por agregado lo protege findAggregatesHeldElsewhere
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEntity e where e.attempts < :maxAttempts order by e.id asc")
+    List<OutboxEntity> findPendingForUpdate(@Param("maxAttempts") int maxAttempts, Limit limit);
+
+    // Lectura sin bloqueo: ve también las filas que otro despachador tiene tomadas
+    @Query("select distinct e.aggregateId from OutboxEntity e where e.attempts < :maxAttempts and e.id < :before "
+            + "and e.aggregateId in :aggregateIds and e.id not in :batchIds")
+    List<UUID> findAggregatesHeldElsewhere(@Param("maxAttempts") int maxAttempts, @Param("before") UUID before,
+                                           @Param("aggregateIds") Collection<UUID> aggregateIds,
+                                           @Param("batchIds") Collection<UUID> batchIds);
+
+    @Modifying
+    @Query("delete from OutboxEntity e where e.id in :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("update OutboxEntity e set e.attempts = e.attempts + 1 where e.id in :ids")
+    int incrementAttempts(@Param("ids") Collection<UUID> ids);
+
+    @Query("select count(e) from OutboxEntity e where e.attempts < :maxAttempts")
+    long countPending(@Param("maxAttempts") int maxAttempts);
+
+    @Query("select count(e) from OutboxEntity e where e.attempts >= :maxAttempts")
+    long countDead(@Param("maxAttempts") int maxAttempts);
+
+    @Query("select e.id from OutboxEntity e where e.attempts < :maxAttempts order by e.id asc")
+    List<UUID> findPendingIds(@Param("maxAttempts") int maxAttempts, Limit limit);
+}
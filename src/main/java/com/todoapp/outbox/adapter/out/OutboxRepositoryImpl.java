@@ -0,0 +1,96 @@
+package com.todoapp.outbox.adapter.out;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.outbox.domain.DomainEvent;
+import com.todoapp.outbox.domain.DomainEventType;
+import com.todoapp.outbox.port.in.DomainEventSubscriber;
+import com.todoapp.outbox.port.out.DomainEventOutbox;
+import com.todoapp.outbox.port.out.OutboxRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+public class OutboxRepositoryImpl implements DomainEventOutbox, OutboxRepository {
+    private final OutboxJpaRepository jpa;
+    private final ObjectMapper objectMapper;
+    private final boolean consumed;
+
+    public OutboxRepositoryImpl(OutboxJpaRepository jpa, ObjectMapper objectMapper,
+                                ObjectProvider<DomainEventSubscriber> subscribers) {
+        this.jpa = jpa;
+        this.objectMapper = objectMapper;
+        this.consumed = subscribers.stream().findAny().isPresent();
+    }
+
+    // Sin suscriptores nadie leería el evento: las escrituras no pagan el INSERT
+    @Override
+    public void append(DomainEventType type, UUID aggregateId, Object payload) {
+        if (!consumed) {
+            return;
+        }
+        String json;
+        try {
+            json = payload != null ? objectMapper.writeValueAsString(payload) : null;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + type, e);
+        }
+        jpa.save(new OutboxEntity(type, aggregateId, json));
+    }
+
+    @Override
+    public List<DomainEvent> lockPending(int limit, int maxAttempts) {
+        return jpa.findPendingForUpdate(maxAttempts, Limit.of(limit)).stream()
+                .map(entity -> new DomainEvent(entity.getId(), entity.getEventType(), entity.getAggregateId(),
+                        entity.getPayload()))
+                .toList();
+    }
+
+    @Override
+    public Set<UUID> aggregatesHeldElsewhere(List<DomainEvent> batch, int maxAttempts) {
+        if (batch.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> aggregateIds = batch.stream().map(DomainEvent::aggregateId).collect(Collectors.toSet());
+        List<UUID> batchIds = batch.stream().map(DomainEvent::id).toList();
+        UUID last = batch.get(batch.size() - 1).id();
+        return new HashSet<>(jpa.findAggregatesHeldElsewhere(maxAttempts, last, aggregateIds, batchIds));
+    }
+
+    @Override
+    public void deleteAll(List<UUID> ids) {
+        if (!ids.isEmpty()) {
+            jpa.deleteByIds(ids);
+        }
+    }
+
+    @Override
+    public void recordFailures(List<UUID> ids) {
+        if (!ids.isEmpty()) {
+            jpa.incrementAttempts(ids);
+        }
+    }
+
+    @Override
+    public long countPending(int maxAttempts) {
+        return jpa.countPending(maxAttempts);
+    }
+
+    @Override
+    public long countDead(int maxAttempts) {
+        return jpa.countDead(maxAttempts);
+    }
+
+    @Override
+    public UUID oldestPendingId(int maxAttempts) {
+        List<UUID> ids = jpa.findPendingIds(maxAttempts, Limit.of(1));
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+}
@@ -0,0 +1,135 @@
+package com.todoapp.outbox.application;
+
+import com.todoapp.common.id.UuidV7;
+import com.todoapp.outbox.domain.DomainEvent;
+import com.todoapp.outbox.dto.OutboxStatsDTO;
+import com.todoapp.outbox.port.in.DomainEventSubscriber;
+import com.todoapp.outbox.port.out.OutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entrega los eventos del outbox a los {@link DomainEventSubscriber} de la aplicación.
+ * Cada pasada lee por lotes los pendientes más antiguos con FOR UPDATE SKIP LOCKED, los entrega
+ * en orden y borra los entregados en la misma transacción; si la aplicación cae antes de confirmar,
+ * el lote se vuelve a entregar. Cuando una entrega falla, el resto de eventos de ese agregado
+ * espera a la siguiente pasada para no adelantarse; tras outbox.max-attempts fallos el evento
+ * se queda en la tabla como muerto y deja de bloquear a los siguientes. Sin suscriptores
+ * no se escribe ningún evento y el despachador ni siquiera consulta la tabla.
+ * <p>
+ * Con SKIP LOCKED varios despachadores avanzan a la vez sobre lotes distintos en lugar de hacer
+ * cola tras el primero. Para no adelantar eventos de un agregado, antes de entregar se comprueba
+ * con una lectura sin bloqueo si algún agregado del lote tiene pendientes anteriores fuera de él:
+ * esos los tiene otro despachador, y los eventos del agregado esperan a la siguiente pasada.
+ * La comprobación es conservadora: si los dos despachadores se ven a la vez, ambos ceden ese
+ * agregado durante una pasada, pero ninguno entrega fuera de orden.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxRepository repo;
+    private final List<DomainEventSubscriber> subscribers;
+    private final TransactionTemplate batchTransaction;
+    private final TransactionTemplate deliveryTransaction;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    public OutboxDispatcher(OutboxRepository repo, ObjectProvider<DomainEventSubscriber> subscribers,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${outbox.batch-size:20}") int batchSize,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts) {
+        this.repo = repo;
+        this.subscribers = subscribers.orderedStream().toList();
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.deliveryTransaction = new TransactionTemplate(transactionManager);
+        this.deliveryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /** Vacía el outbox mientras los lotes salgan llenos y entregados por completo. */
+    @Scheduled(initialDelayString = "${outbox.poll-interval:PT1S}", fixedDelayString = "${outbox.poll-interval:PT1S}")
+    public void dispatch() {
+        while (dispatchBatch() == batchSize) {
+            // Lote completo: probablemente queda más
+        }
+    }
+
+    /** Devuelve cuántos eventos del lote se entregaron. */
+    public int dispatchBatch() {
+        if (subscribers.isEmpty()) {
+            return 0;
+        }
+        Integer count = batchTransaction.execute(status -> {
+            List<DomainEvent> batch = repo.lockPending(batchSize, maxAttempts);
+            Set<UUID> blocked = new HashSet<>(repo.aggregatesHeldElsewhere(batch, maxAttempts));
+            List<UUID> done = new ArrayList<>(batch.size());
+            List<UUID> failed = new ArrayList<>();
+            for (DomainEvent event : batch) {
+                if (blocked.contains(event.aggregateId())) {
+                    continue;
+                }
+                if (deliver(event)) {
+                    done.add(event.id());
+                    recordLag(event);
+                } else {
+                    failed.add(event.id());
+                    blocked.add(event.aggregateId());
+                }
+            }
+            repo.deleteAll(done);
+            repo.recordFailures(failed);
+            return done.size();
+        });
+        return count != null ? count : 0;
+    }
+
+    public OutboxStatsDTO stats() {
+        UUID oldest = repo.oldestPendingId(maxAttempts);
+        long oldestAge = oldest != null ? Math.max(0, System.currentTimeMillis() - UuidV7.timestamp(oldest)) : 0;
+        return new OutboxStatsDTO(repo.countPending(maxAttempts), repo.countDead(maxAttempts), delivered.get(),
+                failures.get(), oldestAge, lastLagMillis.get(), maxLagMillis.get());
+    }
+
+    // Cada suscriptor en su propia transacción: si falla, solo se deshace su trabajo
+    private boolean deliver(DomainEvent event) {
+        for (DomainEventSubscriber subscriber : subscribers) {
+            try {
+                deliveryTransaction.executeWithoutResult(status -> subscriber.on(event));
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+                log.warn("Falló la entrega del evento {} {} a {}", event.type(), event.id(),
+                        subscriber.getClass().getSimpleName(), e);
+                return false;
+            }
+        }
+        delivered.incrementAndGet();
+        return true;
+    }
+
+    private void recordLag(DomainEvent event) {
+        long lag = Math.max(0, System.currentTimeMillis() - UuidV7.timestamp(event.id()));
+        lastLagMillis.set(lag);
+        maxLagMillis.accumulateAndGet(lag, Math::max);
+    }
+}
@@ -0,0 +1,8 @@
+package com.todoapp.outbox.domain;
+
+public enum AggregateType {
+    PROJECT,
+    TODO_LIST,
+    // Ya no se escribe: los eventos de tarea se ordenan por su lista. Queda para leer los pendientes antiguos
+    TASK
+}
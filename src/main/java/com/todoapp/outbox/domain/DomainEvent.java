@@ -0,0 +1,19 @@
+package com.todoapp.outbox.domain;
+
+import com.todoapp.common.id.UuidV7;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** Evento leído del outbox; {@code payload} es el JSON con el que se registró. */
+public record DomainEvent(UUID id, DomainEventType type, UUID aggregateId, String payload) {
+
+    public AggregateType aggregateType() {
+        return type.aggregateType();
+    }
+
+    /** El id es un UUIDv7: su marca de tiempo es el momento en que se registró el evento. */
+    public Instant occurredAt() {
+        return Instant.ofEpochMilli(UuidV7.timestamp(id));
+    }
+}
@@ -0,0 +1,39 @@
+package com.todoapp.outbox.domain;
+
+/**
+ * Tipos de evento de dominio y el agregado por el que se ordenan: los eventos de un mismo
+ * agregado se entregan en el orden en que se escribieron. Todo lo que toca a las tareas,
+ * una a una o en bloque, se ordena por su lista, de modo que los cambios masivos no adelantan
+ * ni se quedan atrás de los de una tarea concreta; el id de la tarea va en el payload.
+ */
+public enum DomainEventType {
+    PROJECT_CREATED(AggregateType.PROJECT),
+    PROJECT_UPDATED(AggregateType.PROJECT),
+    PROJECT_DELETED(AggregateType.PROJECT),
+    PROJECT_RESTORED(AggregateType.PROJECT),
+    TODO_LIST_CREATED(AggregateType.TODO_LIST),
+    TODO_LIST_UPDATED(AggregateType.TODO_LIST),
+    TODO_LIST_DELETED(AggregateType.TODO_LIST),
+    TODO_LIST_RESTORED(AggregateType.TODO_LIST),
+    TASK_CREATED(AggregateType.TODO_LIST),
+    TASKS_CREATED(AggregateType.TODO_LIST),
+    TASK_UPDATED(AggregateType.TODO_LIST),
+    TASK_STATUS_CHANGED(AggregateType.TODO_LIST),
+    TASKS_STATUS_CHANGED(AggregateType.TODO_LIST),
+    TASKS_DUE_DATE_CHANGED(AggregateType.TODO_LIST),
+    TASKS_REORDERED(AggregateType.TODO_LIST),
+    TASK_MOVED(AggregateType.TODO_LIST),
+    TASK_DELETED(AggregateType.TODO_LIST),
+    TASK_RESTORED(AggregateType.TODO_LIST),
+    TASKS_DELETED(AggregateType.TODO_LIST);
+
+    private final AggregateType aggregateType;
+
+    DomainEventType(AggregateType aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public AggregateType aggregateType() {
+        return aggregateType;
+    }
+}
@@ -0,0 +1,11 @@
+package com.todoapp.outbox.dto;
+
+public record OutboxStatsDTO(
+        long pending,
+        long dead,
+        long delivered,
+        long failures,
+        long oldestPendingAgeMillis,
+        long lastLagMillis,
+        long maxLagMillis
+) {}
@@ -0,0 +1,13 @@
+package com.todoapp.outbox.port.in;
+
+import com.todoapp.outbox.domain.DomainEvent;
+
+/**
+ * Trabajo derivado que se ejecuta fuera de la petición. La entrega es al menos una vez:
+ * tras un fallo o una caída el mismo evento puede llegar de nuevo, así que el suscriptor
+ * debe ser idempotente. Cada entrega corre en su propia transacción; si lanza una excepción,
+ * el evento y los posteriores de su agregado se reintentan en la siguiente pasada.
+ */
+public interface DomainEventSubscriber {
+    void on(DomainEvent event);
+}
@@ -0,0 +1,13 @@
+package com.todoapp.outbox.port.out;
+
+import com.todoapp.outbox.domain.DomainEventType;
+
+import java.util.UUID;
+
+public interface DomainEventOutbox {
+    /**
+     * Registra el evento en la transacción en curso: se entrega solo si esta confirma.
+     * Si la aplicación no tiene ningún suscriptor el evento se descarta sin escribirse.
+     */
+    void append(DomainEventType type, UUID aggregateId, Object payload);
+}
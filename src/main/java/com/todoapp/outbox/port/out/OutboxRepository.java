@@ -0,0 +1,23 @@
+package com.todoapp.outbox.port.out;
+
+import com.todoapp.outbox.domain.DomainEvent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface OutboxRepository {
+    /** Los eventos pendientes más antiguos, bloqueados hasta el final de la transacción. */
+    List<DomainEvent> lockPending(int limit, int maxAttempts);
+    /**
+     * Agregados del lote con eventos pendientes anteriores que no están en él: los tiene tomados
+     * otro despachador y entregar los del lote los adelantaría.
+     */
+    Set<UUID> aggregatesHeldElsewhere(List<DomainEvent> batch, int maxAttempts);
+    void deleteAll(List<UUID> ids);
+    void recordFailures(List<UUID> ids);
+    long countPending(int maxAttempts);
+    long countDead(int maxAttempts);
+    /** Id del evento pendiente más antiguo, o null si no hay ninguno. */
+    UUID oldestPendingId(int maxAttempts);
+}
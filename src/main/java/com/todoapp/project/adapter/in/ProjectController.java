@@ -1,15 +1,22 @@
 package com.todoapp.project.adapter.in;
 
+import com.todoapp.common.UserProvider;
+import com.todoapp.common.cache.ListResponseCache;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.common.concurrency.EntityTags;
 import com.todoapp.project.dto.ProjectRequestDTO;
 import com.todoapp.project.dto.ProjectResponseDTO;
 import com.todoapp.project.dto.ProjectUpdateDTO;
 import com.todoapp.project.port.in.ProjectUseCase;
+import com.todoapp.purge.dto.PurgeJobDTO;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.net.URI;
 import java.util.UUID;
 
 @RestController
@@ -17,36 +24,54 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectUseCase useCase;
+    private final ListResponseCache responseCache;
+    private final UserProvider userProvider;
 
-    public ProjectController(ProjectUseCase useCase) {
+    public ProjectController(ProjectUseCase useCase, ListResponseCache responseCache, UserProvider userProvider) {
         this.useCase = useCase;
+        this.responseCache = responseCache;
+        this.userProvider = userProvider;
     }
 
     @PostMapping
     public ResponseEntity<ProjectResponseDTO> create(@Valid @RequestBody ProjectRequestDTO dto) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(useCase.create(dto));
+        ProjectResponseDTO created = useCase.create(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(EntityTags.of(created.version())).body(created);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ProjectResponseDTO> getById(@PathVariable UUID id) {
-        return ResponseEntity.ok(useCase.getById(id));
+        return tagged(useCase.getById(id));
     }
 
     @GetMapping
-    public ResponseEntity<List<ProjectResponseDTO>> getByUser() {
-        return ResponseEntity.ok(useCase.getByUser());
+    public ResponseEntity<?> getByUser(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        return responseCache.respond(request, cursor + "|" + limit, () -> useCase.getByUser(cursor, limit),
+                ResourceVersions.projectsOf(userProvider.getCurrentUserId()));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ProjectResponseDTO> update(
             @PathVariable UUID id,
-            @Valid @RequestBody ProjectUpdateDTO dto) {
-        return ResponseEntity.ok(useCase.update(id, dto));
+            @Valid @RequestBody ProjectUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return tagged(useCase.update(id, dto, EntityTags.parseIfMatch(ifMatch)));
     }
 
+    // El proyecto desaparece al momento; sus listas y tareas se purgan en segundo plano
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable UUID id) {
-        useCase.delete(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<PurgeJobDTO> delete(@PathVariable UUID id) {
+        return accepted(useCase.delete(id));
     }
-}
\ No newline at end of file
+
+    private static ResponseEntity<ProjectResponseDTO> tagged(ProjectResponseDTO project) {
+        return ResponseEntity.ok().eTag(EntityTags.of(project.version())).body(project);
+    }
+
+    private static ResponseEntity<PurgeJobDTO> accepted(PurgeJobDTO job) {
+        return ResponseEntity.accepted().location(URI.create("/api/purge-jobs/" + job.id())).body(job);
+    }
+}
@@ -1,8 +1,15 @@
 package com.todoapp.project.adapter.out;
 
+import com.todoapp.common.cache.CacheRegions;
+import com.todoapp.common.id.GeneratedUuidV7;
+import com.todoapp.common.sync.ChangeStamp;
 import com.todoapp.todolist.adapter.out.TodoListEntity;
 import com.todoapp.user.adapter.out.UserEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,9 +18,14 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "projects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROJECTS)
+// Los proyectos borrados quedan ocultos a todas las consultas hasta que el purgado elimina la fila
+@SQLRestriction("deleted_at is null")
 public class ProjectEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
+    @Column(name = "id", columnDefinition = "uuid")
     private UUID id;
 
     @Column(nullable = false)
@@ -25,11 +37,25 @@ public class ProjectEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity owner;
 
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<TodoListEntity> todoLists = new ArrayList<>();
 
     private LocalDateTime createdAt;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // Sello del último cambio para la sincronización incremental; se renueva en cada escritura
+    @ChangeStamp
+    @OptimisticLock(excluded = true)
+    @Column(name = "change_stamp", nullable = false)
+    private long changeStamp;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     // Constructores
     public ProjectEntity() {
     }
@@ -95,4 +121,27 @@ public class ProjectEntity {
         this.createdAt = createdAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public long getChangeStamp() {
+        return changeStamp;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
\ No newline at end of file
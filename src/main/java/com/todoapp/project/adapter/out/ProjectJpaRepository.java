@@ -1,11 +1,49 @@
 package com.todoapp.project.adapter.out;
 
+import com.todoapp.common.cache.CacheRegions;
+import com.todoapp.project.dto.ProjectResponseDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ProjectJpaRepository extends JpaRepository<ProjectEntity, UUID> {
-    List<ProjectEntity> findByOwnerId(UUID ownerId);
+    // La versión derivada une users con left join y filtra allí, sin usar idx_projects_user_created
+    @Query("select p from ProjectEntity p where p.owner.id = :ownerId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PROJECTS_BY_OWNER)
+    })
+    List<ProjectEntity> findByOwnerId(@Param("ownerId") UUID ownerId);
     boolean existsById(UUID id);
+    Optional<ProjectEntity> findByIdAndOwnerId(UUID id, UUID ownerId);
+    boolean existsByIdAndOwnerId(UUID id, UUID ownerId);
+
+    String RESPONSE_VIEW = "select new com.todoapp.project.dto.ProjectResponseDTO(" +
+            "p.id, p.name, p.description, p.owner.id, p.createdAt, p.version) from ProjectEntity p ";
+
+    @Query(RESPONSE_VIEW + "where p.owner.id = :ownerId order by p.createdAt asc, p.id asc")
+    List<ProjectResponseDTO> findResponsesByOwnerId(@Param("ownerId") UUID ownerId, Limit limit);
+
+    @Query(RESPONSE_VIEW + "where p.owner.id = :ownerId " +
+            "and (p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :id)) " +
+            "order by p.createdAt asc, p.id asc")
+    List<ProjectResponseDTO> findResponsesByOwnerIdAfter(@Param("ownerId") UUID ownerId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") UUID id,
+                                                     Limit limit);
+
+    // Recorrido completo para la exportación: se lee por bloques sin cargar la lista entera
+    @Query(RESPONSE_VIEW + "where p.owner.id = :ownerId order by p.createdAt asc, p.id asc")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ProjectResponseDTO> streamResponsesByOwnerId(@Param("ownerId") UUID ownerId);
 }
\ No newline at end of file
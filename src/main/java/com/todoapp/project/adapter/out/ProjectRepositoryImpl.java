@@ -1,14 +1,19 @@
 package com.todoapp.project.adapter.out;
 
+import com.todoapp.common.pagination.Cursor;
 import com.todoapp.project.application.mapper.ProjectMapper;
 import com.todoapp.project.domain.Project;
+import com.todoapp.project.dto.ProjectResponseDTO;
 import com.todoapp.project.port.out.ProjectRepository;
 import com.todoapp.user.adapter.out.UserEntity;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.NoSuchElementException;
@@ -30,23 +35,32 @@ public class ProjectRepositoryImpl implements ProjectRepository {
 
     @Override
     public Project save(Project project) {
-        ProjectEntity entity;
-        if (project.getId() != null && jpaRepository.existsById(project.getId())) {
-            entity = jpaRepository.findById(project.getId()).orElseThrow();
-            entity.setName(project.getName());
-            entity.setDescription(project.getDescription());
-        } else {
-            entity = mapper.domainToEntity(project);
+        if (project.getId() == null) {
+            ProjectEntity entity = mapper.domainToEntity(project);
             entity.setOwner(entityManager.getReference(UserEntity.class, project.getUserId()));
+            entityManager.persist(entity);
+            return mapper.entityToDomain(entity);
         }
-        ProjectEntity savedEntity = jpaRepository.save(entity);
-        return mapper.entityToDomain(savedEntity);
+        // La entidad suele estar ya gestionada tras la lectura con dueño: sin SELECT extra, solo el UPDATE
+        ProjectEntity entity = entityManager.find(ProjectEntity.class, project.getId());
+        if (entity == null || entity.isDeleted()) {
+            throw new NoSuchElementException("Proyecto no encontrado con id: " + project.getId());
+        }
+        if (entity.getVersion() != project.getVersion()) {
+            throw new OptimisticLockException("El proyecto " + project.getId() + " cambió después de leerse");
+        }
+        entity.setName(project.getName());
+        entity.setDescription(project.getDescription());
+        entityManager.flush();
+        return mapper.entityToDomain(entity);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Project findById(UUID id) {
+        // find puede responder desde la caché de segundo nivel, que no aplica el filtro de borrados
         return jpaRepository.findById(id)
+                .filter(entity -> !entity.isDeleted())
                 .map(mapper::entityToDomain)
                 .orElseThrow(() -> new NoSuchElementException("Proyecto no encontrado con id: " + id));
     }
@@ -58,16 +72,39 @@ public class ProjectRepositoryImpl implements ProjectRepository {
         return mapper.entitiesToDomains(entities);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<ProjectResponseDTO> findPageByUserId(UUID userId, Cursor after, int limit) {
+        return after == null
+                ? jpaRepository.findResponsesByOwnerId(userId, Limit.of(limit))
+                : jpaRepository.findResponsesByOwnerIdAfter(userId, after.keyAsDateTime(), after.id(), Limit.of(limit));
+    }
+
     @Override
     public void delete(UUID id) {
-    if (!jpaRepository.existsById(id)) {
+        ProjectEntity entity = entityManager.find(ProjectEntity.class, id);
+        if (entity == null || entity.isDeleted()) {
             throw new NoSuchElementException("No se encontró el proyecto con id: " + id);
-    }
-        jpaRepository.deleteById(id);
+        }
+        // Un UPDATE de una fila: sin remove no se cargan ni se borran en cascada listas y tareas
+        entity.setDeletedAt(LocalDateTime.now());
     }
 
     @Override
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Project findByIdAndUserId(UUID id, UUID userId) {
+        return jpaRepository.findByIdAndOwnerId(id, userId)
+                .map(mapper::entityToDomain)
+                .orElse(null);
+    }
+
+    @Override
+    public boolean existsByIdAndUserId(UUID id, UUID userId) {
+        return jpaRepository.existsByIdAndOwnerId(id, userId);
+    }
 }
\ No newline at end of file
@@ -1,8 +1,16 @@
 package com.todoapp.project.application;
 
-import com.todoapp.auth.port.in.UserContextUseCase;
+import com.todoapp.common.OwnershipIndex;
 import com.todoapp.common.OwnershipValidator;
 import com.todoapp.common.UserProvider;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.common.concurrency.EntityTags;
+import com.todoapp.common.pagination.Cursor;
+import com.todoapp.common.pagination.CursorPage;
+import com.todoapp.common.pagination.PageLimits;
+import com.todoapp.event.port.out.ProjectEventPublisher;
+import com.todoapp.outbox.domain.DomainEventType;
+import com.todoapp.outbox.port.out.DomainEventOutbox;
 import com.todoapp.project.application.mapper.ProjectMapper;
 import com.todoapp.project.domain.Project;
 import com.todoapp.project.dto.ProjectRequestDTO;
@@ -10,15 +18,19 @@ import com.todoapp.project.dto.ProjectResponseDTO;
 import com.todoapp.project.dto.ProjectUpdateDTO;
 import com.todoapp.project.port.in.ProjectUseCase;
 import com.todoapp.project.port.out.ProjectRepository;
-import com.todoapp.user.domain.User;
+import com.todoapp.purge.domain.PurgeTarget;
+import com.todoapp.purge.dto.PurgeJobDTO;
+import com.todoapp.purge.port.out.PurgeJobRepository;
+import com.todoapp.sync.domain.SyncEntityType;
+import com.todoapp.sync.port.out.TombstoneRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 public class ProjectService implements ProjectUseCase {
@@ -27,53 +39,73 @@ public class ProjectService implements ProjectUseCase {
     private final ProjectMapper mapper;
     private final OwnershipValidator ownershipValidator;
     private final UserProvider userProvider;
+    private final OwnershipIndex ownershipIndex;
+    private final PageLimits pageLimits;
+    private final ResourceVersions resourceVersions;
+    private final TombstoneRepository tombstones;
+    private final DomainEventOutbox outbox;
+    private final PurgeJobRepository purgeJobs;
+    private final ProjectEventPublisher events;
 
-    public ProjectService(ProjectRepository repo, ProjectMapper mapper, OwnershipValidator ownershipValidator, UserProvider userProvider) {
+    public ProjectService(ProjectRepository repo, ProjectMapper mapper, OwnershipValidator ownershipValidator, UserProvider userProvider,
+                          OwnershipIndex ownershipIndex, PageLimits pageLimits, ResourceVersions resourceVersions,
+                          TombstoneRepository tombstones, DomainEventOutbox outbox, PurgeJobRepository purgeJobs,
+                          ProjectEventPublisher events) {
         this.repo = repo;
         this.mapper = mapper;
         this.ownershipValidator = ownershipValidator;
         this.userProvider = userProvider;
+        this.ownershipIndex = ownershipIndex;
+        this.pageLimits = pageLimits;
+        this.resourceVersions = resourceVersions;
+        this.tombstones = tombstones;
+        this.outbox = outbox;
+        this.purgeJobs = purgeJobs;
+        this.events = events;
     }
 
     @Override
     @Transactional
     public ProjectResponseDTO create(ProjectRequestDTO dto) {
-        User currentUser = userProvider.getCurrentUser();
+        UUID currentUserId = userProvider.getCurrentUserId();
 
         Project project = new Project(
                 null,
                 dto.name(),
                 dto.description(),
-                currentUser.getId(),
+                currentUserId,
                 null
         );
 
         Project saved = repo.save(project);
-        return mapper.toResponseDTO(saved);
+        ownershipIndex.registerProject(saved.getId(), currentUserId);
+        resourceVersions.touch(ResourceVersions.projectsOf(currentUserId));
+        ProjectResponseDTO response = mapper.toResponseDTO(saved);
+        outbox.append(DomainEventType.PROJECT_CREATED, saved.getId(), response);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public ProjectResponseDTO getById(UUID id) {
-        Project project = repo.findById(id);
-        validateOwnership(project.getId());
+        Project project = findOwnedProject(id);
         return mapper.toResponseDTO(project);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectResponseDTO> getByUser() {
-        User currentUser = userProvider.getCurrentUser();
-        return repo.findByUserId(currentUser.getId()).stream()
-                .map(mapper::toResponseDTO)
-                .collect(Collectors.toList());
+    public CursorPage<ProjectResponseDTO> getByUser(String cursor, Integer limit) {
+        int pageSize = pageLimits.resolve(cursor, limit);
+        List<ProjectResponseDTO> projects = repo.findPageByUserId(userProvider.getCurrentUserId(), Cursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(projects, pageSize, Function.identity(),
+                project -> Cursor.of(project.createdAt(), project.id()));
     }
 
     @Override
     @Transactional
-    public ProjectResponseDTO update(UUID id, ProjectUpdateDTO dto) {
-        Project project = repo.findById(id);
-        validateOwnership(project.getId());
+    public ProjectResponseDTO update(UUID id, ProjectUpdateDTO dto, Long expectedVersion) {
+        Project project = findOwnedProject(id);
+        EntityTags.requireMatch(expectedVersion, project.getVersion(), "El proyecto");
 
         if (dto.name() != null) {
             project.setName(dto.name());
@@ -83,15 +115,37 @@ public class ProjectService implements ProjectUseCase {
         }
 
         Project updated = repo.save(project);
-        return mapper.toResponseDTO(updated);
+        resourceVersions.touch(ResourceVersions.projectsOf(project.getUserId()));
+        ProjectResponseDTO response = mapper.toResponseDTO(updated);
+        outbox.append(DomainEventType.PROJECT_UPDATED, id, response);
+        return response;
     }
 
     @Override
     @Transactional
-    public void delete(UUID id) {
-        Project project = repo.findById(id);
-        validateOwnership(project.getId());
+    public PurgeJobDTO delete(UUID id) {
+        Project project = findOwnedProject(id);
+        // Solo se oculta el proyecto: listas y tareas las borra el purgado por bloques fuera de la petición
         repo.delete(id);
+        PurgeJobDTO job = purgeJobs.enqueue(PurgeTarget.PROJECT, id, project.getUserId());
+        tombstones.record(SyncEntityType.PROJECT, id, id, project.getUserId());
+        outbox.append(DomainEventType.PROJECT_DELETED, id, Map.of("userId", project.getUserId()));
+        ownershipIndex.removeProject(id);
+        resourceVersions.touch(ResourceVersions.projectsOf(project.getUserId()), ResourceVersions.project(id));
+        events.closeProject(id);
+        return job;
+    }
+
+    // Autorización y lectura en una sola consulta; el motivo exacto solo se calcula si falla
+    private Project findOwnedProject(UUID id) {
+        UUID currentUserId = userProvider.getCurrentUserId();
+        Project project = repo.findByIdAndUserId(id, currentUserId);
+        if (project == null) {
+            validateOwnership(id);
+            throw new NoSuchElementException("Proyecto no encontrado con id: " + id);
+        }
+        ownershipIndex.registerProject(id, currentUserId);
+        return project;
     }
 
     private void validateOwnership(UUID projectId) {
@@ -15,6 +15,7 @@ public interface ProjectMapper {
     ProjectResponseDTO toResponseDTO(Project project);
 
     @Mapping(target = "owner", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
     ProjectEntity domainToEntity(Project project);
 
     List<Project> entitiesToDomains(List<ProjectEntity> entities);
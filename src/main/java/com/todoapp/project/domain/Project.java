@@ -9,6 +9,7 @@ public class Project {
     private String description;
     private UUID userId;
     private final LocalDateTime createdAt;
+    private long version;
 
     public Project(UUID id, String name, String description, UUID userId, LocalDateTime createdAt) {
         this.id = id;
@@ -54,4 +55,12 @@ public class Project {
     public void setUserId(UUID userId) {
         this.userId = userId;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -8,5 +8,6 @@ public record ProjectResponseDTO(
     String name,
     String description,
     UUID userId,
-    LocalDateTime createdAt
+    LocalDateTime createdAt,
+    long version
 ) {}
\ No newline at end of file
@@ -1,16 +1,18 @@
 package com.todoapp.project.port.in;
 
+import com.todoapp.common.pagination.CursorPage;
 import com.todoapp.project.dto.ProjectRequestDTO;
 import com.todoapp.project.dto.ProjectResponseDTO;
 import com.todoapp.project.dto.ProjectUpdateDTO;
+import com.todoapp.purge.dto.PurgeJobDTO;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface ProjectUseCase {
     ProjectResponseDTO create(ProjectRequestDTO dto);
     ProjectResponseDTO getById(UUID id);
-    List<ProjectResponseDTO> getByUser();
-    ProjectResponseDTO update(UUID id, ProjectUpdateDTO dto);
-    void delete(UUID id);
+    CursorPage<ProjectResponseDTO> getByUser(String cursor, Integer limit);
+    ProjectResponseDTO update(UUID id, ProjectUpdateDTO dto, Long expectedVersion);
+    /** Oculta el proyecto y encola la purga de su contenido. */
+    PurgeJobDTO delete(UUID id);
 }
\ No newline at end of file
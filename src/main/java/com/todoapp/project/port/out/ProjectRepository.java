@@ -1,6 +1,8 @@
 package com.todoapp.project.port.out;
 
+import com.todoapp.common.pagination.Cursor;
 import com.todoapp.project.domain.Project;
+import com.todoapp.project.dto.ProjectResponseDTO;
 
 import java.util.List;
 import java.util.UUID;
@@ -9,6 +11,10 @@ public interface ProjectRepository {
     Project save(Project project);
     Project findById(UUID id);
     List<Project> findByUserId(UUID userId);
+    List<ProjectResponseDTO> findPageByUserId(UUID userId, Cursor after, int limit);
+    /** Oculta el proyecto a todas las consultas; las filas las borra después el purgado. */
     void delete(UUID id);
     boolean existsById(UUID id);
+    Project findByIdAndUserId(UUID id, UUID userId);
+    boolean existsByIdAndUserId(UUID id, UUID userId);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.todoapp.purge.adapter.in;
+
+import com.todoapp.purge.dto.PurgeJobDTO;
+import com.todoapp.purge.port.in.PurgeJobUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/purge-jobs")
+public class PurgeJobController {
+
+    private final PurgeJobUseCase useCase;
+
+    public PurgeJobController(PurgeJobUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PurgeJobDTO> getById(@PathVariable UUID id) {
+        return ResponseEntity.ok(useCase.getById(id));
+    }
+}
@@ -0,0 +1,112 @@
+package com.todoapp.purge.adapter.out;
+
+import com.todoapp.common.id.GeneratedUuidV7;
+import com.todoapp.purge.domain.PurgeJobStatus;
+import com.todoapp.purge.domain.PurgeTarget;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "purge_jobs")
+public class PurgeJobEntity {
+    @Id
+    @GeneratedUuidV7
+    @Column(name = "id", columnDefinition = "uuid")
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resource_type", nullable = false, length = 16)
+    private PurgeTarget resourceType;
+
+    @Column(name = "resource_id", nullable = false)
+    private UUID resourceId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private PurgeJobStatus status;
+
+    @Column(name = "deleted_rows", nullable = false)
+    private long deletedRows;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public PurgeJobEntity() {
+    }
+
+    public PurgeJobEntity(PurgeTarget resourceType, UUID resourceId, UUID userId) {
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.userId = userId;
+        this.status = PurgeJobStatus.PENDING;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void start() {
+        this.status = PurgeJobStatus.RUNNING;
+    }
+
+    public void addDeletedRows(long rows) {
+        this.deletedRows += rows;
+    }
+
+    public void finish(PurgeJobStatus status) {
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void incrementAttempts() {
+        this.attempts++;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public PurgeTarget getResourceType() {
+        return resourceType;
+    }
+
+    public UUID getResourceId() {
+        return resourceId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public PurgeJobStatus getStatus() {
+        return status;
+    }
+
+    public long getDeletedRows() {
+        return deletedRows;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
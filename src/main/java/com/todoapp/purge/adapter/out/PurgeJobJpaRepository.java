@@ -0,0 +1,52 @@
+package com.todoapp.purge.adapter.out;
+
+import com.todoapp.purge.domain.PurgeJobStatus;
+import com.todoapp.purge.domain.PurgeTarget;
+import com.todoapp.purge.dto.PurgeJobDTO;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PurgeJobJpaRepository extends JpaRepository<PurgeJobEntity, UUID> {
+    @Query("select j from PurgeJobEntity j where j.status in :statuses and j.createdAt <= :cutoff order by j.id asc")
+    List<PurgeJobEntity> findDue(@Param("statuses") Collection<PurgeJobStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Limit limit);
+
+    @Query("select j from PurgeJobEntity j where j.status in :statuses and j.createdAt <= :cutoff and j.id > :after " +
+            "order by j.id asc")
+    List<PurgeJobEntity> findDueAfter(@Param("statuses") Collection<PurgeJobStatus> statuses,
+                                      @Param("cutoff") LocalDateTime cutoff,
+                                      @Param("after") UUID after,
+                                      Limit limit);
+
+    // Dos purgadores sobre el mismo trabajo se turnan bloque a bloque en lugar de pisarse,
+    // y una restauración concurrente espera a que termine el bloque en curso
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from PurgeJobEntity j where j.id = :id and j.status in :statuses")
+    Optional<PurgeJobEntity> findByIdForUpdate(@Param("id") UUID id,
+                                               @Param("statuses") Collection<PurgeJobStatus> statuses);
+
+    @Modifying
+    @Query("update PurgeJobEntity j set j.status = :cancelled, j.finishedAt = :now " +
+            "where j.resourceId = :resourceId and j.resourceType = :type and j.status in :cancellable")
+    int cancel(@Param("type") PurgeTarget type,
+               @Param("resourceId") UUID resourceId,
+               @Param("cancellable") Collection<PurgeJobStatus> cancellable,
+               @Param("cancelled") PurgeJobStatus cancelled,
+               @Param("now") LocalDateTime now);
+
+    @Query("select new com.todoapp.purge.dto.PurgeJobDTO(j.id, j.resourceType, j.resourceId, j.status, " +
+            "j.deletedRows, j.createdAt, j.finishedAt) from PurgeJobEntity j where j.id = :id and j.userId = :userId")
+    Optional<PurgeJobDTO> findResponseByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+}
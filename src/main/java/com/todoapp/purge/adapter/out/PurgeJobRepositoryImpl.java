@@ -0,0 +1,104 @@
+package com.todoapp.purge.adapter.out;
+
+import com.todoapp.purge.domain.PurgeJob;
+import com.todoapp.purge.domain.PurgeJobStatus;
+import com.todoapp.purge.domain.PurgeTarget;
+import com.todoapp.purge.dto.PurgeJobDTO;
+import com.todoapp.purge.port.out.PurgeJobRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+@Repository
+public class PurgeJobRepositoryImpl implements PurgeJobRepository {
+    private static final List<PurgeJobStatus> UNFINISHED = List.of(PurgeJobStatus.PENDING, PurgeJobStatus.RUNNING);
+    // Un trabajo fallido ya no avanza: cancelarlo deja restaurar lo que quede del recurso
+    private static final List<PurgeJobStatus> CANCELLABLE = List.of(PurgeJobStatus.PENDING, PurgeJobStatus.FAILED);
+
+    private final PurgeJobJpaRepository jpa;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PurgeJobRepositoryImpl(PurgeJobJpaRepository jpa) {
+        this.jpa = jpa;
+    }
+
+    @Override
+    public PurgeJobDTO enqueue(PurgeTarget target, UUID resourceId, UUID userId) {
+        PurgeJobEntity entity = new PurgeJobEntity(target, resourceId, userId);
+        entityManager.persist(entity);
+        return toDTO(entity);
+    }
+
+    @Override
+    public List<PurgeJob> findDue(LocalDateTime cutoff, UUID after, int limit) {
+        List<PurgeJobEntity> due = after == null
+                ? jpa.findDue(UNFINISHED, cutoff, Limit.of(limit))
+                : jpa.findDueAfter(UNFINISHED, cutoff, after, Limit.of(limit));
+        return due.stream()
+                .map(entity -> new PurgeJob(entity.getId(), entity.getResourceType(), entity.getResourceId()))
+                .toList();
+    }
+
+    @Override
+    public boolean start(UUID id) {
+        return jpa.findByIdForUpdate(id, UNFINISHED)
+                .map(entity -> {
+                    entity.start();
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Override
+    public boolean cancel(PurgeTarget target, UUID resourceId) {
+        return jpa.cancel(target, resourceId, CANCELLABLE, PurgeJobStatus.CANCELLED, LocalDateTime.now()) > 0;
+    }
+
+    // Tras start la entidad ya está gestionada: find no vuelve a la base de datos
+    @Override
+    public void recordProgress(UUID id, long deletedRows) {
+        find(id).addDeletedRows(deletedRows);
+    }
+
+    @Override
+    public void complete(UUID id, long deletedRows) {
+        PurgeJobEntity entity = find(id);
+        entity.addDeletedRows(deletedRows);
+        entity.finish(PurgeJobStatus.DONE);
+    }
+
+    @Override
+    public void recordFailure(UUID id, int maxAttempts) {
+        PurgeJobEntity entity = find(id);
+        entity.incrementAttempts();
+        if (entity.getAttempts() >= maxAttempts) {
+            entity.finish(PurgeJobStatus.FAILED);
+        }
+    }
+
+    @Override
+    public PurgeJobDTO findByIdAndUserId(UUID id, UUID userId) {
+        return jpa.findResponseByIdAndUserId(id, userId).orElse(null);
+    }
+
+    private PurgeJobEntity find(UUID id) {
+        PurgeJobEntity entity = entityManager.find(PurgeJobEntity.class, id);
+        if (entity == null) {
+            throw new NoSuchElementException("Trabajo de purgado no encontrado con id: " + id);
+        }
+        return entity;
+    }
+
+    private static PurgeJobDTO toDTO(PurgeJobEntity entity) {
+        return new PurgeJobDTO(entity.getId(), entity.getResourceType(), entity.getResourceId(), entity.getStatus(),
+                entity.getDeletedRows(), entity.getCreatedAt(), entity.getFinishedAt());
+    }
+}
@@ -0,0 +1,70 @@
+package com.todoapp.purge.adapter.out;
+
+import com.todoapp.purge.port.out.PurgeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * SQL nativo a propósito: las filas ocultas no pasan el filtro deleted_at de las entidades,
+ * y cada bloque se borra en el servidor sin cargar nada en el contexto de persistencia.
+ * El subselect con LIMIT acota el bloque tanto en PostgreSQL como en H2.
+ */
+@Repository
+public class PurgeRepositoryImpl implements PurgeRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int deleteTasksOfProject(UUID projectId, int limit) {
+        return delete("tasks", "delete from tasks where id in " +
+                "(select id from tasks where project_id = :id limit :limit)", projectId, limit);
+    }
+
+    @Override
+    public int deleteTasksOfTodoList(UUID todoListId, int limit) {
+        return delete("tasks", "delete from tasks where id in " +
+                "(select id from tasks where todo_list_id = :id limit :limit)", todoListId, limit);
+    }
+
+    @Override
+    public int deleteTodoListsOfProject(UUID projectId, int limit) {
+        return delete("todo_lists", "delete from todo_lists where id in " +
+                "(select id from todo_lists where project_id = :id limit :limit)", projectId, limit);
+    }
+
+    @Override
+    public int deleteProject(UUID projectId) {
+        return delete("projects", "delete from projects where id = :id and deleted_at is not null", projectId, null);
+    }
+
+    @Override
+    public int deleteTodoList(UUID todoListId) {
+        return delete("todo_lists", "delete from todo_lists where id = :id and deleted_at is not null", todoListId, null);
+    }
+
+    // La condición se repite fuera del subselect: una tarea restaurada entre medias no se borra
+    @Override
+    public int deleteExpiredTasks(LocalDateTime cutoff, int limit) {
+        NativeQuery<?> query = entityManager.createNativeQuery("delete from tasks where deleted_at < :cutoff and id in " +
+                "(select id from tasks where deleted_at < :cutoff order by deleted_at limit :limit)").unwrap(NativeQuery.class);
+        query.addSynchronizedQuerySpace("tasks");
+        return query.setParameter("cutoff", cutoff).setParameter("limit", limit).executeUpdate();
+    }
+
+    // Sin la tabla afectada declarada, Hibernate invalidaría toda la caché de segundo nivel tras cada bloque
+    private int delete(String table, String sql, UUID id, Integer limit) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        query.addSynchronizedQuerySpace(table);
+        query.setParameter("id", id);
+        if (limit != null) {
+            query.setParameter("limit", limit);
+        }
+        return query.executeUpdate();
+    }
+}
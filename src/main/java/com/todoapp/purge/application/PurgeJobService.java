@@ -0,0 +1,34 @@
+package com.todoapp.purge.application;
+
+import com.todoapp.common.UserProvider;
+import com.todoapp.purge.dto.PurgeJobDTO;
+import com.todoapp.purge.port.in.PurgeJobUseCase;
+import com.todoapp.purge.port.out.PurgeJobRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+@Service
+public class PurgeJobService implements PurgeJobUseCase {
+
+    private final PurgeJobRepository repo;
+    private final UserProvider userProvider;
+
+    public PurgeJobService(PurgeJobRepository repo, UserProvider userProvider) {
+        this.repo = repo;
+        this.userProvider = userProvider;
+    }
+
+    // Los trabajos de otros usuarios se responden igual que los inexistentes
+    @Override
+    @Transactional(readOnly = true)
+    public PurgeJobDTO getById(UUID id) {
+        PurgeJobDTO job = repo.findByIdAndUserId(id, userProvider.getCurrentUserId());
+        if (job == null) {
+            throw new NoSuchElementException("Trabajo de purgado no encontrado con id: " + id);
+        }
+        return job;
+    }
+}
@@ -0,0 +1,143 @@
+package com.todoapp.purge.application;
+
+import com.todoapp.purge.domain.PurgeJob;
+import com.todoapp.purge.domain.PurgeTarget;
+import com.todoapp.purge.port.out.PurgeJobRepository;
+import com.todoapp.purge.port.out.PurgeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Vacía la papelera: borra de verdad lo que lleva en ella más de trash.retention.
+ * Corre en la franja de poca carga que marca purge.cron y cada pasada se detiene
+ * al superar purge.max-duration, aunque quede trabajo para la siguiente.
+ * Cada bloque es una transacción corta con un DELETE acotado a purge.chunk-size filas:
+ * en los proyectos y listas, primero las tareas, después las listas del proyecto y al final
+ * la fila del recurso, que cierra el trabajo; después, las tareas sueltas caducadas.
+ * Ninguna conexión queda retenida más de un bloque y el progreso se guarda con cada uno,
+ * así que un reinicio retoma el trabajo donde se quedó. Un trabajo que falla se reintenta
+ * en la siguiente pasada hasta purge.max-attempts veces.
+ */
+@Component
+public class PurgeWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(PurgeWorker.class);
+
+    private final PurgeJobRepository jobs;
+    private final PurgeRepository purge;
+    private final TransactionTemplate chunkTransaction;
+    private final Duration retention;
+    private final int chunkSize;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration maxDuration;
+    private final Duration chunkPause;
+
+    public PurgeWorker(PurgeJobRepository jobs, PurgeRepository purge, PlatformTransactionManager transactionManager,
+                       @Value("${trash.retention:P30D}") Duration retention,
+                       @Value("${purge.chunk-size:1000}") int chunkSize,
+                       @Value("${purge.batch-size:10}") int batchSize,
+                       @Value("${purge.max-attempts:10}") int maxAttempts,
+                       @Value("${purge.max-duration:PT30M}") Duration maxDuration,
+                       @Value("${purge.chunk-pause:PT0.05S}") Duration chunkPause) {
+        this.jobs = jobs;
+        this.purge = purge;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.maxDuration = maxDuration;
+        this.chunkPause = chunkPause;
+    }
+
+    /**
+     * Purga los trabajos caducados, de uno en uno y en orden de id, y después las tareas caducadas.
+     * Cada trabajo se prueba una sola vez por pasada: el que falla espera a la siguiente.
+     */
+    @Scheduled(cron = "${purge.cron:0 */10 1-5 * * *}")
+    public void purgeExpired() {
+        Instant deadline = Instant.now().plus(maxDuration);
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        List<PurgeJob> due;
+        UUID after = null;
+        do {
+            due = jobs.findDue(cutoff, after, batchSize);
+            for (PurgeJob job : due) {
+                if (!run(job, deadline)) {
+                    return;
+                }
+                after = job.id();
+            }
+        } while (due.size() == batchSize);
+        int deleted;
+        do {
+            if (!pause(deadline)) {
+                return;
+            }
+            deleted = chunkTransaction.execute(status -> purge.deleteExpiredTasks(cutoff, chunkSize));
+        } while (deleted == chunkSize);
+    }
+
+    // Devuelve false si se acabó el tiempo de la pasada
+    private boolean run(PurgeJob job, Instant deadline) {
+        try {
+            do {
+                if (!pause(deadline)) {
+                    return false;
+                }
+            } while (Boolean.TRUE.equals(chunkTransaction.execute(status -> purgeChunk(job))));
+        } catch (RuntimeException e) {
+            log.warn("Falló la purga de {} {} (trabajo {})", job.target(), job.resourceId(), job.id(), e);
+            chunkTransaction.executeWithoutResult(status -> jobs.recordFailure(job.id(), maxAttempts));
+        }
+        return true;
+    }
+
+    // Devuelve si queda trabajo; cuando ya no hay hijos borra el recurso y cierra el trabajo
+    private boolean purgeChunk(PurgeJob job) {
+        if (!jobs.start(job.id())) {
+            return false;
+        }
+        int deleted = job.target() == PurgeTarget.PROJECT
+                ? purge.deleteTasksOfProject(job.resourceId(), chunkSize)
+                : purge.deleteTasksOfTodoList(job.resourceId(), chunkSize);
+        if (deleted == 0 && job.target() == PurgeTarget.PROJECT) {
+            deleted = purge.deleteTodoListsOfProject(job.resourceId(), chunkSize);
+        }
+        if (deleted > 0) {
+            jobs.recordProgress(job.id(), deleted);
+            return true;
+        }
+        int resource = job.target() == PurgeTarget.PROJECT
+                ? purge.deleteProject(job.resourceId())
+                : purge.deleteTodoList(job.resourceId());
+        jobs.complete(job.id(), resource);
+        return false;
+    }
+
+    // Un respiro entre bloques deja sitio al resto de la carga; false si ya no queda tiempo
+    private boolean pause(Instant deadline) {
+        if (Instant.now().isAfter(deadline)) {
+            return false;
+        }
+        try {
+            Thread.sleep(chunkPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
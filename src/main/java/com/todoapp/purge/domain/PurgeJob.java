@@ -0,0 +1,6 @@
+package com.todoapp.purge.domain;
+
+import java.util.UUID;
+
+public record PurgeJob(UUID id, PurgeTarget target, UUID resourceId) {
+}
@@ -0,0 +1,11 @@
+package com.todoapp.purge.domain;
+
+public enum PurgeJobStatus {
+    /** En la papelera: se puede restaurar hasta que el purgado lo empiece. */
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED,
+    /** El recurso se restauró antes de purgarse. */
+    CANCELLED
+}
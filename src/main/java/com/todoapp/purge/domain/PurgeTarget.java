@@ -0,0 +1,7 @@
+package com.todoapp.purge.domain;
+
+/** Recursos cuyo borrado se purga en segundo plano junto con todo lo que cuelga de ellos. */
+public enum PurgeTarget {
+    PROJECT,
+    TODO_LIST
+}
@@ -0,0 +1,17 @@
+package com.todoapp.purge.dto;
+
+import com.todoapp.purge.domain.PurgeJobStatus;
+import com.todoapp.purge.domain.PurgeTarget;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PurgeJobDTO(
+        UUID id,
+        PurgeTarget resourceType,
+        UUID resourceId,
+        PurgeJobStatus status,
+        long deletedRows,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {}
@@ -0,0 +1,9 @@
+package com.todoapp.purge.port.in;
+
+import com.todoapp.purge.dto.PurgeJobDTO;
+
+import java.util.UUID;
+
+public interface PurgeJobUseCase {
+    PurgeJobDTO getById(UUID id);
+}
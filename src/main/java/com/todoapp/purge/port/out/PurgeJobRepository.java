@@ -0,0 +1,28 @@
+package com.todoapp.purge.port.out;
+
+import com.todoapp.purge.domain.PurgeJob;
+import com.todoapp.purge.domain.PurgeTarget;
+import com.todoapp.purge.dto.PurgeJobDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface PurgeJobRepository {
+    /** Encola la purga de un recurso ya oculto; se inserta en la misma transacción que lo oculta. */
+    PurgeJobDTO enqueue(PurgeTarget target, UUID resourceId, UUID userId);
+    /**
+     * Los trabajos por terminar encolados antes de {@code cutoff}, en orden de id y a partir del
+     * siguiente a {@code after} (desde el principio si es null): una pasada no vuelve sobre los que ya probó.
+     */
+    List<PurgeJob> findDue(LocalDateTime cutoff, UUID after, int limit);
+    /** Bloquea el trabajo hasta el final de la transacción y lo marca en curso; false si se canceló o ya terminó. */
+    boolean start(UUID id);
+    /** Cancela el purgado del recurso si no ha empezado o ha fallado; false si está en curso o no había ninguno. */
+    boolean cancel(PurgeTarget target, UUID resourceId);
+    void recordProgress(UUID id, long deletedRows);
+    void complete(UUID id, long deletedRows);
+    /** Cuenta el fallo y da el trabajo por fallido al agotar los intentos. */
+    void recordFailure(UUID id, int maxAttempts);
+    PurgeJobDTO findByIdAndUserId(UUID id, UUID userId);
+}
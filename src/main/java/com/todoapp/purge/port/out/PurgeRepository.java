@@ -0,0 +1,20 @@
+package com.todoapp.purge.port.out;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Borrados por conjuntos para el purgado: cada llamada es una sola sentencia DELETE
+ * acotada a {@code limit} filas y devuelve cuántas borró.
+ */
+public interface PurgeRepository {
+    int deleteTasksOfProject(UUID projectId, int limit);
+    int deleteTasksOfTodoList(UUID todoListId, int limit);
+    int deleteTodoListsOfProject(UUID projectId, int limit);
+    /** Borra la fila del proyecto solo si sigue marcado como borrado. */
+    int deleteProject(UUID projectId);
+    /** Borra la fila de la lista solo si sigue marcada como borrada. */
+    int deleteTodoList(UUID todoListId);
+    /** Borra tareas que llevan en la papelera desde antes de {@code cutoff}. */
+    int deleteExpiredTasks(LocalDateTime cutoff, int limit);
+}
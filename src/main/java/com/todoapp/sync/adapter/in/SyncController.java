@@ -0,0 +1,26 @@
+package com.todoapp.sync.adapter.in;
+
+import com.todoapp.sync.dto.SyncResponseDTO;
+import com.todoapp.sync.port.in.SyncUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+    private final SyncUseCase useCase;
+
+    public SyncController(SyncUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    @GetMapping
+    public ResponseEntity<SyncResponseDTO> changesSince(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(useCase.changesSince(since, limit));
+    }
+}
@@ -0,0 +1,72 @@
+package com.todoapp.sync.adapter.out;
+
+import com.todoapp.project.dto.ProjectResponseDTO;
+import com.todoapp.sync.domain.Stamped;
+import com.todoapp.sync.domain.SyncEntityType;
+import com.todoapp.sync.dto.TombstoneDTO;
+import com.todoapp.sync.port.out.ChangeFeedRepository;
+import com.todoapp.sync.port.out.TombstoneRepository;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class ChangeFeedRepositoryImpl implements ChangeFeedRepository, TombstoneRepository {
+    private final SyncJpaRepository jpa;
+
+    public ChangeFeedRepositoryImpl(SyncJpaRepository jpa) {
+        this.jpa = jpa;
+    }
+
+    @Override
+    public List<Stamped<ProjectResponseDTO>> findProjects(UUID userId, long since, long until, int limit) {
+        return stamped(jpa.findProjectChanges(userId, since, until, Limit.of(limit)), ProjectResponseDTO.class);
+    }
+
+    @Override
+    public List<Stamped<TodoListResponseDTO>> findTodoLists(UUID userId, long since, long until, int limit) {
+        return stamped(jpa.findTodoListChanges(userId, since, until, Limit.of(limit)), TodoListResponseDTO.class);
+    }
+
+    @Override
+    public List<Stamped<TaskResponseDTO>> findTasks(UUID userId, long since, long until, int limit) {
+        return stamped(jpa.findTaskChanges(userId, since, until, Limit.of(limit)), TaskResponseDTO.class);
+    }
+
+    @Override
+    public List<Stamped<TombstoneDTO>> findTombstones(UUID userId, long since, long until, int limit) {
+        return stamped(jpa.findTombstones(userId, since, until, Limit.of(limit)), TombstoneDTO.class);
+    }
+
+    @Override
+    public void record(SyncEntityType type, UUID id, UUID projectId, UUID userId) {
+        jpa.save(new TombstoneEntity(type, id, projectId, userId));
+    }
+
+    @Override
+    public void recordAll(SyncEntityType type, List<UUID> ids, UUID projectId, UUID userId) {
+        List<TombstoneEntity> entities = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            entities.add(new TombstoneEntity(type, id, projectId, userId));
+        }
+        jpa.saveAll(entities);
+    }
+
+    @Override
+    public void forget(SyncEntityType type, UUID id) {
+        jpa.deleteByEntity(type, id);
+    }
+
+    private static <T> List<Stamped<T>> stamped(List<Object[]> rows, Class<T> type) {
+        List<Stamped<T>> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            result.add(new Stamped<>((Long) row[1], type.cast(row[0])));
+        }
+        return result;
+    }
+}
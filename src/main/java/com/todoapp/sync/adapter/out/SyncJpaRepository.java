@@ -0,0 +1,57 @@
+package com.todoapp.sync.adapter.out;
+
+import com.todoapp.sync.domain.SyncEntityType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Registro de cambios de un usuario. Cada consulta devuelve pares (DTO de respuesta, sello)
+ * y recorre los índices (dueño o proyecto, change_stamp) a partir de la marca de agua.
+ */
+public interface SyncJpaRepository extends JpaRepository<TombstoneEntity, UUID> {
+    String STAMP_RANGE = "x.changeStamp > :since and x.changeStamp <= :until order by x.changeStamp asc, x.id asc";
+
+    @Query("select new com.todoapp.project.dto.ProjectResponseDTO(" +
+            "x.id, x.name, x.description, x.owner.id, x.createdAt, x.version), x.changeStamp " +
+            "from ProjectEntity x where x.owner.id = :userId and " + STAMP_RANGE)
+    List<Object[]> findProjectChanges(@Param("userId") UUID userId,
+                                      @Param("since") long since,
+                                      @Param("until") long until,
+                                      Limit limit);
+
+    @Query("select new com.todoapp.todolist.dto.TodoListResponseDTO(x.id, x.name, p.id, x.version), x.changeStamp " +
+            "from TodoListEntity x join x.project p where p.owner.id = :userId and " + STAMP_RANGE)
+    List<Object[]> findTodoListChanges(@Param("userId") UUID userId,
+                                       @Param("since") long since,
+                                       @Param("until") long until,
+                                       Limit limit);
+
+    // El dueño se comprueba por el project_id desnormalizado; la unión con todo_lists solo descarta
+    // las tareas de listas borradas que el purgado aún no ha eliminado
+    @Query("select new com.todoapp.task.dto.TaskResponseDTO(" +
+            "x.id, x.title, x.description, x.completed, x.dueDate, l.id, x.projectId, x.position, x.version), " +
+            "x.changeStamp " +
+            "from TaskEntity x join ProjectEntity p on p.id = x.projectId join x.todoList l " +
+            "where p.owner.id = :userId and " + STAMP_RANGE)
+    List<Object[]> findTaskChanges(@Param("userId") UUID userId,
+                                   @Param("since") long since,
+                                   @Param("until") long until,
+                                   Limit limit);
+
+    @Query("select new com.todoapp.sync.dto.TombstoneDTO(x.entityType, x.entityId, x.projectId), x.changeStamp " +
+            "from TombstoneEntity x where x.userId = :userId and " + STAMP_RANGE)
+    List<Object[]> findTombstones(@Param("userId") UUID userId,
+                                  @Param("since") long since,
+                                  @Param("until") long until,
+                                  Limit limit);
+
+    @Modifying
+    @Query("delete from TombstoneEntity x where x.entityId = :entityId and x.entityType = :entityType")
+    int deleteByEntity(@Param("entityType") SyncEntityType entityType, @Param("entityId") UUID entityId);
+}
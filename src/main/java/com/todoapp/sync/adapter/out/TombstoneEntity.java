@@ -0,0 +1,69 @@
+package com.todoapp.sync.adapter.out;
+
+import com.todoapp.common.id.GeneratedUuidV7;
+import com.todoapp.common.sync.ChangeStamp;
+import com.todoapp.sync.domain.SyncEntityType;
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+// Lápida de un borrado: solo se inserta y se lee en el registro de cambios
+@Entity
+@Table(name = "sync_tombstones")
+public class TombstoneEntity {
+    @Id
+    @GeneratedUuidV7
+    @Column(name = "id", columnDefinition = "uuid")
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @ChangeStamp
+    @Column(name = "change_stamp", nullable = false)
+    private long changeStamp;
+
+    public TombstoneEntity() {
+    }
+
+    public TombstoneEntity(SyncEntityType entityType, UUID entityId, UUID projectId, UUID userId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.projectId = projectId;
+        this.userId = userId;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public SyncEntityType getEntityType() {
+        return entityType;
+    }
+
+    public UUID getEntityId() {
+        return entityId;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public long getChangeStamp() {
+        return changeStamp;
+    }
+}
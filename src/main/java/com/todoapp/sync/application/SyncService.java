@@ -0,0 +1,112 @@
+package com.todoapp.sync.application;
+
+import com.todoapp.common.UserProvider;
+import com.todoapp.common.pagination.PageLimits;
+import com.todoapp.common.sync.ChangeStamps;
+import com.todoapp.project.dto.ProjectResponseDTO;
+import com.todoapp.sync.domain.Stamped;
+import com.todoapp.sync.domain.SyncToken;
+import com.todoapp.sync.dto.SyncResponseDTO;
+import com.todoapp.sync.dto.TombstoneDTO;
+import com.todoapp.sync.port.in.SyncUseCase;
+import com.todoapp.sync.port.out.ChangeFeedRepository;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sincronización incremental: devuelve lo que cambió para el usuario entre su marca de agua
+ * y el horizonte, es decir, el sello más reciente cuyas transacciones ya se pueden dar por
+ * confirmadas: se detiene antes de cualquier transacción de esta instancia que siga abierta y,
+ * para las demás, sync.commit-lag por detrás del reloj. Cada fuente se lee con límite; si alguna no cabe, la respuesta se corta en un
+ * sello común para que la siguiente petición continúe sin saltarse ni repetir nada.
+ */
+@Service
+public class SyncService implements SyncUseCase {
+
+    private final ChangeFeedRepository changeFeed;
+    private final UserProvider userProvider;
+    private final PageLimits pageLimits;
+    private final Duration commitLag;
+
+    public SyncService(ChangeFeedRepository changeFeed, UserProvider userProvider, PageLimits pageLimits,
+                       @Value("${sync.commit-lag:PT2S}") Duration commitLag) {
+        this.changeFeed = changeFeed;
+        this.userProvider = userProvider;
+        this.pageLimits = pageLimits;
+        this.commitLag = commitLag;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncResponseDTO changesSince(String token, Integer limit) {
+        long since = SyncToken.decode(token);
+        long until = ChangeStamps.horizon(commitLag);
+        if (until <= since) {
+            return new SyncResponseDTO(List.of(), List.of(), List.of(), List.of(), SyncToken.encode(since), false);
+        }
+        UUID userId = userProvider.getCurrentUserId();
+        int pageSize = pageLimits.resolve(limit);
+        List<Stamped<ProjectResponseDTO>> projects = changeFeed.findProjects(userId, since, until, pageSize + 1);
+        List<Stamped<TodoListResponseDTO>> todoLists = changeFeed.findTodoLists(userId, since, until, pageSize + 1);
+        List<Stamped<TaskResponseDTO>> tasks = changeFeed.findTasks(userId, since, until, pageSize + 1);
+        List<Stamped<TombstoneDTO>> deleted = changeFeed.findTombstones(userId, since, until, pageSize + 1);
+
+        long upper = until;
+        for (List<? extends Stamped<?>> source : List.of(projects, todoLists, tasks, deleted)) {
+            if (source.size() > pageSize) {
+                upper = Math.min(upper, cutoff(source, pageSize));
+            }
+        }
+        // Un sello compartido por más filas de las que caben (p. ej. una operación masiva) se entrega
+        // entero: se vuelve a leer esa fuente hasta el corte sin límite en vez de partir el sello
+        if (overflows(projects, pageSize, upper)) {
+            projects = changeFeed.findProjects(userId, since, upper, Integer.MAX_VALUE);
+        }
+        if (overflows(todoLists, pageSize, upper)) {
+            todoLists = changeFeed.findTodoLists(userId, since, upper, Integer.MAX_VALUE);
+        }
+        if (overflows(tasks, pageSize, upper)) {
+            tasks = changeFeed.findTasks(userId, since, upper, Integer.MAX_VALUE);
+        }
+        if (overflows(deleted, pageSize, upper)) {
+            deleted = changeFeed.findTombstones(userId, since, upper, Integer.MAX_VALUE);
+        }
+        boolean hasMore = upper < until;
+        return new SyncResponseDTO(upTo(projects, upper), upTo(todoLists, upper), upTo(tasks, upper),
+                upTo(deleted, upper), SyncToken.encode(upper), hasMore);
+    }
+
+    // Sello de la última fila que cabe en la página. Si la siguiente comparte sello (réplicas
+    // distintas u operaciones masivas) se corta justo antes para no partir ese sello entre dos páginas,
+    // salvo que toda la página tenga ese sello: entonces se entrega entero aunque exceda el tamaño.
+    private static long cutoff(List<? extends Stamped<?>> source, int pageSize) {
+        long last = source.get(pageSize - 1).stamp();
+        if (source.get(pageSize).stamp() == last && source.get(0).stamp() < last) {
+            return last - 1;
+        }
+        return last;
+    }
+
+    private static boolean overflows(List<? extends Stamped<?>> source, int pageSize, long upper) {
+        return source.size() > pageSize && source.get(source.size() - 1).stamp() <= upper;
+    }
+
+    private static <T> List<T> upTo(List<Stamped<T>> source, long upper) {
+        List<T> items = new ArrayList<>(source.size());
+        for (Stamped<T> stamped : source) {
+            if (stamped.stamp() > upper) {
+                break;
+            }
+            items.add(stamped.item());
+        }
+        return items;
+    }
+}
@@ -0,0 +1,5 @@
+package com.todoapp.sync.domain;
+
+/** Un elemento del registro de cambios junto con el sello de su última escritura. */
+public record Stamped<T>(long stamp, T item) {
+}
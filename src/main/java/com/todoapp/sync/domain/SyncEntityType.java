@@ -0,0 +1,7 @@
+package com.todoapp.sync.domain;
+
+public enum SyncEntityType {
+    PROJECT,
+    TODO_LIST,
+    TASK
+}
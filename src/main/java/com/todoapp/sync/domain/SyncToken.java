@@ -0,0 +1,41 @@
+package com.todoapp.sync.domain;
+
+import com.todoapp.common.exception.InvalidCursorException;
+import com.todoapp.common.sync.ChangeStamps;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Marca de agua opaca de la sincronización: el sello hasta el que el cliente ya tiene
+ * todos los cambios. Viaja como Base64 de 8 bytes para que el cliente no dependa de su formato.
+ */
+public final class SyncToken {
+    /** Cota de una primera sincronización: justo antes de las filas anteriores a los sellos. */
+    public static final long INITIAL = ChangeStamps.ORIGIN - 1;
+
+    private SyncToken() {
+    }
+
+    public static String encode(long stamp) {
+        byte[] bytes = ByteBuffer.allocate(Long.BYTES).putLong(stamp).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /** Sin token se sincroniza todo desde el principio. */
+    public static long decode(String token) {
+        if (token == null || token.isBlank()) {
+            return INITIAL;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("El token de sincronización no es válido");
+        }
+        if (bytes.length != Long.BYTES) {
+            throw new InvalidCursorException("El token de sincronización no es válido");
+        }
+        return ByteBuffer.wrap(bytes).getLong();
+    }
+}
@@ -0,0 +1,21 @@
+package com.todoapp.sync.dto;
+
+import com.todoapp.project.dto.ProjectResponseDTO;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
+
+import java.util.List;
+
+/**
+ * Cambios desde la marca de agua recibida. Los borrados se aplican antes que las altas y
+ * modificaciones; borrar un proyecto o una lista borra también lo que contiene, sin lápidas
+ * propias para sus hijos. Con hasMore se vuelve a pedir enseguida con nextToken.
+ */
+public record SyncResponseDTO(
+        List<ProjectResponseDTO> projects,
+        List<TodoListResponseDTO> todoLists,
+        List<TaskResponseDTO> tasks,
+        List<TombstoneDTO> deleted,
+        String nextToken,
+        boolean hasMore
+) {}
@@ -0,0 +1,11 @@
+package com.todoapp.sync.dto;
+
+import com.todoapp.sync.domain.SyncEntityType;
+
+import java.util.UUID;
+
+public record TombstoneDTO(
+        SyncEntityType type,
+        UUID id,
+        UUID projectId
+) {}
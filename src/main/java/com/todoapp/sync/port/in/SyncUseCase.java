@@ -0,0 +1,7 @@
+package com.todoapp.sync.port.in;
+
+import com.todoapp.sync.dto.SyncResponseDTO;
+
+public interface SyncUseCase {
+    SyncResponseDTO changesSince(String token, Integer limit);
+}
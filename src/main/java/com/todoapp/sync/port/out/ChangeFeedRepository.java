@@ -0,0 +1,18 @@
+package com.todoapp.sync.port.out;
+
+import com.todoapp.project.dto.ProjectResponseDTO;
+import com.todoapp.sync.domain.Stamped;
+import com.todoapp.sync.dto.TombstoneDTO;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Lo escrito por un usuario con sello en (since, until], en orden de sello y como mucho limit filas. */
+public interface ChangeFeedRepository {
+    List<Stamped<ProjectResponseDTO>> findProjects(UUID userId, long since, long until, int limit);
+    List<Stamped<TodoListResponseDTO>> findTodoLists(UUID userId, long since, long until, int limit);
+    List<Stamped<TaskResponseDTO>> findTasks(UUID userId, long since, long until, int limit);
+    List<Stamped<TombstoneDTO>> findTombstones(UUID userId, long since, long until, int limit);
+}
@@ -0,0 +1,16 @@
+package com.todoapp.sync.port.out;
+
+import com.todoapp.sync.domain.SyncEntityType;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TombstoneRepository {
+    /** Deja constancia del borrado para los clientes que sincronicen después. */
+    void record(SyncEntityType type, UUID id, UUID projectId, UUID userId);
+
+    void recordAll(SyncEntityType type, List<UUID> ids, UUID projectId, UUID userId);
+
+    /** Retira la lápida de un recurso restaurado: su nuevo sello basta para que los clientes lo recuperen. */
+    void forget(SyncEntityType type, UUID id);
+}
@@ -0,0 +1,30 @@
+package com.todoapp.task.adapter.in;
+
+import com.todoapp.task.dto.TaskBatchRequestDTO;
+import com.todoapp.task.dto.TaskBatchResponseDTO;
+import com.todoapp.task.port.in.TaskUseCase;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+// Mapeado un nivel por encima de TaskController: "tasks:batch" es un único segmento de ruta
+@RestController
+@RequestMapping("/api/projects/{projectId}/todolists/{todoListId}")
+public class TaskBatchController {
+    private final TaskUseCase useCase;
+
+    public TaskBatchController(TaskUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    @PostMapping("/tasks:batch")
+    public ResponseEntity<TaskBatchResponseDTO> createBatch(
+            @PathVariable UUID projectId,
+            @PathVariable UUID todoListId,
+            @Valid @RequestBody TaskBatchRequestDTO dto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(useCase.createBatch(todoListId, projectId, dto.tasks()));
+    }
+}
@@ -1,11 +1,16 @@
 package com.todoapp.task.adapter.in;
 
+import com.todoapp.common.cache.ListResponseCache;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.common.concurrency.EntityTags;
 import com.todoapp.task.dto.*;
 import com.todoapp.task.port.in.TaskUseCase;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -14,9 +19,11 @@ import java.util.UUID;
 @RequestMapping("/api/projects/{projectId}/todolists/{todoListId}/tasks")
 public class TaskController {
     private final TaskUseCase useCase;
+    private final ListResponseCache responseCache;
 
-    public TaskController(TaskUseCase useCase) {
+    public TaskController(TaskUseCase useCase, ListResponseCache responseCache) {
         this.useCase = useCase;
+        this.responseCache = responseCache;
     }
 
     @PostMapping
@@ -33,14 +40,24 @@ public class TaskController {
                 projectId
         );
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(useCase.create(createDTO));
+        TaskResponseDTO created = useCase.create(createDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(EntityTags.of(created.version())).body(created);
     }
 
     @GetMapping
-    public ResponseEntity<List<TaskResponseDTO>> getByTodoList(
+    public ResponseEntity<?> getByTodoList(
             @PathVariable UUID projectId,
-            @PathVariable UUID todoListId) {
-        return ResponseEntity.ok(useCase.getByTodoListId(todoListId, projectId));
+            @PathVariable UUID todoListId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "full") String view,
+            WebRequest request) {
+        boolean summary = "summary".equalsIgnoreCase(view);
+        return responseCache.respond(request, (summary ? "summary" : "full") + "|" + cursor + "|" + limit,
+                () -> summary
+                        ? useCase.getSummariesByTodoListId(todoListId, projectId, cursor, limit)
+                        : useCase.getByTodoListId(todoListId, projectId, cursor, limit),
+                ResourceVersions.project(projectId), ResourceVersions.todoList(todoListId));
     }
 
     @GetMapping("/{taskId}")
@@ -48,7 +65,7 @@ public class TaskController {
             @PathVariable UUID projectId,
             @PathVariable UUID todoListId,
             @PathVariable UUID taskId) {
-        return ResponseEntity.ok(useCase.getById(taskId, todoListId, projectId));
+        return tagged(useCase.getById(taskId, todoListId, projectId));
     }
 
     @PutMapping("/{taskId}")
@@ -56,13 +73,14 @@ public class TaskController {
             @PathVariable UUID projectId,
             @PathVariable UUID todoListId,
             @PathVariable UUID taskId,
-            @Valid @RequestBody TaskRequestDTO dto) {
+            @Valid @RequestBody TaskRequestDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         TaskUpdateDTO updateDTO = new TaskUpdateDTO(
                 dto.title(),
                 dto.description(),
                 dto.dueDate()
         );
-        return ResponseEntity.ok(useCase.update(taskId, updateDTO, todoListId, projectId));
+        return tagged(useCase.update(taskId, updateDTO, todoListId, projectId, EntityTags.parseIfMatch(ifMatch)));
     }
 
     @PatchMapping("/{taskId}/status")
@@ -70,8 +88,9 @@ public class TaskController {
             @PathVariable UUID projectId,
             @PathVariable UUID todoListId,
             @PathVariable UUID taskId,
-            @Valid @RequestBody TaskStatusUpdateDTO dto) {
-        return ResponseEntity.ok(useCase.updateStatus(taskId, dto, todoListId, projectId));
+            @Valid @RequestBody TaskStatusUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return tagged(useCase.updateStatus(taskId, dto, todoListId, projectId, EntityTags.parseIfMatch(ifMatch)));
     }
 
     @DeleteMapping("/{taskId}")
@@ -83,24 +102,59 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<TaskBulkResultDTO> updateStatusInBulk(
+            @PathVariable UUID projectId,
+            @PathVariable UUID todoListId,
+            @Valid @RequestBody TaskBulkStatusDTO dto) {
+        return ResponseEntity.ok(useCase.updateStatusInBulk(todoListId, projectId, dto));
+    }
+
+    @PatchMapping("/due-date")
+    public ResponseEntity<TaskBulkResultDTO> updateDueDateInBulk(
+            @PathVariable UUID projectId,
+            @PathVariable UUID todoListId,
+            @Valid @RequestBody TaskBulkDueDateDTO dto) {
+        return ResponseEntity.ok(useCase.updateDueDateInBulk(todoListId, projectId, dto));
+    }
+
+    @DeleteMapping("/completed")
+    public ResponseEntity<TaskBulkResultDTO> deleteCompleted(
+            @PathVariable UUID projectId,
+            @PathVariable UUID todoListId) {
+        return ResponseEntity.ok(useCase.deleteCompleted(todoListId, projectId));
+    }
+
+    @PostMapping("/{taskId}/move")
+    public ResponseEntity<TaskResponseDTO> move(
+            @PathVariable UUID projectId,
+            @PathVariable UUID todoListId,
+            @PathVariable UUID taskId,
+            @Valid @RequestBody TaskMoveDTO dto) {
+        return tagged(useCase.move(taskId, dto, todoListId, projectId));
+    }
+
     @PatchMapping("/reorder")
     public ResponseEntity<?> reorderTasks(
             @PathVariable UUID projectId,
             @PathVariable UUID todoListId,
-            @RequestBody(required = false) TaskReorderDTO reorderDTO) {
+            @RequestBody(required = false) TaskReorderDTO reorderDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         if (reorderDTO == null || reorderDTO.getTaskIds() == null) {
             return ResponseEntity.badRequest().body("El cuerpo de la petición debe incluir el campo 'taskIds' como un array.");
         }
         try {
-            List<TaskResponseDTO> updatedTasks = useCase.reorderTasks(projectId, todoListId, reorderDTO.getTaskIds());
+            List<TaskResponseDTO> updatedTasks = useCase.reorderTasks(projectId, todoListId, reorderDTO.getTaskIds(),
+                    EntityTags.parseIfMatch(ifMatch));
             return ResponseEntity.ok(updatedTasks);
         } catch (org.springframework.web.server.ResponseStatusException e) {
             return ResponseEntity.status(e.getStatusCode()).body(e.getReason());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(500).body("Error interno del servidor: " + (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
         }
     }
-}
\ No newline at end of file
+
+    private static ResponseEntity<TaskResponseDTO> tagged(TaskResponseDTO task) {
+        return ResponseEntity.ok().eTag(EntityTags.of(task.version())).body(task);
+    }
+}
@@ -1,16 +1,24 @@
 package com.todoapp.task.adapter.out;
 
+import com.todoapp.common.id.GeneratedUuidV7;
+import com.todoapp.common.sync.ChangeStamp;
 import com.todoapp.todolist.adapter.out.TodoListEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.OptimisticLock;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "tasks")
+// Las tareas en la papelera quedan ocultas a todas las consultas hasta que se restauran o se purgan
+@SQLRestriction("deleted_at is null")
 public class TaskEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
+    @Column(name = "id", columnDefinition = "uuid")
     private UUID id;
 
     @Column(nullable = false)
@@ -23,13 +31,34 @@ public class TaskEntity {
 
     private LocalDate dueDate;
 
+    // El orden lo versiona la lista: recolocar o mover una tarea no invalida su ETag
+    @OptimisticLock(excluded = true)
     @Column(nullable = false)
-    private int position;
+    private long position;
 
+    @OptimisticLock(excluded = true)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "todo_list_id", nullable = false)
     private TodoListEntity todoList;
 
+    // Copia del proyecto de la lista: leer tareas no necesita tocar todo_lists ni projects
+    @OptimisticLock(excluded = true)
+    @Column(name = "project_id", nullable = false, columnDefinition = "uuid")
+    private UUID projectId;
+
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // Sello del último cambio para la sincronización incremental; se renueva en cada escritura
+    @ChangeStamp
+    @OptimisticLock(excluded = true)
+    @Column(name = "change_stamp", nullable = false)
+    private long changeStamp;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     public TaskEntity() {
     }
 
@@ -82,11 +111,11 @@ public class TaskEntity {
         this.dueDate = dueDate;
     }
 
-    public int getPosition() {
+    public long getPosition() {
         return position;
     }
 
-    public void setPosition(int position) {
+    public void setPosition(long position) {
         this.position = position;
     }
 
@@ -97,4 +126,28 @@ public class TaskEntity {
     public void setTodoList(TodoListEntity todoList) {
         this.todoList = todoList;
     }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public long getChangeStamp() {
+        return changeStamp;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
 }
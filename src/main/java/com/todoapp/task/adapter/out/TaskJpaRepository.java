@@ -1,12 +1,170 @@
 package com.todoapp.task.adapter.out;
 
-import com.todoapp.task.domain.Task;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.task.dto.TaskSummaryDTO;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface TaskJpaRepository extends JpaRepository<TaskEntity, UUID> {
-    List<TaskEntity> findByTodoListId(UUID todoListId);
-    List<TaskEntity> findByTodoListIdOrderByPositionAsc(UUID todoListId);
+    // Consultas explícitas sobre la clave foránea: las derivadas añaden un left join a todo_lists
+    // con el filtro en la tabla unida y el plan acaba recorriendo tasks entera
+    @Query("select t from TaskEntity t where t.todoList.id = :todoListId")
+    List<TaskEntity> findByTodoListId(@Param("todoListId") UUID todoListId);
+
+    @Query("select t from TaskEntity t where t.todoList.id = :todoListId order by t.position asc, t.id asc")
+    List<TaskEntity> findByTodoListIdOrderByPositionAscIdAsc(@Param("todoListId") UUID todoListId);
+
+    @Query("select max(t.position) from TaskEntity t where t.todoList.id = :todoListId")
+    Long findMaxPosition(@Param("todoListId") UUID todoListId);
+
+    // Sentencia condicional sobre la lista: una tarea movida a otra lista entre medias no se toca
+    @Modifying
+    @Query("update TaskEntity t set t.position = :position, t.changeStamp = :stamp " +
+            "where t.id = :id and t.todoList.id = :todoListId")
+    int updatePositionInTodoList(@Param("id") UUID id,
+                                 @Param("todoListId") UUID todoListId,
+                                 @Param("position") long position,
+                                 @Param("stamp") long stamp);
+
+    @Query("select t.position from TaskEntity t where t.id = :id and t.todoList.id = :todoListId")
+    Optional<Long> findPositionInTodoList(@Param("id") UUID id, @Param("todoListId") UUID todoListId);
+
+    @Query("select max(t.position) from TaskEntity t " +
+            "where t.todoList.id = :todoListId and t.position < :position and t.id <> :excludedId")
+    Long findPreviousPosition(@Param("todoListId") UUID todoListId,
+                              @Param("position") long position,
+                              @Param("excludedId") UUID excludedId);
+
+    @Query("select min(t.position) from TaskEntity t " +
+            "where t.todoList.id = :todoListId and t.position > :position and t.id <> :excludedId")
+    Long findNextPosition(@Param("todoListId") UUID todoListId,
+                          @Param("position") long position,
+                          @Param("excludedId") UUID excludedId);
+
+    @Query("select t from TaskEntity t join t.todoList l join l.project p " +
+            "where t.id = :id and l.id = :todoListId and p.id = :projectId and p.owner.id = :userId")
+    Optional<TaskEntity> findOwnedById(@Param("id") UUID id,
+                                       @Param("todoListId") UUID todoListId,
+                                       @Param("projectId") UUID projectId,
+                                       @Param("userId") UUID userId);
+
+    // Borrar es mover a la papelera: solo se marca deleted_at y el purgado elimina la fila más tarde
+    @Modifying
+    @Query("update TaskEntity t set t.deletedAt = :now where t.id = :id and t.deletedAt is null")
+    int trashById(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    // project_id de la tarea siempre coincide con el proyecto de su lista, así que basta con comprobar el dueño
+    @Modifying
+    @Query("update TaskEntity t set t.deletedAt = :now " +
+            "where t.id = :id and t.todoList.id = :todoListId and t.projectId = :projectId and t.deletedAt is null " +
+            "and exists (select 1 from ProjectEntity p where p.id = :projectId and p.owner.id = :userId)")
+    int trashOwned(@Param("id") UUID id,
+                   @Param("todoListId") UUID todoListId,
+                   @Param("projectId") UUID projectId,
+                   @Param("userId") UUID userId,
+                   @Param("now") LocalDateTime now);
+
+    // Operaciones masivas sobre una lista: una sola sentencia que no pasa por el contexto de persistencia,
+    // así que la versión y el sello de cambio se avanzan a mano. Todas las filas comparten sello.
+    @Modifying
+    @Query("update TaskEntity t set t.completed = :completed, t.version = t.version + 1, t.changeStamp = :stamp " +
+            "where t.todoList.id = :todoListId and t.completed <> :completed")
+    int updateStatusInTodoList(@Param("todoListId") UUID todoListId,
+                               @Param("completed") boolean completed,
+                               @Param("stamp") long stamp);
+
+    @Modifying
+    @Query("update TaskEntity t set t.completed = :completed, t.version = t.version + 1, t.changeStamp = :stamp " +
+            "where t.todoList.id = :todoListId and t.id in :ids and t.completed <> :completed")
+    int updateStatusOfTasks(@Param("todoListId") UUID todoListId,
+                            @Param("ids") List<UUID> ids,
+                            @Param("completed") boolean completed,
+                            @Param("stamp") long stamp);
+
+    @Modifying
+    @Query("update TaskEntity t set t.dueDate = :dueDate, t.version = t.version + 1, t.changeStamp = :stamp " +
+            "where t.todoList.id = :todoListId and t.id in :ids")
+    int updateDueDate(@Param("todoListId") UUID todoListId,
+                      @Param("ids") List<UUID> ids,
+                      @Param("dueDate") LocalDate dueDate,
+                      @Param("stamp") long stamp);
+
+    // Bloquea las filas hasta el DELETE: una tarea reabierta entre medias no se borra ni deja lápida
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id from TaskEntity t where t.todoList.id = :todoListId and t.completed = true")
+    List<UUID> findCompletedIdsForUpdate(@Param("todoListId") UUID todoListId);
+
+    @Modifying
+    @Query("update TaskEntity t set t.deletedAt = :now " +
+            "where t.todoList.id = :todoListId and t.id in :ids and t.deletedAt is null")
+    int trashInTodoList(@Param("todoListId") UUID todoListId,
+                        @Param("ids") List<UUID> ids,
+                        @Param("now") LocalDateTime now);
+
+    @Query("select t from TaskEntity t join t.todoList l join l.project p " +
+            "where l.id = :todoListId and p.id = :projectId and p.owner.id = :userId " +
+            "order by t.position asc, t.id asc")
+    List<TaskEntity> findOwnedByTodoListId(@Param("todoListId") UUID todoListId,
+                                           @Param("projectId") UUID projectId,
+                                           @Param("userId") UUID userId);
+
+    // Proyecciones de lectura: se construye el DTO de respuesta directamente, sin entidades gestionadas
+    String RESPONSE_VIEW = "select new com.todoapp.task.dto.TaskResponseDTO(" +
+            "t.id, t.title, t.description, t.completed, t.dueDate, l.id, t.projectId, t.position, t.version) ";
+    String SUMMARY_VIEW = "select new com.todoapp.task.dto.TaskSummaryDTO(" +
+            "t.id, t.title, t.completed, t.dueDate, t.position) ";
+    String OWNED_IN_LIST = "from TaskEntity t join t.todoList l join l.project p " +
+            "where l.id = :todoListId and p.id = :projectId and p.owner.id = :userId ";
+    // Keyset: continúa estrictamente después de (position, id) usando el orden del índice
+    String AFTER_CURSOR = "and (t.position > :position or (t.position = :position and t.id > :id)) ";
+    String PAGE_ORDER = "order by t.position asc, t.id asc";
+
+    @Query(RESPONSE_VIEW + OWNED_IN_LIST + PAGE_ORDER)
+    List<TaskResponseDTO> findOwnedResponses(@Param("todoListId") UUID todoListId,
+                                             @Param("projectId") UUID projectId,
+                                             @Param("userId") UUID userId,
+                                             Limit limit);
+
+    @Query(RESPONSE_VIEW + OWNED_IN_LIST + AFTER_CURSOR + PAGE_ORDER)
+    List<TaskResponseDTO> findOwnedResponsesAfter(@Param("todoListId") UUID todoListId,
+                                                  @Param("projectId") UUID projectId,
+                                                  @Param("userId") UUID userId,
+                                                  @Param("position") long position,
+                                                  @Param("id") UUID id,
+                                                  Limit limit);
+
+    @Query(SUMMARY_VIEW + OWNED_IN_LIST + PAGE_ORDER)
+    List<TaskSummaryDTO> findOwnedSummaries(@Param("todoListId") UUID todoListId,
+                                            @Param("projectId") UUID projectId,
+                                            @Param("userId") UUID userId,
+                                            Limit limit);
+
+    @Query(SUMMARY_VIEW + OWNED_IN_LIST + AFTER_CURSOR + PAGE_ORDER)
+    List<TaskSummaryDTO> findOwnedSummariesAfter(@Param("todoListId") UUID todoListId,
+                                                 @Param("projectId") UUID projectId,
+                                                 @Param("userId") UUID userId,
+                                                 @Param("position") long position,
+                                                 @Param("id") UUID id,
+                                                 Limit limit);
+
+    // Todas las tareas del usuario agrupadas por lista y en su orden, leídas por bloques
+    @Query(RESPONSE_VIEW + "from TaskEntity t join t.todoList l join l.project p where p.owner.id = :userId " +
+            "order by l.id asc, t.position asc, t.id asc")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<TaskResponseDTO> streamResponsesByUserId(@Param("userId") UUID userId);
 }
@@ -1,14 +1,22 @@
 package com.todoapp.task.adapter.out;
 
+import com.todoapp.common.pagination.Cursor;
+import com.todoapp.common.sync.ChangeStamps;
 import com.todoapp.project.adapter.out.ProjectEntity;
 import com.todoapp.task.application.mapper.TaskMapper;
 import com.todoapp.task.domain.Task;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.task.dto.TaskSummaryDTO;
 import com.todoapp.task.port.out.TaskRepository;
 import com.todoapp.todolist.adapter.out.TodoListEntity;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
@@ -17,7 +25,6 @@ import java.util.UUID;
 public class TaskRepositoryImpl implements TaskRepository {
     private final TaskJpaRepository jpa;
     private final TaskMapper mapper;
-    @PersistenceContext
     private final EntityManager entityManager;
 
     public TaskRepositoryImpl(TaskJpaRepository jpa, TaskMapper mapper, EntityManager entityManager) {
@@ -26,12 +33,44 @@ public class TaskRepositoryImpl implements TaskRepository {
         this.entityManager = entityManager;
     }
 
+    // Las altas se persisten sin merge; las modificaciones copian sobre la entidad gestionada
+    // (normalmente ya cargada por la comprobación de pertenencia) y el dirty checking emite un único UPDATE,
+    // condicionado por la versión. Se vacía en el acto para devolver la versión nueva.
     @Override
     public Task save(Task task) {
-        TaskEntity entity = mapper.domainToEntity(task);
-        entity.setTodoList(entityManager.getReference(TodoListEntity.class, task.getTodoListId()));
-        TaskEntity savedEntity = jpa.save(entity);
-        return mapper.entityToDomain(savedEntity);
+        if (task.getId() == null) {
+            TaskEntity entity = mapper.domainToEntity(task);
+            entity.setTodoList(entityManager.getReference(TodoListEntity.class, task.getTodoListId()));
+            entityManager.persist(entity);
+            return mapper.entityToDomain(entity);
+        }
+        TaskEntity entity = entityManager.find(TaskEntity.class, task.getId());
+        if (entity == null) {
+            throw new NoSuchElementException("No se encontró la tarea con id: " + task.getId());
+        }
+        if (entity.getVersion() != task.getVersion()) {
+            throw new OptimisticLockException("La tarea " + task.getId() + " cambió después de leerse");
+        }
+        entity.setTitle(task.getTitle());
+        entity.setDescription(task.getDescription());
+        entity.setDueDate(task.getDueDate());
+        entity.setCompleted(task.isCompleted());
+        entityManager.flush();
+        return mapper.entityToDomain(entity);
+    }
+
+    // Devuelve solo los ids: mapear de vuelta cargaría la lista y el proyecto de cada entidad
+    @Override
+    public List<UUID> saveAll(List<Task> tasks) {
+        List<TaskEntity> entities = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            TaskEntity entity = mapper.domainToEntity(task);
+            entity.setTodoList(entityManager.getReference(TodoListEntity.class, task.getTodoListId()));
+            entities.add(entity);
+        }
+        return jpa.saveAll(entities).stream()
+                .map(TaskEntity::getId)
+                .toList();
     }
 
     @Override
@@ -43,7 +82,7 @@ public class TaskRepositoryImpl implements TaskRepository {
 
     @Override
     public List<Task> findByTodoListId(UUID todoListId) {
-        return jpa.findByTodoListIdOrderByPositionAsc(todoListId)
+        return jpa.findByTodoListIdOrderByPositionAscIdAsc(todoListId)
                 .stream()
                 .map(mapper::entityToDomain)
                 .toList();
@@ -51,14 +90,115 @@ public class TaskRepositoryImpl implements TaskRepository {
 
     @Override
     public void delete(UUID id) {
-        if(!jpa.existsById(id)) {
+        if (jpa.trashById(id, LocalDateTime.now()) == 0) {
             throw new NoSuchElementException("No se encontró la tarea con id: " + id);
         }
-        jpa.deleteById(id);
+    }
+
+    @Override
+    public boolean deleteOwned(UUID id, UUID todoListId, UUID projectId, UUID userId) {
+        return jpa.trashOwned(id, todoListId, projectId, userId, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public int updateStatusInTodoList(UUID todoListId, List<UUID> ids, boolean completed) {
+        long stamp = ChangeStamps.next();
+        return ids == null
+                ? jpa.updateStatusInTodoList(todoListId, completed, stamp)
+                : jpa.updateStatusOfTasks(todoListId, ids, completed, stamp);
+    }
+
+    @Override
+    public int updateDueDateInTodoList(UUID todoListId, List<UUID> ids, LocalDate dueDate) {
+        return jpa.updateDueDate(todoListId, ids, dueDate, ChangeStamps.next());
+    }
+
+    @Override
+    public List<UUID> deleteCompletedInTodoList(UUID todoListId) {
+        List<UUID> ids = jpa.findCompletedIdsForUpdate(todoListId);
+        if (!ids.isEmpty()) {
+            jpa.trashInTodoList(todoListId, ids, LocalDateTime.now());
+        }
+        return ids;
     }
 
     @Override
     public boolean existsById(UUID id) {
         return jpa.existsById(id);
     }
+
+    @Override
+    public Task findOwnedById(UUID id, UUID todoListId, UUID projectId, UUID userId) {
+        return jpa.findOwnedById(id, todoListId, projectId, userId)
+                .map(mapper::entityToDomain)
+                .orElse(null);
+    }
+
+    @Override
+    public List<Task> findOwnedByTodoListId(UUID todoListId, UUID projectId, UUID userId) {
+        return jpa.findOwnedByTodoListId(todoListId, projectId, userId)
+                .stream()
+                .map(mapper::entityToDomain)
+                .toList();
+    }
+
+    @Override
+    public List<TaskResponseDTO> findOwnedResponsePage(UUID todoListId, UUID projectId, UUID userId, Cursor after, int limit) {
+        return after == null
+                ? jpa.findOwnedResponses(todoListId, projectId, userId, Limit.of(limit))
+                : jpa.findOwnedResponsesAfter(todoListId, projectId, userId, after.key(), after.id(), Limit.of(limit));
+    }
+
+    @Override
+    public List<TaskSummaryDTO> findOwnedSummaryPage(UUID todoListId, UUID projectId, UUID userId, Cursor after, int limit) {
+        return after == null
+                ? jpa.findOwnedSummaries(todoListId, projectId, userId, Limit.of(limit))
+                : jpa.findOwnedSummariesAfter(todoListId, projectId, userId, after.key(), after.id(), Limit.of(limit));
+    }
+
+    @Override
+    public Long findMaxPosition(UUID todoListId) {
+        return jpa.findMaxPosition(todoListId);
+    }
+
+    // La entidad suele estar ya en el contexto de persistencia: solo se emite el UPDATE de esa fila
+    @Override
+    public void updatePosition(UUID id, long position) {
+        TaskEntity entity = entityManager.find(TaskEntity.class, id);
+        if (entity == null) {
+            throw new NoSuchElementException("No se encontró la tarea con id: " + id);
+        }
+        entity.setPosition(position);
+    }
+
+    @Override
+    public boolean updatePositionInTodoList(UUID id, UUID todoListId, long position) {
+        return jpa.updatePositionInTodoList(id, todoListId, position, ChangeStamps.next()) > 0;
+    }
+
+    @Override
+    public Long findPositionInTodoList(UUID id, UUID todoListId) {
+        return jpa.findPositionInTodoList(id, todoListId).orElse(null);
+    }
+
+    @Override
+    public Long findPreviousPosition(UUID todoListId, long position, UUID excludedId) {
+        return jpa.findPreviousPosition(todoListId, position, excludedId);
+    }
+
+    @Override
+    public Long findNextPosition(UUID todoListId, long position, UUID excludedId) {
+        return jpa.findNextPosition(todoListId, position, excludedId);
+    }
+
+    @Override
+    public void moveTo(UUID id, UUID todoListId, UUID projectId, long position) {
+        TaskEntity entity = entityManager.find(TaskEntity.class, id);
+        if (entity == null) {
+            throw new NoSuchElementException("No se encontró la tarea con id: " + id);
+        }
+        entity.setTodoList(entityManager.getReference(TodoListEntity.class, todoListId));
+        entity.setProjectId(projectId);
+        entity.setPosition(position);
+    }
 }
\ No newline at end of file
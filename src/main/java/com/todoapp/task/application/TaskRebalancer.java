@@ -0,0 +1,90 @@
+package com.todoapp.task.application;
+
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.task.domain.Task;
+import com.todoapp.task.domain.TaskPositions;
+import com.todoapp.task.port.out.TaskRepository;
+import com.todoapp.todolist.port.out.TodoListRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renumera las posiciones de una lista cuando sus huecos se están agotando.
+ * Se lanza tras el commit de la transacción que lo pidió, en el executor de la aplicación,
+ * y solo escribe las filas que cambian. Una lista no se encola dos veces a la vez.
+ * La renumeración bloquea la lista y avanza su versión antes de leer las posiciones: una
+ * reordenación o un movimiento hacia la lista que leyó el orden anterior falla al confirmar
+ * en lugar de pisarla. Si la renumeración falla se abandona; la siguiente escritura con pocos
+ * huecos la vuelve a pedir.
+ */
+@Component
+public class TaskRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRebalancer.class);
+
+    private final TaskRepository repo;
+    private final TodoListRepository todoListRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final ResourceVersions resourceVersions;
+    private final Set<UUID> scheduled = ConcurrentHashMap.newKeySet();
+
+    public TaskRebalancer(TaskRepository repo, TodoListRepository todoListRepository,
+                          TransactionTemplate transactionTemplate, TaskExecutor taskExecutor,
+                          ResourceVersions resourceVersions) {
+        this.repo = repo;
+        this.todoListRepository = todoListRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+        this.resourceVersions = resourceVersions;
+    }
+
+    public void rebalanceLater(UUID todoListId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(todoListId);
+                }
+            });
+        } else {
+            submit(todoListId);
+        }
+    }
+
+    public void rebalance(UUID todoListId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            todoListRepository.lockAndIncrementVersion(todoListId);
+            List<Task> tasks = repo.findByTodoListId(todoListId);
+            for (Task task : TaskPositions.renumber(tasks)) {
+                repo.updatePositionInTodoList(task.getId(), todoListId, task.getPosition());
+            }
+            resourceVersions.touch(ResourceVersions.todoList(todoListId));
+        });
+    }
+
+    private void submit(UUID todoListId) {
+        if (!scheduled.add(todoListId)) {
+            return;
+        }
+        taskExecutor.execute(() -> {
+            try {
+                rebalance(todoListId);
+            } catch (RuntimeException e) {
+                log.warn("Se abandona la renumeración de la lista {}", todoListId, e);
+            } finally {
+                scheduled.remove(todoListId);
+            }
+        });
+    }
+}
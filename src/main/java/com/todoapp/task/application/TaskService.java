@@ -1,22 +1,41 @@
 package com.todoapp.task.application;
 
 import com.todoapp.common.OwnershipValidator;
+import com.todoapp.common.UserProvider;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.common.concurrency.EntityTags;
+import com.todoapp.common.pagination.Cursor;
+import com.todoapp.common.pagination.CursorPage;
+import com.todoapp.common.pagination.PageLimits;
+import com.todoapp.event.domain.ProjectEvent;
+import com.todoapp.event.domain.ProjectEventType;
+import com.todoapp.event.port.out.ProjectEventPublisher;
+import com.todoapp.outbox.domain.DomainEventType;
+import com.todoapp.outbox.port.out.DomainEventOutbox;
 import com.todoapp.project.domain.Project;
 import com.todoapp.project.port.out.ProjectRepository;
+import com.todoapp.sync.domain.SyncEntityType;
+import com.todoapp.sync.port.out.TombstoneRepository;
 import com.todoapp.todolist.domain.TodoList;
 import com.todoapp.todolist.port.out.TodoListRepository;
 import com.todoapp.task.application.mapper.TaskMapper;
 import com.todoapp.task.domain.Task;
+import com.todoapp.task.domain.TaskPositions;
 import com.todoapp.task.dto.*;
 import com.todoapp.task.port.in.TaskUseCase;
 import com.todoapp.task.port.out.TaskRepository;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,14 +46,31 @@ public class TaskService implements TaskUseCase {
     private final OwnershipValidator ownershipValidator;
     private final TodoListRepository todoListRepository;
     private final ProjectRepository projectRepository;
+    private final UserProvider userProvider;
+    private final TaskRebalancer rebalancer;
+    private final PageLimits pageLimits;
+    private final ResourceVersions resourceVersions;
+    private final TombstoneRepository tombstones;
+    private final ProjectEventPublisher events;
+    private final DomainEventOutbox outbox;
 
     public TaskService(TaskRepository repo, TaskMapper mapper, OwnershipValidator ownershipValidator,
-                       TodoListRepository todoListRepository, ProjectRepository projectRepository) {
+                       TodoListRepository todoListRepository, ProjectRepository projectRepository,
+                       UserProvider userProvider, TaskRebalancer rebalancer,
+                       PageLimits pageLimits, ResourceVersions resourceVersions,
+                       TombstoneRepository tombstones, ProjectEventPublisher events, DomainEventOutbox outbox) {
         this.repo = repo;
         this.mapper = mapper;
         this.ownershipValidator = ownershipValidator;
         this.todoListRepository = todoListRepository;
         this.projectRepository = projectRepository;
+        this.userProvider = userProvider;
+        this.rebalancer = rebalancer;
+        this.pageLimits = pageLimits;
+        this.resourceVersions = resourceVersions;
+        this.tombstones = tombstones;
+        this.events = events;
+        this.outbox = outbox;
     }
 
     @Override
@@ -53,125 +89,309 @@ public class TaskService implements TaskUseCase {
         );
 
         ownershipValidator.validateTodoListOwnership(todoListId, projectId);
+        task.setProjectId(projectId);
+        task.setPosition(TaskPositions.append(repo.findMaxPosition(todoListId)));
 
         Task saved = repo.save(task);
-        return mapper.toResponseDTO(saved);
+        touchTodoList(todoListId);
+        TaskResponseDTO response = mapper.toResponseDTO(saved);
+        events.publish(projectId, new ProjectEvent(ProjectEventType.TASK_CREATED, todoListId, saved.getId(), response));
+        outbox.append(DomainEventType.TASK_CREATED, todoListId, response);
+        return response;
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public TaskResponseDTO getById(UUID id, UUID todoListId, UUID projectId) {
-        if(!repo.existsById(id)){
-            throw new IllegalArgumentException("Task with ID " + id + " does not exist.");
-        }
+    @Transactional
+    public TaskBatchResponseDTO createBatch(UUID todoListId, UUID projectId, List<TaskRequestDTO> dtos) {
         ownershipValidator.validateTodoListOwnership(todoListId, projectId);
-        Task task = repo.findById(id);
-        if (!task.getTodoListId().equals(todoListId)) {
-            throw new IllegalArgumentException("La tarea no pertenece a la lista de tareas especificada.");
+
+        long position = TaskPositions.append(repo.findMaxPosition(todoListId));
+        List<Task> tasks = new ArrayList<>(dtos.size());
+        for (TaskRequestDTO dto : dtos) {
+            Task task = new Task(null, dto.title(), dto.description(), false, dto.dueDate(), todoListId);
+            task.setProjectId(projectId);
+            task.setPosition(position);
+            position += TaskPositions.GAP;
+            tasks.add(task);
         }
-        return mapper.toResponseDTO(task);
+
+        List<UUID> ids = repo.saveAll(tasks);
+        touchTodoList(todoListId);
+        TaskBatchResponseDTO response = new TaskBatchResponseDTO(ids.size(), ids);
+        events.publish(projectId, new ProjectEvent(ProjectEventType.TASKS_CREATED, todoListId, null, response));
+        outbox.append(DomainEventType.TASKS_CREATED, todoListId, response);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponseDTO> getByTodoListId(UUID todoListId, UUID projectId) {
-        ownershipValidator.validateTodoListOwnership(todoListId, projectId);
-
-        List<Task> tasks = repo.findByTodoListId(todoListId);
-        return tasks.stream()
-                .filter(task -> task.getTodoListId().equals(todoListId))
-                .map(mapper::toResponseDTO)
-                .collect(Collectors.toList());
+    public TaskResponseDTO getById(UUID id, UUID todoListId, UUID projectId) {
+        Task task = findOwnedTask(id, todoListId, projectId);
+        return mapper.toResponseDTO(task);
     }
 
     @Override
-    @Transactional
-    public TaskResponseDTO update(UUID id, TaskUpdateDTO dto, UUID todoListId, UUID projectId) {
-        if(!repo.existsById(id)){
-            throw new IllegalArgumentException("Task with ID " + id + " does not exist.");
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponseDTO> getByTodoListId(UUID todoListId, UUID projectId, String cursor, Integer limit) {
+        int pageSize = pageLimits.resolve(cursor, limit);
+        Cursor after = Cursor.decode(cursor);
+        List<TaskResponseDTO> tasks = repo.findOwnedResponsePage(todoListId, projectId, userProvider.getCurrentUserId(),
+                after, pageSize + 1);
+        if (tasks.isEmpty()) {
+            ownershipValidator.validateTodoListOwnership(todoListId, projectId);
         }
+        return CursorPage.of(tasks, pageSize, Function.identity(), task -> new Cursor(task.position(), task.id()));
+    }
 
-        Task task = repo.findById(id);
-
-        if(!task.getTodoListId().equals(todoListId)) {
-            throw new IllegalArgumentException("La tarea no pertenece a la lista de tareas especificada.");
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TaskSummaryDTO> getSummariesByTodoListId(UUID todoListId, UUID projectId, String cursor, Integer limit) {
+        int pageSize = pageLimits.resolve(cursor, limit);
+        Cursor after = Cursor.decode(cursor);
+        List<TaskSummaryDTO> tasks = repo.findOwnedSummaryPage(todoListId, projectId, userProvider.getCurrentUserId(),
+                after, pageSize + 1);
+        if (tasks.isEmpty()) {
+            ownershipValidator.validateTodoListOwnership(todoListId, projectId);
         }
+        return CursorPage.of(tasks, pageSize, Function.identity(), task -> new Cursor(task.position(), task.id()));
+    }
 
-        ownershipValidator.validateTodoListOwnership(todoListId, projectId);
+    @Override
+    @Transactional
+    public TaskResponseDTO update(UUID id, TaskUpdateDTO dto, UUID todoListId, UUID projectId, Long expectedVersion) {
+        Task task = findOwnedTask(id, todoListId, projectId);
+        EntityTags.requireMatch(expectedVersion, task.getVersion(), "La tarea");
 
         task.setTitle(dto.title());
         task.setDescription(dto.description());
         task.setDueDate(dto.dueDate());
         Task updatedTask = repo.save(task);
-        return mapper.toResponseDTO(updatedTask);
+        touchTodoList(todoListId);
+        TaskResponseDTO response = mapper.toResponseDTO(updatedTask);
+        events.publish(projectId, new ProjectEvent(ProjectEventType.TASK_UPDATED, todoListId, id, response));
+        outbox.append(DomainEventType.TASK_UPDATED, todoListId, response);
+        return response;
     }
 
     @Override
-    public TaskResponseDTO updateStatus(UUID id, TaskStatusUpdateDTO dto, UUID todoListId, UUID projectId) {
-        if(!repo.existsById(id)){
-            throw new IllegalArgumentException("Task with ID " + id + " does not exist.");
-        }
-
-        Task task = repo.findById(id);
-
-        if (!task.getTodoListId().equals(todoListId)) {
-            throw new IllegalArgumentException("La tarea no pertenece a la lista de tareas especificada.");
-        }
-
-        ownershipValidator.validateTodoListOwnership(todoListId, projectId);
+    @Transactional
+    public TaskResponseDTO updateStatus(UUID id, TaskStatusUpdateDTO dto, UUID todoListId, UUID projectId,
+                                        Long expectedVersion) {
+        Task task = findOwnedTask(id, todoListId, projectId);
+        EntityTags.requireMatch(expectedVersion, task.getVersion(), "La tarea");
 
         task.setCompleted(dto.completed());
         Task updatedTask = repo.save(task);
-        return mapper.toResponseDTO(updatedTask);
+        touchTodoList(todoListId);
+        TaskResponseDTO response = mapper.toResponseDTO(updatedTask);
+        events.publish(projectId, new ProjectEvent(ProjectEventType.TASK_STATUS_CHANGED, todoListId, id, response));
+        outbox.append(DomainEventType.TASK_STATUS_CHANGED, todoListId, response);
+        return response;
     }
 
     @Override
     @Transactional
     public void delete(UUID id, UUID todoListId, UUID projectId) {
-        if(!repo.existsById(id)){
-            throw new IllegalArgumentException("Task with ID " + id + " does not exist.");
+        UUID currentUserId = userProvider.getCurrentUserId();
+        // Autorización y borrado en la misma sentencia
+        if (!repo.deleteOwned(id, todoListId, projectId, currentUserId)) {
+            // Un UPDATE condicional sin filas afectadas: solo entonces se averigua el motivo
+            throw ownershipFailure(id, todoListId, projectId);
         }
+        tombstones.record(SyncEntityType.TASK, id, projectId, currentUserId);
+        touchTodoList(todoListId);
+        events.publish(projectId, new ProjectEvent(ProjectEventType.TASK_DELETED, todoListId, id, null));
+        outbox.append(DomainEventType.TASK_DELETED, todoListId, Map.of("taskId", id, "projectId", projectId));
+    }
 
-        Task task = repo.findById(id);
-        if (!task.getTodoListId().equals(todoListId)) {
-            throw new IllegalArgumentException("La tarea no pertenece a la lista de tareas especificada.");
+    // Operaciones masivas: una comprobación de pertenencia y una única sentencia sobre la lista.
+    // El evento se emite solo si alguna fila cambió.
+    @Override
+    @Transactional
+    public TaskBulkResultDTO updateStatusInBulk(UUID todoListId, UUID projectId, TaskBulkStatusDTO dto) {
+        ownershipValidator.validateTodoListOwnership(todoListId, projectId);
+        int affected = repo.updateStatusInTodoList(todoListId, dto.taskIds(), dto.completed());
+        if (affected > 0) {
+            touchTodoList(todoListId);
+            events.publish(projectId, new ProjectEvent(ProjectEventType.TASKS_STATUS_CHANGED, todoListId, null, dto));
+            outbox.append(DomainEventType.TASKS_STATUS_CHANGED, todoListId, dto);
         }
+        return new TaskBulkResultDTO(affected);
+    }
 
+    @Override
+    @Transactional
+    public TaskBulkResultDTO updateDueDateInBulk(UUID todoListId, UUID projectId, TaskBulkDueDateDTO dto) {
         ownershipValidator.validateTodoListOwnership(todoListId, projectId);
-
-        repo.delete(id);
+        int affected = repo.updateDueDateInTodoList(todoListId, dto.taskIds(), dto.dueDate());
+        if (affected > 0) {
+            touchTodoList(todoListId);
+            events.publish(projectId, new ProjectEvent(ProjectEventType.TASKS_DUE_DATE_CHANGED, todoListId, null, dto));
+            outbox.append(DomainEventType.TASKS_DUE_DATE_CHANGED, todoListId, dto);
+        }
+        return new TaskBulkResultDTO(affected);
     }
 
     @Override
     @Transactional
-    public List<TaskResponseDTO> reorderTasks(UUID projectId, UUID todoListId, List<String> taskIds) {
+    public TaskBulkResultDTO deleteCompleted(UUID todoListId, UUID projectId) {
         ownershipValidator.validateTodoListOwnership(todoListId, projectId);
-        List<Task> tasks = repo.findByTodoListId(todoListId);
-        // Validar que todos los IDs enviados existen en la lista
-        if (!taskIds.stream().allMatch(id -> tasks.stream().anyMatch(t -> t.getId().toString().equals(id)))) {
-            throw new org.springframework.web.server.ResponseStatusException(
-                org.springframework.http.HttpStatus.BAD_REQUEST,
-                "Algunas tareas no pertenecen a la lista o faltan tareas"
-            );
-        }
-        // Actualizar posición y guardar en lote
-        for (int i = 0; i < taskIds.size(); i++) {
-            UUID taskId = UUID.fromString(taskIds.get(i));
-            Task task = tasks.stream().filter(t -> t.getId().equals(taskId)).findFirst()
-                    .orElseThrow(() -> new org.springframework.web.server.ResponseStatusException(
-                        org.springframework.http.HttpStatus.BAD_REQUEST,
-                        "Tarea no encontrada: " + taskId
-                    ));
-            task.setPosition(i);
-            repo.save(task);
-        }
-        // Recuperar y devolver ordenadas solo las tareas reordenadas
-        List<Task> updated = new ArrayList<>();
+        List<UUID> ids = repo.deleteCompletedInTodoList(todoListId);
+        if (!ids.isEmpty()) {
+            tombstones.recordAll(SyncEntityType.TASK, ids, projectId, userProvider.getCurrentUserId());
+            touchTodoList(todoListId);
+            Map<String, Object> payload = Map.of("projectId", projectId, "taskIds", ids);
+            events.publish(projectId, new ProjectEvent(ProjectEventType.TASKS_DELETED, todoListId, null, payload));
+            outbox.append(DomainEventType.TASKS_DELETED, todoListId, payload);
+        }
+        return new TaskBulkResultDTO(ids.size());
+    }
+
+    @Override
+    @Transactional
+    public List<TaskResponseDTO> reorderTasks(UUID projectId, UUID todoListId, List<String> taskIds,
+                                              Long expectedListVersion) {
+        List<Task> tasks = findOwnedTasks(todoListId, projectId);
+        // El orden pertenece a la lista: dos reordenaciones concurrentes no pueden confirmar ambas
+        EntityTags.requireMatch(expectedListVersion, todoListRepository.forceVersionIncrement(todoListId), "La lista");
+        Map<UUID, Task> pending = new HashMap<>(tasks.size() * 2);
+        for (Task task : tasks) {
+            pending.put(task.getId(), task);
+        }
+        List<Task> reordered = new ArrayList<>(taskIds.size());
         for (String id : taskIds) {
-            Task task = tasks.stream().filter(t -> t.getId().toString().equals(id)).findFirst().get();
-            updated.add(task);
+            Task task = pending.remove(UUID.fromString(id));
+            if (task == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Algunas tareas no pertenecen a la lista o faltan tareas");
+            }
+            reordered.add(task);
+        }
+        // Las tareas no enviadas conservan su orden relativo detrás de las reordenadas
+        List<Task> ordered = new ArrayList<>(reordered);
+        for (Task task : tasks) {
+            if (pending.containsKey(task.getId())) {
+                ordered.add(task);
+            }
+        }
+
+        TaskPositions.Plan plan = TaskPositions.reposition(ordered);
+        for (Task task : plan.changed()) {
+            repo.updatePosition(task.getId(), task.getPosition());
+        }
+        if (plan.lowOnGaps()) {
+            rebalancer.rebalanceLater(todoListId);
+        }
+        touchTodoList(todoListId);
+        List<TaskResponseDTO> response = reordered.stream().map(mapper::toResponseDTO).collect(Collectors.toList());
+        events.publish(projectId, new ProjectEvent(ProjectEventType.TASKS_REORDERED, todoListId, null, response));
+        outbox.append(DomainEventType.TASKS_REORDERED, todoListId, response);
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public TaskResponseDTO move(UUID id, TaskMoveDTO dto, UUID todoListId, UUID projectId) {
+        Task task = findOwnedTask(id, todoListId, projectId);
+        UUID targetTodoListId = dto.targetTodoListId();
+        UUID targetProjectId = dto.targetProjectId() != null ? dto.targetProjectId() : projectId;
+        if (!targetTodoListId.equals(todoListId) || !targetProjectId.equals(projectId)) {
+            ownershipValidator.validateTodoListOwnership(targetTodoListId, targetProjectId);
+        }
+
+        // La posición se calcula contra el orden de la lista de destino, que es lo que versiona la lista:
+        // una reordenación o renumeración concurrente de esa lista hace fallar el movimiento al confirmar.
+        // En el origen el orden relativo del resto no cambia, así que su versión no se toca.
+        todoListRepository.forceVersionIncrement(targetTodoListId);
+
+        long position = resolveMovePosition(id, targetTodoListId, dto.beforeTaskId(), dto.afterTaskId());
+        repo.moveTo(id, targetTodoListId, targetProjectId, position);
+        resourceVersions.touch(ResourceVersions.todoList(todoListId), ResourceVersions.todoList(targetTodoListId));
+
+        task.setTodoListId(targetTodoListId);
+        task.setProjectId(targetProjectId);
+        task.setPosition(position);
+        TaskResponseDTO response = mapper.toResponseDTO(task);
+        // El evento lleva la lista de origen; la de destino va en la tarea
+        ProjectEvent moved = new ProjectEvent(ProjectEventType.TASK_MOVED, todoListId, id, response);
+        events.publish(projectId, moved);
+        if (!targetProjectId.equals(projectId)) {
+            events.publish(targetProjectId, moved);
+        }
+        // En el outbox, ordenado por la lista de origen: la que deja de contener la tarea
+        outbox.append(DomainEventType.TASK_MOVED, todoListId, response);
+        return response;
+    }
+
+    // Hueco entre las vecinas de destino; si no queda sitio se renumera la lista y se vuelve a calcular
+    private long resolveMovePosition(UUID id, UUID targetTodoListId, UUID beforeTaskId, UUID afterTaskId) {
+        if (beforeTaskId == null && afterTaskId == null) {
+            return TaskPositions.append(repo.findMaxPosition(targetTodoListId));
+        }
+        Long before = null;
+        Long after = null;
+        if (afterTaskId != null) {
+            before = anchorPosition(id, afterTaskId, targetTodoListId);
+            after = beforeTaskId != null
+                    ? anchorPosition(id, beforeTaskId, targetTodoListId)
+                    : repo.findNextPosition(targetTodoListId, before, id);
+        } else {
+            after = anchorPosition(id, beforeTaskId, targetTodoListId);
+            before = repo.findPreviousPosition(targetTodoListId, after, id);
+        }
+        if (before != null && after != null && before > after) {
+            throw new IllegalArgumentException("Las tareas de referencia no son consecutivas en la lista destino");
+        }
+
+        OptionalLong position = TaskPositions.between(before, after);
+        if (position.isEmpty()) {
+            rebalancer.rebalance(targetTodoListId);
+            return resolveMovePosition(id, targetTodoListId, beforeTaskId, afterTaskId);
+        }
+        if (TaskPositions.isLowGap(before, after)) {
+            rebalancer.rebalanceLater(targetTodoListId);
+        }
+        return position.getAsLong();
+    }
+
+    private void touchTodoList(UUID todoListId) {
+        resourceVersions.touch(ResourceVersions.todoList(todoListId));
+    }
+
+    private Long anchorPosition(UUID id, UUID anchorId, UUID targetTodoListId) {
+        if (anchorId.equals(id)) {
+            throw new IllegalArgumentException("Una tarea no puede usarse como referencia de sí misma");
+        }
+        Long position = repo.findPositionInTodoList(anchorId, targetTodoListId);
+        if (position == null) {
+            throw new IllegalArgumentException("La tarea de referencia no pertenece a la lista destino");
+        }
+        return position;
+    }
+
+    // Autorización y lectura en una sola consulta; el motivo exacto solo se calcula si falla
+    private Task findOwnedTask(UUID id, UUID todoListId, UUID projectId) {
+        UUID currentUserId = userProvider.getCurrentUserId();
+        Task task = repo.findOwnedById(id, todoListId, projectId, currentUserId);
+        if (task != null) {
+            return task;
+        }
+        throw ownershipFailure(id, todoListId, projectId);
+    }
+
+    private IllegalArgumentException ownershipFailure(UUID id, UUID todoListId, UUID projectId) {
+        ownershipValidator.validateTodoListOwnership(todoListId, projectId);
+        if (repo.existsById(id)) {
+            return new IllegalArgumentException("La tarea no pertenece a la lista de tareas especificada.");
+        }
+        return new IllegalArgumentException("Task with ID " + id + " does not exist.");
+    }
+
+    private List<Task> findOwnedTasks(UUID todoListId, UUID projectId) {
+        List<Task> tasks = repo.findOwnedByTodoListId(todoListId, projectId, userProvider.getCurrentUserId());
+        if (tasks.isEmpty()) {
+            ownershipValidator.validateTodoListOwnership(todoListId, projectId);
         }
-        updated.sort(Comparator.comparingInt(Task::getPosition));
-        return updated.stream().map(mapper::toResponseDTO).collect(Collectors.toList());
+        return tasks;
     }
 }
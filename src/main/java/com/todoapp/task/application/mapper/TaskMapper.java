@@ -11,7 +11,7 @@ import java.util.List;
 @Mapper(componentModel = "spring")
 public interface TaskMapper {
     @Mapping(target = "todoListId", source = "todoList.id")
-    @Mapping(target = "projectId", source = "todoList.project.id")
+    @Mapping(target = "projectId", source = "projectId")
     @Mapping(target = "position", source = "position")
     Task entityToDomain(TaskEntity taskEntity);
 
@@ -11,7 +11,8 @@ public class Task {
     private LocalDate dueDate;
     private UUID todoListId;
     private UUID projectId;
-    private int position;
+    private long position;
+    private long version;
 
     public Task(UUID id, String title, String description, boolean completed,
                 LocalDate dueDate, UUID todoListId) {
@@ -79,11 +80,19 @@ public class Task {
         this.projectId = projectId;
     }
 
-    public int getPosition() {
+    public long getPosition() {
         return position;
     }
 
-    public void setPosition(int position) {
+    public void setPosition(long position) {
         this.position = position;
     }
-}
\ No newline at end of file
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,147 @@
+package com.todoapp.task.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Posiciones con huecos: las tareas se numeran de GAP en GAP para poder insertar
+ * o mover una tarea entre dos vecinas cambiando solo su propia fila.
+ * Cuando un hueco se agota hay que renumerar la lista completa.
+ */
+public final class TaskPositions {
+    public static final long GAP = 1024;
+    // Por debajo de este espacio libre conviene rebalancear en segundo plano
+    static final long LOW_GAP = 16;
+
+    private TaskPositions() {
+    }
+
+    public static long append(Long maxPosition) {
+        return maxPosition == null ? GAP : maxPosition + GAP;
+    }
+
+    /** Posición estrictamente entre las dos dadas; null significa sin vecina en ese lado. */
+    public static OptionalLong between(Long before, Long after) {
+        if (before == null && after == null) {
+            return OptionalLong.of(GAP);
+        }
+        if (before == null) {
+            return OptionalLong.of(after - GAP);
+        }
+        if (after == null) {
+            return OptionalLong.of(before + GAP);
+        }
+        long step = (after - before) / 2;
+        return step < 1 ? OptionalLong.empty() : OptionalLong.of(before + step);
+    }
+
+    public static boolean isLowGap(Long before, Long after) {
+        return before != null && after != null && after - before < LOW_GAP;
+    }
+
+    /**
+     * Recoloca las tareas para que queden en el orden recibido tocando el mínimo de filas:
+     * la subsecuencia creciente más larga de posiciones actuales se conserva y solo el resto
+     * recibe posición nueva. Si algún tramo no cabe se renumera todo.
+     */
+    public static Plan reposition(List<Task> ordered) {
+        int n = ordered.size();
+        boolean[] keep = longestIncreasingRun(ordered);
+        long[] target = new long[n];
+        boolean lowOnGaps = false;
+
+        int i = 0;
+        while (i < n) {
+            if (keep[i]) {
+                target[i] = ordered.get(i).getPosition();
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < n && !keep[i]) {
+                i++;
+            }
+            int count = i - start;
+            Long before = start > 0 ? target[start - 1] : null;
+            Long after = i < n ? ordered.get(i).getPosition() : null;
+            long step = stepFor(before, after, count);
+            if (step < 1) {
+                return new Plan(renumber(ordered), true, false);
+            }
+            if (step < LOW_GAP) {
+                lowOnGaps = true;
+            }
+            long origin = before != null ? before : after - step * (count + 1);
+            for (int j = 0; j < count; j++) {
+                target[start + j] = origin + step * (j + 1);
+            }
+        }
+
+        List<Task> changed = new ArrayList<>();
+        for (int k = 0; k < n; k++) {
+            Task task = ordered.get(k);
+            if (task.getPosition() != target[k]) {
+                task.setPosition(target[k]);
+                changed.add(task);
+            }
+        }
+        return new Plan(changed, false, lowOnGaps);
+    }
+
+    /** Numera de GAP en GAP en el orden recibido y devuelve solo las tareas que cambiaron. */
+    public static List<Task> renumber(List<Task> ordered) {
+        List<Task> changed = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            Task task = ordered.get(i);
+            long position = GAP * (i + 1);
+            if (task.getPosition() != position) {
+                task.setPosition(position);
+                changed.add(task);
+            }
+        }
+        return changed;
+    }
+
+    private static long stepFor(Long before, Long after, int count) {
+        if (before == null || after == null) {
+            return GAP;
+        }
+        return (after - before) / (count + 1);
+    }
+
+    // Subsecuencia estrictamente creciente más larga, O(n log n)
+    private static boolean[] longestIncreasingRun(List<Task> ordered) {
+        int n = ordered.size();
+        int[] tails = new int[n];
+        int[] previous = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            long position = ordered.get(i).getPosition();
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ordered.get(tails[mid]).getPosition() < position) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        boolean[] keep = new boolean[n];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            keep[i] = true;
+        }
+        return keep;
+    }
+
+    /** Tareas a persistir y si la lista necesita un rebalanceo posterior. */
+    public record Plan(List<Task> changed, boolean rebalanced, boolean lowOnGaps) {
+    }
+}
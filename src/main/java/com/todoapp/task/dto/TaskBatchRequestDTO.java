@@ -0,0 +1,13 @@
+package com.todoapp.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TaskBatchRequestDTO(
+        @NotEmpty(message = "Debe enviar al menos una tarea")
+        @Size(max = 500, message = "No se pueden crear más de 500 tareas por petición")
+        List<@Valid TaskRequestDTO> tasks
+) {}
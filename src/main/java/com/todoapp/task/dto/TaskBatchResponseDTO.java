@@ -0,0 +1,9 @@
+package com.todoapp.task.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record TaskBatchResponseDTO(
+        int created,
+        List<UUID> ids
+) {}
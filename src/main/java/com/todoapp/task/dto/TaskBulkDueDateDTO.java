@@ -0,0 +1,16 @@
+package com.todoapp.task.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/** Fija la fecha de vencimiento de varias tareas de una lista; sin fecha se elimina. */
+public record TaskBulkDueDateDTO(
+        @NotEmpty(message = "Debe indicar al menos una tarea")
+        @Size(max = 500, message = "No se pueden modificar más de 500 tareas por petición")
+        List<UUID> taskIds,
+        LocalDate dueDate
+) {}
@@ -0,0 +1,5 @@
+package com.todoapp.task.dto;
+
+public record TaskBulkResultDTO(
+        int affected
+) {}
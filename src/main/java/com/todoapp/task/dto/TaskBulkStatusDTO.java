@@ -0,0 +1,18 @@
+package com.todoapp.task.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Marca como completadas o pendientes varias tareas de una lista. Sin taskIds se aplica
+ * a todas las tareas de la lista.
+ */
+public record TaskBulkStatusDTO(
+        @NotNull(message = "El estado es obligatorio")
+        Boolean completed,
+        @Size(max = 500, message = "No se pueden modificar más de 500 tareas por petición")
+        List<UUID> taskIds
+) {}
@@ -0,0 +1,18 @@
+package com.todoapp.task.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Destino de un movimiento. Si no se indica proyecto se asume el actual; sin anclas la tarea
+ * va al final de la lista. beforeTaskId coloca la tarea justo delante de esa tarea y
+ * afterTaskId justo detrás.
+ */
+public record TaskMoveDTO(
+        @NotNull(message = "La lista destino es obligatoria")
+        UUID targetTodoListId,
+        UUID targetProjectId,
+        UUID beforeTaskId,
+        UUID afterTaskId
+) {}
@@ -10,5 +10,6 @@ public record TaskResponseDTO(
         LocalDate dueDate,
         UUID todoListId,
         UUID projectId,
-        int position
+        long position,
+        long version
 ) {}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.todoapp.task.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Vista de lista: sin descripción ni ids de la jerarquía, que el cliente ya conoce por la ruta
+public record TaskSummaryDTO(
+        UUID id,
+        String title,
+        boolean completed,
+        LocalDate dueDate,
+        long position
+) {}
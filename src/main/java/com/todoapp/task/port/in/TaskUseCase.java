@@ -1,4 +1,5 @@
 package com.todoapp.task.port.in;
+import com.todoapp.common.pagination.CursorPage;
 import com.todoapp.task.dto.*;
 
 import java.util.List;
@@ -6,10 +7,16 @@ import java.util.UUID;
 
 public interface TaskUseCase {
     TaskResponseDTO create(TaskCreateDTO dto);
+    TaskBatchResponseDTO createBatch(UUID todoListId, UUID projectId, List<TaskRequestDTO> tasks);
     TaskResponseDTO getById(UUID id, UUID todoListId, UUID projectId);
-    List<TaskResponseDTO> getByTodoListId(UUID todoListId, UUID projectId);
-    TaskResponseDTO update(UUID id, TaskUpdateDTO dto, UUID todoListId, UUID projectId);
-    TaskResponseDTO updateStatus(UUID id, TaskStatusUpdateDTO dto, UUID todoListId, UUID projectId);
+    CursorPage<TaskResponseDTO> getByTodoListId(UUID todoListId, UUID projectId, String cursor, Integer limit);
+    CursorPage<TaskSummaryDTO> getSummariesByTodoListId(UUID todoListId, UUID projectId, String cursor, Integer limit);
+    TaskResponseDTO update(UUID id, TaskUpdateDTO dto, UUID todoListId, UUID projectId, Long expectedVersion);
+    TaskResponseDTO updateStatus(UUID id, TaskStatusUpdateDTO dto, UUID todoListId, UUID projectId, Long expectedVersion);
     void delete(UUID id, UUID todoListId, UUID projectId);
-    List<TaskResponseDTO> reorderTasks(UUID projectId, UUID todoListId, List<String> taskIds);
+    TaskBulkResultDTO updateStatusInBulk(UUID todoListId, UUID projectId, TaskBulkStatusDTO dto);
+    TaskBulkResultDTO updateDueDateInBulk(UUID todoListId, UUID projectId, TaskBulkDueDateDTO dto);
+    TaskBulkResultDTO deleteCompleted(UUID todoListId, UUID projectId);
+    List<TaskResponseDTO> reorderTasks(UUID projectId, UUID todoListId, List<String> taskIds, Long expectedListVersion);
+    TaskResponseDTO move(UUID id, TaskMoveDTO dto, UUID todoListId, UUID projectId);
 }
\ No newline at end of file
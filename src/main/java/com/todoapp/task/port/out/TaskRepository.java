@@ -1,13 +1,38 @@
 package com.todoapp.task.port.out;
 
+import com.todoapp.common.pagination.Cursor;
 import com.todoapp.task.domain.Task;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.task.dto.TaskSummaryDTO;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 public interface TaskRepository {
     Task save(Task task);
+    List<UUID> saveAll(List<Task> tasks);
     Task findById(UUID id);
     List<Task> findByTodoListId(UUID todoListId);
+    /** Mueve la tarea a la papelera. */
     void delete(UUID id);
+    /** Mueve la tarea a la papelera si pertenece al usuario; false si no se movió nada. */
+    boolean deleteOwned(UUID id, UUID todoListId, UUID projectId, UUID userId);
+    /** Cambia el estado de las tareas indicadas, o de toda la lista si ids es null; devuelve las que cambiaron. */
+    int updateStatusInTodoList(UUID todoListId, List<UUID> ids, boolean completed);
+    int updateDueDateInTodoList(UUID todoListId, List<UUID> ids, LocalDate dueDate);
+    /** Mueve a la papelera las tareas completadas de la lista y devuelve sus ids. */
+    List<UUID> deleteCompletedInTodoList(UUID todoListId);
     boolean existsById(UUID id);
+    Task findOwnedById(UUID id, UUID todoListId, UUID projectId, UUID userId);
+    List<Task> findOwnedByTodoListId(UUID todoListId, UUID projectId, UUID userId);
+    List<TaskResponseDTO> findOwnedResponsePage(UUID todoListId, UUID projectId, UUID userId, Cursor after, int limit);
+    List<TaskSummaryDTO> findOwnedSummaryPage(UUID todoListId, UUID projectId, UUID userId, Cursor after, int limit);
+    Long findMaxPosition(UUID todoListId);
+    void updatePosition(UUID id, long position);
+    /** Cambia la posición solo si la tarea sigue en la lista; false si ya no está en ella. */
+    boolean updatePositionInTodoList(UUID id, UUID todoListId, long position);
+    Long findPositionInTodoList(UUID id, UUID todoListId);
+    Long findPreviousPosition(UUID todoListId, long position, UUID excludedId);
+    Long findNextPosition(UUID todoListId, long position, UUID excludedId);
+    void moveTo(UUID id, UUID todoListId, UUID projectId, long position);
 }
\ No newline at end of file
@@ -1,15 +1,19 @@
 package com.todoapp.todolist.adapter.in;
 
+import com.todoapp.common.concurrency.EntityTags;
+import com.todoapp.purge.dto.PurgeJobDTO;
 import com.todoapp.todolist.dto.TodoListCreateDTO;
 import com.todoapp.todolist.dto.TodoListRequestDTO;
 import com.todoapp.todolist.dto.TodoListResponseDTO;
 import com.todoapp.todolist.dto.TodoListUpdateDTO;
 import com.todoapp.todolist.port.in.TodoListUseCase;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,12 +31,16 @@ public class TodoListController {
             @PathVariable UUID projectId,
             @Valid @RequestBody TodoListRequestDTO dto) {
         TodoListCreateDTO todoListCreateDTO = new TodoListCreateDTO(dto.name(), projectId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(useCase.create(todoListCreateDTO));
+        TodoListResponseDTO created = useCase.create(todoListCreateDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(EntityTags.of(created.version())).body(created);
     }
 
     @GetMapping
-    public ResponseEntity<List<TodoListResponseDTO>> getByProject(@PathVariable UUID projectId) {
-        return ResponseEntity.ok(useCase.getByProject(projectId));
+    public ResponseEntity<List<TodoListResponseDTO>> getByProject(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return useCase.getByProject(projectId, cursor, limit).toResponse();
     }
 
     @GetMapping("/{id}")
@@ -40,23 +48,32 @@ public class TodoListController {
             @PathVariable UUID projectId,
             @PathVariable UUID id) {
         // Validar que la todolist pertenezca al proyecto
-        return ResponseEntity.ok(useCase.getByIdAndProject(id, projectId));
+        return tagged(useCase.getByIdAndProject(id, projectId));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<TodoListResponseDTO> update(
             @PathVariable UUID projectId,
             @PathVariable UUID id,
-            @Valid @RequestBody TodoListRequestDTO dto) {
+            @Valid @RequestBody TodoListRequestDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         TodoListUpdateDTO todoListUpdateDTO = new TodoListUpdateDTO(dto.name(), projectId);
-        return ResponseEntity.ok(useCase.update(id, todoListUpdateDTO));
+        return tagged(useCase.update(id, todoListUpdateDTO, EntityTags.parseIfMatch(ifMatch)));
     }
 
+    // La lista desaparece al momento; sus tareas se purgan en segundo plano
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(
+    public ResponseEntity<PurgeJobDTO> delete(
             @PathVariable UUID projectId,
             @PathVariable UUID id) {
-        useCase.delete(id, projectId);
-        return ResponseEntity.noContent().build();
+        return accepted(useCase.delete(id, projectId));
+    }
+
+    private static ResponseEntity<TodoListResponseDTO> tagged(TodoListResponseDTO todoList) {
+        return ResponseEntity.ok().eTag(EntityTags.of(todoList.version())).body(todoList);
+    }
+
+    private static ResponseEntity<PurgeJobDTO> accepted(PurgeJobDTO job) {
+        return ResponseEntity.accepted().location(URI.create("/api/purge-jobs/" + job.id())).body(job);
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,30 @@
 package com.todoapp.todolist.adapter.out;
 
+import com.todoapp.common.cache.CacheRegions;
+import com.todoapp.common.id.GeneratedUuidV7;
+import com.todoapp.common.sync.ChangeStamp;
 import com.todoapp.project.adapter.out.ProjectEntity;
 import com.todoapp.task.adapter.out.TaskEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(name = "todo_lists")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TODO_LISTS)
+// Las listas borradas quedan ocultas a todas las consultas hasta que el purgado elimina la fila
+@SQLRestriction("deleted_at is null")
 public class TodoListEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
+    @Column(name = "id", columnDefinition = "uuid")
     private UUID id;
 
     @Column(nullable = false)
@@ -21,9 +34,24 @@ public class TodoListEntity {
     @JoinColumn(name = "project_id", nullable = false)
     private ProjectEntity project;
 
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "todoList", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TaskEntity> tasks;
 
+    // Cubre el nombre y el orden de sus tareas: reordenar o mover tareas también la incrementa
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // Sello del último cambio para la sincronización incremental; se renueva en cada escritura
+    @ChangeStamp
+    @OptimisticLock(excluded = true)
+    @Column(name = "change_stamp", nullable = false)
+    private long changeStamp;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     public TodoListEntity() {
     }
 
@@ -65,4 +93,28 @@ public class TodoListEntity {
     public void setTasks(List<TaskEntity> tasks) {
         this.tasks = tasks;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public long getChangeStamp() {
+        return changeStamp;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
@@ -1,13 +1,66 @@
 package com.todoapp.todolist.adapter.out;
 
+import com.todoapp.common.cache.CacheRegions;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface TodoListJpaRepository extends JpaRepository<TodoListEntity, UUID> {
-    List<TodoListEntity> findByProjectId(UUID projectId);
     Optional<TodoListEntity> findByIdAndProjectId(UUID projectId, UUID id);
-    List<TodoListEntity> findByProject_Owner_Id(UUID userId);
+    Optional<TodoListEntity> findByIdAndProject_Owner_Id(UUID id, UUID userId);
+    Optional<TodoListEntity> findByIdAndProjectIdAndProject_Owner_Id(UUID id, UUID projectId, UUID userId);
+    boolean existsByIdAndProjectIdAndProject_Owner_Id(UUID id, UUID projectId, UUID userId);
+
+    // Las variantes derivadas de estas tres usan left join con el filtro en projects,
+    // lo que impide usar idx_todo_lists_project
+    @Query("select l from TodoListEntity l where l.project.id = :projectId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.TODO_LISTS_BY_PROJECT)
+    })
+    List<TodoListEntity> findByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("select l from TodoListEntity l join l.project p where p.owner.id = :userId")
+    List<TodoListEntity> findByProject_Owner_Id(@Param("userId") UUID userId);
+
+    @Query("select l from TodoListEntity l join l.project p where p.id = :projectId and p.owner.id = :userId")
+    List<TodoListEntity> findByProjectIdAndProject_Owner_Id(@Param("projectId") UUID projectId,
+                                                            @Param("userId") UUID userId);
+
+    // Los ids v7 crecen con el tiempo: ordenar por id equivale a ordenar por creación
+    String RESPONSE_VIEW = "select new com.todoapp.todolist.dto.TodoListResponseDTO(l.id, l.name, p.id, l.version) " +
+            "from TodoListEntity l join l.project p ";
+
+    @Query(RESPONSE_VIEW + "where p.id = :projectId and p.owner.id = :userId order by l.id asc")
+    List<TodoListResponseDTO> findResponsesByProjectId(@Param("projectId") UUID projectId,
+                                                       @Param("userId") UUID userId,
+                                                       Limit limit);
+
+    @Query(RESPONSE_VIEW + "where p.id = :projectId and p.owner.id = :userId and l.id > :id order by l.id asc")
+    List<TodoListResponseDTO> findResponsesByProjectIdAfter(@Param("projectId") UUID projectId,
+                                                            @Param("userId") UUID userId,
+                                                            @Param("id") UUID id,
+                                                            Limit limit);
+
+    @Query(RESPONSE_VIEW + "where p.owner.id = :userId order by l.id asc")
+    List<TodoListResponseDTO> findResponsesByUserId(@Param("userId") UUID userId, Limit limit);
+
+    @Query(RESPONSE_VIEW + "where p.owner.id = :userId and l.id > :id order by l.id asc")
+    List<TodoListResponseDTO> findResponsesByUserIdAfter(@Param("userId") UUID userId,
+                                                         @Param("id") UUID id,
+                                                         Limit limit);
+
+    @Query(RESPONSE_VIEW + "where p.owner.id = :userId order by l.id asc")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<TodoListResponseDTO> streamResponsesByUserId(@Param("userId") UUID userId);
 }
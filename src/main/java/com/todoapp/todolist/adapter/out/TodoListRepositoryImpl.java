@@ -2,12 +2,17 @@ package com.todoapp.todolist.adapter.out;
 
 import com.todoapp.project.adapter.out.ProjectEntity;
 import com.todoapp.todolist.domain.TodoList;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
 import com.todoapp.todolist.domain.mapper.TodoListMapper;
 import com.todoapp.todolist.port.out.TodoListRepository;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
@@ -27,21 +32,50 @@ public class TodoListRepositoryImpl implements TodoListRepository {
 
     @Override
     public TodoList save(TodoList todoList) {
-        TodoListEntity entity;
-        if(todoList.getId() != null && jpa.existsById(todoList.getId())) {
-            entity = jpa.findById(todoList.getId()).orElseThrow();
-            entity.setName(todoList.getName());
-        }else{
-            entity = mapper.domainToEntity(todoList);
+        if (todoList.getId() == null) {
+            TodoListEntity entity = mapper.domainToEntity(todoList);
             entity.setProject(entityManager.getReference(ProjectEntity.class, todoList.getProjectId()));
+            entityManager.persist(entity);
+            return mapper.entityToDomain(entity);
         }
-        TodoListEntity savedEntity = jpa.save(entity);
-        return mapper.entityToDomain(savedEntity);
+        // La entidad suele estar ya gestionada tras la lectura con dueño: sin SELECT extra, solo el UPDATE
+        TodoListEntity entity = entityManager.find(TodoListEntity.class, todoList.getId());
+        if (entity == null || entity.isDeleted()) {
+            throw new NoSuchElementException("Todo list no encontrado con id: " + todoList.getId());
+        }
+        if (entity.getVersion() != todoList.getVersion()) {
+            throw new OptimisticLockException("La lista " + todoList.getId() + " cambió después de leerse");
+        }
+        entity.setName(todoList.getName());
+        entityManager.flush();
+        return mapper.entityToDomain(entity);
+    }
+
+    // El UPDATE de la versión sale al confirmar y falla si otra transacción la incrementó antes
+    @Override
+    public long forceVersionIncrement(UUID id) {
+        TodoListEntity entity = entityManager.find(TodoListEntity.class, id);
+        if (entity == null || entity.isDeleted()) {
+            throw new NoSuchElementException("Todo list no encontrado con id: " + id);
+        }
+        entityManager.lock(entity, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        return entity.getVersion();
+    }
+
+    @Override
+    public long lockAndIncrementVersion(UUID id) {
+        TodoListEntity entity = entityManager.find(TodoListEntity.class, id, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+        if (entity == null || entity.isDeleted()) {
+            throw new NoSuchElementException("Todo list no encontrado con id: " + id);
+        }
+        return entity.getVersion();
     }
 
     @Override
     public TodoList findById(UUID id) {
+        // find puede responder desde la caché de segundo nivel, que no aplica el filtro de borrados
         return jpa.findById(id)
+                .filter(entity -> !entity.isDeleted())
                 .map(mapper::entityToDomain)
                 .orElseThrow(() -> new NoSuchElementException("Todo list no encontrado con id: " + id));
     }
@@ -55,9 +89,12 @@ public class TodoListRepositoryImpl implements TodoListRepository {
 
     @Override
     public void delete(UUID id, UUID projectId) {
-        TodoListEntity entity = jpa.findByIdAndProjectId(id, projectId)
-            .orElseThrow(() -> new NoSuchElementException("No se encontró la lista con id: " + id + " y projectId: " + projectId));
-        jpa.delete(entity);
+        TodoListEntity entity = entityManager.find(TodoListEntity.class, id);
+        if (entity == null || entity.isDeleted() || !entity.getProject().getId().equals(projectId)) {
+            throw new NoSuchElementException("No se encontró la lista con id: " + id + " y projectId: " + projectId);
+        }
+        // Un UPDATE de una fila: sin remove no se cargan ni se borran en cascada sus tareas
+        entity.setDeletedAt(LocalDateTime.now());
     }
 
     @Override
@@ -73,4 +110,42 @@ public class TodoListRepositoryImpl implements TodoListRepository {
                 .orElse(null);
     }
 
+    @Override
+    public TodoList findByIdAndUserId(UUID id, UUID userId) {
+        return jpa.findByIdAndProject_Owner_Id(id, userId)
+                .map(mapper::entityToDomain)
+                .orElse(null);
+    }
+
+    @Override
+    public TodoList findByIdAndProjectIdAndUserId(UUID id, UUID projectId, UUID userId) {
+        return jpa.findByIdAndProjectIdAndProject_Owner_Id(id, projectId, userId)
+                .map(mapper::entityToDomain)
+                .orElse(null);
+    }
+
+    @Override
+    public List<TodoList> findByProjectIdAndUserId(UUID projectId, UUID userId) {
+        List<TodoListEntity> entities = jpa.findByProjectIdAndProject_Owner_Id(projectId, userId);
+        return mapper.entitiesToDomains(entities);
+    }
+
+    @Override
+    public boolean existsByIdAndProjectIdAndUserId(UUID id, UUID projectId, UUID userId) {
+        return jpa.existsByIdAndProjectIdAndProject_Owner_Id(id, projectId, userId);
+    }
+
+    @Override
+    public List<TodoListResponseDTO> findPageByProjectIdAndUserId(UUID projectId, UUID userId, UUID afterId, int limit) {
+        return afterId == null
+                ? jpa.findResponsesByProjectId(projectId, userId, Limit.of(limit))
+                : jpa.findResponsesByProjectIdAfter(projectId, userId, afterId, Limit.of(limit));
+    }
+
+    @Override
+    public List<TodoListResponseDTO> findPageByUserId(UUID userId, UUID afterId, int limit) {
+        return afterId == null
+                ? jpa.findResponsesByUserId(userId, Limit.of(limit))
+                : jpa.findResponsesByUserIdAfter(userId, afterId, Limit.of(limit));
+    }
 }
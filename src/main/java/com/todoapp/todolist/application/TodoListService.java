@@ -1,8 +1,24 @@
 package com.todoapp.todolist.application;
 
+import com.todoapp.common.OwnershipIndex;
 import com.todoapp.common.OwnershipValidator;
 import com.todoapp.common.UserProvider;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.common.concurrency.EntityTags;
+import com.todoapp.common.pagination.Cursor;
+import com.todoapp.common.pagination.CursorPage;
+import com.todoapp.common.pagination.PageLimits;
+import com.todoapp.event.domain.ProjectEvent;
+import com.todoapp.event.domain.ProjectEventType;
+import com.todoapp.event.port.out.ProjectEventPublisher;
+import com.todoapp.outbox.domain.DomainEventType;
+import com.todoapp.outbox.port.out.DomainEventOutbox;
 import com.todoapp.project.port.out.ProjectRepository;
+import com.todoapp.purge.domain.PurgeTarget;
+import com.todoapp.purge.dto.PurgeJobDTO;
+import com.todoapp.purge.port.out.PurgeJobRepository;
+import com.todoapp.sync.domain.SyncEntityType;
+import com.todoapp.sync.port.out.TombstoneRepository;
 import com.todoapp.todolist.domain.TodoList;
 import com.todoapp.todolist.domain.mapper.TodoListMapper;
 import com.todoapp.todolist.dto.TodoListCreateDTO;
@@ -11,12 +27,13 @@ import com.todoapp.todolist.dto.TodoListResponseDTO;
 import com.todoapp.todolist.dto.TodoListUpdateDTO;
 import com.todoapp.todolist.port.in.TodoListUseCase;
 import com.todoapp.todolist.port.out.TodoListRepository;
-import com.todoapp.user.domain.User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 public class TodoListService implements TodoListUseCase {
@@ -26,22 +43,35 @@ public class TodoListService implements TodoListUseCase {
     private final ProjectRepository projectRepository;
     private final OwnershipValidator ownershipValidator;
     private final UserProvider userProvider;
-
-    public TodoListService(TodoListRepository repo, TodoListMapper mapper, ProjectRepository projectRepository, OwnershipValidator ownershipValidator, UserProvider userProvider) {
+    private final OwnershipIndex ownershipIndex;
+    private final PageLimits pageLimits;
+    private final ResourceVersions resourceVersions;
+    private final TombstoneRepository tombstones;
+    private final ProjectEventPublisher events;
+    private final DomainEventOutbox outbox;
+    private final PurgeJobRepository purgeJobs;
+
+    public TodoListService(TodoListRepository repo, TodoListMapper mapper, ProjectRepository projectRepository, OwnershipValidator ownershipValidator,
+                           UserProvider userProvider, OwnershipIndex ownershipIndex, PageLimits pageLimits,
+                           ResourceVersions resourceVersions, TombstoneRepository tombstones,
+                           ProjectEventPublisher events, DomainEventOutbox outbox, PurgeJobRepository purgeJobs) {
         this.repo = repo;
         this.mapper = mapper;
         this.projectRepository = projectRepository;
         this.ownershipValidator = ownershipValidator;
         this.userProvider = userProvider;
+        this.ownershipIndex = ownershipIndex;
+        this.pageLimits = pageLimits;
+        this.resourceVersions = resourceVersions;
+        this.tombstones = tombstones;
+        this.events = events;
+        this.outbox = outbox;
+        this.purgeJobs = purgeJobs;
     }
 
     @Override
     @Transactional
     public TodoListResponseDTO create(TodoListCreateDTO dto) {
-        if(!projectRepository.existsById(dto.projectId())) {
-            throw new IllegalArgumentException("Project does not exist");
-        }
-
         TodoList todolist = new TodoList(
                 null,
                 dto.name(),
@@ -51,71 +81,95 @@ public class TodoListService implements TodoListUseCase {
         validateProjectOwnership(dto.projectId());
 
         TodoList saved = repo.save(todolist);
+        ownershipIndex.registerTodoList(saved.getId(), dto.projectId(), userProvider.getCurrentUserId());
 
-        return mapper.toTodoListResponseDTO(saved);
+        TodoListResponseDTO response = mapper.toTodoListResponseDTO(saved);
+        events.publish(dto.projectId(), new ProjectEvent(ProjectEventType.TODO_LIST_CREATED, saved.getId(), saved.getId(), response));
+        outbox.append(DomainEventType.TODO_LIST_CREATED, saved.getId(), response);
+        return response;
     }
 
     @Override
     public TodoListResponseDTO getById(UUID id) {
-        TodoList todoList = repo.findById(id);
-        validateOwnership(todoList.getId(), todoList.getProjectId());
+        TodoList todoList = repo.findByIdAndUserId(id, userProvider.getCurrentUserId());
+        if (todoList == null) {
+            TodoList existing = repo.findById(id);
+            validateOwnership(existing.getId(), existing.getProjectId());
+            throw new IllegalArgumentException("No existe la lista");
+        }
         return mapper.toTodoListResponseDTO(todoList);
     }
 
     @Override
-    public List<TodoListResponseDTO> getByUser() {
-        User currentUser = userProvider.getCurrentUser();
-        List<TodoList> todoLists = repo.findByUserId(currentUser.getId());
-        todoLists.forEach(tl -> validateOwnership(tl.getId(), tl.getProjectId()));
-        return todoLists.stream()
-                .map(mapper::toTodoListResponseDTO)
-                .toList();
+    @Transactional(readOnly = true)
+    public CursorPage<TodoListResponseDTO> getByUser(String cursor, Integer limit) {
+        int pageSize = pageLimits.resolve(cursor, limit);
+        List<TodoListResponseDTO> todoLists = repo.findPageByUserId(userProvider.getCurrentUserId(), afterId(cursor), pageSize + 1);
+        return CursorPage.of(todoLists, pageSize, Function.identity(), todoList -> Cursor.of(todoList.id()));
     }
 
     @Override
     @Transactional
-    public TodoListResponseDTO update(UUID id, TodoListUpdateDTO dto) {
-        TodoList existing = repo.findById(id);
-        if (existing == null) {
-            throw new IllegalArgumentException("No existe la lista");
-        }
-        validateOwnership(existing.getId(), existing.getProjectId());
+    public TodoListResponseDTO update(UUID id, TodoListUpdateDTO dto, Long expectedVersion) {
+        TodoList existing = findOwnedTodoList(id, dto.projectId());
+        EntityTags.requireMatch(expectedVersion, existing.getVersion(), "La lista");
         existing.setName(dto.name());
         TodoList updated = repo.save(existing);
-        return mapper.toTodoListResponseDTO(updated);
+        TodoListResponseDTO response = mapper.toTodoListResponseDTO(updated);
+        events.publish(dto.projectId(), new ProjectEvent(ProjectEventType.TODO_LIST_UPDATED, id, id, response));
+        outbox.append(DomainEventType.TODO_LIST_UPDATED, id, response);
+        return response;
     }
 
     @Override
     @Transactional
-    public void delete(UUID id, UUID projectId) {
-        TodoList todoList = repo.findByIdAndProjectId(id, projectId);
-        if (todoList == null) {
-            throw new IllegalArgumentException("No existe la lista en ese proyecto");
-        }
-        validateOwnership(todoList.getId(), projectId);
+    public PurgeJobDTO delete(UUID id, UUID projectId) {
+        findOwnedTodoList(id, projectId);
+        // Solo se oculta la lista: sus tareas las borra el purgado por bloques fuera de la petición
         repo.delete(id, projectId);
+        PurgeJobDTO job = purgeJobs.enqueue(PurgeTarget.TODO_LIST, id, userProvider.getCurrentUserId());
+        // Sus tareas desaparecen con ella: el cliente las descarta al aplicar la lápida de la lista
+        tombstones.record(SyncEntityType.TODO_LIST, id, projectId, userProvider.getCurrentUserId());
+        ownershipIndex.removeTodoList(id);
+        resourceVersions.touch(ResourceVersions.todoList(id));
+        events.publish(projectId, new ProjectEvent(ProjectEventType.TODO_LIST_DELETED, id, id, null));
+        outbox.append(DomainEventType.TODO_LIST_DELETED, id, Map.of("projectId", projectId));
+        return job;
     }
 
     @Override
-    public List<TodoListResponseDTO> getByProject(UUID projectId) {
-        if (!projectRepository.existsById(projectId)) {
-            throw new IllegalArgumentException("El proyecto no existe");
+    @Transactional(readOnly = true)
+    public CursorPage<TodoListResponseDTO> getByProject(UUID projectId, String cursor, Integer limit) {
+        int pageSize = pageLimits.resolve(cursor, limit);
+        List<TodoListResponseDTO> todoLists = repo.findPageByProjectIdAndUserId(projectId, userProvider.getCurrentUserId(),
+                afterId(cursor), pageSize + 1);
+        if (todoLists.isEmpty()) {
+            validateProjectOwnership(projectId);
         }
-        List<TodoList> todoLists = repo.findByProjectId(projectId);
-        todoLists.forEach(tl -> validateOwnership(tl.getId(), tl.getProjectId()));
-        return todoLists.stream()
-                .map(mapper::toTodoListResponseDTO)
-                .toList();
+        return CursorPage.of(todoLists, pageSize, Function.identity(), todoList -> Cursor.of(todoList.id()));
     }
 
     @Override
     public TodoListResponseDTO getByIdAndProject(UUID id, UUID projectId) {
-        TodoList todoList = repo.findByIdAndProjectId(id, projectId);
+        TodoList todoList = findOwnedTodoList(id, projectId);
+        return mapper.toTodoListResponseDTO(todoList);
+    }
+
+    // Autorización y lectura en una sola consulta; el motivo exacto solo se calcula si falla
+    private TodoList findOwnedTodoList(UUID id, UUID projectId) {
+        UUID currentUserId = userProvider.getCurrentUserId();
+        TodoList todoList = repo.findByIdAndProjectIdAndUserId(id, projectId, currentUserId);
         if (todoList == null) {
+            validateOwnership(id, projectId);
             throw new IllegalArgumentException("No existe la lista en ese proyecto");
         }
-        validateOwnership(todoList.getId(), projectId);
-        return mapper.toTodoListResponseDTO(todoList);
+        ownershipIndex.registerTodoList(id, projectId, currentUserId);
+        return todoList;
+    }
+
+    private static UUID afterId(String cursor) {
+        Cursor after = Cursor.decode(cursor);
+        return after != null ? after.id() : null;
     }
 
     private void validateOwnership(UUID todoListId, UUID projectId) {
@@ -6,6 +6,7 @@ public class TodoList {
     private UUID id;
     private String name;
     private UUID projectId;
+    private long version;
 
     public TodoList() {}
 
@@ -38,4 +39,12 @@ public class TodoList {
     public void setProjectId(UUID projectId) {
         this.projectId = projectId;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
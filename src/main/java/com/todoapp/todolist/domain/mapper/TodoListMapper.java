@@ -17,6 +17,7 @@ public interface TodoListMapper {
     @Mapping(target = "projectId", source = "project.id")
     TodoList entityToDomain(TodoListEntity todoListEntity);
 
+    @Mapping(target = "deletedAt", ignore = true)
     TodoListEntity domainToEntity(TodoList todoList);
 
     List<TodoList> entitiesToDomains(List<TodoListEntity> todoListEntities);
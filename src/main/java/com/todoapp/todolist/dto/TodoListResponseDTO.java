@@ -5,5 +5,6 @@ import java.util.UUID;
 public record TodoListResponseDTO(
         UUID id,
         String name,
-        UUID projectId
+        UUID projectId,
+        long version
 ) {}
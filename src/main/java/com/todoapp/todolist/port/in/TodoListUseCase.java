@@ -1,19 +1,21 @@
 package com.todoapp.todolist.port.in;
 
+import com.todoapp.common.pagination.CursorPage;
+import com.todoapp.purge.dto.PurgeJobDTO;
 import com.todoapp.todolist.dto.TodoListCreateDTO;
 import com.todoapp.todolist.dto.TodoListRequestDTO;
 import com.todoapp.todolist.dto.TodoListResponseDTO;
 import com.todoapp.todolist.dto.TodoListUpdateDTO;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface TodoListUseCase {
     TodoListResponseDTO create(TodoListCreateDTO dto);
     TodoListResponseDTO getById(UUID id);
-    List<TodoListResponseDTO> getByUser();
-    TodoListResponseDTO update(UUID id, TodoListUpdateDTO dto);
-    void delete(UUID id, UUID projectId);
-    List<TodoListResponseDTO> getByProject(UUID projectId);
+    CursorPage<TodoListResponseDTO> getByUser(String cursor, Integer limit);
+    TodoListResponseDTO update(UUID id, TodoListUpdateDTO dto, Long expectedVersion);
+    /** Oculta la lista y encola la purga de sus tareas. */
+    PurgeJobDTO delete(UUID id, UUID projectId);
+    CursorPage<TodoListResponseDTO> getByProject(UUID projectId, String cursor, Integer limit);
     TodoListResponseDTO getByIdAndProject(UUID id, UUID projectId);
 }
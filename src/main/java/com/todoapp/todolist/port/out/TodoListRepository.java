@@ -1,15 +1,27 @@
 package com.todoapp.todolist.port.out;
 
 import com.todoapp.todolist.domain.TodoList;
+import com.todoapp.todolist.dto.TodoListResponseDTO;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface TodoListRepository {
     TodoList save(TodoList todoList);
+    /** Programa el incremento de la versión de la lista al confirmar y devuelve la versión leída. */
+    long forceVersionIncrement(UUID id);
+    /** Bloquea la fila de la lista hasta el fin de la transacción e incrementa ya su versión. */
+    long lockAndIncrementVersion(UUID id);
     TodoList findById(UUID id);
     List<TodoList> findByProjectId(UUID projectId);
+    /** Oculta la lista a todas las consultas; las filas las borra después el purgado. */
     void delete(UUID id, UUID projectId);
     List<TodoList> findByUserId(UUID userId);
     TodoList findByIdAndProjectId(UUID id, UUID projectId);
+    TodoList findByIdAndUserId(UUID id, UUID userId);
+    TodoList findByIdAndProjectIdAndUserId(UUID id, UUID projectId, UUID userId);
+    List<TodoList> findByProjectIdAndUserId(UUID projectId, UUID userId);
+    boolean existsByIdAndProjectIdAndUserId(UUID id, UUID projectId, UUID userId);
+    List<TodoListResponseDTO> findPageByProjectIdAndUserId(UUID projectId, UUID userId, UUID afterId, int limit);
+    List<TodoListResponseDTO> findPageByUserId(UUID userId, UUID afterId, int limit);
 }
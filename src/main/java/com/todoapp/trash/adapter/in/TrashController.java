@@ -0,0 +1,47 @@
+package com.todoapp.trash.adapter.in;
+
+import com.todoapp.trash.dto.TrashItemDTO;
+import com.todoapp.trash.port.in.TrashUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/trash")
+public class TrashController {
+    private final TrashUseCase useCase;
+
+    public TrashController(TrashUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TrashItemDTO>> getContents(@RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(useCase.getContents(limit));
+    }
+
+    @PostMapping("/projects/{id}/restore")
+    public ResponseEntity<Void> restoreProject(@PathVariable UUID id) {
+        useCase.restoreProject(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/todolists/{id}/restore")
+    public ResponseEntity<Void> restoreTodoList(@PathVariable UUID id) {
+        useCase.restoreTodoList(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/tasks/{id}/restore")
+    public ResponseEntity<Void> restoreTask(@PathVariable UUID id) {
+        useCase.restoreTask(id);
+        return ResponseEntity.noContent().build();
+    }
+}
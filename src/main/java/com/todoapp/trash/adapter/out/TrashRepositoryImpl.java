@@ -0,0 +1,132 @@
+package com.todoapp.trash.adapter.out;
+
+import com.todoapp.trash.domain.TrashItem;
+import com.todoapp.trash.domain.TrashItemType;
+import com.todoapp.trash.port.out.TrashRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SQL nativo a propósito: el filtro deleted_at de las entidades oculta justo las filas que
+ * interesan aquí. Cada consulta devuelve (id, nombre, proyecto, lista, deleted_at).
+ */
+@Repository
+public class TrashRepositoryImpl implements TrashRepository {
+
+    private static final String PROJECTS = "select p.id, p.name, p.id as project_id, " +
+            "cast(null as uuid) as todo_list_id, p.deleted_at from projects p " +
+            "where p.user_id = :userId and p.deleted_at is not null";
+
+    private static final String TODO_LISTS = "select l.id, l.name, l.project_id, " +
+            "cast(null as uuid) as todo_list_id, l.deleted_at from todo_lists l " +
+            "join projects p on p.id = l.project_id " +
+            "where p.user_id = :userId and p.deleted_at is null and l.deleted_at is not null";
+
+    private static final String TASKS = "select t.id, t.title as name, t.project_id, t.todo_list_id, t.deleted_at " +
+            "from tasks t join projects p on p.id = t.project_id join todo_lists l on l.id = t.todo_list_id " +
+            "where p.user_id = :userId and p.deleted_at is null and l.deleted_at is null and t.deleted_at is not null";
+
+    private static final String NEWEST_FIRST = " order by deleted_at desc limit :limit";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TrashItem> findProjects(UUID userId, int limit) {
+        return find(TrashItemType.PROJECT, PROJECTS + NEWEST_FIRST, userId, null, limit);
+    }
+
+    @Override
+    public List<TrashItem> findTodoLists(UUID userId, int limit) {
+        return find(TrashItemType.TODO_LIST, TODO_LISTS + NEWEST_FIRST, userId, null, limit);
+    }
+
+    @Override
+    public List<TrashItem> findTasks(UUID userId, int limit) {
+        return find(TrashItemType.TASK, TASKS + NEWEST_FIRST, userId, null, limit);
+    }
+
+    @Override
+    public TrashItem findProject(UUID id, UUID userId) {
+        return first(find(TrashItemType.PROJECT, PROJECTS + " and p.id = :id", userId, id, null));
+    }
+
+    @Override
+    public TrashItem findTodoList(UUID id, UUID userId) {
+        return first(find(TrashItemType.TODO_LIST, TODO_LISTS + " and l.id = :id", userId, id, null));
+    }
+
+    @Override
+    public TrashItem findTask(UUID id, UUID userId) {
+        return first(find(TrashItemType.TASK, TASKS + " and t.id = :id", userId, id, null));
+    }
+
+    // Los hijos vivos reciben el mismo sello para que la sincronización incremental los vuelva a entregar
+    @Override
+    public int restoreProject(UUID id, long stamp) {
+        int restored = restore("projects", "update projects set deleted_at = null, version = version + 1, " +
+                "change_stamp = :stamp where id = :id and deleted_at is not null", id, stamp);
+        restore("todo_lists", "update todo_lists set change_stamp = :stamp " +
+                "where project_id = :id and deleted_at is null", id, stamp);
+        restore("tasks", "update tasks set change_stamp = :stamp " +
+                "where project_id = :id and deleted_at is null", id, stamp);
+        return restored;
+    }
+
+    @Override
+    public int restoreTodoList(UUID id, long stamp) {
+        int restored = restore("todo_lists", "update todo_lists set deleted_at = null, version = version + 1, " +
+                "change_stamp = :stamp where id = :id and deleted_at is not null", id, stamp);
+        restore("tasks", "update tasks set change_stamp = :stamp " +
+                "where todo_list_id = :id and deleted_at is null", id, stamp);
+        return restored;
+    }
+
+    @Override
+    public int restoreTask(UUID id, long stamp) {
+        return restore("tasks", "update tasks set deleted_at = null, version = version + 1, change_stamp = :stamp " +
+                "where id = :id and deleted_at is not null", id, stamp);
+    }
+
+    private List<TrashItem> find(TrashItemType type, String sql, UUID userId, UUID id, Integer limit) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql, Object[].class).unwrap(NativeQuery.class);
+        query.addScalar("id", UUID.class)
+                .addScalar("name", String.class)
+                .addScalar("project_id", UUID.class)
+                .addScalar("todo_list_id", UUID.class)
+                .addScalar("deleted_at", LocalDateTime.class);
+        query.setParameter("userId", userId);
+        if (id != null) {
+            query.setParameter("id", id);
+        }
+        if (limit != null) {
+            query.setParameter("limit", limit);
+        }
+        List<?> rows = query.getResultList();
+        List<TrashItem> items = new ArrayList<>(rows.size());
+        for (Object result : rows) {
+            Object[] row = (Object[]) result;
+            items.add(new TrashItem(type, (UUID) row[0], (UUID) row[2], (UUID) row[3], (String) row[1],
+                    (LocalDateTime) row[4]));
+        }
+        return items;
+    }
+
+    private static TrashItem first(List<TrashItem> items) {
+        return items.isEmpty() ? null : items.get(0);
+    }
+
+    // Sin la tabla afectada declarada, Hibernate invalidaría toda la caché de segundo nivel
+    private int restore(String table, String sql, UUID id, long stamp) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        query.addSynchronizedQuerySpace(table);
+        return query.setParameter("id", id).setParameter("stamp", stamp).executeUpdate();
+    }
+}
@@ -0,0 +1,150 @@
+package com.todoapp.trash.application;
+
+import com.todoapp.common.OwnershipIndex;
+import com.todoapp.common.UserProvider;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.common.pagination.PageLimits;
+import com.todoapp.common.sync.ChangeStamps;
+import com.todoapp.event.domain.ProjectEvent;
+import com.todoapp.event.domain.ProjectEventType;
+import com.todoapp.event.port.out.ProjectEventPublisher;
+import com.todoapp.outbox.domain.DomainEventType;
+import com.todoapp.outbox.port.out.DomainEventOutbox;
+import com.todoapp.purge.domain.PurgeTarget;
+import com.todoapp.purge.port.out.PurgeJobRepository;
+import com.todoapp.sync.domain.SyncEntityType;
+import com.todoapp.sync.port.out.TombstoneRepository;
+import com.todoapp.trash.domain.TrashItem;
+import com.todoapp.trash.dto.TrashItemDTO;
+import com.todoapp.trash.port.in.TrashUseCase;
+import com.todoapp.trash.port.out.TrashRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Papelera del usuario. Restaurar solo quita la marca deleted_at: las filas siguen en su sitio
+ * hasta que el purgado las borra pasado trash.retention. Un proyecto o una lista que el purgado
+ * ya ha empezado a vaciar no se puede restaurar. Si dos peticiones restauran lo mismo a la vez,
+ * la que no llega a actualizar la fila falla como si el recurso ya no estuviera en la papelera.
+ */
+@Service
+public class TrashService implements TrashUseCase {
+
+    private final TrashRepository repo;
+    private final PurgeJobRepository purgeJobs;
+    private final UserProvider userProvider;
+    private final OwnershipIndex ownershipIndex;
+    private final PageLimits pageLimits;
+    private final ResourceVersions resourceVersions;
+    private final TombstoneRepository tombstones;
+    private final ProjectEventPublisher events;
+    private final DomainEventOutbox outbox;
+    private final Duration retention;
+
+    public TrashService(TrashRepository repo, PurgeJobRepository purgeJobs, UserProvider userProvider,
+                        OwnershipIndex ownershipIndex, PageLimits pageLimits, ResourceVersions resourceVersions,
+                        TombstoneRepository tombstones, ProjectEventPublisher events, DomainEventOutbox outbox,
+                        @Value("${trash.retention:P30D}") Duration retention) {
+        this.repo = repo;
+        this.purgeJobs = purgeJobs;
+        this.userProvider = userProvider;
+        this.ownershipIndex = ownershipIndex;
+        this.pageLimits = pageLimits;
+        this.resourceVersions = resourceVersions;
+        this.tombstones = tombstones;
+        this.events = events;
+        this.outbox = outbox;
+        this.retention = retention;
+    }
+
+    // Cada tipo se lee con el límite completo y se mezclan por fecha de borrado
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrashItemDTO> getContents(Integer limit) {
+        UUID userId = userProvider.getCurrentUserId();
+        int size = pageLimits.resolve(limit);
+        return Stream.of(repo.findProjects(userId, size), repo.findTodoLists(userId, size), repo.findTasks(userId, size))
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(TrashItem::deletedAt).reversed())
+                .limit(size)
+                .map(this::toDTO)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void restoreProject(UUID id) {
+        UUID userId = userProvider.getCurrentUserId();
+        TrashItem item = repo.findProject(id, userId);
+        if (item == null) {
+            throw new NoSuchElementException("No hay ningún proyecto con id " + id + " en la papelera");
+        }
+        cancelPurge(PurgeTarget.PROJECT, id);
+        if (repo.restoreProject(id, ChangeStamps.next()) == 0) {
+            throw new NoSuchElementException("No hay ningún proyecto con id " + id + " en la papelera");
+        }
+        tombstones.forget(SyncEntityType.PROJECT, id);
+        ownershipIndex.registerProject(id, userId);
+        resourceVersions.touch(ResourceVersions.projectsOf(userId), ResourceVersions.project(id));
+        outbox.append(DomainEventType.PROJECT_RESTORED, id, Map.of("userId", userId));
+    }
+
+    @Override
+    @Transactional
+    public void restoreTodoList(UUID id) {
+        UUID userId = userProvider.getCurrentUserId();
+        TrashItem item = repo.findTodoList(id, userId);
+        if (item == null) {
+            throw new NoSuchElementException("No hay ninguna lista con id " + id + " en la papelera");
+        }
+        cancelPurge(PurgeTarget.TODO_LIST, id);
+        if (repo.restoreTodoList(id, ChangeStamps.next()) == 0) {
+            throw new NoSuchElementException("No hay ninguna lista con id " + id + " en la papelera");
+        }
+        tombstones.forget(SyncEntityType.TODO_LIST, id);
+        ownershipIndex.registerTodoList(id, item.projectId(), userId);
+        resourceVersions.touch(ResourceVersions.todoList(id));
+        events.publish(item.projectId(), new ProjectEvent(ProjectEventType.TODO_LIST_RESTORED, id, id, null));
+        outbox.append(DomainEventType.TODO_LIST_RESTORED, id, Map.of("projectId", item.projectId()));
+    }
+
+    @Override
+    @Transactional
+    public void restoreTask(UUID id) {
+        UUID userId = userProvider.getCurrentUserId();
+        TrashItem item = repo.findTask(id, userId);
+        if (item == null) {
+            throw new NoSuchElementException("No hay ninguna tarea con id " + id + " en la papelera");
+        }
+        if (repo.restoreTask(id, ChangeStamps.next()) == 0) {
+            throw new NoSuchElementException("No hay ninguna tarea con id " + id + " en la papelera");
+        }
+        tombstones.forget(SyncEntityType.TASK, id);
+        resourceVersions.touch(ResourceVersions.todoList(item.todoListId()));
+        events.publish(item.projectId(), new ProjectEvent(ProjectEventType.TASK_RESTORED, item.todoListId(), id, null));
+        outbox.append(DomainEventType.TASK_RESTORED, item.todoListId(),
+                Map.of("taskId", id, "projectId", item.projectId()));
+    }
+
+    // La cancelación bloquea el trabajo: si el purgado ya lo tomó, ya no hay nada que restaurar.
+    // Un purgado fallido sí se cancela y el recurso vuelve con lo que no llegó a borrarse
+    private void cancelPurge(PurgeTarget target, UUID id) {
+        if (!purgeJobs.cancel(target, id)) {
+            throw new NoSuchElementException("El recurso " + id + " se está purgando en este momento y no se puede restaurar");
+        }
+    }
+
+    private TrashItemDTO toDTO(TrashItem item) {
+        return new TrashItemDTO(item.type(), item.id(), item.projectId(), item.todoListId(), item.name(),
+                item.deletedAt(), item.deletedAt().plus(retention));
+    }
+}
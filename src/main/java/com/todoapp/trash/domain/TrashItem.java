@@ -0,0 +1,9 @@
+package com.todoapp.trash.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** Recurso borrado que todavía se puede restaurar: su proyecto y su lista, si los tiene, siguen vivos. */
+public record TrashItem(TrashItemType type, UUID id, UUID projectId, UUID todoListId, String name,
+                        LocalDateTime deletedAt) {
+}
@@ -0,0 +1,7 @@
+package com.todoapp.trash.domain;
+
+public enum TrashItemType {
+    PROJECT,
+    TODO_LIST,
+    TASK
+}
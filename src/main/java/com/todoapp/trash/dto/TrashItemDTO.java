@@ -0,0 +1,16 @@
+package com.todoapp.trash.dto;
+
+import com.todoapp.trash.domain.TrashItemType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TrashItemDTO(
+        TrashItemType type,
+        UUID id,
+        UUID projectId,
+        UUID todoListId,
+        String name,
+        LocalDateTime deletedAt,
+        LocalDateTime purgeAfter
+) {}
@@ -0,0 +1,14 @@
+package com.todoapp.trash.port.in;
+
+import com.todoapp.trash.dto.TrashItemDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TrashUseCase {
+    /** Lo borrado más recientemente primero. */
+    List<TrashItemDTO> getContents(Integer limit);
+    void restoreProject(UUID id);
+    void restoreTodoList(UUID id);
+    void restoreTask(UUID id);
+}
@@ -0,0 +1,26 @@
+package com.todoapp.trash.port.out;
+
+import com.todoapp.trash.domain.TrashItem;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lecturas y restauraciones sobre las filas que el filtro deleted_at oculta al resto de repositorios.
+ * Solo se ve lo restaurable: las listas de proyectos vivos y las tareas de listas vivas.
+ */
+public interface TrashRepository {
+    List<TrashItem> findProjects(UUID userId, int limit);
+    List<TrashItem> findTodoLists(UUID userId, int limit);
+    List<TrashItem> findTasks(UUID userId, int limit);
+    TrashItem findProject(UUID id, UUID userId);
+    TrashItem findTodoList(UUID id, UUID userId);
+    TrashItem findTask(UUID id, UUID userId);
+    /**
+     * Saca el recurso de la papelera con un sello nuevo que también reciben sus hijos vivos.
+     * Devuelve las filas del propio recurso actualizadas: 0 si otra petición se adelantó.
+     */
+    int restoreProject(UUID id, long stamp);
+    int restoreTodoList(UUID id, long stamp);
+    int restoreTask(UUID id, long stamp);
+}
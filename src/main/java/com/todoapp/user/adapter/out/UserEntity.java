@@ -1,14 +1,20 @@
 package com.todoapp.user.adapter.out;
 
+import com.todoapp.common.cache.CacheRegions;
+import com.todoapp.common.id.GeneratedUuidV7;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
 public class UserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", columnDefinition = "uuid")
     private UUID id;
 
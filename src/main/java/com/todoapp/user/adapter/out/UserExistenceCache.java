@@ -0,0 +1,68 @@
+package com.todoapp.user.adapter.out;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache pequeña de usuarios confirmados como existentes (id + email). Permite construir el
+ * principal desde los claims del JWT sin consultar la base en cada petición, y sigue
+ * rechazando usuarios borrados o modificados tras el TTL o una invalidación explícita.
+ * El límite de tamaño y la caducidad los lleva Caffeine.
+ */
+@Component
+public class UserExistenceCache {
+
+    private final UserJpaRepository jpa;
+    // Valor: el email con el que se confirmó el usuario
+    private final Cache<UUID, String> entries;
+    private final int maxEntries;
+
+    @Autowired
+    public UserExistenceCache(UserJpaRepository jpa,
+                              @Value("${user.existence-cache.ttl-seconds:60}") long ttlSeconds,
+                              @Value("${user.existence-cache.max-entries:10000}") int maxEntries) {
+        this(jpa, ttlSeconds, maxEntries, Clock.systemUTC());
+    }
+
+    UserExistenceCache(UserJpaRepository jpa, long ttlSeconds, int maxEntries, Clock clock) {
+        this.jpa = jpa;
+        this.maxEntries = maxEntries;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxEntries, 0))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public boolean isActive(UUID userId, String email) {
+        if (email.equals(entries.getIfPresent(userId))) {
+            return true;
+        }
+        boolean exists = jpa.existsByIdAndEmail(userId, email);
+        if (exists && maxEntries > 0) {
+            entries.put(userId, email);
+        } else if (!exists) {
+            entries.invalidate(userId);
+        }
+        return exists;
+    }
+
+    public void invalidate(UUID userId) {
+        if (userId != null) {
+            entries.invalidate(userId);
+        }
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+}
@@ -8,4 +8,5 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
     boolean existsByEmail(String email);
     boolean existsByUsername(String username);
     Optional<UserEntity> findByEmail(String email);
+    boolean existsByIdAndEmail(UUID id, String email);
 }
@@ -11,16 +11,19 @@ public class UserRepositoryImpl implements UserRepository {
 
     private final UserJpaRepository jpa;
     private final UserMapper mapper;
+    private final UserExistenceCache existenceCache;
 
-    public UserRepositoryImpl(UserJpaRepository jpa, UserMapper mapper) {
+    public UserRepositoryImpl(UserJpaRepository jpa, UserMapper mapper, UserExistenceCache existenceCache) {
         this.jpa = jpa;
         this.mapper = mapper;
+        this.existenceCache = existenceCache;
     }
 
     @Override
     public User save(User user) {
         UserEntity entity = mapper.domainToEntity(user);
         UserEntity savedEntity = jpa.save(entity);
+        existenceCache.invalidate(savedEntity.getId());
         return mapper.entityToDomain(savedEntity);
     }
 
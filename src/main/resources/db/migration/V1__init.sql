@@ -0,0 +1,56 @@
+-- Esquema base. Los IF NOT EXISTS permiten adoptar una base creada antes por Hibernate:
+-- con baseline en la versión 0 esta migración solo añade lo que falte (los índices).
+
+create table if not exists users (
+    id       uuid         not null,
+    username varchar(255) not null,
+    name     varchar(255) not null,
+    email    varchar(255) not null,
+    password varchar(255) not null,
+    constraint pk_users primary key (id),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+);
+
+create table if not exists projects (
+    id          uuid         not null,
+    name        varchar(255) not null,
+    description varchar(255),
+    user_id     uuid         not null,
+    created_at  timestamp(6),
+    constraint pk_projects primary key (id),
+    constraint fk_projects_user foreign key (user_id) references users (id)
+);
+
+create table if not exists todo_lists (
+    id         uuid         not null,
+    name       varchar(255) not null,
+    project_id uuid         not null,
+    constraint pk_todo_lists primary key (id),
+    constraint fk_todo_lists_project foreign key (project_id) references projects (id)
+);
+
+create table if not exists tasks (
+    id           uuid         not null,
+    title        varchar(255) not null,
+    description  varchar(255),
+    completed    boolean      not null,
+    due_date     date,
+    position     bigint       not null,
+    todo_list_id uuid         not null,
+    project_id   uuid         not null,
+    constraint pk_tasks primary key (id),
+    constraint fk_tasks_todo_list foreign key (todo_list_id) references todo_lists (id)
+);
+
+-- Proyectos del usuario en orden de creación (listado y keyset por created_at, id)
+create index if not exists idx_projects_user_created on projects (user_id, created_at, id);
+
+-- Listas de un proyecto ordenadas por id (los ids v7 siguen el orden de creación)
+create index if not exists idx_todo_lists_project on todo_lists (project_id, id);
+
+-- Tareas de una lista por posición: listado, keyset, max(position) y vecinas al mover
+create index if not exists idx_tasks_list_position on tasks (todo_list_id, position, id);
+
+-- Comprobación de dueño por proyecto sin pasar por todo_lists
+create index if not exists idx_tasks_project_id on tasks (project_id);
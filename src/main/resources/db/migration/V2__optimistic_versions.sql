@@ -0,0 +1,8 @@
+-- Versión para el control optimista de concurrencia (@Version) y las ETag de escritura.
+-- Las filas existentes parten de la versión 0.
+
+alter table projects add column version bigint not null default 0;
+
+alter table todo_lists add column version bigint not null default 0;
+
+alter table tasks add column version bigint not null default 0;
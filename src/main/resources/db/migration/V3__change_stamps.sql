@@ -0,0 +1,27 @@
+-- Sincronización incremental: sello del último cambio en cada fila y lápidas de los borrados.
+-- Las filas existentes quedan con el sello 0 y llegan en la primera sincronización completa.
+
+alter table projects add column change_stamp bigint not null default 0;
+
+alter table todo_lists add column change_stamp bigint not null default 0;
+
+alter table tasks add column change_stamp bigint not null default 0;
+
+create table sync_tombstones (
+    id           uuid        not null,
+    entity_type  varchar(16) not null,
+    entity_id    uuid        not null,
+    project_id   uuid,
+    user_id      uuid        not null,
+    change_stamp bigint      not null,
+    constraint pk_sync_tombstones primary key (id)
+);
+
+-- Cambios de un usuario desde un sello: proyectos propios, y listas y tareas por proyecto
+create index idx_projects_user_stamp on projects (user_id, change_stamp);
+
+create index idx_todo_lists_project_stamp on todo_lists (project_id, change_stamp);
+
+create index idx_tasks_project_stamp on tasks (project_id, change_stamp);
+
+create index idx_sync_tombstones_user_stamp on sync_tombstones (user_id, change_stamp);
@@ -0,0 +1,16 @@
+-- Outbox transaccional: los eventos de dominio se insertan en la misma transacción que el cambio
+-- y un despachador los entrega y los borra. Los ids v7 dan el orden de llegada.
+-- payload es varchar sin longitud: texto sin límite tanto en PostgreSQL como en H2.
+
+create table outbox_events (
+    id             uuid        not null,
+    aggregate_type varchar(16) not null,
+    aggregate_id   uuid        not null,
+    event_type     varchar(32) not null,
+    payload        varchar,
+    attempts       integer     not null default 0,
+    constraint pk_outbox_events primary key (id)
+);
+
+-- Los pendientes son los que aún no agotaron sus reintentos; se recorren en orden de id
+create index idx_outbox_events_attempts on outbox_events (attempts, id);
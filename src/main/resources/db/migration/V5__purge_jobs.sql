@@ -0,0 +1,22 @@
+-- Borrado diferido de proyectos y listas: la petición solo marca deleted_at y encola un trabajo;
+-- un purgador en segundo plano borra las filas hijas por bloques y después la propia fila.
+
+alter table projects add column deleted_at timestamp(6);
+
+alter table todo_lists add column deleted_at timestamp(6);
+
+create table purge_jobs (
+    id            uuid         not null,
+    resource_type varchar(16)  not null,
+    resource_id   uuid         not null,
+    user_id       uuid         not null,
+    status        varchar(16)  not null,
+    deleted_rows  bigint       not null default 0,
+    attempts      integer      not null default 0,
+    created_at    timestamp(6) not null,
+    finished_at   timestamp(6),
+    constraint pk_purge_jobs primary key (id)
+);
+
+-- Los pendientes se recorren en orden de id, que con v7 es el orden de encolado
+create index idx_purge_jobs_status on purge_jobs (status, id);
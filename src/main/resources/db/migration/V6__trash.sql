@@ -0,0 +1,24 @@
+-- Papelera: las tareas también se borran marcando deleted_at y se pueden restaurar
+-- hasta que el purgado programado elimina las que superan el periodo de retención.
+-- H2 no admite índices parciales (where deleted_at is not null), así que son índices normales:
+-- las filas vivas comparten clave nula y no entran en los rangos que se recorren.
+
+alter table tasks add column deleted_at timestamp(6);
+
+-- Tareas en la papelera del usuario, por proyecto
+create index idx_tasks_project_deleted on tasks (project_id, deleted_at);
+
+-- Tareas caducadas para el purgado, de la más antigua a la más reciente
+create index idx_tasks_deleted on tasks (deleted_at);
+
+-- Proyectos en la papelera del usuario
+create index idx_projects_user_deleted on projects (user_id, deleted_at);
+
+-- Listas en la papelera, por proyecto
+create index idx_todo_lists_project_deleted on todo_lists (project_id, deleted_at);
+
+-- Restaurar cancela el trabajo de purgado pendiente del recurso
+create index idx_purge_jobs_resource on purge_jobs (resource_id);
+
+-- Restaurar retira la lápida que dejó el borrado
+create index idx_sync_tombstones_entity on sync_tombstones (entity_id);
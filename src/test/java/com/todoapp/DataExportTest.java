@@ -0,0 +1,114 @@
+package com.todoapp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.common.UserProvider;
+import com.todoapp.export.domain.ExportFormat;
+import com.todoapp.export.port.in.ExportUseCase;
+import com.todoapp.project.adapter.out.ProjectEntity;
+import com.todoapp.task.adapter.out.TaskEntity;
+import com.todoapp.task.domain.TaskPositions;
+import com.todoapp.todolist.adapter.out.TodoListEntity;
+import com.todoapp.user.adapter.out.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Exportación en streaming contra H2: todos los registros del usuario y solo los suyos,
+ * en NDJSON y en CSV, vaciando el búfer cada pocos registros.
+ */
+@SpringBootTest(properties = {"JWT_SECRET=unvalorseguro_aaa123@dos", "export.flush-every=2"})
+class DataExportTest {
+
+    @Autowired
+    private ExportUseCase exportUseCase;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private UserProvider userProvider;
+
+    private UUID projectId;
+    private UUID todoListId;
+    private List<UUID> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        TestData data = new TestData(entityManager, transactionTemplate);
+        transactionTemplate.executeWithoutResult(status -> {
+            UserEntity owner = data.user("export");
+            ProjectEntity project = data.project(owner, "Proyecto");
+            TodoListEntity todoList = data.todoList(project);
+            List<TaskEntity> tasks = data.tasks(todoList, 3, (task, i) -> {
+                if (i == 1) {
+                    task.setDescription("Con \"comillas\", y coma");
+                }
+            });
+            data.project(data.user("ajeno"), "Ajeno");
+
+            when(userProvider.getCurrentUserId()).thenReturn(owner.getId());
+            projectId = project.getId();
+            todoListId = todoList.getId();
+            taskIds = tasks.stream().map(TaskEntity::getId).toList();
+        });
+    }
+
+    @Test
+    void shouldStreamEveryRecordOfTheUserAsNdjson() throws Exception {
+        // When
+        List<String> lines = export(ExportFormat.NDJSON);
+
+        // Then
+        assertThat(lines).hasSize(5);
+        List<JsonNode> records = new ArrayList<>();
+        for (String line : lines) {
+            records.add(objectMapper.readTree(line));
+        }
+        assertThat(records).extracting(node -> node.get("type").asText())
+                .containsExactly("project", "todoList", "task", "task", "task");
+        assertThat(records.get(0).get("data").get("id").asText()).isEqualTo(projectId.toString());
+        assertThat(records.get(1).get("data").get("id").asText()).isEqualTo(todoListId.toString());
+        assertThat(records.subList(2, 5)).extracting(node -> UUID.fromString(node.get("data").get("id").asText()))
+                .containsExactlyElementsOf(taskIds);
+    }
+
+    @Test
+    void shouldQuoteCsvFieldsOnlyWhenNeeded() throws Exception {
+        // When
+        List<String> lines = export(ExportFormat.CSV);
+
+        // Then
+        assertThat(lines).hasSize(6);
+        assertThat(lines.get(0)).startsWith("type,id,project_id,todo_list_id,name");
+        assertThat(lines.get(1)).startsWith("project," + projectId + "," + projectId + ",,Proyecto,");
+        assertThat(lines.get(3)).isEqualTo("task," + taskIds.get(0) + "," + projectId + "," + todoListId
+                + ",Tarea 1,\"Con \"\"comillas\"\", y coma\",false,," + TaskPositions.GAP + ",,0");
+    }
+
+    private List<String> export(ExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportUseCase.exportCurrentUser(format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
@@ -0,0 +1,179 @@
+package com.todoapp;
+
+import com.todoapp.common.UserProvider;
+import com.todoapp.dataimport.dto.ImportErrorDTO;
+import com.todoapp.dataimport.dto.ImportResultDTO;
+import com.todoapp.dataimport.port.in.ImportUseCase;
+import com.todoapp.export.domain.ExportFormat;
+import com.todoapp.export.port.in.ExportUseCase;
+import com.todoapp.outbox.domain.DomainEventType;
+import com.todoapp.outbox.port.in.DomainEventSubscriber;
+import com.todoapp.project.adapter.out.ProjectEntity;
+import com.todoapp.task.adapter.out.TaskEntity;
+import com.todoapp.todolist.adapter.out.TodoListEntity;
+import com.todoapp.user.adapter.out.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Importación en streaming contra H2: lo exportado por un usuario se importa en otro,
+ * en bloques pequeños, y los registros inválidos se informan por línea sin frenar al resto.
+ */
+@SpringBootTest(properties = {"JWT_SECRET=unvalorseguro_aaa123@dos", "import.chunk-size=2", "outbox.poll-interval=PT1H"})
+class DataImportTest {
+
+    @Autowired
+    private ImportUseCase importUseCase;
+
+    @Autowired
+    private ExportUseCase exportUseCase;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private UserProvider userProvider;
+
+    private UUID sourceUserId;
+    private UUID targetUserId;
+
+    @BeforeEach
+    void setUp() {
+        TestData data = new TestData(entityManager, transactionTemplate);
+        transactionTemplate.executeWithoutResult(status -> {
+            UserEntity source = data.user("origen");
+            UserEntity target = data.user("destino");
+            TodoListEntity todoList = data.todoList(data.project(source, "Proyecto migrado"));
+            data.tasks(todoList, 3, (task, i) -> {
+                task.setDescription("Línea uno\nlínea, dos");
+                task.setCompleted(i == 2);
+            });
+            sourceUserId = source.getId();
+            targetUserId = target.getId();
+        });
+    }
+
+    @Test
+    void shouldImportWhatAnotherUserExported() throws Exception {
+        for (ExportFormat format : ExportFormat.values()) {
+            // Given
+            when(userProvider.getCurrentUserId()).thenReturn(sourceUserId);
+            ByteArrayOutputStream exported = new ByteArrayOutputStream();
+            exportUseCase.exportCurrentUser(format).writeTo(exported);
+
+            // When
+            when(userProvider.getCurrentUserId()).thenReturn(targetUserId);
+            ImportResultDTO result = importUseCase.importData(format, new ByteArrayInputStream(exported.toByteArray()));
+
+            // Then
+            assertThat(result).isEqualTo(new ImportResultDTO(1, 1, 3, 0, List.of()));
+        }
+        List<TaskEntity> imported = transactionTemplate.execute(status -> entityManager.createQuery(
+                        "select t from TaskEntity t join t.todoList l join l.project p " +
+                                "where p.owner.id = :userId order by l.id, t.position", TaskEntity.class)
+                .setParameter("userId", targetUserId)
+                .getResultList());
+        assertThat(imported).hasSize(6);
+        assertThat(imported.subList(0, 3)).extracting(TaskEntity::getTitle).containsExactly("Tarea 1", "Tarea 2", "Tarea 3");
+        assertThat(imported.subList(0, 3)).extracting(TaskEntity::isCompleted).containsExactly(false, true, false);
+        assertThat(imported).extracting(TaskEntity::getDescription).containsOnly("Línea uno\nlínea, dos");
+    }
+
+    @Test
+    void shouldRecordTheSameEventsAsTheApiForEachChunk() throws Exception {
+        // Given: con bloques de dos, las tres tareas llegan en dos bloques distintos
+        when(userProvider.getCurrentUserId()).thenReturn(targetUserId);
+        String body = String.join("\n",
+                "{\"type\":\"project\",\"data\":{\"id\":\"p1\",\"name\":\"Proyecto importado\"}}",
+                "{\"type\":\"todoList\",\"data\":{\"id\":\"l1\",\"projectId\":\"p1\",\"name\":\"Lista\"}}",
+                "{\"type\":\"task\",\"data\":{\"todoListId\":\"l1\",\"title\":\"Una\"}}",
+                "{\"type\":\"task\",\"data\":{\"todoListId\":\"l1\",\"title\":\"Dos\"}}",
+                "{\"type\":\"task\",\"data\":{\"todoListId\":\"l1\",\"title\":\"Tres\"}}");
+
+        // When
+        importUseCase.importData(ExportFormat.NDJSON, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        List<DomainEventType> events = transactionTemplate.execute(status -> entityManager.createQuery(
+                        "select e.eventType from OutboxEntity e where e.aggregateId in " +
+                                "(select p.id from ProjectEntity p where p.owner.id = :userId) or e.aggregateId in " +
+                                "(select l.id from TodoListEntity l where l.project.owner.id = :userId) order by e.id",
+                        DomainEventType.class)
+                .setParameter("userId", targetUserId)
+                .getResultList());
+        assertThat(events).containsExactly(DomainEventType.PROJECT_CREATED, DomainEventType.TODO_LIST_CREATED,
+                DomainEventType.TASKS_CREATED, DomainEventType.TASKS_CREATED);
+    }
+
+    @Test
+    void shouldReportInvalidLinesAndKeepTheRest() throws Exception {
+        // Given
+        when(userProvider.getCurrentUserId()).thenReturn(targetUserId);
+        String body = String.join("\n",
+                "{\"type\":\"project\",\"data\":{\"id\":\"p1\",\"name\":\"Proyecto nuevo\"}}",
+                "{\"type\":\"todoList\",\"data\":{\"id\":\"l1\",\"projectId\":\"p1\",\"name\":\"Lista\"}}",
+                "{esto no es json",
+                "{\"type\":\"task\",\"data\":{\"todoListId\":\"l1\",\"title\":\"\"}}",
+                "",
+                "{\"type\":\"task\",\"data\":{\"todoListId\":\"l9\",\"title\":\"Huérfana\"}}",
+                "{\"type\":\"task\",\"data\":{\"todoListId\":\"l1\",\"title\":\"Fecha\",\"dueDate\":\"mañana\"}}",
+                "{\"type\":\"nota\",\"data\":{}}",
+                "{\"type\":\"task\",\"data\":{\"todoListId\":\"l1\",\"title\":\"Válida\",\"dueDate\":\"2030-01-01\"}}");
+
+        // When
+        ImportResultDTO result = importUseCase.importData(ExportFormat.NDJSON,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(result.projects()).isEqualTo(1);
+        assertThat(result.todoLists()).isEqualTo(1);
+        assertThat(result.tasks()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(5);
+        assertThat(result.errors()).extracting(ImportErrorDTO::line).containsExactlyInAnyOrder(3L, 4L, 6L, 7L, 8L);
+        assertThat(result.errors()).filteredOn(error -> error.line() == 4)
+                .extracting(ImportErrorDTO::message).singleElement().asString().contains("title");
+    }
+
+    @Test
+    void shouldRejectCsvWithoutTypeColumn() throws Exception {
+        // Given
+        when(userProvider.getCurrentUserId()).thenReturn(targetUserId);
+        String body = "name,description\nProyecto nuevo,\n";
+
+        // When
+        ImportResultDTO result = importUseCase.importData(ExportFormat.CSV,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(result.rejected()).isEqualTo(1);
+        assertThat(result.errors()).singleElement().extracting(ImportErrorDTO::line).isEqualTo(1L);
+    }
+
+    // Con un suscriptor los eventos se escriben; el despachador no corre y se quedan en la tabla
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        DomainEventSubscriber ignoringSubscriber() {
+            return event -> { };
+        }
+    }
+}
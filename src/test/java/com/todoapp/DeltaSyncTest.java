@@ -0,0 +1,157 @@
+package com.todoapp;
+
+import com.todoapp.common.UserProvider;
+import com.todoapp.common.exception.InvalidCursorException;
+import com.todoapp.sync.domain.SyncEntityType;
+import com.todoapp.sync.dto.SyncResponseDTO;
+import com.todoapp.sync.dto.TombstoneDTO;
+import com.todoapp.sync.port.in.SyncUseCase;
+import com.todoapp.task.dto.TaskBulkStatusDTO;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.task.dto.TaskUpdateDTO;
+import com.todoapp.task.port.in.TaskUseCase;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sincronización incremental contra H2: la primera llamada trae todo, las siguientes solo
+ * lo escrito o borrado después de la marca de agua, y las páginas encadenadas no pierden ni repiten filas.
+ */
+@SpringBootTest(properties = {"JWT_SECRET=unvalorseguro_aaa123@dos", "sync.commit-lag=PT0S"})
+class DeltaSyncTest {
+
+    @Autowired
+    private SyncUseCase syncUseCase;
+
+    @Autowired
+    private TaskUseCase taskUseCase;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private UserProvider userProvider;
+
+    private UUID projectId;
+    private UUID todoListId;
+    private List<UUID> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        TestData.Workspace workspace = new TestData(entityManager, transactionTemplate).workspace("sync", 3);
+        when(userProvider.getCurrentUserId()).thenReturn(workspace.userId());
+        projectId = workspace.projectId();
+        todoListId = workspace.todoListId();
+        taskIds = workspace.taskIds();
+    }
+
+    @Test
+    void shouldReturnOnlyWhatChangedSinceTheToken() {
+        // Given
+        SyncResponseDTO initial = syncUseCase.changesSince(null, null);
+        SyncResponseDTO idle = syncUseCase.changesSince(initial.nextToken(), null);
+
+        // When
+        taskUseCase.update(taskIds.get(0), new TaskUpdateDTO("Editada", null, null), todoListId, projectId, null);
+        taskUseCase.delete(taskIds.get(1), todoListId, projectId);
+        SyncResponseDTO delta = syncUseCase.changesSince(idle.nextToken(), null);
+
+        // Then
+        assertThat(initial.projects()).hasSize(1);
+        assertThat(initial.todoLists()).hasSize(1);
+        assertThat(initial.tasks()).hasSize(3);
+        assertThat(initial.hasMore()).isFalse();
+        assertThat(idle.projects()).isEmpty();
+        assertThat(idle.todoLists()).isEmpty();
+        assertThat(idle.tasks()).isEmpty();
+        assertThat(idle.deleted()).isEmpty();
+        assertThat(delta.projects()).isEmpty();
+        assertThat(delta.todoLists()).isEmpty();
+        assertThat(delta.tasks()).extracting(TaskResponseDTO::title).containsExactly("Editada");
+        assertThat(delta.deleted()).containsExactly(new TombstoneDTO(SyncEntityType.TASK, taskIds.get(1), projectId));
+    }
+
+    @Test
+    void shouldWalkLargeChangeSetsInPagesWithoutGapsOrRepeats() {
+        // Given
+        Set<UUID> seen = new HashSet<>();
+        int itemCount = 0;
+        String token = null;
+        boolean hasMore = true;
+
+        // When
+        int calls = 0;
+        while (hasMore) {
+            SyncResponseDTO page = syncUseCase.changesSince(token, 2);
+            page.projects().forEach(project -> seen.add(project.id()));
+            page.todoLists().forEach(todoList -> seen.add(todoList.id()));
+            page.tasks().forEach(task -> seen.add(task.id()));
+            itemCount += page.projects().size() + page.todoLists().size() + page.tasks().size();
+            token = page.nextToken();
+            hasMore = page.hasMore();
+            calls++;
+        }
+
+        // Then
+        assertThat(calls).isGreaterThan(1);
+        assertThat(itemCount).isEqualTo(5);
+        assertThat(seen).contains(projectId, todoListId).containsAll(taskIds);
+    }
+
+    @Test
+    void shouldDeliverBulkChangeSharingOneStampInOnePage() {
+        // Given
+        SyncResponseDTO initial = syncUseCase.changesSince(null, null);
+        taskUseCase.updateStatusInBulk(todoListId, projectId, new TaskBulkStatusDTO(true, null));
+
+        // When: las tres tareas comparten sello y no caben en una página de dos
+        SyncResponseDTO delta = syncUseCase.changesSince(initial.nextToken(), 2);
+        SyncResponseDTO after = syncUseCase.changesSince(delta.nextToken(), 2);
+
+        // Then
+        assertThat(delta.tasks()).extracting(TaskResponseDTO::id).containsExactlyInAnyOrderElementsOf(taskIds);
+        assertThat(delta.tasks()).allMatch(TaskResponseDTO::completed);
+        assertThat(after.tasks()).isEmpty();
+        assertThat(after.hasMore()).isFalse();
+    }
+
+    @Test
+    void shouldNotMovePastAChangeWhoseTransactionIsStillOpen() {
+        // Given
+        SyncResponseDTO initial = syncUseCase.changesSince(null, null);
+
+        // When: la sincronización llega mientras una transacción larga ya escribió su cambio pero no ha confirmado
+        SyncResponseDTO during = transactionTemplate.execute(status -> {
+            taskUseCase.update(taskIds.get(0), new TaskUpdateDTO("Larga", null, null), todoListId, projectId, null);
+            entityManager.flush();
+            return syncUseCase.changesSince(initial.nextToken(), null);
+        });
+        SyncResponseDTO after = syncUseCase.changesSince(during.nextToken(), null);
+
+        // Then
+        assertThat(during.tasks()).isEmpty();
+        assertThat(after.tasks()).extracting(TaskResponseDTO::title).containsExactly("Larga");
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThatThrownBy(() -> syncUseCase.changesSince("no-es-un-token", null))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
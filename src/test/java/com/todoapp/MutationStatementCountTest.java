@@ -0,0 +1,175 @@
+package com.todoapp;
+
+import com.todoapp.common.OwnershipIndex;
+import com.todoapp.common.UserProvider;
+import com.todoapp.project.dto.ProjectUpdateDTO;
+import com.todoapp.project.port.in.ProjectUseCase;
+import com.todoapp.task.adapter.out.TaskEntity;
+import com.todoapp.task.dto.TaskBulkResultDTO;
+import com.todoapp.task.dto.TaskBulkStatusDTO;
+import com.todoapp.task.dto.TaskStatusUpdateDTO;
+import com.todoapp.task.dto.TaskUpdateDTO;
+import com.todoapp.task.port.in.TaskUseCase;
+import com.todoapp.todolist.dto.TodoListUpdateDTO;
+import com.todoapp.todolist.port.in.TodoListUseCase;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cuenta las sentencias JDBC que emite cada caso de uso de escritura contra H2.
+ * Cada modificación debe quedarse en una lectura con dueño más una escritura,
+ * o en una única sentencia condicional. Sin suscriptores de dominio en el contexto,
+ * el outbox no añade ninguna sentencia.
+ */
+@SpringBootTest(properties = {
+        "JWT_SECRET=unvalorseguro_aaa123@dos",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // Las estadísticas son globales: ni el despachador del outbox ni el purgado deben correr mientras se cuenta
+        "outbox.poll-interval=PT1H",
+        "purge.cron=-"
+})
+class MutationStatementCountTest {
+
+    @Autowired
+    private TaskUseCase taskUseCase;
+
+    @Autowired
+    private TodoListUseCase todoListUseCase;
+
+    @Autowired
+    private ProjectUseCase projectUseCase;
+
+    @Autowired
+    private OwnershipIndex ownershipIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private UserProvider userProvider;
+
+    private Statistics statistics;
+    private UUID projectId;
+    private UUID todoListId;
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        TestData.Workspace workspace = new TestData(entityManager, transactionTemplate).workspace("contador", 1);
+        when(userProvider.getCurrentUserId()).thenReturn(workspace.userId());
+        projectId = workspace.projectId();
+        todoListId = workspace.todoListId();
+        taskId = workspace.taskIds().get(0);
+        ownershipIndex.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void taskUpdateIsOneReadAndOneWrite() {
+        taskUseCase.update(taskId, new TaskUpdateDTO("Nuevo", "Texto", null), todoListId, projectId, null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void taskStatusUpdateIsOneReadAndOneWrite() {
+        taskUseCase.updateStatus(taskId, new TaskStatusUpdateDTO(true), todoListId, projectId, null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void taskDeleteIsOneConditionalStatementPlusTombstone() {
+        taskUseCase.delete(taskId, todoListId, projectId);
+
+        // El UPDATE condicional que la mueve a la papelera y el INSERT de la lápida para la sincronización incremental
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void taskDeleteOfAnotherOwnersTaskChangesNothing() {
+        when(userProvider.getCurrentUserId()).thenReturn(UUID.randomUUID());
+
+        assertThatThrownBy(() -> taskUseCase.delete(taskId, todoListId, projectId))
+                .isInstanceOf(SecurityException.class);
+        TaskEntity task = transactionTemplate.execute(status -> entityManager.find(TaskEntity.class, taskId));
+        assertThat(task).isNotNull();
+    }
+
+    @Test
+    void bulkStatusUpdateIsOneCheckAndOneStatement() {
+        TaskBulkResultDTO result = taskUseCase.updateStatusInBulk(todoListId, projectId, new TaskBulkStatusDTO(true, null));
+
+        assertThat(result.affected()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        TaskEntity task = transactionTemplate.execute(status -> entityManager.find(TaskEntity.class, taskId));
+        assertThat(task.isCompleted()).isTrue();
+        assertThat(task.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void clearCompletedTrashesInOneStatementPlusTombstones() {
+        taskUseCase.updateStatusInBulk(todoListId, projectId, new TaskBulkStatusDTO(true, List.of(taskId)));
+        statistics.clear();
+
+        TaskBulkResultDTO result = taskUseCase.deleteCompleted(todoListId, projectId);
+
+        // Lectura bloqueante de los ids, UPDATE de deleted_at y lote de lápidas; la pertenencia ya está en el índice
+        assertThat(result.affected()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        TaskEntity task = transactionTemplate.execute(status -> entityManager.find(TaskEntity.class, taskId));
+        assertThat(task).isNull();
+    }
+
+    @Test
+    void todoListUpdateIsOneReadAndOneWrite() {
+        todoListUseCase.update(todoListId, new TodoListUpdateDTO("Renombrada", projectId), null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void projectUpdateIsOneReadAndOneWrite() {
+        projectUseCase.update(projectId, new ProjectUpdateDTO("Renombrado", null), null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void projectDeleteHidesTheRowWithoutLoadingItsContent() {
+        projectUseCase.delete(projectId);
+
+        // Lectura con dueño, UPDATE de deleted_at, trabajo de purgado y lápida
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        TaskEntity task = transactionTemplate.execute(status -> entityManager.find(TaskEntity.class, taskId));
+        assertThat(task).isNotNull();
+    }
+}
@@ -0,0 +1,110 @@
+package com.todoapp;
+
+import com.todoapp.common.UserProvider;
+import com.todoapp.common.exception.PreconditionFailedException;
+import com.todoapp.task.adapter.out.TaskEntity;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.task.dto.TaskStatusUpdateDTO;
+import com.todoapp.task.dto.TaskUpdateDTO;
+import com.todoapp.task.port.in.TaskUseCase;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Control optimista de concurrencia contra H2: las versiones que ve el cliente,
+ * los If-Match obsoletos y las carreras entre transacciones sin If-Match.
+ */
+@SpringBootTest(properties = "JWT_SECRET=unvalorseguro_aaa123@dos")
+class OptimisticConcurrencyTest {
+
+    @Autowired
+    private TaskUseCase taskUseCase;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private UserProvider userProvider;
+
+    private UUID projectId;
+    private UUID todoListId;
+    private UUID firstTaskId;
+    private UUID secondTaskId;
+
+    @BeforeEach
+    void setUp() {
+        TestData.Workspace workspace = new TestData(entityManager, transactionTemplate).workspace("version", 2);
+        when(userProvider.getCurrentUserId()).thenReturn(workspace.userId());
+        projectId = workspace.projectId();
+        todoListId = workspace.todoListId();
+        firstTaskId = workspace.taskIds().get(0);
+        secondTaskId = workspace.taskIds().get(1);
+    }
+
+    @Test
+    void shouldReturnNewVersionAndRejectStaleIfMatch() {
+        // Given
+        TaskResponseDTO updated = taskUseCase.update(firstTaskId, new TaskUpdateDTO("Editada", null, null),
+                todoListId, projectId, 0L);
+
+        // When / Then
+        assertThat(updated.version()).isEqualTo(1);
+        assertThatThrownBy(() -> taskUseCase.updateStatus(firstTaskId, new TaskStatusUpdateDTO(true),
+                todoListId, projectId, 0L))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(taskUseCase.updateStatus(firstTaskId, new TaskStatusUpdateDTO(true), todoListId, projectId, 1L)
+                .version()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDetectConcurrentWriterWithoutIfMatch() {
+        // Given: una transacción lee la tarea y otra la modifica antes de que la primera escriba
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // When / Then
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            TaskEntity stale = entityManager.find(TaskEntity.class, firstTaskId);
+            concurrent.executeWithoutResult(inner -> taskUseCase.update(firstTaskId,
+                    new TaskUpdateDTO("Gana", null, null), todoListId, projectId, null));
+            stale.setTitle("Pierde");
+        }))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        String title = transactionTemplate.execute(status -> entityManager.find(TaskEntity.class, firstTaskId).getTitle());
+        assertThat(title).isEqualTo("Gana");
+    }
+
+    @Test
+    void shouldVersionOrderOnTheListNotOnTheTasks() {
+        // Given
+        List<String> newOrder = List.of(secondTaskId.toString(), firstTaskId.toString());
+        taskUseCase.reorderTasks(projectId, todoListId, newOrder, 0L);
+
+        // When / Then: la lista avanza de versión, las tareas recolocadas no
+        assertThatThrownBy(() -> taskUseCase.reorderTasks(projectId, todoListId, newOrder, 0L))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(taskUseCase.reorderTasks(projectId, todoListId, List.of(firstTaskId.toString()), 1L)).hasSize(1);
+        assertThat(taskUseCase.update(secondTaskId, new TaskUpdateDTO("Sin conflicto", null, null),
+                todoListId, projectId, 0L).version()).isEqualTo(1);
+    }
+}
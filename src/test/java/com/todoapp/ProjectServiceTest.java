@@ -1,18 +1,26 @@
 package com.todoapp;
 
+import com.todoapp.common.OwnershipIndex;
 import com.todoapp.common.OwnershipValidator;
 import com.todoapp.common.UserProvider;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.common.pagination.PageLimits;
 import com.todoapp.common.exception.OwnershipException;
+import com.todoapp.outbox.port.out.DomainEventOutbox;
+import com.todoapp.event.port.out.ProjectEventPublisher;
 import com.todoapp.project.application.ProjectService;
 import com.todoapp.project.application.mapper.ProjectMapper;
 import com.todoapp.project.domain.Project;
 import com.todoapp.project.dto.ProjectResponseDTO;
 import com.todoapp.project.dto.ProjectUpdateDTO;
 import com.todoapp.project.port.out.ProjectRepository;
+import com.todoapp.purge.port.out.PurgeJobRepository;
+import com.todoapp.sync.port.out.TombstoneRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.mockito.Mockito.doThrow;
 
@@ -34,9 +42,25 @@ public class ProjectServiceTest {
     private OwnershipValidator ownershipValidator;
     @Mock
     private UserProvider userProvider;
+    @Mock
+    private OwnershipIndex ownershipIndex;
+    @Mock
+    private ResourceVersions resourceVersions;
+    @Mock
+    private TombstoneRepository tombstones;
+    @Mock
+    private DomainEventOutbox outbox;
+    @Mock
+    private PurgeJobRepository purgeJobs;
+    @Mock
+    private ProjectEventPublisher events;
+    @Spy
+    private PageLimits pageLimits = new PageLimits(100, 500);
     @InjectMocks
     private ProjectService service;
 
+    private final UUID userId = UUID.randomUUID();
+
     @Test
     public void shouldReturnProjectWhenUserOwnsIt() {
         UUID projectId = UUID.randomUUID();
@@ -46,29 +70,32 @@ public class ProjectServiceTest {
                 "Test Project",
                 "Description",
                 null,
-                null
+                null, 0
         );
 
-        when(repository.findById(projectId)).thenReturn(project);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(repository.findByIdAndUserId(projectId, userId)).thenReturn(project);
         when(mapper.toResponseDTO(project)).thenReturn(expectedResponse);
-        doNothing().when(ownershipValidator).validateProjectOwnership(projectId);
 
         ProjectResponseDTO result = service.getById(projectId);
 
         assertEquals(expectedResponse, result);
-        verify(ownershipValidator).validateProjectOwnership(projectId);
+        verify(ownershipValidator, never()).validateProjectOwnership(projectId);
     }
 
     @Test
     void shouldThrowWhenProjectNotFound() {
         UUID projectId = UUID.randomUUID();
 
-        when(repository.findById(projectId)).thenThrow(new NoSuchElementException("Proyecto no existe"));
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(repository.findByIdAndUserId(projectId, userId)).thenReturn(null);
+        doThrow(new NoSuchElementException("Proyecto no existe"))
+                .when(ownershipValidator).validateProjectOwnership(projectId);
 
         assertThrows(NoSuchElementException.class, () -> {
             service.getById(projectId);
         });
-        verify(repository).findById(projectId);
+        verify(repository).findByIdAndUserId(projectId, userId);
     }
 
     @Test
@@ -81,7 +108,8 @@ public class ProjectServiceTest {
                         UUID.randomUUID(),
                         null
                 );
-        when(repository.findById(projectId)).thenReturn(project); //simula que el encont el proyecto
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(repository.findByIdAndUserId(projectId, userId)).thenReturn(null); //el proyecto no es del usuario
 
 
         doThrow(new OwnershipException("No autorizado")) //si el user no es el dueño del proyect
@@ -101,16 +129,16 @@ public class ProjectServiceTest {
         ProjectUpdateDTO updateDTO = new ProjectUpdateDTO("New Name", null);
 
         Project updated = new Project(projectId, "New Name", "Old Desc", existing.getUserId(), null);
-        ProjectResponseDTO expected = new ProjectResponseDTO(projectId, "New Name", "Old Desc", null, null);
+        ProjectResponseDTO expected = new ProjectResponseDTO(projectId, "New Name", "Old Desc", null, null, 0);
 
-        when(repository.findById(projectId)).thenReturn(existing);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(repository.findByIdAndUserId(projectId, userId)).thenReturn(existing);
         when(repository.save(existing)).thenReturn(updated);
         when(mapper.toResponseDTO(updated)).thenReturn(expected);
 
-        ProjectResponseDTO result = service.update(projectId, updateDTO);
+        ProjectResponseDTO result = service.update(projectId, updateDTO, null);
 
         assertEquals(expected, result);
-        verify(ownershipValidator).validateProjectOwnership(projectId);
         verify(repository).save(existing);
     }
     @Test
@@ -118,13 +146,12 @@ public class ProjectServiceTest {
         UUID projectId = UUID.randomUUID();
         Project project = new Project(projectId, "ToDelete", "Desc", UUID.randomUUID(), null);
 
-        when(repository.findById(projectId)).thenReturn(project);
-        doNothing().when(ownershipValidator).validateProjectOwnership(projectId);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(repository.findByIdAndUserId(projectId, userId)).thenReturn(project);
         doNothing().when(repository).delete(projectId);
 
         service.delete(projectId);
 
-        verify(ownershipValidator).validateProjectOwnership(projectId);
         verify(repository).delete(projectId);
     }
 
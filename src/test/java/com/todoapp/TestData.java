@@ -0,0 +1,83 @@
+package com.todoapp;
+
+import com.todoapp.project.adapter.out.ProjectEntity;
+import com.todoapp.task.adapter.out.TaskEntity;
+import com.todoapp.task.domain.TaskPositions;
+import com.todoapp.todolist.adapter.out.TodoListEntity;
+import com.todoapp.user.adapter.out.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Datos de prueba persistidos en la base compartida de los tests de integración.
+ * Usuarios con un sufijo aleatorio para no chocar con los de otras clases; tareas
+ * "Tarea 1".."Tarea n" en las posiciones GAP..n * GAP. Los métodos sueltos se llaman
+ * dentro de la transacción del test; {@link #workspace} abre la suya.
+ */
+public final class TestData {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+    public TestData(EntityManager entityManager, TransactionTemplate transactionTemplate) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /** Usuario con un proyecto, una lista y tasks tareas. */
+    public Workspace workspace(String username, int tasks) {
+        return transactionTemplate.execute(status -> {
+            UserEntity owner = user(username);
+            ProjectEntity project = project(owner, "Proyecto");
+            TodoListEntity todoList = todoList(project);
+            List<UUID> taskIds = tasks(todoList, tasks).stream().map(TaskEntity::getId).toList();
+            return new Workspace(owner.getId(), project.getId(), todoList.getId(), taskIds);
+        });
+    }
+
+    public UserEntity user(String username) {
+        UserEntity user = new UserEntity(username + suffix, username, username + suffix + "@test.com", "secreto");
+        entityManager.persist(user);
+        return user;
+    }
+
+    public ProjectEntity project(UserEntity owner, String name) {
+        ProjectEntity project = new ProjectEntity(null, name, null, owner);
+        entityManager.persist(project);
+        return project;
+    }
+
+    public TodoListEntity todoList(ProjectEntity project) {
+        TodoListEntity todoList = new TodoListEntity(null, "Lista", project, new ArrayList<>());
+        entityManager.persist(todoList);
+        return todoList;
+    }
+
+    /** Tareas pendientes y sin descripción. */
+    public List<TaskEntity> tasks(TodoListEntity todoList, int count) {
+        return tasks(todoList, count, (task, i) -> { });
+    }
+
+    /** Como {@link #tasks(TodoListEntity, int)}, con adjust(tarea, i) antes de persistir cada una. */
+    public List<TaskEntity> tasks(TodoListEntity todoList, int count, ObjIntConsumer<TaskEntity> adjust) {
+        List<TaskEntity> tasks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            TaskEntity task = new TaskEntity(todoList, null, false, null, "Tarea " + i, null);
+            task.setProjectId(todoList.getProject().getId());
+            task.setPosition(i * TaskPositions.GAP);
+            adjust.accept(task, i);
+            entityManager.persist(task);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    public record Workspace(UUID userId, UUID projectId, UUID todoListId, List<UUID> taskIds) {
+    }
+}
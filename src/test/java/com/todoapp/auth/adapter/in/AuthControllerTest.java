@@ -81,7 +81,7 @@ class AuthControllerTest {
         // En un test de integración real, con usuario y token válido, la respuesta sería 200 (OK).
         UUID userId = UUID.randomUUID();
         UserMeResponseDTO userMe = new UserMeResponseDTO(userId, "testuser", "Test Name", "test@email.com");
-        Mockito.when(userContextUseCase.getCurrentUserInfo("Bearer token123")).thenReturn(userMe);
+        Mockito.when(userContextUseCase.getCurrentUserInfo()).thenReturn(userMe);
 
         mockMvc.perform(get("/api/auth/me")
                 .header("Authorization", "Bearer token123"))
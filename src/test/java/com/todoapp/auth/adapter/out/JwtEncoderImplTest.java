@@ -1,10 +1,13 @@
 package com.todoapp.auth.adapter.out;
 
+import com.todoapp.auth.domain.TokenClaims;
 import com.todoapp.user.domain.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -39,4 +42,24 @@ class JwtEncoderImplTest {
     void shouldReturnFalseForInvalidToken() {
         assertThat(jwtEncoder.validateToken("invalid.token.here")).isFalse();
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldVerifyTokenAndExposeClaims() {
+        UUID id = UUID.randomUUID();
+        User user = new User(id, "user", "name", "mail", "pass");
+        String token = jwtEncoder.generateToken(user);
+
+        Optional<TokenClaims> claims = jwtEncoder.verify(token);
+
+        assertThat(claims).isPresent();
+        assertThat(claims.get().email()).isEqualTo("mail");
+        assertThat(claims.get().userId()).isEqualTo(id);
+        assertThat(claims.get().username()).isEqualTo("user");
+        assertThat(claims.get().expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenVerifyingInvalidToken() {
+        assertThat(jwtEncoder.verify("invalid.token.here")).isEmpty();
+    }
+}
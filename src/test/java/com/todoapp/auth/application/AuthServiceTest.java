@@ -4,6 +4,8 @@ import com.todoapp.auth.dto.AuthResponseDTO;
 import com.todoapp.auth.dto.LoginRequestDTO;
 import com.todoapp.auth.port.out.JwtEncoder;
 import com.todoapp.auth.port.out.UserCredentialsPort;
+import com.todoapp.auth.dto.UserMeResponseDTO;
+import com.todoapp.common.UserProvider;
 import com.todoapp.user.domain.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,11 +32,14 @@ class AuthServiceTest {
     @Mock
     PasswordEncoder encoder;
 
+    @Mock
+    UserProvider userProvider;
+
     AuthService service;
 
     @BeforeEach
     void setUp() {
-        service = new AuthService(credentials, jwtEncoder, encoder);
+        service = new AuthService(credentials, jwtEncoder, encoder, userProvider);
     }
 
     @Test
@@ -62,4 +67,16 @@ class AuthServiceTest {
         assertThatThrownBy(() -> service.login(request))
                 .isInstanceOf(BadCredentialsException.class);
     }
+
+    @Test
+    void shouldReturnCurrentUserInfoFromUserProvider() {
+        UUID id = UUID.randomUUID();
+        User user = new User(id, "user", "name", "mail", "hashed");
+        when(userProvider.getCurrentUser()).thenReturn(user);
+
+        UserMeResponseDTO response = service.getCurrentUserInfo();
+
+        assertThat(response).isEqualTo(new UserMeResponseDTO(id, "user", "name", "mail"));
+        verifyNoInteractions(jwtEncoder, credentials);
+    }
 }
@@ -0,0 +1,97 @@
+package com.todoapp.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OwnershipIndexTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID todoListId = UUID.randomUUID();
+
+    @Test
+    void shouldResolveFullChainForRegisteredTodoList() {
+        // Given
+        OwnershipIndex index = new OwnershipIndex(1000);
+
+        // When
+        index.registerTodoList(todoListId, projectId, userId);
+
+        // Then
+        assertThat(index.isTodoListOwnedBy(todoListId, projectId, userId)).isTrue();
+        assertThat(index.isProjectOwnedBy(projectId, userId)).isTrue();
+        assertThat(index.isTodoListOwnedBy(todoListId, projectId, UUID.randomUUID())).isFalse();
+        assertThat(index.isTodoListOwnedBy(todoListId, UUID.randomUUID(), userId)).isFalse();
+    }
+
+    @Test
+    void shouldBreakChainWhenParentIsRemoved() {
+        // Given
+        OwnershipIndex index = new OwnershipIndex(1000);
+        index.registerTodoList(todoListId, projectId, userId);
+
+        // When
+        index.removeProject(projectId);
+
+        // Then
+        assertThat(index.isTodoListOwnedBy(todoListId, projectId, userId)).isFalse();
+        assertThat(index.isProjectOwnedBy(projectId, userId)).isFalse();
+    }
+
+    @Test
+    void shouldDropEverythingWhenCapacityIsReached() {
+        // Given
+        OwnershipIndex index = new OwnershipIndex(3);
+        index.registerTodoList(todoListId, projectId, userId);
+
+        // When
+        index.registerTodoList(UUID.randomUUID(), UUID.randomUUID(), userId);
+
+        // Then
+        assertThat(index.isTodoListOwnedBy(todoListId, projectId, userId)).isFalse();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRegisterOnlyAfterCommit() {
+        // Given
+        OwnershipIndex index = new OwnershipIndex(1000);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When: una transacción que se deshace no deja aristas
+            index.registerTodoList(todoListId, projectId, userId);
+            assertThat(index.isTodoListOwnedBy(todoListId, projectId, userId)).isFalse();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(index.isTodoListOwnedBy(todoListId, projectId, userId)).isFalse();
+    }
+
+    @Test
+    void shouldNotResurrectEdgeRemovedLaterInTheSameTransaction() {
+        // Given
+        OwnershipIndex index = new OwnershipIndex(1000);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            index.registerTodoList(todoListId, projectId, userId);
+            index.removeTodoList(todoListId);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(index.isTodoListOwnedBy(todoListId, projectId, userId)).isFalse();
+        assertThat(index.isProjectOwnedBy(projectId, userId)).isTrue();
+    }
+}
@@ -0,0 +1,126 @@
+package com.todoapp.common;
+
+import com.todoapp.project.domain.Project;
+import com.todoapp.project.port.out.ProjectRepository;
+import com.todoapp.todolist.domain.TodoList;
+import com.todoapp.todolist.port.out.TodoListRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OwnershipValidatorTest {
+
+    @Mock
+    private UserProvider userProvider;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TodoListRepository todoListRepository;
+
+    private OwnershipIndex ownershipIndex;
+
+    private OwnershipValidator validator;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID todoListId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ownershipIndex = new OwnershipIndex(1000);
+        validator = new OwnershipValidator(userProvider, projectRepository, todoListRepository, ownershipIndex);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+    }
+
+    @Test
+    void shouldValidateTodoListOwnershipWithSingleQuery() {
+        when(todoListRepository.existsByIdAndProjectIdAndUserId(todoListId, projectId, userId)).thenReturn(true);
+
+        validator.validateTodoListOwnership(todoListId, projectId);
+
+        verifyNoInteractions(projectRepository);
+        verify(todoListRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldAnswerRepeatedTodoListChecksFromIndex() {
+        when(todoListRepository.existsByIdAndProjectIdAndUserId(todoListId, projectId, userId)).thenReturn(true);
+
+        validator.validateTodoListOwnership(todoListId, projectId);
+        validator.validateTodoListOwnership(todoListId, projectId);
+        validator.validateProjectOwnership(projectId);
+
+        verify(todoListRepository, times(1)).existsByIdAndProjectIdAndUserId(todoListId, projectId, userId);
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void shouldNotTrustIndexForAnotherUser() {
+        ownershipIndex.registerTodoList(todoListId, projectId, UUID.randomUUID());
+        when(todoListRepository.existsByIdAndProjectIdAndUserId(todoListId, projectId, userId)).thenReturn(false);
+        when(projectRepository.findById(projectId)).thenReturn(new Project(projectId, "P", "D", UUID.randomUUID(), null));
+        when(todoListRepository.findById(todoListId)).thenReturn(new TodoList(todoListId, "L", projectId));
+
+        assertThatThrownBy(() -> validator.validateTodoListOwnership(todoListId, projectId))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void shouldRejectTodoListFromAnotherProject() {
+        when(todoListRepository.existsByIdAndProjectIdAndUserId(todoListId, projectId, userId)).thenReturn(false);
+        when(projectRepository.findById(projectId)).thenReturn(new Project(projectId, "P", "D", userId, null));
+        when(todoListRepository.findById(todoListId)).thenReturn(new TodoList(todoListId, "L", UUID.randomUUID()));
+
+        assertThatThrownBy(() -> validator.validateTodoListOwnership(todoListId, projectId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("El TodoList no pertenece al proyecto especificado");
+    }
+
+    @Test
+    void shouldRejectTodoListOfAnotherUser() {
+        when(todoListRepository.existsByIdAndProjectIdAndUserId(todoListId, projectId, userId)).thenReturn(false);
+        when(projectRepository.findById(projectId)).thenReturn(new Project(projectId, "P", "D", UUID.randomUUID(), null));
+        when(todoListRepository.findById(todoListId)).thenReturn(new TodoList(todoListId, "L", projectId));
+
+        assertThatThrownBy(() -> validator.validateTodoListOwnership(todoListId, projectId))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void shouldValidateProjectOwnershipWithSingleQuery() {
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+
+        validator.validateProjectOwnership(projectId);
+
+        verify(projectRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldReportMissingProject() {
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(false);
+        when(projectRepository.findById(projectId)).thenThrow(new NoSuchElementException("Proyecto no encontrado con id: " + projectId));
+
+        assertThatThrownBy(() -> validator.validateProjectOwnership(projectId))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void shouldRejectProjectOfAnotherUser() {
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(false);
+        when(projectRepository.findById(projectId)).thenReturn(new Project(projectId, "P", "D", UUID.randomUUID(), null));
+
+        assertThatThrownBy(() -> validator.validateProjectOwnership(projectId))
+                .isInstanceOf(SecurityException.class);
+    }
+}
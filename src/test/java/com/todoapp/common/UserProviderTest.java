@@ -0,0 +1,77 @@
+package com.todoapp.common;
+
+import com.todoapp.auth.port.out.UserCredentialsPort;
+import com.todoapp.user.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserProviderTest {
+
+    @Mock
+    private UserCredentialsPort credentials;
+
+    private UserProvider userProvider;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        userProvider = new UserProvider(credentials);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken("test@email.com", null, Collections.emptyList());
+        authentication.setDetails(Map.of("userId", userId, "email", "test@email.com"));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldResolveUserIdWithoutLoadingUser() {
+        assertThat(userProvider.getCurrentUserId()).isEqualTo(userId);
+        verifyNoInteractions(credentials);
+    }
+
+    @Test
+    void shouldLoadCurrentUserOncePerRequest() {
+        User user = new User(userId, "testuser", "Test User", "test@email.com", "hashed");
+        when(credentials.findByEmail("test@email.com")).thenReturn(user);
+
+        User first = userProvider.getCurrentUser();
+        User second = userProvider.getCurrentUser();
+
+        assertThat(first).isSameAs(user);
+        assertThat(second).isSameAs(user);
+        verify(credentials, times(1)).findByEmail("test@email.com");
+    }
+
+    @Test
+    void shouldThrowWhenNoUserIsAuthenticated() {
+        SecurityContextHolder.clearContext();
+
+        assertThatThrownBy(() -> userProvider.getCurrentUserId())
+                .isInstanceOf(AuthenticationCredentialsNotFoundException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package com.todoapp.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UuidToUuidMapTest {
+
+    @Test
+    void shouldStoreAndReplaceMappings() {
+        // Given
+        UuidToUuidMap map = new UuidToUuidMap();
+        UUID key = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        // When
+        map.put(key, first);
+        map.put(key, second);
+
+        // Then
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.get(key)).isEqualTo(second);
+        assertThat(map.containsMapping(key, second)).isTrue();
+        assertThat(map.containsMapping(key, first)).isFalse();
+        assertThat(map.get(UUID.randomUUID())).isNull();
+    }
+
+    @Test
+    void shouldBehaveLikeHashMapAcrossGrowthAndRemovals() {
+        // Given
+        UuidToUuidMap map = new UuidToUuidMap();
+        Map<UUID, UUID> reference = new HashMap<>();
+        List<UUID> keys = new ArrayList<>();
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            UUID key = UUID.randomUUID();
+            UUID value = UUID.randomUUID();
+            keys.add(key);
+            map.put(key, value);
+            reference.put(key, value);
+            if (random.nextInt(3) == 0) {
+                UUID removed = keys.get(random.nextInt(keys.size()));
+                assertThat(map.remove(removed)).isEqualTo(reference.remove(removed) != null);
+            }
+        }
+
+        // Then
+        assertThat(map.size()).isEqualTo(reference.size());
+        for (UUID key : keys) {
+            assertThat(map.get(key)).isEqualTo(reference.get(key));
+        }
+    }
+
+    @Test
+    void shouldRejectNilUuidAsKey() {
+        UuidToUuidMap map = new UuidToUuidMap();
+
+        assertThatThrownBy(() -> map.put(new UUID(0, 0), UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldEmptyOnClear() {
+        // Given
+        UuidToUuidMap map = new UuidToUuidMap();
+        UUID key = UUID.randomUUID();
+        map.put(key, UUID.randomUUID());
+
+        // When
+        map.clear();
+
+        // Then
+        assertThat(map.size()).isZero();
+        assertThat(map.get(key)).isNull();
+    }
+}
@@ -0,0 +1,68 @@
+package com.todoapp.common.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResourceVersionsTest {
+
+    private final String project = ResourceVersions.project(UUID.randomUUID());
+    private final String todoList = ResourceVersions.todoList(UUID.randomUUID());
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldKeepVersionUntilAnyResourceIsTouched() {
+        // Given
+        ResourceVersions versions = new ResourceVersions(1000);
+        long initial = versions.current(project, todoList);
+
+        // When
+        long unchanged = versions.current(project, todoList);
+        versions.touch(project);
+
+        // Then
+        assertThat(unchanged).isEqualTo(initial);
+        assertThat(versions.current(project, todoList)).isGreaterThan(initial);
+    }
+
+    @Test
+    void shouldBumpOnlyAfterCommit() {
+        // Given
+        ResourceVersions versions = new ResourceVersions(1000);
+        long initial = versions.current(todoList);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        versions.touch(todoList);
+
+        // Then
+        assertThat(versions.current(todoList)).isEqualTo(initial);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(versions.current(todoList)).isGreaterThan(initial);
+    }
+
+    @Test
+    void shouldIssueFreshVersionsAfterForgettingEverything() {
+        // Given
+        ResourceVersions versions = new ResourceVersions(2);
+        long initial = versions.current(todoList);
+
+        // When
+        versions.current(project);
+        versions.current(ResourceVersions.todoList(UUID.randomUUID()));
+
+        // Then
+        assertThat(versions.current(todoList)).isGreaterThan(initial);
+    }
+}
@@ -0,0 +1,73 @@
+package com.todoapp.common.id;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compara el ritmo de INSERT en una tabla con clave primaria uuid usando ids v4 aleatorios
+ * frente a ids v7 ordenados en el tiempo. Corre sobre H2 en memoria, así que solo sirve
+ * como referencia relativa; se ejecuta con mvn test -Pbenchmark.
+ */
+@Tag("benchmark")
+class UuidInsertBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(UuidInsertBenchmarkTest.class);
+
+    private static final int ROWS = 200_000;
+    private static final int BATCH_SIZE = 50;
+    // Margen para el ruido de una sola medición en la máquina de integración
+    private static final double TOLERANCE = 1.25;
+
+    @Test
+    void compareRandomAndTimeOrderedInsertThroughput() throws SQLException {
+        // Calentamiento de JIT y driver
+        insertRows("warmup", UUID::randomUUID, ROWS / 4);
+        insertRows("warmup", UuidV7::generate, ROWS / 4);
+
+        long randomNanos = insertRows("random_v4", UUID::randomUUID, ROWS);
+        long orderedNanos = insertRows("ordered_v7", UuidV7::generate, ROWS);
+
+        log.info("UUIDv4: {} filas/s", rowsPerSecond(randomNanos));
+        log.info("UUIDv7: {} filas/s", rowsPerSecond(orderedNanos));
+        // Los ids ordenados insertan siempre al final del índice: nunca deberían ir claramente por detrás
+        assertThat(orderedNanos).isLessThanOrEqualTo((long) (randomNanos * TOLERANCE));
+    }
+
+    private static long insertRows(String name, Supplier<UUID> ids, int rows) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + name + System.nanoTime())) {
+            try (Statement ddl = connection.createStatement()) {
+                ddl.execute("create table tasks (id uuid primary key, title varchar(255) not null)");
+            }
+            connection.setAutoCommit(false);
+            long start = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement("insert into tasks (id, title) values (?, ?)")) {
+                for (int i = 0; i < rows; i++) {
+                    insert.setObject(1, ids.get());
+                    insert.setString(2, "Tarea " + i);
+                    insert.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+            return System.nanoTime() - start;
+        }
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return ROWS * 1_000_000_000L / nanos;
+    }
+}
@@ -0,0 +1,48 @@
+package com.todoapp.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void shouldProduceVersion7WithRfcVariant() {
+        // When
+        UUID uuid = UuidV7.generate();
+
+        // Then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEncodeCurrentTimestamp() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID uuid = UuidV7.generate();
+
+        // Then
+        assertThat(UuidV7.timestamp(uuid)).isBetween(before, System.currentTimeMillis() + 1000);
+    }
+
+    @Test
+    void shouldBeStrictlyIncreasingWithinProcess() {
+        // Given
+        UUID previous = UuidV7.generate();
+
+        for (int i = 0; i < 100_000; i++) {
+            // When
+            UUID next = UuidV7.generate();
+
+            // Then
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = next;
+        }
+    }
+}
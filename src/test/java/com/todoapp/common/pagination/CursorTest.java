@@ -0,0 +1,83 @@
+package com.todoapp.common.pagination;
+
+import com.todoapp.common.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CursorTest {
+
+    @Test
+    void shouldRoundTripThroughOpaqueToken() {
+        // Given
+        Cursor cursor = new Cursor(-2048, UUID.randomUUID());
+
+        // When
+        String token = cursor.encode();
+
+        // Then
+        assertThat(token).doesNotContain(cursor.id().toString());
+        assertThat(Cursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldPreserveDateTimeKeys() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 17, 10, 30, 15, 123_456_000);
+
+        // When
+        Cursor cursor = Cursor.decode(Cursor.of(createdAt, UUID.randomUUID()).encode());
+
+        // Then
+        assertThat(cursor.keyAsDateTime()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void shouldTreatMissingTokenAsFirstPage() {
+        assertThat(Cursor.decode(null)).isNull();
+        assertThat(Cursor.decode("")).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThatThrownBy(() -> Cursor.decode("no-es-un-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> Cursor.decode("%%%"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void shouldTrimExtraRowAndPointCursorAtLastItem() {
+        // Given
+        List<Integer> fetched = List.of(1, 2, 3);
+
+        // When
+        CursorPage<String> page = CursorPage.of(fetched, 2, String::valueOf, i -> new Cursor(i, new UUID(0, i)));
+
+        // Then
+        assertThat(page.items()).containsExactly("1", "2");
+        assertThat(Cursor.decode(page.nextCursor()).key()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldClampRequestedPageSize() {
+        PageLimits limits = new PageLimits(100, 500);
+
+        assertThat(limits.resolve(null)).isEqualTo(100);
+        assertThat(limits.resolve(0)).isEqualTo(1);
+        assertThat(limits.resolve(10_000)).isEqualTo(500);
+    }
+
+    @Test
+    void shouldKeepCollectionsUnboundedUnlessPagingIsRequested() {
+        PageLimits limits = new PageLimits(100, 500);
+
+        assertThat(limits.resolve(null, null)).isEqualTo(PageLimits.UNBOUNDED);
+        assertThat(limits.resolve(null, 10)).isEqualTo(10);
+        assertThat(limits.resolve(new Cursor(1, UUID.randomUUID()).encode(), null)).isEqualTo(100);
+    }
+}
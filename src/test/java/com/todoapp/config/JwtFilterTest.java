@@ -0,0 +1,133 @@
+package com.todoapp.config;
+
+import com.todoapp.auth.domain.TokenClaims;
+import com.todoapp.auth.port.out.JwtEncoder;
+import com.todoapp.user.adapter.out.UserEntity;
+import com.todoapp.user.adapter.out.UserExistenceCache;
+import com.todoapp.user.adapter.out.UserJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtFilterTest {
+
+    @Mock
+    private JwtEncoder jwtEncoder;
+
+    @Mock
+    private UserJpaRepository userRepo;
+
+    @Mock
+    private UserExistenceCache userExistenceCache;
+
+    private final UUID userId = UUID.randomUUID();
+    private final TokenClaims claims = new TokenClaims("test@email.com", userId, "testuser", Instant.now().plusSeconds(3600));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest requestWithToken() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", "Bearer token123");
+        return request;
+    }
+
+    @Test
+    void shouldBuildPrincipalFromClaimsWithoutUserQuery() throws Exception {
+        JwtFilter filter = new JwtFilter(jwtEncoder, userRepo, new VerifiedTokenCache(10), userExistenceCache, true, Set.of());
+        when(jwtEncoder.verify("token123")).thenReturn(Optional.of(claims));
+        when(userExistenceCache.isActive(userId, "test@email.com")).thenReturn(true);
+
+        filter.doFilter(requestWithToken(), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("test@email.com");
+        assertThat(((Map<?, ?>) authentication.getDetails()).get("userId")).isEqualTo(userId);
+        assertThat(authentication.getAuthorities()).isEmpty();
+        verify(userRepo, never()).findByEmail(any());
+    }
+
+    @Test
+    void shouldGrantAdminRoleOnlyToConfiguredEmails() throws Exception {
+        JwtFilter filter = new JwtFilter(jwtEncoder, userRepo, new VerifiedTokenCache(10), userExistenceCache, true,
+                Set.of("test@email.com"));
+        when(jwtEncoder.verify("token123")).thenReturn(Optional.of(claims));
+        when(userExistenceCache.isActive(userId, "test@email.com")).thenReturn(true);
+
+        filter.doFilter(requestWithToken(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(GrantedAuthority::getAuthority).containsExactly(SecurityConfig.ADMIN_AUTHORITY);
+    }
+
+    @Test
+    void shouldNotAuthenticateWhenUserNoLongerExists() throws Exception {
+        JwtFilter filter = new JwtFilter(jwtEncoder, userRepo, new VerifiedTokenCache(10), userExistenceCache, true, Set.of());
+        when(jwtEncoder.verify("token123")).thenReturn(Optional.of(claims));
+        when(userExistenceCache.isActive(userId, "test@email.com")).thenReturn(false);
+
+        filter.doFilter(requestWithToken(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void shouldLookUpUserWhenClaimsPrincipalIsDisabled() throws Exception {
+        JwtFilter filter = new JwtFilter(jwtEncoder, userRepo, new VerifiedTokenCache(10), userExistenceCache, false, Set.of());
+        UserEntity entity = new UserEntity("testuser", "Test User", "test@email.com", "hashed");
+        entity.setId(userId);
+        when(jwtEncoder.verify("token123")).thenReturn(Optional.of(claims));
+        when(userRepo.findByEmail("test@email.com")).thenReturn(Optional.of(entity));
+
+        filter.doFilter(requestWithToken(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        verifyNoInteractions(userExistenceCache);
+    }
+
+    @Test
+    void shouldVerifyTokenOnlyOnceForRepeatedRequests() throws Exception {
+        JwtFilter filter = new JwtFilter(jwtEncoder, userRepo, new VerifiedTokenCache(10), userExistenceCache, true, Set.of());
+        when(jwtEncoder.verify("token123")).thenReturn(Optional.of(claims));
+        when(userExistenceCache.isActive(userId, "test@email.com")).thenReturn(true);
+
+        filter.doFilter(requestWithToken(), new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        filter.doFilter(requestWithToken(), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(jwtEncoder, times(1)).verify("token123");
+    }
+
+    @Test
+    void shouldRejectRequestWithoutBearerToken() throws Exception {
+        JwtFilter filter = new JwtFilter(jwtEncoder, userRepo, new VerifiedTokenCache(10), userExistenceCache, true, Set.of());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        verifyNoInteractions(jwtEncoder);
+    }
+}
@@ -0,0 +1,238 @@
+package com.todoapp.config;
+
+import com.todoapp.outbox.adapter.out.OutboxJpaRepository;
+import com.todoapp.project.adapter.out.ProjectJpaRepository;
+import com.todoapp.purge.adapter.out.PurgeJobJpaRepository;
+import com.todoapp.purge.domain.PurgeJobStatus;
+import com.todoapp.purge.domain.PurgeTarget;
+import com.todoapp.purge.port.out.PurgeRepository;
+import com.todoapp.sync.adapter.out.SyncJpaRepository;
+import com.todoapp.sync.domain.SyncEntityType;
+import com.todoapp.task.adapter.out.TaskJpaRepository;
+import com.todoapp.todolist.adapter.out.TodoListJpaRepository;
+import com.todoapp.trash.port.out.TrashRepository;
+import com.todoapp.user.adapter.out.UserJpaRepository;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Ejecuta cada consulta de los repositorios JPA sobre el esquema de las migraciones,
+ * captura el SQL que genera Hibernate y comprueba con EXPLAIN de H2 que ninguna tabla
+ * se recorre entera.
+ */
+@SpringBootTest(properties = {
+        "JWT_SECRET=unvalorseguro_aaa123@dos",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.todoapp.config.SchemaIndexUsageTest$RecordingInspector"
+})
+class SchemaIndexUsageTest {
+
+    @Autowired
+    private TaskJpaRepository tasks;
+
+    @Autowired
+    private TodoListJpaRepository todoLists;
+
+    @Autowired
+    private ProjectJpaRepository projects;
+
+    @Autowired
+    private UserJpaRepository users;
+
+    @Autowired
+    private SyncJpaRepository sync;
+
+    @Autowired
+    private OutboxJpaRepository outbox;
+
+    @Autowired
+    private PurgeJobJpaRepository purgeJobs;
+
+    @Autowired
+    private PurgeRepository purge;
+
+    @Autowired
+    private TrashRepository trash;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void everyRepositoryQueryIsServedByAnIndex() throws SQLException {
+        // Given
+        UUID id = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        RecordingInspector.STATEMENTS.clear();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            tasks.findById(id);
+            tasks.existsById(id);
+            tasks.findByTodoListId(id);
+            tasks.findByTodoListIdOrderByPositionAscIdAsc(id);
+            tasks.findMaxPosition(id);
+            tasks.findPositionInTodoList(id, other);
+            tasks.updatePositionInTodoList(id, other, 1, 1);
+            tasks.findPreviousPosition(id, 1024, other);
+            tasks.findNextPosition(id, 1024, other);
+            tasks.findOwnedById(id, other, id, other);
+            tasks.findOwnedByTodoListId(id, other, id);
+            tasks.findOwnedResponses(id, other, id, Limit.of(10));
+            tasks.findOwnedResponsesAfter(id, other, id, 1024, other, Limit.of(10));
+            tasks.findOwnedSummaries(id, other, id, Limit.of(10));
+            tasks.findOwnedSummariesAfter(id, other, id, 1024, other, Limit.of(10));
+            tasks.trashById(id, LocalDateTime.now());
+            tasks.trashOwned(id, other, id, other, LocalDateTime.now());
+            tasks.updateStatusInTodoList(id, true, 10);
+            tasks.updateStatusOfTasks(id, List.of(id, other), true, 10);
+            tasks.updateDueDate(id, List.of(id, other), null, 10);
+            tasks.findCompletedIdsForUpdate(id);
+            tasks.trashInTodoList(id, List.of(id, other), LocalDateTime.now());
+            try (Stream<?> stream = tasks.streamResponsesByUserId(id)) {
+                stream.count();
+            }
+
+            todoLists.findByProjectId(id);
+            todoLists.findByIdAndProjectId(id, other);
+            todoLists.findByProject_Owner_Id(id);
+            todoLists.findByIdAndProject_Owner_Id(id, other);
+            todoLists.findByIdAndProjectIdAndProject_Owner_Id(id, other, id);
+            todoLists.findByProjectIdAndProject_Owner_Id(id, other);
+            todoLists.existsByIdAndProjectIdAndProject_Owner_Id(id, other, id);
+            todoLists.findResponsesByProjectId(id, other, Limit.of(10));
+            todoLists.findResponsesByProjectIdAfter(id, other, id, Limit.of(10));
+            todoLists.findResponsesByUserId(id, Limit.of(10));
+            todoLists.findResponsesByUserIdAfter(id, other, Limit.of(10));
+            try (Stream<?> stream = todoLists.streamResponsesByUserId(id)) {
+                stream.count();
+            }
+
+            projects.findByOwnerId(id);
+            projects.existsById(id);
+            projects.findByIdAndOwnerId(id, other);
+            projects.existsByIdAndOwnerId(id, other);
+            projects.findResponsesByOwnerId(id, Limit.of(10));
+            projects.findResponsesByOwnerIdAfter(id, new Timestamp(0).toLocalDateTime(), other, Limit.of(10));
+            try (Stream<?> stream = projects.streamResponsesByOwnerId(id)) {
+                stream.count();
+            }
+
+            sync.findProjectChanges(id, 0, 10, Limit.of(10));
+            sync.findTodoListChanges(id, 0, 10, Limit.of(10));
+            sync.findTaskChanges(id, 0, 10, Limit.of(10));
+            sync.findTombstones(id, 0, 10, Limit.of(10));
+            sync.deleteByEntity(SyncEntityType.TASK, id);
+
+            outbox.findPendingForUpdate(10, Limit.of(10));
+            outbox.findAggregatesHeldElsewhere(10, id, List.of(id, other), List.of(id, other));
+            outbox.findPendingIds(10, Limit.of(1));
+            outbox.deleteByIds(List.of(id, other));
+            outbox.incrementAttempts(List.of(id, other));
+            outbox.countPending(10);
+            outbox.countDead(10);
+
+            List<PurgeJobStatus> unfinished = List.of(PurgeJobStatus.PENDING, PurgeJobStatus.RUNNING);
+            purgeJobs.findDue(unfinished, LocalDateTime.now(), Limit.of(10));
+            purgeJobs.findDueAfter(unfinished, LocalDateTime.now(), id, Limit.of(10));
+            purgeJobs.findByIdForUpdate(id, unfinished);
+            purgeJobs.cancel(PurgeTarget.PROJECT, id, List.of(PurgeJobStatus.PENDING, PurgeJobStatus.FAILED), PurgeJobStatus.CANCELLED, LocalDateTime.now());
+            purgeJobs.findResponseByIdAndUserId(id, other);
+            purge.deleteTasksOfProject(id, 10);
+            purge.deleteTasksOfTodoList(id, 10);
+            purge.deleteTodoListsOfProject(id, 10);
+            purge.deleteProject(id);
+            purge.deleteTodoList(id);
+            purge.deleteExpiredTasks(LocalDateTime.now(), 10);
+
+            trash.findProjects(id, 10);
+            trash.findTodoLists(id, 10);
+            trash.findTasks(id, 10);
+            trash.findProject(id, other);
+            trash.findTodoList(id, other);
+            trash.findTask(id, other);
+            trash.restoreProject(id, 1);
+            trash.restoreTodoList(id, 1);
+            trash.restoreTask(id, 1);
+
+            users.existsByEmail("nadie@test.com");
+            users.existsByUsername("nadie");
+            users.findByEmail("nadie@test.com");
+            users.existsByIdAndEmail(id, "nadie@test.com");
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(RecordingInspector.STATEMENTS).hasSizeGreaterThan(30);
+        SoftAssertions softly = new SoftAssertions();
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : RecordingInspector.STATEMENTS) {
+                softly.assertThat(explain(connection, sql)).as(sql).doesNotContain("tableScan");
+            }
+        }
+        softly.assertAll();
+    }
+
+    private static String explain(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+            bindSampleValues(statement);
+            try (ResultSet plan = statement.executeQuery()) {
+                StringBuilder text = new StringBuilder();
+                while (plan.next()) {
+                    text.append(plan.getString(1));
+                }
+                return text.toString();
+            }
+        }
+    }
+
+    // El plan no depende de los valores, solo hace falta uno del tipo correcto por parámetro
+    private static void bindSampleValues(PreparedStatement statement) throws SQLException {
+        ParameterMetaData parameters = statement.getParameterMetaData();
+        for (int i = 1; i <= parameters.getParameterCount(); i++) {
+            String type = parameters.getParameterTypeName(i);
+            switch (type) {
+                case "UUID" -> statement.setObject(i, UUID.randomUUID());
+                case "CHARACTER VARYING" -> statement.setString(i, "x");
+                case "TIMESTAMP" -> statement.setTimestamp(i, new Timestamp(0));
+                case "DATE" -> statement.setDate(i, new Date(0));
+                case "BOOLEAN" -> statement.setBoolean(i, false);
+                default -> statement.setLong(i, 10);
+            }
+        }
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+        static final Set<String> STATEMENTS = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.todoapp.config;
+
+import com.todoapp.TestData;
+import com.todoapp.common.cache.CacheRegionStatsDTO;
+import com.todoapp.common.cache.CacheRegions;
+import com.todoapp.common.cache.CacheStatistics;
+import com.todoapp.project.domain.Project;
+import com.todoapp.project.port.out.ProjectRepository;
+import com.todoapp.todolist.domain.TodoList;
+import com.todoapp.todolist.port.out.TodoListRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "JWT_SECRET=unvalorseguro_aaa123@dos")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TodoListRepository todoListRepository;
+
+    @Autowired
+    private CacheStatistics cacheStatistics;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        TestData data = new TestData(entityManager, transactionTemplate);
+        userId = transactionTemplate.execute(status -> data.user("cache").getId());
+    }
+
+    @Test
+    void shouldServeProjectFromCacheAndSeeUpdatesAndDeletes() {
+        // Given
+        UUID projectId = inTransaction(() -> projectRepository.save(new Project(null, "Original", null, userId, null)).getId());
+        long hitsBefore = hits(CacheRegions.PROJECTS);
+
+        // When
+        Project cached = inTransaction(() -> projectRepository.findById(projectId));
+
+        // Then
+        assertThat(cached.getName()).isEqualTo("Original");
+        assertThat(hits(CacheRegions.PROJECTS)).isGreaterThan(hitsBefore);
+
+        inTransaction(() -> {
+            Project project = projectRepository.findById(projectId);
+            project.setName("Renombrado");
+            return projectRepository.save(project);
+        });
+        assertThat(inTransaction(() -> projectRepository.findById(projectId)).getName()).isEqualTo("Renombrado");
+
+        inTransaction(() -> {
+            projectRepository.delete(projectId);
+            return null;
+        });
+        assertThatThrownBy(() -> inTransaction(() -> projectRepository.findById(projectId)))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void shouldInvalidateCachedListQueryWhenAListIsAdded() {
+        // Given
+        UUID projectId = inTransaction(() -> projectRepository.save(new Project(null, "Proyecto", null, userId, null)).getId());
+        inTransaction(() -> todoListRepository.save(new TodoList(null, "Primera", projectId)));
+        assertThat(inTransaction(() -> todoListRepository.findByProjectId(projectId))).hasSize(1);
+        long hitsBefore = hits(CacheRegions.TODO_LISTS_BY_PROJECT);
+
+        // When
+        int cachedSize = inTransaction(() -> todoListRepository.findByProjectId(projectId)).size();
+        inTransaction(() -> todoListRepository.save(new TodoList(null, "Segunda", projectId)));
+
+        // Then
+        assertThat(cachedSize).isEqualTo(1);
+        assertThat(hits(CacheRegions.TODO_LISTS_BY_PROJECT)).isGreaterThan(hitsBefore);
+        assertThat(inTransaction(() -> todoListRepository.findByProjectId(projectId)))
+                .extracting(TodoList::getName)
+                .containsExactlyInAnyOrder("Primera", "Segunda");
+    }
+
+    @Test
+    void shouldExposeStatisticsForEveryBoundedRegion() {
+        assertThat(cacheStatistics.snapshot())
+                .extracting(CacheRegionStatsDTO::region)
+                .contains(CacheRegions.BOUNDED.toArray(String[]::new));
+    }
+
+    private long hits(String region) {
+        return cacheStatistics.snapshot().stream()
+                .filter(stats -> stats.region().equals(region))
+                .mapToLong(CacheRegionStatsDTO::hits)
+                .sum();
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
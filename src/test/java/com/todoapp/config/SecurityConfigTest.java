@@ -0,0 +1,78 @@
+package com.todoapp.config;
+
+import com.todoapp.auth.domain.TokenClaims;
+import com.todoapp.auth.port.out.JwtEncoder;
+import com.todoapp.user.adapter.out.UserExistenceCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Autorización real de la cadena de filtros: los tokens se resuelven con un JwtEncoder simulado.
+ */
+@SpringBootTest(properties = {
+        "JWT_SECRET=unvalorseguro_aaa123@dos",
+        "security.admin-emails=admin@test.com"
+})
+@AutoConfigureMockMvc
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtEncoder jwtEncoder;
+
+    @MockitoBean
+    private UserExistenceCache userExistenceCache;
+
+    @BeforeEach
+    void setUp() {
+        Instant expiry = Instant.now().plusSeconds(3600);
+        when(jwtEncoder.verify("admin")).thenReturn(Optional.of(
+                new TokenClaims("admin@test.com", UUID.randomUUID(), "admin", expiry)));
+        when(jwtEncoder.verify("user")).thenReturn(Optional.of(
+                new TokenClaims("user@test.com", UUID.randomUUID(), "user", expiry)));
+        when(userExistenceCache.isActive(any(), any())).thenReturn(true);
+    }
+
+    @Test
+    void shouldServeCacheStatisticsOnlyToAdministrators() throws Exception {
+        mockMvc.perform(get("/api/cache/stats").header("Authorization", "Bearer user"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/cache/stats").header("Authorization", "Bearer admin"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldServeOutboxStatisticsOnlyToAdministrators() throws Exception {
+        mockMvc.perform(get("/api/outbox/stats").header("Authorization", "Bearer user"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/outbox/stats").header("Authorization", "Bearer admin"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldLetTheBrowserClientReadTheETag() throws Exception {
+        mockMvc.perform(get("/api/outbox/stats").header("Authorization", "Bearer admin")
+                        .header(HttpHeaders.ORIGIN, "http://localhost:4200"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, containsString(HttpHeaders.ETAG)));
+    }
+}
@@ -0,0 +1,104 @@
+package com.todoapp.config;
+
+import com.todoapp.auth.domain.TokenClaims;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final Instant now = Instant.parse("2025-01-01T10:00:00Z");
+    private final Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+
+    private TokenClaims claims(Instant expiresAt) {
+        return new TokenClaims("mail", UUID.randomUUID(), "user", expiresAt);
+    }
+
+    @Test
+    void shouldReturnCachedClaimsForSameToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+        TokenClaims claims = claims(now.plusSeconds(60));
+
+        cache.put("token", claims);
+
+        assertThat(cache.get("token")).isEqualTo(claims);
+        assertThat(cache.get("other")).isNull();
+    }
+
+    @Test
+    void shouldNotReturnExpiredClaims() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+        cache.put("token", claims(now.minusSeconds(1)));
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void shouldDropClaimsOnceTheTokenExpires() {
+        AdjustableClock adjustable = new AdjustableClock(now);
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, adjustable);
+        cache.put("token", claims(now.plusSeconds(30)));
+        assertThat(cache.get("token")).isNotNull();
+
+        adjustable.advance(Duration.ofMinutes(1));
+
+        assertThat(cache.get("token")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldStayWithinMaxEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(3, clock);
+
+        for (int i = 0; i < 10; i++) {
+            cache.put("token" + i, claims(now.plusSeconds(60)));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(3);
+        assertThat(cache.get("token9")).isNotNull();
+    }
+
+    @Test
+    void shouldBeDisabledWhenMaxEntriesIsZero() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0, clock);
+
+        cache.put("token", claims(now.plusSeconds(60)));
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    private static final class AdjustableClock extends Clock {
+        private Instant instant;
+
+        AdjustableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.todoapp.dataimport.application;
+
+import com.todoapp.TestData;
+import com.todoapp.common.UserProvider;
+import com.todoapp.dataimport.dto.ImportResultDTO;
+import com.todoapp.dataimport.port.in.ImportUseCase;
+import com.todoapp.export.domain.ExportFormat;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ritmo de importación de tareas en NDJSON generado sobre la marcha, sin materializar el cuerpo.
+ * H2 en memoria, solo como referencia; se ejecuta con mvn test -Pbenchmark.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "JWT_SECRET=unvalorseguro_aaa123@dos")
+class ImportThroughputBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(ImportThroughputBenchmarkTest.class);
+
+    private static final int TASKS = 200_000;
+    private static final int TASKS_PER_LIST = 1_000;
+
+    @Autowired
+    private ImportUseCase importUseCase;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private UserProvider userProvider;
+
+    @Test
+    void measureNdjsonImportThroughput() throws Exception {
+        TestData data = new TestData(entityManager, transactionTemplate);
+        UUID userId = transactionTemplate.execute(status -> data.user("carga").getId());
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+
+        long start = System.nanoTime();
+        ImportResultDTO result = importUseCase.importData(ExportFormat.NDJSON, new GeneratedNdjson(TASKS));
+        long nanos = System.nanoTime() - start;
+
+        log.info("Importación NDJSON: {} tareas en {} ms, {} filas/s",
+                result.tasks(), nanos / 1_000_000, TASKS * 1_000_000_000L / nanos);
+        assertThat(result.tasks()).isEqualTo(TASKS);
+        assertThat(result.rejected()).isZero();
+    }
+
+    // Un proyecto y una lista cada TASKS_PER_LIST tareas, generados línea a línea
+    private static final class GeneratedNdjson extends InputStream {
+        private final int tasks;
+        private int next;
+        private byte[] line = new byte[0];
+        private int offset;
+
+        private GeneratedNdjson(int tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        public int read() {
+            if (offset == line.length && !advance()) {
+                return -1;
+            }
+            return line[offset++] & 0xFF;
+        }
+
+        private boolean advance() {
+            if (next >= tasks) {
+                return false;
+            }
+            StringBuilder text = new StringBuilder();
+            if (next % TASKS_PER_LIST == 0) {
+                String list = "l" + next;
+                text.append("{\"type\":\"project\",\"data\":{\"id\":\"p").append(next)
+                        .append("\",\"name\":\"Proyecto importado\"}}\n");
+                text.append("{\"type\":\"todoList\",\"data\":{\"id\":\"").append(list)
+                        .append("\",\"projectId\":\"p").append(next).append("\",\"name\":\"Lista\"}}\n");
+            }
+            text.append("{\"type\":\"task\",\"data\":{\"todoListId\":\"l").append(next - next % TASKS_PER_LIST)
+                    .append("\",\"title\":\"Tarea ").append(next).append("\",\"completed\":false}}\n");
+            next++;
+            line = text.toString().getBytes(StandardCharsets.UTF_8);
+            offset = 0;
+            return true;
+        }
+    }
+}
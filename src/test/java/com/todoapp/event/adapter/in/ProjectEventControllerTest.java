@@ -0,0 +1,161 @@
+package com.todoapp.event.adapter.in;
+
+import com.todoapp.common.OwnershipValidator;
+import com.todoapp.event.domain.ProjectEvent;
+import com.todoapp.event.domain.ProjectEventType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(value = ProjectEventController.class, properties = {"events.buffer-size=2", "events.heartbeat=PT0S"})
+@ContextConfiguration(classes = {ProjectEventController.class, ProjectEventHub.class,
+        ProjectEventControllerTest.TestConfig.class})
+class ProjectEventControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectEventHub hub;
+
+    @Autowired
+    private QueuedExecutor executor;
+
+    @MockitoBean
+    private OwnershipValidator ownershipValidator;
+
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID todoListId = UUID.randomUUID();
+
+    @Test
+    void shouldPushEventsOfTheSubscribedProjectOnly() throws Exception {
+        // Given
+        MvcResult stream = subscribe();
+        UUID taskId = UUID.randomUUID();
+
+        // When
+        hub.publish(projectId, new ProjectEvent(ProjectEventType.TASK_DELETED, todoListId, taskId, null));
+        hub.publish(UUID.randomUUID(), new ProjectEvent(ProjectEventType.TASK_DELETED, todoListId, UUID.randomUUID(), null));
+        executor.runAll();
+
+        // Then
+        String body = stream.getResponse().getContentAsString();
+        assertThat(body).contains("event:TASK_DELETED").contains(taskId.toString());
+        assertThat(body.split("event:TASK_DELETED", -1)).hasSize(2);
+    }
+
+    @Test
+    void shouldReplaceBacklogOfSlowSubscriberWithResync() throws Exception {
+        // Given: el suscriptor no ha recibido nada y su cola admite dos eventos
+        MvcResult stream = subscribe();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            hub.publish(projectId, new ProjectEvent(ProjectEventType.TASK_DELETED, todoListId, UUID.randomUUID(), null));
+        }
+        executor.runAll();
+
+        // Then
+        String body = stream.getResponse().getContentAsString();
+        assertThat(body).contains("event:RESYNC").doesNotContain("event:TASK_DELETED");
+    }
+
+    @Test
+    void shouldSendHeartbeatCommentToIdleSubscribers() throws Exception {
+        // Given
+        MvcResult stream = subscribe();
+
+        // When
+        hub.heartbeat();
+        executor.runAll();
+
+        // Then
+        assertThat(stream.getResponse().getContentAsString()).startsWith(":");
+    }
+
+    @Test
+    void shouldCompleteSubscriptionsWhenProjectIsClosed() throws Exception {
+        // Given
+        MvcResult stream = subscribe();
+        MvcResult other = mockMvc.perform(get("/api/projects/" + UUID.randomUUID() + "/events")).andReturn();
+
+        // When
+        hub.closeProject(projectId);
+
+        // Then
+        assertThat(stream.getAsyncResult(1000)).isNull();
+        assertThat(other.getRequest().getAsyncContext()).isNotNull();
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectSubscriptionToAnotherUsersProject() throws Exception {
+        doThrow(new SecurityException("No tienes permiso para acceder a este recurso"))
+                .when(ownershipValidator).validateProjectOwnership(projectId);
+
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/projects/" + projectId + "/events")))
+                .hasCauseInstanceOf(SecurityException.class);
+    }
+
+    private MvcResult subscribe() throws Exception {
+        return mockMvc.perform(get("/api/projects/" + projectId + "/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    /** Ejecuta el vaciado de las colas cuando el test lo decide, como un executor con retraso. */
+    static class QueuedExecutor implements TaskExecutor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean(name = "projectEventExecutor")
+        public QueuedExecutor queuedExecutor() {
+            return new QueuedExecutor();
+        }
+
+        @Bean
+        public SecurityFilterChain testSecurityFilterChain(HttpSecurity http) throws Exception {
+            http
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth
+                    .anyRequest().permitAll()
+                );
+
+            return http.build();
+        }
+    }
+}
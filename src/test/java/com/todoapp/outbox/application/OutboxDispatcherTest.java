@@ -0,0 +1,176 @@
+package com.todoapp.outbox.application;
+
+import com.todoapp.common.UserProvider;
+import com.todoapp.outbox.domain.DomainEvent;
+import com.todoapp.outbox.domain.DomainEventType;
+import com.todoapp.outbox.port.in.DomainEventSubscriber;
+import com.todoapp.outbox.port.out.DomainEventOutbox;
+import com.todoapp.outbox.port.out.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Despacho del outbox contra H2 con un suscriptor de prueba. El despachador programado
+ * queda en pausa y cada test lo invoca a mano; el filtro por agregado ignora los eventos
+ * que otros tests dejen en la misma base.
+ */
+@SpringBootTest(properties = {
+        "JWT_SECRET=unvalorseguro_aaa123@dos",
+        "outbox.poll-interval=PT1H",
+        "outbox.max-attempts=2"
+})
+class OutboxDispatcherTest {
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private DomainEventOutbox outbox;
+
+    @Autowired
+    private RecordingSubscriber subscriber;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OutboxRepository repository;
+
+    @MockitoBean
+    private UserProvider userProvider;
+
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        dispatcher.dispatch();
+        subscriber.received.clear();
+        subscriber.failing.clear();
+    }
+
+    @Test
+    void shouldDeliverCommittedEventsInOrderAndOnlyOnce() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append(DomainEventType.TASK_CREATED, first, Map.of("title", "Primera"));
+            outbox.append(DomainEventType.TASK_UPDATED, first, Map.of("title", "Editada"));
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append(DomainEventType.TASK_CREATED, second, null);
+            status.setRollbackOnly();
+        });
+
+        // When
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        // Then
+        assertThat(eventsOf(first)).extracting(DomainEvent::type)
+                .containsExactly(DomainEventType.TASK_CREATED, DomainEventType.TASK_UPDATED);
+        assertThat(eventsOf(first).get(1).payload()).contains("Editada");
+        assertThat(eventsOf(second)).isEmpty();
+    }
+
+    @Test
+    void shouldHoldLaterEventsOfAFailingAggregateOnly() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append(DomainEventType.TASK_CREATED, first, null);
+            outbox.append(DomainEventType.TASK_CREATED, second, null);
+            outbox.append(DomainEventType.TASK_DELETED, first, null);
+        });
+        subscriber.failing.add(first);
+
+        // When
+        dispatcher.dispatch();
+        List<DomainEvent> whileFailing = eventsOf(first);
+        subscriber.failing.clear();
+        dispatcher.dispatch();
+
+        // Then
+        assertThat(whileFailing).isEmpty();
+        assertThat(eventsOf(second)).hasSize(1);
+        assertThat(eventsOf(first)).extracting(DomainEvent::type)
+                .containsExactly(DomainEventType.TASK_CREATED, DomainEventType.TASK_DELETED);
+    }
+
+    @Test
+    void shouldHoldAggregatesWhoseEarlierEventsAnotherDispatcherHas() {
+        // Given: H2 ignora SKIP LOCKED, así que el lote que saltó el primer evento de first se arma a mano
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append(DomainEventType.TASK_CREATED, first, null);
+            outbox.append(DomainEventType.TASK_CREATED, second, null);
+            outbox.append(DomainEventType.TASK_DELETED, first, null);
+        });
+
+        // When
+        Set<UUID> held = transactionTemplate.execute(status -> {
+            List<DomainEvent> pending = repository.lockPending(1000, 2).stream()
+                    .filter(event -> event.aggregateId().equals(first) || event.aggregateId().equals(second))
+                    .toList();
+            return repository.aggregatesHeldElsewhere(pending.subList(1, pending.size()), 2);
+        });
+
+        // Then
+        assertThat(held).containsExactly(first);
+    }
+
+    @Test
+    void shouldSetAsideEventsThatKeepFailing() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> outbox.append(DomainEventType.PROJECT_DELETED, first, null));
+        subscriber.failing.add(first);
+        long deadBefore = dispatcher.stats().dead();
+
+        // When
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+        subscriber.failing.clear();
+        dispatcher.dispatch();
+
+        // Then
+        assertThat(eventsOf(first)).isEmpty();
+        assertThat(dispatcher.stats().dead()).isEqualTo(deadBefore + 1);
+    }
+
+    private List<DomainEvent> eventsOf(UUID aggregateId) {
+        return subscriber.received.stream().filter(event -> event.aggregateId().equals(aggregateId)).toList();
+    }
+
+    static class RecordingSubscriber implements DomainEventSubscriber {
+        final List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        final Set<UUID> failing = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void on(DomainEvent event) {
+            if (failing.contains(event.aggregateId())) {
+                throw new IllegalStateException("Fallo simulado");
+            }
+            received.add(event);
+        }
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        RecordingSubscriber recordingSubscriber() {
+            return new RecordingSubscriber();
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.todoapp.project.adapter.in;
 
+import com.todoapp.common.UserProvider;
+import com.todoapp.common.cache.ListResponseCache;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.common.pagination.CursorPage;
 import com.todoapp.project.dto.ProjectRequestDTO;
 import com.todoapp.project.dto.ProjectResponseDTO;
 import com.todoapp.project.dto.ProjectUpdateDTO;
 import com.todoapp.project.port.in.ProjectUseCase;
+import com.todoapp.purge.domain.PurgeJobStatus;
+import com.todoapp.purge.domain.PurgeTarget;
+import com.todoapp.purge.dto.PurgeJobDTO;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Bean;
@@ -24,12 +31,14 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ProjectController.class)
-@ContextConfiguration(classes = {ProjectController.class, ProjectControllerTest.TestConfig.class})
+@ContextConfiguration(classes = {ProjectController.class, ListResponseCache.class, ResourceVersions.class,
+        ProjectControllerTest.TestConfig.class})
 class ProjectControllerTest {
 
     @Autowired
@@ -38,13 +47,24 @@ class ProjectControllerTest {
     @MockitoBean
     private ProjectUseCase projectUseCase;
 
+    @MockitoBean
+    private UserProvider userProvider;
+
+    @Autowired
+    private ListResponseCache responseCache;
+
     private final UUID projectId = UUID.randomUUID();
     private final UUID userId = UUID.randomUUID();
     private final LocalDateTime createdAt = LocalDateTime.now();
 
+    @BeforeEach
+    void setUp() {
+        responseCache.clear();
+    }
+
     @Test
     void shouldCreateProjectSuccessfully() throws Exception {
-        ProjectResponseDTO response = new ProjectResponseDTO(projectId, "Test Project", "Test Description", userId, createdAt);
+        ProjectResponseDTO response = new ProjectResponseDTO(projectId, "Test Project", "Test Description", userId, createdAt, 0);
 
         when(projectUseCase.create(any(ProjectRequestDTO.class)))
                 .thenReturn(response);
@@ -76,7 +96,7 @@ class ProjectControllerTest {
 
     @Test
     void shouldGetProjectByIdSuccessfully() throws Exception {
-        ProjectResponseDTO response = new ProjectResponseDTO(projectId, "Test Project", "Test Description", userId, createdAt);
+        ProjectResponseDTO response = new ProjectResponseDTO(projectId, "Test Project", "Test Description", userId, createdAt, 0);
 
         when(projectUseCase.getById(projectId))
                 .thenReturn(response);
@@ -90,11 +110,11 @@ class ProjectControllerTest {
 
     @Test
     void shouldGetProjectsByUserSuccessfully() throws Exception {
-        ProjectResponseDTO project1 = new ProjectResponseDTO(projectId, "Project 1", "Description 1", userId, createdAt);
-        ProjectResponseDTO project2 = new ProjectResponseDTO(UUID.randomUUID(), "Project 2", "Description 2", userId, createdAt);
+        ProjectResponseDTO project1 = new ProjectResponseDTO(projectId, "Project 1", "Description 1", userId, createdAt, 0);
+        ProjectResponseDTO project2 = new ProjectResponseDTO(UUID.randomUUID(), "Project 2", "Description 2", userId, createdAt, 0);
 
-        when(projectUseCase.getByUser())
-                .thenReturn(Arrays.asList(project1, project2));
+        when(projectUseCase.getByUser(null, null))
+                .thenReturn(new CursorPage<>(Arrays.asList(project1, project2), null));
 
         mockMvc.perform(get("/api/projects"))
                 .andExpect(status().isOk())
@@ -105,9 +125,9 @@ class ProjectControllerTest {
 
     @Test
     void shouldUpdateProjectSuccessfully() throws Exception {
-        ProjectResponseDTO response = new ProjectResponseDTO(projectId, "Updated Project", "Updated Description", userId, createdAt);
+        ProjectResponseDTO response = new ProjectResponseDTO(projectId, "Updated Project", "Updated Description", userId, createdAt, 0);
 
-        when(projectUseCase.update(eq(projectId), any(ProjectUpdateDTO.class)))
+        when(projectUseCase.update(eq(projectId), any(ProjectUpdateDTO.class), isNull()))
                 .thenReturn(response);
 
         String json = """
@@ -124,10 +144,14 @@ class ProjectControllerTest {
 
     @Test
     void shouldDeleteProjectSuccessfully() throws Exception {
-        Mockito.doNothing().when(projectUseCase).delete(projectId);
+        UUID jobId = UUID.randomUUID();
+        when(projectUseCase.delete(projectId)).thenReturn(new PurgeJobDTO(jobId, PurgeTarget.PROJECT, projectId,
+                PurgeJobStatus.PENDING, 0, LocalDateTime.now(), null));
 
         mockMvc.perform(delete("/api/projects/" + projectId))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/purge-jobs/" + jobId))
+                .andExpect(jsonPath("$.status").value("PENDING"));
     }
 
     @Configuration
@@ -54,15 +54,13 @@ class ProjectRepositoryImplTest {
     @Test
     void shouldSaveProjectSuccessfully() {
         // Given
-        Project project = new Project(projectId, "Test Project", "Test Description", userId, createdAt);
-        ProjectEntity entity = new ProjectEntity(projectId, "Test Project", "Test Description", null);
-        ProjectEntity savedEntity = new ProjectEntity(projectId, "Test Project", "Test Description", null);
+        Project project = new Project(null, "Test Project", "Test Description", userId, createdAt);
+        ProjectEntity entity = new ProjectEntity(null, "Test Project", "Test Description", null);
         UserEntity userEntity = new UserEntity();
 
         when(mapper.domainToEntity(project)).thenReturn(entity);
         when(entityManager.getReference(UserEntity.class, userId)).thenReturn(userEntity);
-        when(jpaRepository.save(entity)).thenReturn(savedEntity);
-        when(mapper.entityToDomain(savedEntity)).thenReturn(project);
+        when(mapper.entityToDomain(entity)).thenReturn(project);
 
         // When
         Project result = repository.save(project);
@@ -71,8 +69,27 @@ class ProjectRepositoryImplTest {
         assertThat(result).isEqualTo(project);
         verify(mapper).domainToEntity(project);
         verify(entityManager).getReference(UserEntity.class, userId);
-        verify(jpaRepository).save(entity);
-        verify(mapper).entityToDomain(savedEntity);
+        verify(entityManager).persist(entity);
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    void shouldUpdateManagedProjectWithoutExistsCheck() {
+        // Given
+        Project project = new Project(projectId, "Updated Project", "Updated Description", userId, createdAt);
+        ProjectEntity entity = new ProjectEntity(projectId, "Test Project", "Test Description", null);
+
+        when(entityManager.find(ProjectEntity.class, projectId)).thenReturn(entity);
+        when(mapper.entityToDomain(entity)).thenReturn(project);
+
+        // When
+        Project result = repository.save(project);
+
+        // Then
+        assertThat(result).isEqualTo(project);
+        assertThat(entity.getName()).isEqualTo("Updated Project");
+        assertThat(entity.getDescription()).isEqualTo("Updated Description");
+        verifyNoInteractions(jpaRepository);
     }
 
     @Test
@@ -141,21 +158,22 @@ class ProjectRepositoryImplTest {
     @Test
     void shouldDeleteProjectSuccessfully() {
         // Given
-        when(jpaRepository.existsById(projectId)).thenReturn(true);
-        doNothing().when(jpaRepository).deleteById(projectId);
+        ProjectEntity entity = new ProjectEntity(projectId, "Test Project", "Test Description", null);
+        when(entityManager.find(ProjectEntity.class, projectId)).thenReturn(entity);
 
         // When
         repository.delete(projectId);
 
-        // Then
-        verify(jpaRepository).existsById(projectId);
-        verify(jpaRepository).deleteById(projectId);
+        // Then: solo se oculta, sin remove ni cascada sobre las listas
+        assertThat(entity.isDeleted()).isTrue();
+        verify(entityManager, never()).remove(any());
+        verifyNoInteractions(jpaRepository);
     }
 
     @Test
     void shouldThrowExceptionWhenDeletingNonExistentProject() {
         // Given
-        when(jpaRepository.existsById(projectId)).thenReturn(false);
+        when(entityManager.find(ProjectEntity.class, projectId)).thenReturn(null);
 
         // When & Then
         assertThatThrownBy(() -> repository.delete(projectId))
@@ -1,14 +1,27 @@
 package com.todoapp.project.application;
 
+import com.todoapp.common.OwnershipIndex;
 import com.todoapp.common.OwnershipValidator;
 import com.todoapp.common.UserProvider;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.common.pagination.Cursor;
+import com.todoapp.common.pagination.CursorPage;
+import com.todoapp.common.pagination.PageLimits;
+import com.todoapp.event.port.out.ProjectEventPublisher;
+import com.todoapp.outbox.domain.DomainEventType;
+import com.todoapp.outbox.port.out.DomainEventOutbox;
 import com.todoapp.project.application.mapper.ProjectMapper;
 import com.todoapp.project.domain.Project;
 import com.todoapp.project.dto.ProjectRequestDTO;
 import com.todoapp.project.dto.ProjectResponseDTO;
 import com.todoapp.project.dto.ProjectUpdateDTO;
 import com.todoapp.project.port.out.ProjectRepository;
-import com.todoapp.user.domain.User;
+import com.todoapp.purge.domain.PurgeJobStatus;
+import com.todoapp.purge.domain.PurgeTarget;
+import com.todoapp.purge.dto.PurgeJobDTO;
+import com.todoapp.purge.port.out.PurgeJobRepository;
+import com.todoapp.sync.domain.SyncEntityType;
+import com.todoapp.sync.port.out.TombstoneRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +51,26 @@ class ProjectServiceTest {
     @Mock
     UserProvider userProvider;
 
+    PageLimits pageLimits = new PageLimits(100, 500);
+
+    @Mock
+    OwnershipIndex ownershipIndex;
+
+    @Mock
+    ResourceVersions resourceVersions;
+
+    @Mock
+    TombstoneRepository tombstones;
+
+    @Mock
+    DomainEventOutbox outbox;
+
+    @Mock
+    PurgeJobRepository purgeJobs;
+
+    @Mock
+    ProjectEventPublisher events;
+
     ProjectService service;
 
     private final UUID projectId = UUID.randomUUID();
@@ -46,18 +79,17 @@ class ProjectServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new ProjectService(repository, mapper, ownershipValidator, userProvider);
+        service = new ProjectService(repository, mapper, ownershipValidator, userProvider, ownershipIndex, pageLimits, resourceVersions, tombstones, outbox, purgeJobs, events);
     }
 
     @Test
     void shouldCreateProjectSuccessfully() {
         // Given
         ProjectRequestDTO request = new ProjectRequestDTO("Test Project", "Test Description");
-        User currentUser = new User(userId, "testuser", "Test User", "test@email.com", "hashedpass");
         Project project = new Project(projectId, "Test Project", "Test Description", userId, createdAt);
-        ProjectResponseDTO expectedResponse = new ProjectResponseDTO(projectId, "Test Project", "Test Description", userId, createdAt);
+        ProjectResponseDTO expectedResponse = new ProjectResponseDTO(projectId, "Test Project", "Test Description", userId, createdAt, 0);
 
-        when(userProvider.getCurrentUser()).thenReturn(currentUser);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
         when(repository.save(any(Project.class))).thenReturn(project);
         when(mapper.toResponseDTO(project)).thenReturn(expectedResponse);
 
@@ -68,48 +100,64 @@ class ProjectServiceTest {
         assertThat(result).isEqualTo(expectedResponse);
         verify(repository).save(any(Project.class));
         verify(mapper).toResponseDTO(project);
+        verify(outbox).append(DomainEventType.PROJECT_CREATED, projectId, expectedResponse);
     }
 
     @Test
     void shouldGetProjectByIdSuccessfully() {
         // Given
         Project project = new Project(projectId, "Test Project", "Test Description", userId, createdAt);
-        ProjectResponseDTO expectedResponse = new ProjectResponseDTO(projectId, "Test Project", "Test Description", userId, createdAt);
+        ProjectResponseDTO expectedResponse = new ProjectResponseDTO(projectId, "Test Project", "Test Description", userId, createdAt, 0);
 
-        when(repository.findById(projectId)).thenReturn(project);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(repository.findByIdAndUserId(projectId, userId)).thenReturn(project);
         when(mapper.toResponseDTO(project)).thenReturn(expectedResponse);
-        doNothing().when(ownershipValidator).validateProjectOwnership(projectId);
 
         // When
         ProjectResponseDTO result = service.getById(projectId);
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(repository).findById(projectId);
-        verify(ownershipValidator).validateProjectOwnership(projectId);
+        verify(repository).findByIdAndUserId(projectId, userId);
+        verify(ownershipValidator, never()).validateProjectOwnership(projectId);
     }
 
     @Test
     void shouldGetProjectsByUserSuccessfully() {
         // Given
-        User currentUser = new User(userId, "testuser", "Test User", "test@email.com", "hashedpass");
-        Project project1 = new Project(projectId, "Project 1", "Description 1", userId, createdAt);
-        Project project2 = new Project(UUID.randomUUID(), "Project 2", "Description 2", userId, createdAt);
-        ProjectResponseDTO response1 = new ProjectResponseDTO(projectId, "Project 1", "Description 1", userId, createdAt);
-        ProjectResponseDTO response2 = new ProjectResponseDTO(UUID.randomUUID(), "Project 2", "Description 2", userId, createdAt);
+        ProjectResponseDTO response1 = new ProjectResponseDTO(projectId, "Project 1", "Description 1", userId, createdAt, 0);
+        ProjectResponseDTO response2 = new ProjectResponseDTO(UUID.randomUUID(), "Project 2", "Description 2", userId, createdAt, 0);
+
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(repository.findPageByUserId(userId, null, PageLimits.UNBOUNDED + 1)).thenReturn(Arrays.asList(response1, response2));
+
+        // When
+        CursorPage<ProjectResponseDTO> result = service.getByUser(null, null);
+
+        // Then
+        assertThat(result.items()).containsExactly(response1, response2);
+        assertThat(result.nextCursor()).isNull();
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void shouldPageProjectsByCreationTime() {
+        // Given
+        ProjectResponseDTO project1 = new ProjectResponseDTO(projectId, "Project 1", "Description 1", userId, createdAt, 0);
+        ProjectResponseDTO project2 = new ProjectResponseDTO(UUID.randomUUID(), "Project 2", "Description 2", userId, createdAt.plusSeconds(1), 0);
+        Cursor after = Cursor.of(createdAt.minusDays(1), UUID.randomUUID());
 
-        when(userProvider.getCurrentUser()).thenReturn(currentUser);
-        when(repository.findByUserId(userId)).thenReturn(Arrays.asList(project1, project2));
-        when(mapper.toResponseDTO(project1)).thenReturn(response1);
-        when(mapper.toResponseDTO(project2)).thenReturn(response2);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(repository.findPageByUserId(userId, after, 2)).thenReturn(Arrays.asList(project1, project2));
 
         // When
-        List<ProjectResponseDTO> result = service.getByUser();
+        CursorPage<ProjectResponseDTO> result = service.getByUser(after.encode(), 1);
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result).containsExactly(response1, response2);
-        verify(repository).findByUserId(userId);
+        assertThat(result.items()).hasSize(1);
+        Cursor next = Cursor.decode(result.nextCursor());
+        assertThat(next.id()).isEqualTo(projectId);
+        assertThat(next.keyAsDateTime()).isEqualTo(createdAt);
     }
 
     @Test
@@ -118,22 +166,22 @@ class ProjectServiceTest {
         ProjectUpdateDTO updateRequest = new ProjectUpdateDTO("Updated Project", "Updated Description");
         Project project = new Project(projectId, "Original Project", "Original Description", userId, createdAt);
         Project updatedProject = new Project(projectId, "Updated Project", "Updated Description", userId, createdAt);
-        ProjectResponseDTO expectedResponse = new ProjectResponseDTO(projectId, "Updated Project", "Updated Description", userId, createdAt);
+        ProjectResponseDTO expectedResponse = new ProjectResponseDTO(projectId, "Updated Project", "Updated Description", userId, createdAt, 0);
 
-        when(repository.findById(projectId)).thenReturn(project);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(repository.findByIdAndUserId(projectId, userId)).thenReturn(project);
         when(repository.save(project)).thenReturn(updatedProject);
         when(mapper.toResponseDTO(updatedProject)).thenReturn(expectedResponse);
-        doNothing().when(ownershipValidator).validateProjectOwnership(projectId);
 
         // When
-        ProjectResponseDTO result = service.update(projectId, updateRequest);
+        ProjectResponseDTO result = service.update(projectId, updateRequest, null);
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
         assertThat(project.getName()).isEqualTo("Updated Project");
         assertThat(project.getDescription()).isEqualTo("Updated Description");
         verify(repository).save(project);
-        verify(ownershipValidator).validateProjectOwnership(projectId);
+        verify(ownershipValidator, never()).validateProjectOwnership(projectId);
     }
 
     @Test
@@ -142,15 +190,15 @@ class ProjectServiceTest {
         ProjectUpdateDTO updateRequest = new ProjectUpdateDTO("Updated Project", null);
         Project project = new Project(projectId, "Original Project", "Original Description", userId, createdAt);
         Project updatedProject = new Project(projectId, "Updated Project", "Original Description", userId, createdAt);
-        ProjectResponseDTO expectedResponse = new ProjectResponseDTO(projectId, "Updated Project", "Original Description", userId, createdAt);
+        ProjectResponseDTO expectedResponse = new ProjectResponseDTO(projectId, "Updated Project", "Original Description", userId, createdAt, 0);
 
-        when(repository.findById(projectId)).thenReturn(project);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(repository.findByIdAndUserId(projectId, userId)).thenReturn(project);
         when(repository.save(project)).thenReturn(updatedProject);
         when(mapper.toResponseDTO(updatedProject)).thenReturn(expectedResponse);
-        doNothing().when(ownershipValidator).validateProjectOwnership(projectId);
 
         // When
-        ProjectResponseDTO result = service.update(projectId, updateRequest);
+        ProjectResponseDTO result = service.update(projectId, updateRequest, null);
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
@@ -163,17 +211,24 @@ class ProjectServiceTest {
     void shouldDeleteProjectSuccessfully() {
         // Given
         Project project = new Project(projectId, "Test Project", "Test Description", userId, createdAt);
+        PurgeJobDTO job = new PurgeJobDTO(UUID.randomUUID(), PurgeTarget.PROJECT, projectId, PurgeJobStatus.PENDING,
+                0, createdAt, null);
 
-        when(repository.findById(projectId)).thenReturn(project);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(repository.findByIdAndUserId(projectId, userId)).thenReturn(project);
         doNothing().when(repository).delete(projectId);
-        doNothing().when(ownershipValidator).validateProjectOwnership(projectId);
+        when(purgeJobs.enqueue(PurgeTarget.PROJECT, projectId, userId)).thenReturn(job);
 
         // When
-        service.delete(projectId);
+        PurgeJobDTO result = service.delete(projectId);
 
         // Then
-        verify(repository).findById(projectId);
+        assertThat(result).isEqualTo(job);
+        verify(repository).findByIdAndUserId(projectId, userId);
         verify(repository).delete(projectId);
-        verify(ownershipValidator).validateProjectOwnership(projectId);
+        verify(ownershipValidator, never()).validateProjectOwnership(projectId);
+        verify(resourceVersions).touch(ResourceVersions.projectsOf(userId), ResourceVersions.project(projectId));
+        verify(tombstones).record(SyncEntityType.PROJECT, projectId, projectId, userId);
+        verify(events).closeProject(projectId);
     }
 } 
\ No newline at end of file
@@ -14,7 +14,7 @@ class ProjectResponseDTOTest {
         UUID userId = UUID.randomUUID();
         LocalDateTime createdAt = LocalDateTime.now();
         
-        ProjectResponseDTO dto = new ProjectResponseDTO(id, "Test Project", "Test Description", userId, createdAt);
+        ProjectResponseDTO dto = new ProjectResponseDTO(id, "Test Project", "Test Description", userId, createdAt, 0);
         
         assertThat(dto.id()).isEqualTo(id);
         assertThat(dto.name()).isEqualTo("Test Project");
@@ -29,8 +29,8 @@ class ProjectResponseDTOTest {
         UUID userId = UUID.randomUUID();
         LocalDateTime createdAt = LocalDateTime.now();
         
-        ProjectResponseDTO dto1 = new ProjectResponseDTO(id, "Project A", "Description A", userId, createdAt);
-        ProjectResponseDTO dto2 = new ProjectResponseDTO(id, "Project A", "Description A", userId, createdAt);
+        ProjectResponseDTO dto1 = new ProjectResponseDTO(id, "Project A", "Description A", userId, createdAt, 0);
+        ProjectResponseDTO dto2 = new ProjectResponseDTO(id, "Project A", "Description A", userId, createdAt, 0);
         
         assertThat(dto1).isEqualTo(dto2);
     }
@@ -41,7 +41,7 @@ class ProjectResponseDTOTest {
         UUID userId = UUID.randomUUID();
         LocalDateTime createdAt = LocalDateTime.now();
         
-        ProjectResponseDTO dto = new ProjectResponseDTO(id, "Test Project", null, userId, createdAt);
+        ProjectResponseDTO dto = new ProjectResponseDTO(id, "Test Project", null, userId, createdAt, 0);
         
         assertThat(dto.name()).isEqualTo("Test Project");
         assertThat(dto.description()).isNull();
@@ -53,8 +53,8 @@ class ProjectResponseDTOTest {
         UUID userId = UUID.randomUUID();
         LocalDateTime createdAt = LocalDateTime.now();
         
-        ProjectResponseDTO dto1 = new ProjectResponseDTO(id, "Project A", "Description A", userId, createdAt);
-        ProjectResponseDTO dto2 = new ProjectResponseDTO(id, "Project A", "Description A", userId, createdAt);
+        ProjectResponseDTO dto1 = new ProjectResponseDTO(id, "Project A", "Description A", userId, createdAt, 0);
+        ProjectResponseDTO dto2 = new ProjectResponseDTO(id, "Project A", "Description A", userId, createdAt, 0);
         
         assertThat(dto1.hashCode()).isEqualTo(dto2.hashCode());
     }
@@ -65,7 +65,7 @@ class ProjectResponseDTOTest {
         UUID userId = UUID.randomUUID();
         LocalDateTime createdAt = LocalDateTime.now();
         
-        ProjectResponseDTO dto = new ProjectResponseDTO(id, "Test Project", "Test Description", userId, createdAt);
+        ProjectResponseDTO dto = new ProjectResponseDTO(id, "Test Project", "Test Description", userId, createdAt, 0);
         String toString = dto.toString();
         
         assertThat(toString).contains("Test Project");
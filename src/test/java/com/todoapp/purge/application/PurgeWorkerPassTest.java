@@ -0,0 +1,66 @@
+package com.todoapp.purge.application;
+
+import com.todoapp.purge.domain.PurgeJob;
+import com.todoapp.purge.domain.PurgeTarget;
+import com.todoapp.purge.port.out.PurgeJobRepository;
+import com.todoapp.purge.port.out.PurgeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/** Recorrido de una pasada del purgador con repositorios simulados y lotes de un trabajo. */
+@ExtendWith(MockitoExtension.class)
+class PurgeWorkerPassTest {
+
+    @Mock
+    PurgeJobRepository jobs;
+
+    @Mock
+    PurgeRepository purge;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    PurgeWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new PurgeWorker(jobs, purge, transactionManager, Duration.ZERO, 10, 1, 10,
+                Duration.ofMinutes(1), Duration.ZERO);
+    }
+
+    @Test
+    void shouldNotRetryAFailedJobWithinTheSamePass() {
+        // Given: el primer trabajo falla y sigue pendiente; el segundo termina
+        PurgeJob failing = new PurgeJob(UUID.randomUUID(), PurgeTarget.TODO_LIST, UUID.randomUUID());
+        PurgeJob next = new PurgeJob(UUID.randomUUID(), PurgeTarget.TODO_LIST, UUID.randomUUID());
+        when(jobs.findDue(any(LocalDateTime.class), isNull(), eq(1))).thenReturn(List.of(failing));
+        when(jobs.findDue(any(LocalDateTime.class), eq(failing.id()), eq(1))).thenReturn(List.of(next));
+        when(jobs.findDue(any(LocalDateTime.class), eq(next.id()), eq(1))).thenReturn(List.of());
+        when(jobs.start(any())).thenReturn(true);
+        when(purge.deleteTasksOfTodoList(failing.resourceId(), 10)).thenThrow(new IllegalStateException("caído"));
+
+        // When
+        worker.purgeExpired();
+
+        // Then
+        verify(purge, times(1)).deleteTasksOfTodoList(failing.resourceId(), 10);
+        verify(jobs).recordFailure(failing.id(), 10);
+        verify(jobs).complete(next.id(), 0);
+        verify(purge).deleteExpiredTasks(any(LocalDateTime.class), anyInt());
+    }
+}
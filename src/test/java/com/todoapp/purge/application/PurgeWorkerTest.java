@@ -0,0 +1,226 @@
+package com.todoapp.purge.application;
+
+import com.todoapp.TestData;
+import com.todoapp.common.UserProvider;
+import com.todoapp.project.adapter.out.ProjectEntity;
+import com.todoapp.project.port.in.ProjectUseCase;
+import com.todoapp.purge.domain.PurgeJobStatus;
+import com.todoapp.purge.dto.PurgeJobDTO;
+import com.todoapp.purge.port.in.PurgeJobUseCase;
+import com.todoapp.task.adapter.out.TaskEntity;
+import com.todoapp.task.port.in.TaskUseCase;
+import com.todoapp.todolist.adapter.out.TodoListEntity;
+import com.todoapp.todolist.port.in.TodoListUseCase;
+import com.todoapp.trash.domain.TrashItemType;
+import com.todoapp.trash.dto.TrashItemDTO;
+import com.todoapp.trash.port.in.TrashUseCase;
+import com.todoapp.user.adapter.out.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Papelera y borrado diferido contra H2: la petición solo oculta el recurso y el purgador, invocado
+ * a mano sin retención y con bloques de 10 filas, borra después tareas, listas y la propia fila.
+ */
+@SpringBootTest(properties = {
+        "JWT_SECRET=unvalorseguro_aaa123@dos",
+        "purge.cron=-",
+        "purge.chunk-size=10",
+        "purge.chunk-pause=PT0S",
+        "trash.retention=PT0S"
+})
+class PurgeWorkerTest {
+
+    private static final int TASKS_PER_LIST = 25;
+
+    @Autowired
+    private PurgeWorker worker;
+
+    @Autowired
+    private ProjectUseCase projectUseCase;
+
+    @Autowired
+    private TodoListUseCase todoListUseCase;
+
+    @Autowired
+    private TaskUseCase taskUseCase;
+
+    @Autowired
+    private PurgeJobUseCase purgeJobUseCase;
+
+    @Autowired
+    private TrashUseCase trashUseCase;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private UserProvider userProvider;
+
+    private UUID ownerId;
+    private UUID projectId;
+    private UUID firstListId;
+    private UUID secondListId;
+
+    @BeforeEach
+    void setUp() {
+        TestData data = new TestData(entityManager, transactionTemplate);
+        transactionTemplate.executeWithoutResult(status -> {
+            UserEntity owner = data.user("purga");
+            ProjectEntity project = data.project(owner, "Grande");
+            firstListId = persistList(data, project);
+            secondListId = persistList(data, project);
+            ownerId = owner.getId();
+            projectId = project.getId();
+        });
+        when(userProvider.getCurrentUserId()).thenReturn(ownerId);
+    }
+
+    @Test
+    void shouldHideProjectAtOnceAndPurgeItInChunks() {
+        // Given
+        PurgeJobDTO job = projectUseCase.delete(projectId);
+
+        // When: oculto para la API, pero todas las filas siguen ahí hasta el purgado
+        assertThatThrownBy(() -> projectUseCase.getById(projectId)).isInstanceOf(NoSuchElementException.class);
+        assertThat(projectUseCase.getByUser(null, null).items()).isEmpty();
+        assertThat(count("select count(*) from tasks where project_id = ?1", projectId)).isEqualTo(2 * TASKS_PER_LIST);
+        assertThat(job.status()).isEqualTo(PurgeJobStatus.PENDING);
+        worker.purgeExpired();
+
+        // Then: 50 tareas, 2 listas y el proyecto
+        PurgeJobDTO done = purgeJobUseCase.getById(job.id());
+        assertThat(done.status()).isEqualTo(PurgeJobStatus.DONE);
+        assertThat(done.deletedRows()).isEqualTo(2L * TASKS_PER_LIST + 3);
+        assertThat(done.finishedAt()).isNotNull();
+        assertThat(count("select count(*) from tasks where project_id = ?1", projectId)).isZero();
+        assertThat(count("select count(*) from todo_lists where project_id = ?1", projectId)).isZero();
+        assertThat(count("select count(*) from projects where id = ?1", projectId)).isZero();
+    }
+
+    @Test
+    void shouldPurgeOnlyTheTasksOfADeletedList() {
+        // Given
+        PurgeJobDTO job = todoListUseCase.delete(firstListId, projectId);
+
+        // When
+        assertThatThrownBy(() -> taskUseCase.getByTodoListId(firstListId, projectId, null, null))
+                .isInstanceOf(NoSuchElementException.class);
+        worker.purgeExpired();
+
+        // Then
+        assertThat(purgeJobUseCase.getById(job.id()).deletedRows()).isEqualTo(TASKS_PER_LIST + 1);
+        assertThat(count("select count(*) from tasks where todo_list_id = ?1", firstListId)).isZero();
+        assertThat(count("select count(*) from todo_lists where id = ?1", firstListId)).isZero();
+        assertThat(count("select count(*) from tasks where todo_list_id = ?1", secondListId)).isEqualTo(TASKS_PER_LIST);
+        assertThat(projectUseCase.getById(projectId)).isNotNull();
+    }
+
+    @Test
+    void shouldNotShowJobsOfOtherUsers() {
+        // Given
+        PurgeJobDTO job = projectUseCase.delete(projectId);
+
+        // When
+        when(userProvider.getCurrentUserId()).thenReturn(UUID.randomUUID());
+
+        // Then
+        assertThatThrownBy(() -> purgeJobUseCase.getById(job.id())).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void shouldRestoreProjectFromTrashAndCancelItsPurge() {
+        // Given
+        PurgeJobDTO job = projectUseCase.delete(projectId);
+        assertThat(trashUseCase.getContents(null)).extracting(TrashItemDTO::id).containsExactly(projectId);
+
+        // When
+        trashUseCase.restoreProject(projectId);
+        worker.purgeExpired();
+
+        // Then
+        assertThat(purgeJobUseCase.getById(job.id()).status()).isEqualTo(PurgeJobStatus.CANCELLED);
+        assertThat(projectUseCase.getById(projectId).version()).isEqualTo(2);
+        assertThat(count("select count(*) from tasks where project_id = ?1", projectId)).isEqualTo(2 * TASKS_PER_LIST);
+        assertThat(trashUseCase.getContents(null)).isEmpty();
+        assertThatThrownBy(() -> trashUseCase.restoreProject(projectId)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void shouldRestoreProjectWhosePurgeFailed() {
+        // Given: el purgado agotó sus intentos
+        PurgeJobDTO job = projectUseCase.delete(projectId);
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("update PurgeJobEntity j set j.status = :failed where j.id = :id")
+                .setParameter("failed", PurgeJobStatus.FAILED).setParameter("id", job.id()).executeUpdate());
+
+        // When
+        trashUseCase.restoreProject(projectId);
+
+        // Then
+        assertThat(purgeJobUseCase.getById(job.id()).status()).isEqualTo(PurgeJobStatus.CANCELLED);
+        assertThat(projectUseCase.getById(projectId).id()).isEqualTo(projectId);
+    }
+
+    @Test
+    void shouldPurgeExpiredTasksButKeepRestoredOnes() {
+        // Given
+        UUID kept = firstTaskOf(firstListId);
+        UUID purged = firstTaskOf(secondListId);
+        taskUseCase.delete(kept, firstListId, projectId);
+        taskUseCase.delete(purged, secondListId, projectId);
+        assertThat(trashUseCase.getContents(null)).extracting(TrashItemDTO::type)
+                .containsOnly(TrashItemType.TASK).hasSize(2);
+
+        // When
+        trashUseCase.restoreTask(kept);
+        worker.purgeExpired();
+
+        // Then
+        assertThat(taskUseCase.getById(kept, firstListId, projectId).version()).isEqualTo(1);
+        assertThat(count("select count(*) from tasks where id = ?1", purged)).isZero();
+        assertThat(count("select count(*) from tasks where project_id = ?1", projectId)).isEqualTo(2 * TASKS_PER_LIST - 1);
+    }
+
+    @Test
+    void shouldNotListOrRestoreTheContentOfADeletedProject() {
+        // Given
+        todoListUseCase.delete(firstListId, projectId);
+        projectUseCase.delete(projectId);
+
+        // When / Then: la lista vuelve con el proyecto, no por separado
+        assertThat(trashUseCase.getContents(null)).extracting(TrashItemDTO::id).containsExactly(projectId);
+        assertThatThrownBy(() -> trashUseCase.restoreTodoList(firstListId)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    private UUID firstTaskOf(UUID todoListId) {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("select t.id from TaskEntity t where t.todoList.id = :id order by t.position", UUID.class)
+                .setParameter("id", todoListId).setMaxResults(1).getSingleResult());
+    }
+
+    private static UUID persistList(TestData data, ProjectEntity project) {
+        TodoListEntity todoList = data.todoList(project);
+        data.tasks(todoList, TASKS_PER_LIST);
+        return todoList.getId();
+    }
+
+    private long count(String sql, UUID id) {
+        return transactionTemplate.execute(status -> ((Number) entityManager.createNativeQuery(sql)
+                .setParameter(1, id).getSingleResult()).longValue());
+    }
+}
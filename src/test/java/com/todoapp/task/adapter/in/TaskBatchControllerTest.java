@@ -0,0 +1,94 @@
+package com.todoapp.task.adapter.in;
+
+import com.todoapp.task.dto.TaskBatchResponseDTO;
+import com.todoapp.task.port.in.TaskUseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TaskBatchController.class)
+@ContextConfiguration(classes = {TaskBatchController.class, TaskBatchControllerTest.TestConfig.class})
+class TaskBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskUseCase taskUseCase;
+
+    private final UUID todoListId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+
+    @Test
+    void shouldCreateTasksInBatch() throws Exception {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(taskUseCase.createBatch(eq(todoListId), eq(projectId), anyList()))
+                .thenReturn(new TaskBatchResponseDTO(2, ids));
+
+        String json = """
+            {"tasks": [{"title": "Primera"}, {"title": "Segunda", "description": "Detalle"}]}
+        """;
+
+        mockMvc.perform(post("/api/projects/" + projectId + "/todolists/" + todoListId + "/tasks:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.ids[0]").value(ids.get(0).toString()));
+    }
+
+    @Test
+    void shouldRejectBatchWithInvalidTask() throws Exception {
+        String json = """
+            {"tasks": [{"title": "Primera"}, {"title": ""}]}
+        """;
+
+        mockMvc.perform(post("/api/projects/" + projectId + "/todolists/" + todoListId + "/tasks:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(taskUseCase);
+    }
+
+    @Test
+    void shouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/projects/" + projectId + "/todolists/" + todoListId + "/tasks:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"tasks\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean
+        public SecurityFilterChain testSecurityFilterChain(HttpSecurity http) throws Exception {
+            http
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth
+                    .anyRequest().permitAll()
+                );
+
+            return http.build();
+        }
+    }
+}
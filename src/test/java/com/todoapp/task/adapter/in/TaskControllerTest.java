@@ -1,5 +1,9 @@
 package com.todoapp.task.adapter.in;
 
+import com.todoapp.common.UserProvider;
+import com.todoapp.common.cache.ListResponseCache;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.common.pagination.CursorPage;
 import com.todoapp.task.dto.*;
 import com.todoapp.task.port.in.TaskUseCase;
 import org.junit.jupiter.api.Test;
@@ -8,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -15,19 +20,26 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TaskController.class)
-@ContextConfiguration(classes = {TaskController.class, TaskControllerTest.TestConfig.class})
+@ContextConfiguration(classes = {TaskController.class, ListResponseCache.class, ResourceVersions.class,
+        TaskControllerTest.TestConfig.class})
 class TaskControllerTest {
 
     @Autowired
@@ -36,6 +48,12 @@ class TaskControllerTest {
     @MockitoBean
     private TaskUseCase taskUseCase;
 
+    @MockitoBean
+    private UserProvider userProvider;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
     private final UUID taskId = UUID.randomUUID();
     private final UUID todoListId = UUID.randomUUID();
     private final UUID projectId = UUID.randomUUID();
@@ -44,7 +62,7 @@ class TaskControllerTest {
     @Test
     void shouldCreateTaskSuccessfully() throws Exception {
         TaskResponseDTO response = new TaskResponseDTO(
-                taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, 0
+                taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, 0, 0
         );
 
         when(taskUseCase.create(any(TaskCreateDTO.class)))
@@ -79,7 +97,7 @@ class TaskControllerTest {
     @Test
     void shouldGetTaskByIdSuccessfully() throws Exception {
         TaskResponseDTO response = new TaskResponseDTO(
-                taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, 0
+                taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, 0, 0
         );
 
         when(taskUseCase.getById(taskId, todoListId, projectId))
@@ -96,29 +114,107 @@ class TaskControllerTest {
     @Test
     void shouldGetTasksByTodoListSuccessfully() throws Exception {
         TaskResponseDTO task1 = new TaskResponseDTO(
-                taskId, "Task 1", "Description 1", false, dueDate, todoListId, projectId, 0
+                taskId, "Task 1", "Description 1", false, dueDate, todoListId, projectId, 0, 0
         );
         TaskResponseDTO task2 = new TaskResponseDTO(
-                UUID.randomUUID(), "Task 2", "Description 2", true, dueDate, todoListId, projectId, 1
+                UUID.randomUUID(), "Task 2", "Description 2", true, dueDate, todoListId, projectId, 1, 0
         );
 
-        when(taskUseCase.getByTodoListId(todoListId, projectId))
-                .thenReturn(Arrays.asList(task1, task2));
+        when(taskUseCase.getByTodoListId(todoListId, projectId, null, null))
+                .thenReturn(new CursorPage<>(Arrays.asList(task1, task2), null));
 
         mockMvc.perform(get("/api/projects/" + projectId + "/todolists/" + todoListId + "/tasks"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].title").value("Task 1"))
-                .andExpect(jsonPath("$[1].title").value("Task 2"));
+                .andExpect(jsonPath("$[1].title").value("Task 2"))
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void shouldExposeNextCursorHeader() throws Exception {
+        TaskResponseDTO task1 = new TaskResponseDTO(
+                taskId, "Task 1", "Description 1", false, dueDate, todoListId, projectId, 1024, 0
+        );
+
+        when(taskUseCase.getByTodoListId(todoListId, projectId, "abc", 1))
+                .thenReturn(new CursorPage<>(java.util.List.of(task1), "next"));
+
+        mockMvc.perform(get("/api/projects/" + projectId + "/todolists/" + todoListId + "/tasks")
+                        .param("cursor", "abc")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Task 1"))
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "next"));
+    }
+
+    @Test
+    void shouldServeSummaryView() throws Exception {
+        TaskSummaryDTO summary = new TaskSummaryDTO(taskId, "Task 1", false, dueDate, 1024);
+
+        when(taskUseCase.getSummariesByTodoListId(todoListId, projectId, null, null))
+                .thenReturn(new CursorPage<>(java.util.List.of(summary), null));
+
+        mockMvc.perform(get("/api/projects/" + projectId + "/todolists/" + todoListId + "/tasks")
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Task 1"))
+                .andExpect(jsonPath("$[0].position").value(1024))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedFromCacheWhileListIsUnchanged() throws Exception {
+        // Given
+        TaskResponseDTO task = new TaskResponseDTO(taskId, "Task 1", null, false, dueDate, todoListId, projectId, 1024, 0);
+        when(taskUseCase.getByTodoListId(todoListId, projectId, null, null))
+                .thenReturn(new CursorPage<>(java.util.List.of(task), null));
+        String url = "/api/projects/" + projectId + "/todolists/" + todoListId + "/tasks";
+
+        // When
+        MvcResult first = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Then
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(taskUseCase, times(1)).getByTodoListId(todoListId, projectId, null, null);
+
+        resourceVersions.touch(ResourceVersions.todoList(todoListId));
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Task 1"));
+        verify(taskUseCase, times(2)).getByTodoListId(todoListId, projectId, null, null);
+    }
+
+    @Test
+    void shouldServePrecompressedBodyWhenClientAcceptsGzip() throws Exception {
+        // Given
+        java.util.List<TaskResponseDTO> tasks = new java.util.ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tasks.add(new TaskResponseDTO(UUID.randomUUID(), "Task " + i, "Description " + i, false, dueDate,
+                    todoListId, projectId, 1024L * (i + 1), 0));
+        }
+        when(taskUseCase.getByTodoListId(todoListId, projectId, null, null)).thenReturn(new CursorPage<>(tasks, null));
+
+        // When / Then
+        mockMvc.perform(get("/api/projects/" + projectId + "/todolists/" + todoListId + "/tasks")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
     }
 
     @Test
     void shouldUpdateTaskSuccessfully() throws Exception {
         TaskResponseDTO response = new TaskResponseDTO(
-                taskId, "Updated Task", "Updated Description", false, dueDate, todoListId, projectId, 0
+                taskId, "Updated Task", "Updated Description", false, dueDate, todoListId, projectId, 0, 0
         );
 
-        when(taskUseCase.update(eq(taskId), any(TaskUpdateDTO.class), eq(todoListId), eq(projectId)))
+        when(taskUseCase.update(eq(taskId), any(TaskUpdateDTO.class), eq(todoListId), eq(projectId), isNull()))
                 .thenReturn(response);
 
         String json = """
@@ -133,13 +229,31 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.description").value("Updated Description"));
     }
 
+    @Test
+    void shouldPassIfMatchVersionAndTagTheUpdatedTask() throws Exception {
+        TaskResponseDTO response = new TaskResponseDTO(
+                taskId, "Test Task", null, true, dueDate, todoListId, projectId, 1024, 4
+        );
+
+        when(taskUseCase.updateStatus(eq(taskId), any(TaskStatusUpdateDTO.class), eq(todoListId), eq(projectId), eq(3L)))
+                .thenReturn(response);
+
+        mockMvc.perform(patch("/api/projects/" + projectId + "/todolists/" + todoListId + "/tasks/" + taskId + "/status")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"completed\": true}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
     @Test
     void shouldUpdateTaskStatusSuccessfully() throws Exception {
         TaskResponseDTO response = new TaskResponseDTO(
-                taskId, "Test Task", "Test Description", true, dueDate, todoListId, projectId, 0
+                taskId, "Test Task", "Test Description", true, dueDate, todoListId, projectId, 0, 0
         );
 
-        when(taskUseCase.updateStatus(eq(taskId), any(TaskStatusUpdateDTO.class), eq(todoListId), eq(projectId)))
+        when(taskUseCase.updateStatus(eq(taskId), any(TaskStatusUpdateDTO.class), eq(todoListId), eq(projectId), isNull()))
                 .thenReturn(response);
 
         String json = """
@@ -162,6 +276,49 @@ class TaskControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    void shouldMoveTaskToAnotherList() throws Exception {
+        UUID targetTodoListId = UUID.randomUUID();
+        TaskResponseDTO response = new TaskResponseDTO(
+                taskId, "Test Task", "Test Description", false, dueDate, targetTodoListId, projectId, 2048, 0
+        );
+
+        when(taskUseCase.move(eq(taskId), any(TaskMoveDTO.class), eq(todoListId), eq(projectId)))
+                .thenReturn(response);
+
+        String json = """
+            {"targetTodoListId": "%s"}
+        """.formatted(targetTodoListId);
+
+        mockMvc.perform(post("/api/projects/" + projectId + "/todolists/" + todoListId + "/tasks/" + taskId + "/move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todoListId").value(targetTodoListId.toString()))
+                .andExpect(jsonPath("$.position").value(2048));
+    }
+
+    @Test
+    void shouldRejectMoveWithoutTargetList() throws Exception {
+        mockMvc.perform(post("/api/projects/" + projectId + "/todolists/" + todoListId + "/tasks/" + taskId + "/move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldLeaveUnexpectedReorderFailuresToTheExceptionHandler() {
+        // Given
+        when(taskUseCase.reorderTasks(eq(projectId), eq(todoListId), any(), isNull()))
+                .thenThrow(new NoSuchElementException("Lista no encontrada"));
+
+        // When / Then: sin manejador global en este contexto, la excepción sale del controlador
+        assertThatThrownBy(() -> mockMvc.perform(patch("/api/projects/" + projectId + "/todolists/" + todoListId + "/tasks/reorder")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"taskIds\": [\"" + taskId + "\"]}")))
+                .hasCauseInstanceOf(NoSuchElementException.class);
+    }
+
     @Configuration
     static class TestConfig {
         
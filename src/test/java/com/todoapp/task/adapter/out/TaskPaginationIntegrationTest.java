@@ -0,0 +1,115 @@
+package com.todoapp.task.adapter.out;
+
+import com.todoapp.common.pagination.Cursor;
+import com.todoapp.project.adapter.out.ProjectEntity;
+import com.todoapp.task.domain.TaskPositions;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.task.dto.TaskSummaryDTO;
+import com.todoapp.task.port.out.TaskRepository;
+import com.todoapp.todolist.adapter.out.TodoListEntity;
+import com.todoapp.user.adapter.out.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "JWT_SECRET=unvalorseguro_aaa123@dos")
+@Transactional
+class TaskPaginationIntegrationTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void shouldWalkEveryTaskOnceAcrossKeysetPages() {
+        // Given: posiciones repetidas para ejercitar el desempate por id
+        UserEntity owner = new UserEntity("paginador", "Paginador", "paginador@test.com", "secreto");
+        entityManager.persist(owner);
+        ProjectEntity project = new ProjectEntity(null, "Proyecto", null, owner);
+        entityManager.persist(project);
+        TodoListEntity todoList = new TodoListEntity(null, "Lista", project, new ArrayList<>());
+        entityManager.persist(todoList);
+        for (int i = 0; i < 25; i++) {
+            TaskEntity task = new TaskEntity(todoList, null, false, null, "Tarea " + i, null);
+            task.setProjectId(project.getId());
+            task.setPosition((i / 2 + 1) * TaskPositions.GAP);
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<UUID> seen = new ArrayList<>();
+        Cursor after = null;
+        int pages = 0;
+        do {
+            List<TaskResponseDTO> page = taskRepository.findOwnedResponsePage(todoList.getId(), project.getId(), owner.getId(), after, 8);
+            page.forEach(task -> seen.add(task.id()));
+            after = page.size() == 8 ? new Cursor(page.get(7).position(), page.get(7).id()) : null;
+            pages++;
+        } while (after != null);
+
+        // Then
+        assertThat(pages).isEqualTo(4);
+        assertThat(seen).hasSize(25).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldNotPageTasksOfAnotherOwner() {
+        // Given
+        UserEntity owner = new UserEntity("dueno", "Dueño", "dueno@test.com", "secreto");
+        entityManager.persist(owner);
+        ProjectEntity project = new ProjectEntity(null, "Proyecto", null, owner);
+        entityManager.persist(project);
+        TodoListEntity todoList = new TodoListEntity(null, "Lista", project, new ArrayList<>());
+        entityManager.persist(todoList);
+        TaskEntity task = new TaskEntity(todoList, null, false, null, "Tarea", null);
+        task.setProjectId(project.getId());
+        entityManager.persist(task);
+        entityManager.flush();
+
+        // When
+        List<TaskResponseDTO> page = taskRepository.findOwnedResponsePage(todoList.getId(), project.getId(), UUID.randomUUID(), null, 10);
+
+        // Then
+        assertThat(page).isEmpty();
+    }
+
+    @Test
+    void shouldProjectTaskRowsWithoutLoadingEntities() {
+        // Given
+        UserEntity owner = new UserEntity("proyectado", "Proyectado", "proyectado@test.com", "secreto");
+        entityManager.persist(owner);
+        ProjectEntity project = new ProjectEntity(null, "Proyecto", null, owner);
+        entityManager.persist(project);
+        TodoListEntity todoList = new TodoListEntity(null, "Lista", project, new ArrayList<>());
+        entityManager.persist(todoList);
+        TaskEntity task = new TaskEntity(todoList, null, true, "Descripción", "Tarea", null);
+        task.setProjectId(project.getId());
+        task.setPosition(TaskPositions.GAP);
+        entityManager.persist(task);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<TaskResponseDTO> full = taskRepository.findOwnedResponsePage(todoList.getId(), project.getId(), owner.getId(), null, 10);
+        List<TaskSummaryDTO> summaries = taskRepository.findOwnedSummaryPage(todoList.getId(), project.getId(), owner.getId(), null, 10);
+
+        // Then
+        assertThat(full).containsExactly(new TaskResponseDTO(task.getId(), "Tarea", "Descripción", true, null,
+                todoList.getId(), project.getId(), TaskPositions.GAP, 0));
+        assertThat(summaries).containsExactly(new TaskSummaryDTO(task.getId(), "Tarea", true, null, TaskPositions.GAP));
+        assertThat(entityManager.unwrap(SessionImplementor.class).getPersistenceContext().getNumberOfManagedEntities()).isZero();
+    }
+}
@@ -0,0 +1,126 @@
+package com.todoapp.task.adapter.out;
+
+import com.todoapp.TestData;
+import com.todoapp.project.adapter.out.ProjectEntity;
+import com.todoapp.task.application.mapper.TaskMapper;
+import com.todoapp.task.dto.TaskResponseDTO;
+import com.todoapp.task.port.out.TaskRepository;
+import com.todoapp.todolist.adapter.out.TodoListEntity;
+import com.todoapp.user.adapter.out.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compara bytes asignados y tiempo por página al listar tareas: entidad gestionada -> dominio -> DTO
+ * frente a la proyección directa al DTO. H2 en memoria, solo como referencia relativa;
+ * se ejecuta con mvn test -Pbenchmark.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "JWT_SECRET=unvalorseguro_aaa123@dos")
+class TaskReadPathBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(TaskReadPathBenchmarkTest.class);
+
+    private static final int TASKS = 500;
+    private static final int ROUNDS = 400;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ProjectEntity project;
+
+    @AfterEach
+    void tearDown() {
+        if (project == null) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("delete from TaskEntity t where t.todoList.project.id = :projectId")
+                    .setParameter("projectId", project.getId()).executeUpdate();
+            entityManager.createQuery("delete from TodoListEntity l where l.project.id = :projectId")
+                    .setParameter("projectId", project.getId()).executeUpdate();
+            entityManager.createQuery("delete from ProjectEntity p where p.id = :projectId")
+                    .setParameter("projectId", project.getId()).executeUpdate();
+            entityManager.createQuery("delete from UserEntity u where u.id = :userId")
+                    .setParameter("userId", project.getOwner().getId()).executeUpdate();
+        });
+    }
+
+    @Test
+    void compareEntityAndProjectionReadPaths() {
+        TodoListEntity todoList = transactionTemplate.execute(status -> seed());
+        project = todoList.getProject();
+        UserEntity owner = project.getOwner();
+
+        // El camino anterior: entidades gestionadas con snapshot, luego dominio, luego DTO
+        Supplier<List<TaskResponseDTO>> entityPath = () -> entityManager
+                .createQuery("select t from TaskEntity t join t.todoList l join l.project p " +
+                        "where l.id = :todoListId and p.id = :projectId and p.owner.id = :userId " +
+                        "order by t.position asc, t.id asc", TaskEntity.class)
+                .setParameter("todoListId", todoList.getId())
+                .setParameter("projectId", project.getId())
+                .setParameter("userId", owner.getId())
+                .setMaxResults(TASKS)
+                .getResultList().stream()
+                .map(taskMapper::entityToDomain)
+                .map(taskMapper::toResponseDTO)
+                .toList();
+        Supplier<List<TaskResponseDTO>> projectionPath = () -> taskRepository
+                .findOwnedResponsePage(todoList.getId(), project.getId(), owner.getId(), null, TASKS);
+
+        measure(entityPath);
+        measure(projectionPath);
+        long[] entity = measure(entityPath);
+        long[] projection = measure(projectionPath);
+
+        log.info("Entidad -> dominio -> DTO: {} bytes/página, {} µs/página", entity[0], entity[1]);
+        log.info("Proyección a DTO:          {} bytes/página, {} µs/página", projection[0], projection[1]);
+        assertThat(projection[0] * 2).isLessThan(entity[0]);
+    }
+
+    private TodoListEntity seed() {
+        TestData data = new TestData(entityManager, transactionTemplate);
+        TodoListEntity todoList = data.todoList(data.project(data.user("lector"), "Proyecto"));
+        data.tasks(todoList, TASKS, (task, i) -> task.setDescription("Descripción " + i));
+        return todoList;
+    }
+
+    // Devuelve {bytes asignados por página, microsegundos por página} medidos en el hilo actual
+    private long[] measure(Supplier<List<TaskResponseDTO>> read) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            transactionTemplate.execute(status -> {
+                status.setRollbackOnly();
+                assertThat(read.get()).hasSize(TASKS);
+                return null;
+            });
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new long[]{bytes / ROUNDS, nanos / ROUNDS / 1_000};
+    }
+}
@@ -46,15 +46,13 @@ class TaskRepositoryImplTest {
     @Test
     void shouldSaveTaskSuccessfully() {
         // Given
-        Task task = new Task(taskId, "Test Task", "Test Description", false, dueDate, todoListId);
+        Task task = new Task(null, "Test Task", "Test Description", false, dueDate, todoListId);
         TaskEntity entity = new TaskEntity();
-        TaskEntity savedEntity = new TaskEntity();
         TodoListEntity todoListEntity = new TodoListEntity();
 
         when(mapper.domainToEntity(task)).thenReturn(entity);
         when(entityManager.getReference(TodoListEntity.class, todoListId)).thenReturn(todoListEntity);
-        when(jpaRepository.save(entity)).thenReturn(savedEntity);
-        when(mapper.entityToDomain(savedEntity)).thenReturn(task);
+        when(mapper.entityToDomain(entity)).thenReturn(task);
 
         // When
         Task result = repository.save(task);
@@ -63,8 +61,28 @@ class TaskRepositoryImplTest {
         assertThat(result).isEqualTo(task);
         verify(mapper).domainToEntity(task);
         verify(entityManager).getReference(TodoListEntity.class, todoListId);
-        verify(jpaRepository).save(entity);
-        verify(mapper).entityToDomain(savedEntity);
+        verify(entityManager).persist(entity);
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    void shouldUpdateManagedTaskWithoutMerging() {
+        // Given
+        Task task = new Task(taskId, "Updated Task", "Updated Description", true, dueDate, todoListId);
+        TaskEntity entity = new TaskEntity();
+
+        when(entityManager.find(TaskEntity.class, taskId)).thenReturn(entity);
+        when(mapper.entityToDomain(entity)).thenReturn(task);
+
+        // When
+        Task result = repository.save(task);
+
+        // Then
+        assertThat(result).isEqualTo(task);
+        assertThat(entity.getTitle()).isEqualTo("Updated Task");
+        assertThat(entity.getDescription()).isEqualTo("Updated Description");
+        assertThat(entity.isCompleted()).isTrue();
+        verifyNoInteractions(jpaRepository);
     }
 
     @Test
@@ -133,29 +151,25 @@ class TaskRepositoryImplTest {
     @Test
     void shouldDeleteTaskSuccessfully() {
         // Given
-        when(jpaRepository.existsById(taskId)).thenReturn(true);
-        doNothing().when(jpaRepository).deleteById(taskId);
+        when(jpaRepository.trashById(eq(taskId), any())).thenReturn(1);
 
         // When
         repository.delete(taskId);
 
         // Then
-        verify(jpaRepository).existsById(taskId);
-        verify(jpaRepository).deleteById(taskId);
+        verify(jpaRepository).trashById(eq(taskId), any());
+        verify(jpaRepository, never()).existsById(any());
     }
 
     @Test
     void shouldThrowExceptionWhenDeletingNonExistentTask() {
         // Given
-        when(jpaRepository.existsById(taskId)).thenReturn(false);
+        when(jpaRepository.trashById(eq(taskId), any())).thenReturn(0);
 
         // When & Then
         assertThatThrownBy(() -> repository.delete(taskId))
                 .isInstanceOf(NoSuchElementException.class)
                 .hasMessageContaining("No se encontró la tarea con id: " + taskId);
-        
-        verify(jpaRepository).existsById(taskId);
-        verify(jpaRepository, never()).deleteById(any());
     }
 
     @Test
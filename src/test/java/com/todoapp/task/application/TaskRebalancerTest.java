@@ -0,0 +1,88 @@
+package com.todoapp.task.application;
+
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.task.domain.Task;
+import com.todoapp.task.domain.TaskPositions;
+import com.todoapp.task.port.out.TaskRepository;
+import com.todoapp.todolist.port.out.TodoListRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskRebalancerTest {
+
+    @Mock
+    TaskRepository taskRepository;
+
+    @Mock
+    TodoListRepository todoListRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    ResourceVersions resourceVersions;
+
+    TaskRebalancer rebalancer;
+
+    private final UUID todoListId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        TaskExecutor direct = Runnable::run;
+        rebalancer = new TaskRebalancer(taskRepository, todoListRepository, new TransactionTemplate(transactionManager),
+                direct, resourceVersions);
+    }
+
+    @Test
+    void shouldLockTheListBeforeReadingAndRenumberOnlyRowsStillInIt() {
+        // Given
+        Task first = task(1);
+        Task second = task(2);
+        when(taskRepository.findByTodoListId(todoListId)).thenReturn(List.of(first, second));
+
+        // When
+        rebalancer.rebalance(todoListId);
+
+        // Then
+        InOrder inOrder = inOrder(todoListRepository, taskRepository);
+        inOrder.verify(todoListRepository).lockAndIncrementVersion(todoListId);
+        inOrder.verify(taskRepository).findByTodoListId(todoListId);
+        verify(taskRepository).updatePositionInTodoList(first.getId(), todoListId, TaskPositions.GAP);
+        verify(taskRepository).updatePositionInTodoList(second.getId(), todoListId, 2 * TaskPositions.GAP);
+        verify(taskRepository, never()).updatePosition(any(), anyLong());
+    }
+
+    @Test
+    void shouldAbandonRebalanceOfADeletedList() {
+        // Given
+        when(todoListRepository.lockAndIncrementVersion(todoListId)).thenThrow(new NoSuchElementException("borrada"));
+
+        // When
+        rebalancer.rebalanceLater(todoListId);
+
+        // Then
+        verify(taskRepository, never()).findByTodoListId(any());
+        verifyNoInteractions(resourceVersions);
+    }
+
+    private Task task(long position) {
+        Task task = new Task(UUID.randomUUID(), "Tarea", null, false, null, todoListId);
+        task.setPosition(position);
+        return task;
+    }
+}
@@ -1,10 +1,23 @@
 package com.todoapp.task.application;
 
 import com.todoapp.common.OwnershipValidator;
+import com.todoapp.common.UserProvider;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.common.pagination.Cursor;
+import com.todoapp.common.pagination.CursorPage;
+import com.todoapp.common.pagination.PageLimits;
+import com.todoapp.event.domain.ProjectEvent;
+import com.todoapp.event.domain.ProjectEventType;
+import com.todoapp.event.port.out.ProjectEventPublisher;
+import com.todoapp.outbox.domain.DomainEventType;
+import com.todoapp.outbox.port.out.DomainEventOutbox;
 import com.todoapp.project.domain.Project;
 import com.todoapp.project.port.out.ProjectRepository;
+import com.todoapp.sync.domain.SyncEntityType;
+import com.todoapp.sync.port.out.TombstoneRepository;
 import com.todoapp.task.application.mapper.TaskMapper;
 import com.todoapp.task.domain.Task;
+import com.todoapp.task.domain.TaskPositions;
 import com.todoapp.task.dto.*;
 import com.todoapp.task.port.out.TaskRepository;
 import com.todoapp.todolist.domain.TodoList;
@@ -18,6 +31,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -41,16 +55,37 @@ class TaskServiceTest {
     @Mock
     ProjectRepository projectRepository;
 
+    @Mock
+    UserProvider userProvider;
+
+    @Mock
+    TaskRebalancer rebalancer;
+
+    @Mock
+    ResourceVersions resourceVersions;
+
+    @Mock
+    TombstoneRepository tombstones;
+
+    @Mock
+    ProjectEventPublisher events;
+
+    @Mock
+    DomainEventOutbox outbox;
+
+    PageLimits pageLimits = new PageLimits(100, 500);
+
     TaskService taskService;
 
     private final UUID taskId = UUID.randomUUID();
     private final UUID todoListId = UUID.randomUUID();
     private final UUID projectId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
     private final LocalDate dueDate = LocalDate.now().plusDays(7);
 
     @BeforeEach
     void setUp() {
-        taskService = new TaskService(taskRepository, taskMapper, ownershipValidator, todoListRepository, projectRepository);
+        taskService = new TaskService(taskRepository, taskMapper, ownershipValidator, todoListRepository, projectRepository, userProvider, rebalancer, pageLimits, resourceVersions, tombstones, events, outbox);
     }
 
     @Test
@@ -58,7 +93,7 @@ class TaskServiceTest {
         // Given
         TaskCreateDTO createDTO = new TaskCreateDTO("Test Task", "Test Description", dueDate, todoListId, projectId);
         Task task = new Task(taskId, "Test Task", "Test Description", false, dueDate, todoListId);
-        TaskResponseDTO expectedResponse = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, 0);
+        TaskResponseDTO expectedResponse = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, 0, 0);
 
         when(taskRepository.save(any(Task.class))).thenReturn(task);
         when(taskMapper.toResponseDTO(task)).thenReturn(expectedResponse);
@@ -71,32 +106,178 @@ class TaskServiceTest {
         assertThat(result).isEqualTo(expectedResponse);
         verify(taskRepository).save(any(Task.class));
         verify(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
+        verify(events).publish(projectId, new ProjectEvent(ProjectEventType.TASK_CREATED, todoListId, taskId, expectedResponse));
+        verify(outbox).append(DomainEventType.TASK_CREATED, todoListId, expectedResponse);
+    }
+
+    @Test
+    void shouldAppendNewTaskAfterLastPosition() {
+        // Given
+        TaskCreateDTO createDTO = new TaskCreateDTO("Test Task", "Test Description", dueDate, todoListId, projectId);
+        when(taskRepository.findMaxPosition(todoListId)).thenReturn(5 * TaskPositions.GAP);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        taskService.create(createDTO);
+
+        // Then
+        verify(taskRepository).save(argThat(saved -> saved.getPosition() == 6 * TaskPositions.GAP));
+    }
+
+    @Test
+    void shouldUpdateOnlyMovedTaskWhenReordering() {
+        // Given
+        List<Task> tasks = new java.util.ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Task task = new Task(UUID.randomUUID(), "Task " + i, null, false, null, todoListId);
+            task.setPosition((i + 1) * TaskPositions.GAP);
+            tasks.add(task);
+        }
+        Task moved = tasks.get(4);
+        List<String> newOrder = Arrays.asList(
+                tasks.get(0).getId().toString(), moved.getId().toString(), tasks.get(1).getId().toString(),
+                tasks.get(2).getId().toString(), tasks.get(3).getId().toString());
+
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedByTodoListId(todoListId, projectId, userId)).thenReturn(tasks);
+
+        // When
+        taskService.reorderTasks(projectId, todoListId, newOrder, null);
+
+        // Then
+        verify(taskRepository, times(1)).updatePosition(any(), anyLong());
+        verify(taskRepository).updatePosition(moved.getId(), TaskPositions.GAP + TaskPositions.GAP / 2);
+        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(rebalancer);
+    }
+
+    @Test
+    void shouldMoveTaskBetweenAnchorsInAnotherList() {
+        // Given
+        UUID targetTodoListId = UUID.randomUUID();
+        UUID anchorId = UUID.randomUUID();
+        Task task = new Task(taskId, "Test Task", null, false, null, todoListId);
+        TaskMoveDTO moveDTO = new TaskMoveDTO(targetTodoListId, null, null, anchorId);
+
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedById(taskId, todoListId, projectId, userId)).thenReturn(task);
+        when(taskRepository.findPositionInTodoList(anchorId, targetTodoListId)).thenReturn(1024L);
+        when(taskRepository.findNextPosition(targetTodoListId, 1024L, taskId)).thenReturn(2048L);
+        when(taskMapper.toResponseDTO(task)).thenAnswer(invocation -> new TaskResponseDTO(
+                taskId, "Test Task", null, false, null, task.getTodoListId(), task.getProjectId(), task.getPosition(), 0));
+
+        // When
+        TaskResponseDTO result = taskService.move(taskId, moveDTO, todoListId, projectId);
+
+        // Then
+        verify(ownershipValidator).validateTodoListOwnership(targetTodoListId, projectId);
+        verify(taskRepository).moveTo(taskId, targetTodoListId, projectId, 1536L);
+        verify(taskRepository, never()).save(any());
+        verify(todoListRepository).forceVersionIncrement(targetTodoListId);
+        verify(todoListRepository, never()).forceVersionIncrement(todoListId);
+        assertThat(result.todoListId()).isEqualTo(targetTodoListId);
+        assertThat(result.position()).isEqualTo(1536L);
+    }
+
+    @Test
+    void shouldAppendMovedTaskWithoutAnchors() {
+        // Given
+        Task task = new Task(taskId, "Test Task", null, false, null, todoListId);
+        TaskMoveDTO moveDTO = new TaskMoveDTO(todoListId, null, null, null);
+
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedById(taskId, todoListId, projectId, userId)).thenReturn(task);
+        when(taskRepository.findMaxPosition(todoListId)).thenReturn(4096L);
+
+        // When
+        taskService.move(taskId, moveDTO, todoListId, projectId);
+
+        // Then
+        verify(ownershipValidator, never()).validateTodoListOwnership(any(), any());
+        verify(taskRepository).moveTo(taskId, todoListId, projectId, 4096L + TaskPositions.GAP);
+    }
+
+    @Test
+    void shouldRejectMoveAnchoredOnForeignTask() {
+        // Given
+        UUID anchorId = UUID.randomUUID();
+        Task task = new Task(taskId, "Test Task", null, false, null, todoListId);
+        TaskMoveDTO moveDTO = new TaskMoveDTO(todoListId, null, anchorId, null);
+
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedById(taskId, todoListId, projectId, userId)).thenReturn(task);
+        when(taskRepository.findPositionInTodoList(anchorId, todoListId)).thenReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.move(taskId, moveDTO, todoListId, projectId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("referencia");
+        verify(taskRepository, never()).moveTo(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void shouldRejectReorderWithForeignTask() {
+        // Given
+        Task task = new Task(taskId, "Test Task", null, false, null, todoListId);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedByTodoListId(todoListId, projectId, userId)).thenReturn(List.of(task));
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.reorderTasks(projectId, todoListId, List.of(UUID.randomUUID().toString()), null))
+                .isInstanceOf(org.springframework.web.server.ResponseStatusException.class);
+        verify(taskRepository, never()).updatePosition(any(), anyLong());
+    }
+
+    @Test
+    void shouldCreateBatchWithSingleOwnershipCheck() {
+        // Given
+        List<TaskRequestDTO> dtos = List.of(
+                new TaskRequestDTO("Primera", null, null),
+                new TaskRequestDTO("Segunda", null, dueDate),
+                new TaskRequestDTO("Tercera", "Detalle", null));
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        when(taskRepository.findMaxPosition(todoListId)).thenReturn(null);
+        when(taskRepository.saveAll(anyList())).thenReturn(ids);
+
+        // When
+        TaskBatchResponseDTO result = taskService.createBatch(todoListId, projectId, dtos);
+
+        // Then
+        assertThat(result.created()).isEqualTo(3);
+        assertThat(result.ids()).containsExactlyElementsOf(ids);
+        verify(ownershipValidator, times(1)).validateTodoListOwnership(todoListId, projectId);
+        verify(taskRepository).saveAll(argThat(tasks -> tasks.size() == 3
+                && tasks.get(0).getPosition() == TaskPositions.GAP
+                && tasks.get(2).getPosition() == 3 * TaskPositions.GAP));
+        verify(taskRepository, never()).save(any());
     }
 
     @Test
     void shouldGetTaskByIdSuccessfully() {
         // Given
         Task task = new Task(taskId, "Test Task", "Test Description", false, dueDate, todoListId);
-        TaskResponseDTO expectedResponse = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, 0);
+        TaskResponseDTO expectedResponse = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, 0, 0);
 
-        when(taskRepository.existsById(taskId)).thenReturn(true);
-        when(taskRepository.findById(taskId)).thenReturn(task);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedById(taskId, todoListId, projectId, userId)).thenReturn(task);
         when(taskMapper.toResponseDTO(task)).thenReturn(expectedResponse);
-        doNothing().when(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
 
         // When
         TaskResponseDTO result = taskService.getById(taskId, todoListId, projectId);
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(taskRepository).existsById(taskId);
-        verify(taskRepository).findById(taskId);
-        verify(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
+        verify(taskRepository).findOwnedById(taskId, todoListId, projectId, userId);
+        verify(taskRepository, never()).existsById(taskId);
+        verify(ownershipValidator, never()).validateTodoListOwnership(todoListId, projectId);
     }
 
     @Test
     void shouldThrowExceptionWhenTaskNotFound() {
         // Given
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedById(taskId, todoListId, projectId, userId)).thenReturn(null);
         when(taskRepository.existsById(taskId)).thenReturn(false);
 
         // When & Then
@@ -108,11 +289,9 @@ class TaskServiceTest {
     @Test
     void shouldThrowExceptionWhenTaskDoesNotBelongToTodoList() {
         // Given
-        UUID differentTodoListId = UUID.randomUUID();
-        Task task = new Task(taskId, "Test Task", "Test Description", false, dueDate, differentTodoListId);
-
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedById(taskId, todoListId, projectId, userId)).thenReturn(null);
         when(taskRepository.existsById(taskId)).thenReturn(true);
-        when(taskRepository.findById(taskId)).thenReturn(task);
 
         // When & Then
         assertThatThrownBy(() -> taskService.getById(taskId, todoListId, projectId))
@@ -121,44 +300,90 @@ class TaskServiceTest {
     }
 
     @Test
-    void shouldGetTasksByTodoListIdSuccessfully() {
+    void shouldReturnWholeListWhenNeitherCursorNorLimitIsGiven() {
         // Given
-        Task task1 = new Task(taskId, "Task 1", "Description 1", false, dueDate, todoListId);
-        Task task2 = new Task(UUID.randomUUID(), "Task 2", "Description 2", true, dueDate, todoListId);
-        TaskResponseDTO response1 = new TaskResponseDTO(taskId, "Task 1", "Description 1", false, dueDate, todoListId, projectId, 0);
-        TaskResponseDTO response2 = new TaskResponseDTO(UUID.randomUUID(), "Task 2", "Description 2", true, dueDate, todoListId, projectId, 1);
+        TaskResponseDTO response1 = new TaskResponseDTO(taskId, "Task 1", "Description 1", false, dueDate, todoListId, projectId, 0, 0);
+        TaskResponseDTO response2 = new TaskResponseDTO(UUID.randomUUID(), "Task 2", "Description 2", true, dueDate, todoListId, projectId, 1, 0);
 
-        when(taskRepository.findByTodoListId(todoListId)).thenReturn(Arrays.asList(task1, task2));
-        when(taskMapper.toResponseDTO(task1)).thenReturn(response1);
-        when(taskMapper.toResponseDTO(task2)).thenReturn(response2);
-        doNothing().when(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedResponsePage(todoListId, projectId, userId, null, PageLimits.UNBOUNDED + 1)).thenReturn(Arrays.asList(response1, response2));
+
+        // When
+        CursorPage<TaskResponseDTO> result = taskService.getByTodoListId(todoListId, projectId, null, null);
+
+        // Then
+        assertThat(result.items()).containsExactly(response1, response2);
+        assertThat(result.nextCursor()).isNull();
+        verifyNoInteractions(taskMapper);
+        verify(ownershipValidator, never()).validateTodoListOwnership(todoListId, projectId);
+    }
+
+    @Test
+    void shouldReturnCursorWhenMoreTasksRemain() {
+        // Given
+        TaskResponseDTO task1 = new TaskResponseDTO(taskId, "Task 1", null, false, null, todoListId, projectId, 1024, 0);
+        TaskResponseDTO task2 = new TaskResponseDTO(UUID.randomUUID(), "Task 2", null, false, null, todoListId, projectId, 2048, 0);
+
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedResponsePage(todoListId, projectId, userId, null, 2)).thenReturn(Arrays.asList(task1, task2));
 
         // When
-        List<TaskResponseDTO> result = taskService.getByTodoListId(todoListId, projectId);
+        CursorPage<TaskResponseDTO> result = taskService.getByTodoListId(todoListId, projectId, null, 1);
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result).containsExactly(response1, response2);
-        verify(taskRepository).findByTodoListId(todoListId);
+        assertThat(result.items()).hasSize(1);
+        assertThat(Cursor.decode(result.nextCursor())).isEqualTo(new Cursor(1024, taskId));
+    }
+
+    @Test
+    void shouldContinueAfterDecodedCursor() {
+        // Given
+        Cursor cursor = new Cursor(1024, taskId);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedResponsePage(todoListId, projectId, userId, cursor, 101)).thenReturn(List.of());
+
+        // When
+        CursorPage<TaskResponseDTO> result = taskService.getByTodoListId(todoListId, projectId, cursor.encode(), null);
+
+        // Then
+        assertThat(result.items()).isEmpty();
+        assertThat(result.nextCursor()).isNull();
         verify(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
     }
 
+    @Test
+    void shouldGetTaskSummariesByTodoListId() {
+        // Given
+        TaskSummaryDTO summary1 = new TaskSummaryDTO(taskId, "Task 1", false, dueDate, 1024);
+        TaskSummaryDTO summary2 = new TaskSummaryDTO(UUID.randomUUID(), "Task 2", true, dueDate, 2048);
+
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedSummaryPage(todoListId, projectId, userId, null, 2)).thenReturn(Arrays.asList(summary1, summary2));
+
+        // When
+        CursorPage<TaskSummaryDTO> result = taskService.getSummariesByTodoListId(todoListId, projectId, null, 1);
+
+        // Then
+        assertThat(result.items()).containsExactly(summary1);
+        assertThat(Cursor.decode(result.nextCursor())).isEqualTo(new Cursor(1024, taskId));
+        verifyNoInteractions(taskMapper);
+    }
+
     @Test
     void shouldUpdateTaskSuccessfully() {
         // Given
         TaskUpdateDTO updateDTO = new TaskUpdateDTO("Updated Task", "Updated Description", dueDate);
         Task task = new Task(taskId, "Original Task", "Original Description", false, dueDate, todoListId);
         Task updatedTask = new Task(taskId, "Updated Task", "Updated Description", false, dueDate, todoListId);
-        TaskResponseDTO expectedResponse = new TaskResponseDTO(taskId, "Updated Task", "Updated Description", false, dueDate, todoListId, projectId, 1);
+        TaskResponseDTO expectedResponse = new TaskResponseDTO(taskId, "Updated Task", "Updated Description", false, dueDate, todoListId, projectId, 1, 0);
 
-        when(taskRepository.existsById(taskId)).thenReturn(true);
-        when(taskRepository.findById(taskId)).thenReturn(task);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedById(taskId, todoListId, projectId, userId)).thenReturn(task);
         when(taskRepository.save(task)).thenReturn(updatedTask);
         when(taskMapper.toResponseDTO(updatedTask)).thenReturn(expectedResponse);
-        doNothing().when(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
 
         // When
-        TaskResponseDTO result = taskService.update(taskId, updateDTO, todoListId, projectId);
+        TaskResponseDTO result = taskService.update(taskId, updateDTO, todoListId, projectId, null);
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
@@ -166,7 +391,7 @@ class TaskServiceTest {
         assertThat(task.getDescription()).isEqualTo("Updated Description");
         assertThat(task.getDueDate()).isEqualTo(dueDate);
         verify(taskRepository).save(task);
-        verify(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
+        verify(resourceVersions).touch(ResourceVersions.todoList(todoListId));
     }
 
     @Test
@@ -175,46 +400,111 @@ class TaskServiceTest {
         TaskStatusUpdateDTO statusDTO = new TaskStatusUpdateDTO(true);
         Task task = new Task(taskId, "Test Task", "Test Description", false, dueDate, todoListId);
         Task updatedTask = new Task(taskId, "Test Task", "Test Description", true, dueDate, todoListId);
-        TaskResponseDTO expectedResponse = new TaskResponseDTO(taskId, "Test Task", "Test Description", true, dueDate, todoListId, projectId,1);
+        TaskResponseDTO expectedResponse = new TaskResponseDTO(taskId, "Test Task", "Test Description", true, dueDate, todoListId, projectId,1, 0);
 
-        when(taskRepository.existsById(taskId)).thenReturn(true);
-        when(taskRepository.findById(taskId)).thenReturn(task);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedById(taskId, todoListId, projectId, userId)).thenReturn(task);
         when(taskRepository.save(task)).thenReturn(updatedTask);
         when(taskMapper.toResponseDTO(updatedTask)).thenReturn(expectedResponse);
-        doNothing().when(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
 
         // When
-        TaskResponseDTO result = taskService.updateStatus(taskId, statusDTO, todoListId, projectId);
+        TaskResponseDTO result = taskService.updateStatus(taskId, statusDTO, todoListId, projectId, null);
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
         assertThat(task.isCompleted()).isTrue();
         verify(taskRepository).save(task);
-        verify(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
     }
 
     @Test
     void shouldDeleteTaskSuccessfully() {
         // Given
-        Task task = new Task(taskId, "Test Task", "Test Description", false, dueDate, todoListId);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.deleteOwned(taskId, todoListId, projectId, userId)).thenReturn(true);
+
+        // When
+        taskService.delete(taskId, todoListId, projectId);
+
+        // Then
+        verify(taskRepository, never()).findOwnedById(any(), any(), any(), any());
+        verify(taskRepository, never()).existsById(any());
+        verify(tombstones).record(SyncEntityType.TASK, taskId, projectId, userId);
+        verify(events).publish(projectId, new ProjectEvent(ProjectEventType.TASK_DELETED, todoListId, taskId, null));
+        verify(outbox).append(DomainEventType.TASK_DELETED, todoListId, Map.of("taskId", taskId, "projectId", projectId));
+    }
 
+    @Test
+    void shouldExplainWhyConditionalDeleteMatchedNothing() {
+        // Given
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.deleteOwned(taskId, todoListId, projectId, userId)).thenReturn(false);
         when(taskRepository.existsById(taskId)).thenReturn(true);
-        when(taskRepository.findById(taskId)).thenReturn(task);
-        doNothing().when(taskRepository).delete(taskId);
-        doNothing().when(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.delete(taskId, todoListId, projectId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("La tarea no pertenece a la lista de tareas especificada");
+        verify(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
+        verify(tombstones, never()).record(any(), any(), any(), any());
+        verify(events, never()).publish(any(), any());
+        verify(outbox, never()).append(any(), any(), any());
+    }
+
+    @Test
+    void shouldCompleteWholeListWithOneStatement() {
+        // Given
+        TaskBulkStatusDTO dto = new TaskBulkStatusDTO(true, null);
+        when(taskRepository.updateStatusInTodoList(todoListId, null, true)).thenReturn(3);
 
         // When
-        taskService.delete(taskId, todoListId, projectId);
+        TaskBulkResultDTO result = taskService.updateStatusInBulk(todoListId, projectId, dto);
+
+        // Then
+        assertThat(result.affected()).isEqualTo(3);
+        verify(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
+        verify(taskRepository, never()).findOwnedByTodoListId(any(), any(), any());
+        verify(resourceVersions).touch(ResourceVersions.todoList(todoListId));
+        verify(events).publish(projectId, new ProjectEvent(ProjectEventType.TASKS_STATUS_CHANGED, todoListId, null, dto));
+        verify(outbox).append(DomainEventType.TASKS_STATUS_CHANGED, todoListId, dto);
+    }
+
+    @Test
+    void shouldSkipEventsWhenBulkUpdateChangesNothing() {
+        // Given
+        TaskBulkDueDateDTO dto = new TaskBulkDueDateDTO(List.of(taskId), dueDate);
+        when(taskRepository.updateDueDateInTodoList(todoListId, List.of(taskId), dueDate)).thenReturn(0);
+
+        // When
+        TaskBulkResultDTO result = taskService.updateDueDateInBulk(todoListId, projectId, dto);
 
         // Then
-        verify(taskRepository).findById(taskId);
-        verify(taskRepository).delete(taskId);
+        assertThat(result.affected()).isZero();
+        verifyNoInteractions(resourceVersions, events, outbox);
+    }
+
+    @Test
+    void shouldClearCompletedTasksLeavingTombstones() {
+        // Given
+        UUID otherTaskId = UUID.randomUUID();
+        List<UUID> deleted = List.of(taskId, otherTaskId);
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.deleteCompletedInTodoList(todoListId)).thenReturn(deleted);
+
+        // When
+        TaskBulkResultDTO result = taskService.deleteCompleted(todoListId, projectId);
+
+        // Then
+        assertThat(result.affected()).isEqualTo(2);
         verify(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
+        verify(tombstones).recordAll(SyncEntityType.TASK, deleted, projectId, userId);
+        verify(outbox).append(eq(DomainEventType.TASKS_DELETED), eq(todoListId), any());
     }
 
     @Test
     void shouldThrowExceptionWhenDeletingNonExistentTask() {
         // Given
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.deleteOwned(taskId, todoListId, projectId, userId)).thenReturn(false);
         when(taskRepository.existsById(taskId)).thenReturn(false);
 
         // When & Then
@@ -222,4 +512,18 @@ class TaskServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Task with ID " + taskId + " does not exist");
     }
+
+    @Test
+    void shouldPropagateOwnershipErrorWhenTaskIsNotAccessible() {
+        // Given
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+        when(taskRepository.findOwnedById(taskId, todoListId, projectId, userId)).thenReturn(null);
+        doThrow(new SecurityException("No tienes permiso para acceder a este recurso"))
+                .when(ownershipValidator).validateTodoListOwnership(todoListId, projectId);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.getById(taskId, todoListId, projectId))
+                .isInstanceOf(SecurityException.class);
+        verify(taskRepository, never()).existsById(taskId);
+    }
 }
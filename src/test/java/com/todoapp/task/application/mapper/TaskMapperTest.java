@@ -76,6 +76,7 @@ class TaskMapperTest {
         entity.setCompleted(false);
         entity.setDueDate(dueDate);
         entity.setTodoList(todoListEntity);
+        entity.setProjectId(projectId);
 
         // When
         Task result = mapper.entityToDomain(entity);
@@ -91,6 +92,26 @@ class TaskMapperTest {
         assertThat(result.getProjectId()).isEqualTo(projectId);
     }
 
+    @Test
+    void shouldMapProjectIdWithoutTouchingTodoListProject() {
+        // Given
+        TodoListEntity todoListEntity = new TodoListEntity();
+        todoListEntity.setId(todoListId);
+
+        TaskEntity entity = new TaskEntity();
+        entity.setId(taskId);
+        entity.setTitle("Test Task");
+        entity.setTodoList(todoListEntity);
+        entity.setProjectId(projectId);
+
+        // When
+        Task result = mapper.entityToDomain(entity);
+
+        // Then
+        assertThat(result.getProjectId()).isEqualTo(projectId);
+        assertThat(todoListEntity.getProject()).isNull();
+    }
+
     @Test
     void shouldMapEntitiesToDomains() {
         // Given
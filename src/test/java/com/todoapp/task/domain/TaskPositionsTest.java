@@ -0,0 +1,124 @@
+package com.todoapp.task.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TaskPositionsTest {
+
+    @Test
+    void shouldAppendAfterMaxPosition() {
+        assertThat(TaskPositions.append(null)).isEqualTo(TaskPositions.GAP);
+        assertThat(TaskPositions.append(3 * TaskPositions.GAP)).isEqualTo(4 * TaskPositions.GAP);
+    }
+
+    @Test
+    void shouldFindPositionBetweenNeighbours() {
+        assertThat(TaskPositions.between(1024L, 2048L)).hasValue(1536L);
+        assertThat(TaskPositions.between(null, 1024L)).hasValue(0L);
+        assertThat(TaskPositions.between(1024L, null)).hasValue(2048L);
+        assertThat(TaskPositions.between(1024L, 1025L)).isEmpty();
+    }
+
+    @Test
+    void shouldMoveSingleTaskTouchingOneRow() {
+        // Given
+        List<Task> tasks = tasks(5000);
+        List<Task> ordered = new ArrayList<>(tasks);
+        Task moved = ordered.remove(4999);
+        ordered.add(0, moved);
+
+        // When
+        TaskPositions.Plan plan = TaskPositions.reposition(ordered);
+
+        // Then
+        assertThat(plan.changed()).containsExactly(moved);
+        assertThat(plan.rebalanced()).isFalse();
+        assertStrictlyIncreasing(ordered);
+    }
+
+    @Test
+    void shouldKeepUnchangedOrderWithoutWrites() {
+        // Given
+        List<Task> tasks = tasks(10);
+
+        // When
+        TaskPositions.Plan plan = TaskPositions.reposition(tasks);
+
+        // Then
+        assertThat(plan.changed()).isEmpty();
+    }
+
+    @Test
+    void shouldReverseListWithValidPositions() {
+        // Given
+        List<Task> ordered = tasks(100);
+        Collections.reverse(ordered);
+
+        // When
+        TaskPositions.Plan plan = TaskPositions.reposition(ordered);
+
+        // Then
+        assertThat(plan.changed()).hasSize(99);
+        assertStrictlyIncreasing(ordered);
+    }
+
+    @Test
+    void shouldRenumberWhenGapIsExhausted() {
+        // Given
+        List<Task> ordered = tasks(3);
+        ordered.get(0).setPosition(10);
+        ordered.get(1).setPosition(11);
+        ordered.get(2).setPosition(12);
+        Collections.swap(ordered, 1, 2);
+
+        // When
+        TaskPositions.Plan plan = TaskPositions.reposition(ordered);
+
+        // Then
+        assertThat(plan.rebalanced()).isTrue();
+        assertThat(ordered).extracting(Task::getPosition)
+                .containsExactly(TaskPositions.GAP, 2 * TaskPositions.GAP, 3 * TaskPositions.GAP);
+    }
+
+    @Test
+    void shouldFlagLowGapsForBackgroundRebalance() {
+        // Given
+        List<Task> ordered = tasks(3);
+        ordered.get(0).setPosition(100);
+        ordered.get(1).setPosition(110);
+        ordered.get(2).setPosition(120);
+        Collections.swap(ordered, 1, 2);
+
+        // When
+        TaskPositions.Plan plan = TaskPositions.reposition(ordered);
+
+        // Then
+        assertThat(plan.rebalanced()).isFalse();
+        assertThat(plan.lowOnGaps()).isTrue();
+        assertThat(plan.changed()).hasSize(1);
+        assertStrictlyIncreasing(ordered);
+    }
+
+    private static List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        UUID todoListId = UUID.randomUUID();
+        for (int i = 0; i < count; i++) {
+            Task task = new Task(UUID.randomUUID(), "Task " + i, null, false, null, todoListId);
+            task.setPosition((i + 1) * TaskPositions.GAP);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static void assertStrictlyIncreasing(List<Task> ordered) {
+        for (int i = 1; i < ordered.size(); i++) {
+            assertThat(ordered.get(i).getPosition()).isGreaterThan(ordered.get(i - 1).getPosition());
+        }
+    }
+}
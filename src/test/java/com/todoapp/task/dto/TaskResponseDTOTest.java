@@ -14,7 +14,7 @@ class TaskResponseDTOTest {
         UUID projectId = UUID.randomUUID();
         LocalDate dueDate = LocalDate.now().plusDays(7);
         int position = 3;
-        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, position);
+        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, position, 0);
 
         assertThat(dto.id()).isEqualTo(taskId);
         assertThat(dto.title()).isEqualTo("Test Task");
@@ -34,8 +34,8 @@ class TaskResponseDTOTest {
         LocalDate dueDate = LocalDate.now().plusDays(7);
         int position = 3;
 
-        TaskResponseDTO dto1 = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, position);
-        TaskResponseDTO dto2 = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, position);
+        TaskResponseDTO dto1 = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, position, 0);
+        TaskResponseDTO dto2 = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, position, 0);
 
         assertThat(dto1).isEqualTo(dto2);
     }
@@ -47,7 +47,7 @@ class TaskResponseDTOTest {
         UUID projectId = UUID.randomUUID();
         int position = 3;
 
-        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", null, false, null, todoListId, projectId, position);
+        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", null, false, null, todoListId, projectId, position, 0);
 
         assertThat(dto.id()).isEqualTo(taskId);
         assertThat(dto.title()).isEqualTo("Test Task");
@@ -67,7 +67,7 @@ class TaskResponseDTOTest {
         LocalDate dueDate = LocalDate.now().plusDays(7);
         int position = 3;
 
-        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "Test Description", true, dueDate, todoListId, projectId, position);
+        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "Test Description", true, dueDate, todoListId, projectId, position, 0);
 
         assertThat(dto.completed()).isEqualTo(false);
     }
@@ -80,7 +80,7 @@ class TaskResponseDTOTest {
         LocalDate dueDate = LocalDate.now().plusDays(7);
         int position = 3;
 
-        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, position);
+        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, dueDate, todoListId, projectId, position, 0);
 
         assertThat(dto.completed()).isEqualTo(false);
     }
@@ -93,7 +93,7 @@ class TaskResponseDTOTest {
         LocalDate dueDate = LocalDate.now().plusDays(7);
         int position = 3;
 
-        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "", false, dueDate, todoListId, projectId, position);
+        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "", false, dueDate, todoListId, projectId, position, 0);
 
         assertThat(dto.description()).isEqualTo("");
     }
@@ -106,7 +106,7 @@ class TaskResponseDTOTest {
         LocalDate pastDate = LocalDate.now().minusDays(1);
         int position = 3;
 
-        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, pastDate, todoListId, projectId, position);
+        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, pastDate, todoListId, projectId, position, 0);
 
         assertThat(dto.dueDate()).isEqualTo(pastDate);
     }
@@ -119,7 +119,7 @@ class TaskResponseDTOTest {
         LocalDate futureDate = LocalDate.now().plusDays(30);
         int position = 3;
 
-        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, futureDate, todoListId, projectId, position);
+        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, futureDate, todoListId, projectId, position, 0);
 
         assertThat(dto.dueDate()).isEqualTo(futureDate);
     }
@@ -132,7 +132,7 @@ class TaskResponseDTOTest {
         LocalDate today = LocalDate.now();
         int position = 3;
 
-        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, today, todoListId, projectId, position);
+        TaskResponseDTO dto = new TaskResponseDTO(taskId, "Test Task", "Test Description", false, today, todoListId, projectId, position, 0);
 
         assertThat(dto.dueDate()).isEqualTo(today);
     }
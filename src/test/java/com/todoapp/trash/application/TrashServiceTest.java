@@ -0,0 +1,149 @@
+package com.todoapp.trash.application;
+
+import com.todoapp.common.OwnershipIndex;
+import com.todoapp.common.UserProvider;
+import com.todoapp.common.cache.ResourceVersions;
+import com.todoapp.common.pagination.PageLimits;
+import com.todoapp.event.port.out.ProjectEventPublisher;
+import com.todoapp.outbox.domain.DomainEventType;
+import com.todoapp.outbox.port.out.DomainEventOutbox;
+import com.todoapp.purge.domain.PurgeTarget;
+import com.todoapp.purge.port.out.PurgeJobRepository;
+import com.todoapp.sync.domain.SyncEntityType;
+import com.todoapp.sync.port.out.TombstoneRepository;
+import com.todoapp.trash.domain.TrashItem;
+import com.todoapp.trash.domain.TrashItemType;
+import com.todoapp.trash.dto.TrashItemDTO;
+import com.todoapp.trash.port.out.TrashRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrashServiceTest {
+
+    @Mock
+    TrashRepository repository;
+
+    @Mock
+    PurgeJobRepository purgeJobs;
+
+    @Mock
+    UserProvider userProvider;
+
+    @Mock
+    OwnershipIndex ownershipIndex;
+
+    PageLimits pageLimits = new PageLimits(100, 500);
+
+    @Mock
+    ResourceVersions resourceVersions;
+
+    @Mock
+    TombstoneRepository tombstones;
+
+    @Mock
+    ProjectEventPublisher events;
+
+    @Mock
+    DomainEventOutbox outbox;
+
+    TrashService service;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        service = new TrashService(repository, purgeJobs, userProvider, ownershipIndex, pageLimits, resourceVersions,
+                tombstones, events, outbox, Duration.ofDays(30));
+        when(userProvider.getCurrentUserId()).thenReturn(userId);
+    }
+
+    @Test
+    void shouldMergeTrashNewestFirstWithItsPurgeDate() {
+        // Given
+        TrashItem project = new TrashItem(TrashItemType.PROJECT, projectId, projectId, null, "Proyecto", now.minusDays(2));
+        TrashItem task = new TrashItem(TrashItemType.TASK, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                "Tarea", now.minusDays(1));
+        when(repository.findProjects(userId, 1)).thenReturn(List.of(project));
+        when(repository.findTodoLists(userId, 1)).thenReturn(List.of());
+        when(repository.findTasks(userId, 1)).thenReturn(List.of(task));
+
+        // When
+        List<TrashItemDTO> result = service.getContents(1);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).id()).isEqualTo(task.id());
+        assertThat(result.get(0).purgeAfter()).isEqualTo(task.deletedAt().plusDays(30));
+    }
+
+    @Test
+    void shouldRestoreProjectAndCancelItsPurge() {
+        // Given
+        when(repository.findProject(projectId, userId))
+                .thenReturn(new TrashItem(TrashItemType.PROJECT, projectId, projectId, null, "Proyecto", now));
+        when(purgeJobs.cancel(PurgeTarget.PROJECT, projectId)).thenReturn(true);
+        when(repository.restoreProject(eq(projectId), anyLong())).thenReturn(1);
+
+        // When
+        service.restoreProject(projectId);
+
+        // Then
+        verify(repository).restoreProject(eq(projectId), anyLong());
+        verify(tombstones).forget(SyncEntityType.PROJECT, projectId);
+        verify(ownershipIndex).registerProject(projectId, userId);
+        verify(outbox).append(eq(DomainEventType.PROJECT_RESTORED), eq(projectId), any());
+    }
+
+    @Test
+    void shouldRefuseToRestoreProjectAlreadyBeingPurged() {
+        // Given
+        when(repository.findProject(projectId, userId))
+                .thenReturn(new TrashItem(TrashItemType.PROJECT, projectId, projectId, null, "Proyecto", now));
+        when(purgeJobs.cancel(PurgeTarget.PROJECT, projectId)).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> service.restoreProject(projectId)).isInstanceOf(NoSuchElementException.class);
+        verify(repository, never()).restoreProject(any(), anyLong());
+        verifyNoInteractions(outbox);
+    }
+
+    @Test
+    void shouldFailWhenAConcurrentRestoreAlreadyTookTheTask() {
+        // Given: la lectura aún ve la tarea en la papelera, pero otra petición la restauró antes del UPDATE
+        UUID taskId = UUID.randomUUID();
+        when(repository.findTask(taskId, userId))
+                .thenReturn(new TrashItem(TrashItemType.TASK, taskId, projectId, UUID.randomUUID(), "Tarea", now));
+        when(repository.restoreTask(eq(taskId), anyLong())).thenReturn(0);
+
+        // When / Then
+        assertThatThrownBy(() -> service.restoreTask(taskId)).isInstanceOf(NoSuchElementException.class);
+        verifyNoInteractions(tombstones, events, outbox);
+    }
+
+    @Test
+    void shouldNotRestoreTaskMissingFromTrash() {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        when(repository.findTask(taskId, userId)).thenReturn(null);
+
+        // When / Then
+        assertThatThrownBy(() -> service.restoreTask(taskId)).isInstanceOf(NoSuchElementException.class);
+        verify(repository, never()).restoreTask(any(), anyLong());
+    }
+}
@@ -0,0 +1,70 @@
+package com.todoapp.user.adapter.out;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserExistenceCacheTest {
+
+    @Mock
+    private UserJpaRepository jpa;
+
+    private UserExistenceCache cache;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T10:00:00Z"), ZoneOffset.UTC);
+        cache = new UserExistenceCache(jpa, 60, 100, clock);
+    }
+
+    @Test
+    void shouldQueryDatabaseOnlyOnceForKnownUser() {
+        when(jpa.existsByIdAndEmail(userId, "test@email.com")).thenReturn(true);
+
+        assertThat(cache.isActive(userId, "test@email.com")).isTrue();
+        assertThat(cache.isActive(userId, "test@email.com")).isTrue();
+
+        verify(jpa, times(1)).existsByIdAndEmail(userId, "test@email.com");
+    }
+
+    @Test
+    void shouldRejectDeletedUser() {
+        when(jpa.existsByIdAndEmail(userId, "test@email.com")).thenReturn(false);
+
+        assertThat(cache.isActive(userId, "test@email.com")).isFalse();
+    }
+
+    @Test
+    void shouldRecheckWhenEmailDoesNotMatchCachedEntry() {
+        when(jpa.existsByIdAndEmail(userId, "test@email.com")).thenReturn(true);
+        when(jpa.existsByIdAndEmail(userId, "old@email.com")).thenReturn(false);
+
+        cache.isActive(userId, "test@email.com");
+
+        assertThat(cache.isActive(userId, "old@email.com")).isFalse();
+    }
+
+    @Test
+    void shouldQueryDatabaseAgainAfterInvalidation() {
+        when(jpa.existsByIdAndEmail(userId, "test@email.com")).thenReturn(true, false);
+
+        cache.isActive(userId, "test@email.com");
+        cache.invalidate(userId);
+
+        assertThat(cache.isActive(userId, "test@email.com")).isFalse();
+        verify(jpa, times(2)).existsByIdAndEmail(userId, "test@email.com");
+    }
+}
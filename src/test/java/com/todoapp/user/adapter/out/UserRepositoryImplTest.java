@@ -23,11 +23,14 @@ class UserRepositoryImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserExistenceCache existenceCache;
+
     private UserRepositoryImpl userRepository;
 
     @BeforeEach
     void setUp() {
-        userRepository = new UserRepositoryImpl(userJpaRepository, userMapper);
+        userRepository = new UserRepositoryImpl(userJpaRepository, userMapper, existenceCache);
     }
 
     @Test
@@ -57,6 +60,7 @@ class UserRepositoryImplTest {
         verify(userMapper).domainToEntity(user);
         verify(userJpaRepository).save(entity);
         verify(userMapper).entityToDomain(savedEntity);
+        verify(existenceCache).invalidate(userId);
     }
 
     @Test